@@ -89,6 +89,13 @@ public class IntegrationMessageHeaderAccessor extends MessageHeaderAccessor {
 	 */
 	public static final String CONTROL_BUS_ARGUMENTS = "controlBusArguments";
 
+	/**
+	 * The header for the name of the
+	 * {@link org.springframework.integration.codec.compression.CompressionCodec} a payload is compressed with.
+	 * @since 7.2
+	 */
+	public static final String COMPRESSION_CODEC = "compressionCodec";
+
 	private static final BiFunction<String, String, String> TYPE_VERIFY_MESSAGE_FUNCTION =
 			(name, trailer) -> "The '" + name + trailer;
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aggregator;
+
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReleaseStrategy} that releases the group as soon as a quorum of messages is gathered,
+ * or all the messages of the sequence have arrived when the sequence is smaller than the quorum.
+ * Typically used in the scatter-gather to produce a result from the first {@code n} replies
+ * without waiting for the slow recipients.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see org.springframework.integration.dsl.ScatterGatherSpec#quorum(int)
+ */
+public class QuorumReleaseStrategy implements ReleaseStrategy {
+
+	private final int quorum;
+
+	/**
+	 * Construct an instance based on the provided quorum.
+	 * @param quorum the number of messages to release the group with.
+	 */
+	public QuorumReleaseStrategy(int quorum) {
+		Assert.isTrue(quorum > 0, "'quorum' must be greater than 0");
+		this.quorum = quorum;
+	}
+
+	@Override
+	public boolean canRelease(MessageGroup group) {
+		int size = group.size();
+		int sequenceSize = group.getSequenceSize();
+		return size >= this.quorum || (sequenceSize > 0 && size >= sequenceSize);
+	}
+
+}
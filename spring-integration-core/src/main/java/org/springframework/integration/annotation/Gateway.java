@@ -127,4 +127,16 @@ public @interface Gateway {
 	 */
 	GatewayHeader[] headers() default {};
 
+	/**
+	 * Specify the maximum number of requests in flight for a batch gateway method.
+	 * When greater than 0, the method must have a single {@link Iterable}, {@link java.util.stream.Stream}
+	 * or array parameter and return a {@code List<CompletableFuture<R>>}, a {@code Flux<R>} or {@code void}.
+	 * Each element is sent as a separate request and the replies are returned in the order of the elements;
+	 * each future is completed by the reply (or the failure) for its own element.
+	 * For a {@code void} method the elements are sent one-way on the caller thread.
+	 * @return the in-flight window for batch requests.
+	 * @since 7.2
+	 */
+	int batchWindow() default 0;
+
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aot;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.integration.annotation.Aggregator;
+import org.springframework.integration.annotation.CorrelationStrategy;
+import org.springframework.integration.annotation.Filter;
+import org.springframework.integration.annotation.InboundChannelAdapter;
+import org.springframework.integration.annotation.ReleaseStrategy;
+import org.springframework.integration.annotation.Router;
+import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.integration.annotation.Splitter;
+import org.springframework.integration.annotation.Transformer;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * A {@link BeanRegistrationAotProcessor} for registering invocation hints
+ * for the POJO methods marked with messaging annotations, e.g. {@link ServiceActivator}.
+ * Such methods are resolved and called reflectively by the
+ * {@link org.springframework.integration.handler.support.MessagingMethodInvokerHelper}
+ * when the first message arrives.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+class MessagingMethodsAotProcessor implements BeanRegistrationAotProcessor {
+
+	private static final Set<Class<? extends Annotation>> MESSAGING_ANNOTATIONS =
+			Set.of(ServiceActivator.class, Transformer.class, Filter.class, Splitter.class, Router.class,
+					Aggregator.class, CorrelationStrategy.class, ReleaseStrategy.class, InboundChannelAdapter.class);
+
+	@Override
+	public @Nullable BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+		Class<?> beanClass = ClassUtils.getUserClass(registeredBean.getBeanClass());
+		List<Method> messagingMethods = new ArrayList<>();
+		ReflectionUtils.doWithMethods(beanClass, messagingMethods::add,
+				MessagingMethodsAotProcessor::isMessagingMethod);
+
+		if (messagingMethods.isEmpty()) {
+			return null;
+		}
+
+		return (generationContext, beanRegistrationCode) -> {
+			ReflectionHints reflectionHints = generationContext.getRuntimeHints().reflection();
+			messagingMethods.forEach((method) -> reflectionHints.registerMethod(method, ExecutableMode.INVOKE));
+		};
+	}
+
+	private static boolean isMessagingMethod(Method method) {
+		MergedAnnotations mergedAnnotations = MergedAnnotations.from(method);
+		return !mergedAnnotations.isPresent(Bean.class)
+				&& MESSAGING_ANNOTATIONS.stream().anyMatch(mergedAnnotations::isPresent);
+	}
+
+}
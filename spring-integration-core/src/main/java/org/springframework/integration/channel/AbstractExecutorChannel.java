@@ -127,6 +127,15 @@ public abstract class AbstractExecutorChannel extends AbstractSubscribableChanne
 		return interceptor;
 	}
 
+	/**
+	 * Return true if the messages are handed off to other threads for handling.
+	 * @return true if the channel is asynchronous.
+	 * @since 7.2
+	 */
+	public boolean isAsync() {
+		return this.executor != null;
+	}
+
 	@Override
 	public boolean hasExecutorInterceptors() {
 		return this.executorInterceptorsSize > 0;
@@ -137,6 +146,26 @@ public abstract class AbstractExecutorChannel extends AbstractSubscribableChanne
 		return IntegrationPatternType.executor_channel;
 	}
 
+	/**
+	 * Decorate the task to hand off to the {@link Executor}: apply the {@link ExecutorChannelInterceptor}s,
+	 * if any, and record the time the task waits for the execution into the
+	 * {@link #QUEUE_TIMER_NAME} timer.
+	 * @param task the task to decorate.
+	 * @return the task to execute.
+	 * @since 7.2
+	 */
+	protected Runnable decorateMessageHandlingTask(MessageHandlingRunnable task) {
+		Runnable taskToRun = this.executorInterceptorsSize > 0 ? new MessageHandlingTask(task) : task;
+		long queueTimeStart = queueTimeStart();
+		if (queueTimeStart == NOT_TIMED) {
+			return taskToRun;
+		}
+		return () -> {
+			recordQueueTime(queueTimeStart);
+			taskToRun.run();
+		};
+	}
+
 	protected class MessageHandlingTask implements Runnable {
 
 		private final MessageHandlingRunnable delegate;
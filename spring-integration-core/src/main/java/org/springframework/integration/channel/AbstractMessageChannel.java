@@ -24,9 +24,12 @@ import java.util.Comparator;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -52,10 +55,11 @@ import org.springframework.integration.support.management.IntegrationManagement;
 import org.springframework.integration.support.management.TrackableComponent;
 import org.springframework.integration.support.management.metrics.MeterFacade;
 import org.springframework.integration.support.management.metrics.MetricsCaptor;
-import org.springframework.integration.support.management.metrics.SampleFacade;
+import org.springframework.integration.support.management.metrics.SendCounters;
 import org.springframework.integration.support.management.metrics.TimerFacade;
 import org.springframework.integration.support.management.observation.DefaultMessageSenderObservationConvention;
 import org.springframework.integration.support.management.observation.IntegrationObservation;
+import org.springframework.integration.support.management.observation.IntegrationObservationSampler;
 import org.springframework.integration.support.management.observation.MessageSenderContext;
 import org.springframework.integration.support.management.observation.MessageSenderObservationConvention;
 import org.springframework.integration.support.utils.IntegrationUtils;
@@ -85,6 +89,12 @@ import org.springframework.util.StringUtils;
 public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		implements MessageChannel, TrackableComponent, InterceptableChannel, IntegrationManagement, IntegrationPattern {
 
+	/**
+	 * The {@link #queueTimeStart()} result when the queue time is not recorded.
+	 * @since 7.2
+	 */
+	protected static final long NOT_TIMED = Long.MIN_VALUE;
+
 	protected final ChannelInterceptorList interceptors = new ChannelInterceptorList(this.logger); // NOSONAR
 
 	private final Comparator<Object> orderComparator = new OrderComparator();
@@ -93,10 +103,14 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 
 	protected final Set<MeterFacade> meters = ConcurrentHashMap.newKeySet(); // NOSONAR
 
+	private final Map<Class<?>, TimerFacade> exceptionTimers = new ConcurrentHashMap<>();
+
 	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
 	private @Nullable MessageSenderObservationConvention observationConvention;
 
+	private @Nullable IntegrationObservationSampler observationSampler;
+
 	private boolean shouldTrack = false;
 
 	private Class<?>[] datatypes = new Class<?>[0];
@@ -111,6 +125,14 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 
 	private @Nullable TimerFacade failureTimer;
 
+	private @Nullable TimerFacade queueTimer;
+
+	private final SendCounters sendCounters = new SendCounters("channel", this::getComponentName);
+
+	private int metricsSampleRate = 1;
+
+	private boolean queueTimeEnabled;
+
 	private volatile @Nullable String fullChannelName;
 
 	private volatile boolean applicationRunning;
@@ -142,6 +164,40 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		return this.metricsCaptor;
 	}
 
+	@Override
+	public void setMetricsSampleRate(int metricsSampleRate) {
+		Assert.isTrue(metricsSampleRate > 0, "'metricsSampleRate' must be greater than 0");
+		this.metricsSampleRate = metricsSampleRate;
+		this.managementOverrides.metricsSampleRateConfigured = true;
+	}
+
+	@Override
+	public int getMetricsSampleRate() {
+		return this.metricsSampleRate;
+	}
+
+	/**
+	 * Set to {@code true} to record the time messages wait in this channel before processing
+	 * into the {@link #QUEUE_TIMER_NAME} timer.
+	 * Only applies to the channels which queue messages or hand them off to an executor.
+	 * Disabled by default since it adds some overhead to every send and receive.
+	 * @param queueTimeEnabled true to record the queue time.
+	 * @since 7.2
+	 */
+	public void setQueueTimeEnabled(boolean queueTimeEnabled) {
+		this.queueTimeEnabled = queueTimeEnabled;
+	}
+
+	/**
+	 * Return true if the queue time is recorded for this channel.
+	 * @return true if the queue time is recorded.
+	 * @since 7.2
+	 * @see #setQueueTimeEnabled(boolean)
+	 */
+	public boolean isQueueTimeEnabled() {
+		return this.queueTimeEnabled;
+	}
+
 	@Override
 	public boolean isLoggingEnabled() {
 		return this.loggingEnabled;
@@ -257,6 +313,12 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		this.observationRegistry = observationRegistry;
 	}
 
+	@Override
+	public void registerObservationSampler(IntegrationObservationSampler observationSampler) {
+		Assert.notNull(observationSampler, "'observationSampler' must not be null");
+		this.observationSampler = observationSampler;
+	}
+
 	@Override
 	public boolean isObserved() {
 		return !ObservationRegistry.NOOP.equals(this.observationRegistry);
@@ -332,10 +394,15 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 
 		if (!ObservationRegistry.NOOP.equals(this.observationRegistry)) {
-			return sendWithObservation(message, timeout);
+			IntegrationObservationSampler sampler = this.observationSampler;
+			if (sampler == null || sampler.sample(this.observationRegistry, message)) {
+				return sendWithObservation(message, timeout);
+			}
+			Message<?> messageToSend = message;
+			return IntegrationObservationSampler.callUnsampled(() -> sendInternal(messageToSend, timeout));
 		}
 		else if (this.metricsCaptor != null) {
-			return sendWithMetrics(message, timeout);
+			return sendWithMetrics(message, timeout, this.metricsCaptor);
 		}
 		else {
 			return sendInternal(message, timeout);
@@ -382,6 +449,9 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 
 	private boolean sendWithObservation(Message<?> message, long timeout) {
 		MutableMessage<?> messageToSend = MutableMessage.of(message);
+		if (this.observationSampler != null) {
+			messageToSend.getHeaders().put(IntegrationObservationSampler.SAMPLED_HEADER, true);
+		}
 		Observation observation = IntegrationObservation.PRODUCER.observation(
 				this.observationConvention,
 				DefaultMessageSenderObservationConvention.INSTANCE,
@@ -402,18 +472,28 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		return Boolean.TRUE.equals(observe);
 	}
 
-	@SuppressWarnings("NullAway") // Dataflow analysis limitation
-	private boolean sendWithMetrics(Message<?> message, long timeout) {
-		SampleFacade sample = this.metricsCaptor.start();
+	private boolean sendWithMetrics(Message<?> message, long timeout, MetricsCaptor metricsCaptor) {
+		boolean timed = isMetricsSampled();
+		long start = timed ? metricsCaptor.monotonicTime() : 0;
+		boolean sent = false;
 		try {
-			boolean sent = sendInternal(message, timeout);
-			sample.stop(sendTimer(sent));
+			sent = sendInternal(message, timeout);
+			if (timed) {
+				sendTimer(sent).record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+			}
 			return sent;
 		}
 		catch (RuntimeException ex) {
-			sample.stop(buildSendTimer(false, ex.getClass().getSimpleName()));
+			if (timed) {
+				exceptionTimer(ex).record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+			}
 			throw ex;
 		}
+		finally {
+			if (this.metricsSampleRate > 1) {
+				this.sendCounters.increment(metricsCaptor, sent);
+			}
+		}
 	}
 
 	private boolean sendInternal(Message<?> message, long timeout) {
@@ -470,6 +550,15 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		}
 	}
 
+	private boolean isMetricsSampled() {
+		return this.metricsSampleRate == 1 || ThreadLocalRandom.current().nextInt(this.metricsSampleRate) == 0;
+	}
+
+	private TimerFacade exceptionTimer(Exception exception) {
+		return this.exceptionTimers.computeIfAbsent(exception.getClass(),
+				(exceptionClass) -> buildSendTimer(false, exceptionClass.getSimpleName()));
+	}
+
 	@SuppressWarnings("NullAway") // Dataflow analysis limitation
 	private TimerFacade buildSendTimer(boolean success, String exception) {
 		TimerFacade timer = this.metricsCaptor.timerBuilder(SEND_TIMER_NAME)
@@ -483,6 +572,43 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 		return timer;
 	}
 
+	/**
+	 * Return the start time for the {@link #QUEUE_TIMER_NAME} timer of the message being enqueued,
+	 * or {@link #NOT_TIMED} if the {@link #setQueueTimeEnabled(boolean) queueTimeEnabled} is false,
+	 * no {@link MetricsCaptor} is registered or the operation
+	 * is not in the {@link #setMetricsSampleRate(int) sample}.
+	 * @return the start time to pass into the {@link #recordQueueTime(long)} when the message is dequeued.
+	 * @since 7.2
+	 */
+	protected long queueTimeStart() {
+		MetricsCaptor metricsCaptor = this.metricsCaptor;
+		return this.queueTimeEnabled && metricsCaptor != null && isMetricsSampled()
+				? metricsCaptor.monotonicTime()
+				: NOT_TIMED;
+	}
+
+	/**
+	 * Record the time the message has been waiting in the queue of this channel.
+	 * @param start the start time obtained from the {@link #queueTimeStart()}.
+	 * @since 7.2
+	 */
+	protected void recordQueueTime(long start) {
+		MetricsCaptor metricsCaptor = this.metricsCaptor;
+		if (start != NOT_TIMED && metricsCaptor != null) {
+			TimerFacade timer = this.queueTimer;
+			if (timer == null) {
+				timer = metricsCaptor.timerBuilder(QUEUE_TIMER_NAME)
+						.tag("type", "channel")
+						.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+						.description("Time messages wait in the channel before processing")
+						.build();
+				this.meters.add(timer);
+				this.queueTimer = timer;
+			}
+			timer.record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
 	private Message<?> convertPayloadIfNecessary(Message<?> message) {
 		if (this.datatypes.length > 0) {
 			// first pass checks if the payload type already matches any of the datatypes
@@ -534,6 +660,8 @@ public abstract class AbstractMessageChannel extends IntegrationObjectSupport
 	public void destroy() {
 		this.meters.forEach(MeterFacade::remove);
 		this.meters.clear();
+		this.exceptionTimers.clear();
+		this.sendCounters.remove();
 	}
 
 	/**
@@ -19,6 +19,8 @@ package org.springframework.integration.channel;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
@@ -43,6 +45,8 @@ import org.springframework.messaging.support.ExecutorChannelInterceptor;
 public abstract class AbstractPollableChannel extends AbstractMessageChannel
 		implements PollableChannel, ExecutorChannelInterceptorAware {
 
+	private final Map<Class<?>, CounterFacade> receiveErrorCounters = new ConcurrentHashMap<>();
+
 	private int executorInterceptorsSize;
 
 	private @Nullable CounterFacade receiveCounter;
@@ -133,7 +137,9 @@ public abstract class AbstractPollableChannel extends AbstractMessageChannel
 	private void incrementReceiveErrorCounter(Exception ex) {
 		MetricsCaptor metricsCaptor = getMetricsCaptor();
 		if (metricsCaptor != null) {
-			buildReceiveCounter(metricsCaptor, ex).increment();
+			this.receiveErrorCounters.computeIfAbsent(ex.getClass(), (exceptionClass) ->
+							buildReceiveCounter(metricsCaptor, ex))
+					.increment();
 		}
 	}
 
@@ -150,6 +156,12 @@ public abstract class AbstractPollableChannel extends AbstractMessageChannel
 		return counterFacade;
 	}
 
+	@Override
+	public void destroy() {
+		super.destroy();
+		this.receiveErrorCounters.clear();
+	}
+
 	@Override
 	public void setInterceptors(List<ChannelInterceptor> interceptors) {
 		super.setInterceptors(interceptors);
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.util.UpperBound;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * A message channel that prioritizes messages based on the
+ * {@link StaticMessageHeaderAccessor#getPriority(Message) priority} header
+ * from a small, fixed range of priorities.
+ * <p>
+ * Unlike the {@link PriorityChannel}, which keeps all the messages in a single heap ordered
+ * by a comparator, this channel keeps a lock-free FIFO queue (a bucket) per priority level and
+ * a bitmap of the non-empty buckets, so sending and receiving are O(1) operations without
+ * comparing messages. The messages with the same priority are received in the order they
+ * have been sent. Messages without a priority header have priority {@code 0};
+ * priorities outside the range are clamped to the nearest bound.
+ * <p>
+ * To prevent the starvation of the low priority messages under a constant flow of high
+ * priority ones, an {@link #setAgingInterval(int) aging interval} can be configured.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class BucketedPriorityChannel extends QueueChannel {
+
+	/**
+	 * The maximum number of priority levels.
+	 */
+	public static final int MAX_LEVELS = Long.SIZE;
+
+	private final PriorityBucketQueue queue;
+
+	private final UpperBound upperBound;
+
+	/**
+	 * Create a channel with an unbounded queue for priorities from {@code minPriority}
+	 * to {@code maxPriority} inclusive.
+	 * @param minPriority the lowest priority.
+	 * @param maxPriority the highest priority.
+	 */
+	public BucketedPriorityChannel(int minPriority, int maxPriority) {
+		this(minPriority, maxPriority, 0);
+	}
+
+	/**
+	 * Create a channel with the specified queue capacity for priorities from {@code minPriority}
+	 * to {@code maxPriority} inclusive. If the capacity is a non-positive value,
+	 * the queue will be unbounded.
+	 * @param minPriority the lowest priority.
+	 * @param maxPriority the highest priority.
+	 * @param capacity the capacity.
+	 */
+	public BucketedPriorityChannel(int minPriority, int maxPriority, int capacity) {
+		this(new PriorityBucketQueue(minPriority, maxPriority), capacity);
+	}
+
+	private BucketedPriorityChannel(PriorityBucketQueue queue, int capacity) {
+		super(queue);
+		this.queue = queue;
+		this.upperBound = new UpperBound(capacity);
+	}
+
+	/**
+	 * Serve every {@code agingInterval}-th receive from a priority level below the highest
+	 * non-empty one (in a round-robin manner over the lower levels), so the low priority messages
+	 * are not starved. Defaults to {@code 0} - strict priority order.
+	 * @param agingInterval the number of receives per one receive from a lower priority level.
+	 */
+	public void setAgingInterval(int agingInterval) {
+		Assert.isTrue(agingInterval >= 0 && agingInterval != 1,
+				"'agingInterval' must be 0 (no aging) or greater than 1");
+		this.queue.agingInterval = agingInterval;
+	}
+
+	@Override
+	public int getRemainingCapacity() {
+		return this.upperBound.availablePermits();
+	}
+
+	@Override
+	protected boolean doSend(Message<?> message, long timeout) {
+		if (!this.upperBound.tryAcquire(timeout)) {
+			return false;
+		}
+		if (super.doSend(message, 0)) {
+			return true;
+		}
+		this.upperBound.release();
+		return false;
+	}
+
+	@Override
+	protected @Nullable Message<?> doReceive(long timeout) {
+		Message<?> message = super.doReceive(timeout);
+		if (message != null) {
+			this.upperBound.release();
+		}
+		return message;
+	}
+
+	@Override
+	public List<Message<?>> clear() {
+		List<Message<?>> clearedMessages = super.clear();
+		releasePermits(clearedMessages.size());
+		return clearedMessages;
+	}
+
+	@Override
+	public List<Message<?>> purge(@Nullable MessageSelector selector) {
+		List<Message<?>> purgedMessages = super.purge(selector);
+		if (selector != null) {
+			releasePermits(purgedMessages.size());
+		}
+		return purgedMessages;
+	}
+
+	private void releasePermits(int permits) {
+		for (int i = 0; i < permits; i++) {
+			this.upperBound.release();
+		}
+	}
+
+	/**
+	 * The {@link Queue} of FIFO buckets per priority level. The bit {@code i} of the {@link #nonEmpty}
+	 * bitmap is set when the bucket for {@code maxPriority - i} may have messages, so the highest
+	 * priority non-empty bucket is the lowest set bit.
+	 * A bucket is offered to before its bit is set; the bit is cleared before the bucket is
+	 * re-checked for emptiness, so a concurrently offered message is never left without a bit.
+	 */
+	private static final class PriorityBucketQueue extends AbstractQueue<Message<?>> {
+
+		private final int minPriority;
+
+		private final int maxPriority;
+
+		private final Queue<Message<?>>[] buckets;
+
+		private final AtomicLong nonEmpty = new AtomicLong();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		private final AtomicLong receives = new AtomicLong();
+
+		private volatile int agingInterval;
+
+		private volatile int agingLevel;
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		PriorityBucketQueue(int minPriority, int maxPriority) {
+			Assert.isTrue(minPriority <= maxPriority, "'minPriority' must not be greater than 'maxPriority'");
+			long levels = (long) maxPriority - minPriority + 1;
+			Assert.isTrue(levels <= MAX_LEVELS, () -> "The priority range must not exceed " + MAX_LEVELS + " levels");
+			this.minPriority = minPriority;
+			this.maxPriority = maxPriority;
+			this.buckets = new Queue[(int) levels];
+			Arrays.setAll(this.buckets, (level) -> new ConcurrentLinkedQueue<>());
+		}
+
+		@Override
+		public boolean offer(Message<?> message) {
+			int level = level(message);
+			this.buckets[level].offer(message);
+			this.size.incrementAndGet();
+			long bit = 1L << level;
+			if ((this.nonEmpty.get() & bit) == 0) {
+				this.nonEmpty.getAndUpdate((bits) -> bits | bit);
+			}
+			return true;
+		}
+
+		@Override
+		public @Nullable Message<?> poll() {
+			long bits;
+			while ((bits = this.nonEmpty.get()) != 0) {
+				int level = selectLevel(bits);
+				Message<?> message = this.buckets[level].poll();
+				if (message != null) {
+					this.size.decrementAndGet();
+					return message;
+				}
+				long bit = 1L << level;
+				this.nonEmpty.getAndUpdate((current) -> current & ~bit);
+				if (!this.buckets[level].isEmpty()) {
+					this.nonEmpty.getAndUpdate((current) -> current | bit);
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public @Nullable Message<?> peek() {
+			for (Queue<Message<?>> bucket : this.buckets) {
+				Message<?> message = bucket.peek();
+				if (message != null) {
+					return message;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			for (Queue<Message<?>> bucket : this.buckets) {
+				if (bucket.remove(o)) {
+					this.size.decrementAndGet();
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public int size() {
+			return Math.max(this.size.get(), 0);
+		}
+
+		@Override
+		public Iterator<Message<?>> iterator() {
+			return Arrays.stream(this.buckets)
+					.flatMap(Queue::stream)
+					.iterator();
+		}
+
+		private int level(Message<?> message) {
+			Integer priority = StaticMessageHeaderAccessor.getPriority(message);
+			int value = priority != null ? priority : 0;
+			value = Math.min(Math.max(value, this.minPriority), this.maxPriority);
+			return this.maxPriority - value;
+		}
+
+		private int selectLevel(long bits) {
+			int highest = Long.numberOfTrailingZeros(bits);
+			int interval = this.agingInterval;
+			if (interval > 0) {
+				long lower = bits & ~(1L << highest);
+				if (lower != 0 && this.receives.incrementAndGet() % interval == 0) {
+					long fromCursor = lower & (-1L << this.agingLevel);
+					int level = Long.numberOfTrailingZeros(fromCursor != 0 ? fromCursor : lower);
+					this.agingLevel = (level + 1) % MAX_LEVELS;
+					return level;
+				}
+			}
+			return highest;
+		}
+
+	}
+
+}
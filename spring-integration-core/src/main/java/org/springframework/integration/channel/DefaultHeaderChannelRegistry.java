@@ -30,6 +30,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.integration.context.IntegrationObjectSupport;
+import org.springframework.integration.core.ReplyCorrelationChannel;
 import org.springframework.integration.support.channel.HeaderChannelRegistry;
 import org.springframework.integration.support.management.ManageableLifecycle;
 import org.springframework.messaging.MessageChannel;
@@ -43,6 +44,9 @@ import org.springframework.util.Assert;
  * in the event that the flow serialized the message at some point.
  * Channels are expired after a configurable delay (60 seconds by default).
  * The actual average expiry time will be 1.5x the delay.
+ * A {@link ReplyCorrelationChannel} is shared by many requests, so it is registered
+ * under its own name, each registration extends its expiry,
+ * and it is not removed on get.
  *
  * @author Gary Russell
  * @author Artem Bilan
@@ -175,7 +179,15 @@ public class DefaultHeaderChannelRegistry extends IntegrationObjectSupport
 		if (!this.running && !this.explicitlyStopped) {
 			start();
 		}
-		if (channel instanceof MessageChannel messageChannel) {
+		if (channel instanceof ReplyCorrelationChannel replyCorrelationChannel) {
+			// Shared by many requests - a single entry which expires after the last request
+			String name = replyCorrelationChannel.getName();
+			this.channels.merge(name,
+					new MessageChannelWrapper(replyCorrelationChannel, System.currentTimeMillis() + timeToLive),
+					(existing, registered) -> existing.expireAt() >= registered.expireAt() ? existing : registered);
+			return name;
+		}
+		else if (channel instanceof MessageChannel messageChannel) {
 			String name = this.uuid + id.incrementAndGet();
 			this.channels.put(name, new MessageChannelWrapper(messageChannel, System.currentTimeMillis() + timeToLive));
 			logger.debug(() -> "Registered " + channel + " as " + name);
@@ -190,13 +202,12 @@ public class DefaultHeaderChannelRegistry extends IntegrationObjectSupport
 	@Nullable
 	public MessageChannel channelNameToChannel(@Nullable String name) {
 		if (name != null) {
-			MessageChannelWrapper messageChannelWrapper;
-			if (this.removeOnGet) {
+			MessageChannelWrapper messageChannelWrapper = this.channels.get(name);
+			if (this.removeOnGet && messageChannelWrapper != null
+					&& !(messageChannelWrapper.channel() instanceof ReplyCorrelationChannel)) {
+
 				messageChannelWrapper = this.channels.remove(name);
 			}
-			else {
-				messageChannelWrapper = this.channels.get(name);
-			}
 
 			if (messageChannelWrapper != null) {
 				MessageChannel channel = messageChannelWrapper.channel();
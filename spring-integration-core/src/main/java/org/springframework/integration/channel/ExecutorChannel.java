@@ -131,14 +131,7 @@ public class ExecutorChannel extends AbstractExecutorChannel {
 			unicastingDispatcher.setLoadBalancingStrategy(this.loadBalancingStrategy);
 		}
 
-		unicastingDispatcher.setMessageHandlingTaskDecorator(task -> {
-			if (ExecutorChannel.this.executorInterceptorsSize > 0) {
-				return new MessageHandlingTask(task);
-			}
-			else {
-				return task;
-			}
-		});
+		unicastingDispatcher.setMessageHandlingTaskDecorator(this::decorateMessageHandlingTask);
 
 		this.dispatcher = unicastingDispatcher;
 	}
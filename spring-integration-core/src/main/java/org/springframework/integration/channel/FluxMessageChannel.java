@@ -19,10 +19,14 @@ package org.springframework.integration.channel;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import reactor.core.Disposable;
@@ -37,6 +41,8 @@ import org.springframework.core.log.LogMessage;
 import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.StaticMessageHeaderAccessor;
 import org.springframework.integration.support.MutableMessageBuilder;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.integration.util.IntegrationReactiveUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageDeliveryException;
@@ -49,6 +55,12 @@ import org.springframework.util.ReflectionUtils;
  * <p>
  * This class implements {@link Lifecycle} to control subscriptions to publishers
  * attached via {@link #subscribeTo(Publisher)}, when this channel is restarted.
+ * <p>
+ * When {@link #setDemandTracking(boolean) demand tracking} is enabled (or a {@link MetricsCaptor}
+ * is registered), the outstanding demand of subscribers and the number of messages buffered
+ * in this channel are exposed via {@link #getOutstandingDemand()} and {@link #getBufferedCount()},
+ * and as the {@code spring.integration.channel.flux.demand} and
+ * {@code spring.integration.channel.flux.buffered} gauges when a {@link MetricsCaptor} is registered.
  *
  * @author Artem Bilan
  * @author Gary Russell
@@ -65,8 +77,85 @@ public class FluxMessageChannel extends AbstractMessageChannel
 
 	private volatile Disposable.Composite upstreamSubscriptions = Disposables.composite();
 
+	private final Set<SubscriberState> subscriberStates = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong emitted = new AtomicLong();
+
 	private volatile boolean active = true;
 
+	private volatile boolean demandTracking;
+
+	private @Nullable GaugeFacade demandGauge;
+
+	private @Nullable GaugeFacade bufferedGauge;
+
+	/**
+	 * Set to {@code true} to track the demand of subscribers and the messages delivered to them
+	 * for the {@link #getOutstandingDemand()} and {@link #getBufferedCount()}.
+	 * Enabled automatically when a {@link MetricsCaptor} is registered.
+	 * Only subscribers subscribed after enabling are tracked.
+	 * Defaults to {@code false} - no per-message accounting on the delivery path.
+	 * @param demandTracking true to track the demand of subscribers.
+	 * @since 7.2
+	 */
+	public void setDemandTracking(boolean demandTracking) {
+		this.demandTracking = demandTracking;
+	}
+
+	@Override
+	public void registerMetricsCaptor(MetricsCaptor metricsCaptor) {
+		super.registerMetricsCaptor(metricsCaptor);
+		this.demandTracking = true;
+		this.demandGauge =
+				metricsCaptor.gaugeBuilder("spring.integration.channel.flux.demand", this,
+								(channel) -> getOutstandingDemand())
+						.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+						.tag("type", "channel")
+						.description("The outstanding demand of the flux channel subscribers")
+						.build();
+
+		this.bufferedGauge =
+				metricsCaptor.gaugeBuilder("spring.integration.channel.flux.buffered", this,
+								(channel) -> getBufferedCount())
+						.tag("name", getComponentName() == null ? "unknown" : getComponentName())
+						.tag("type", "channel")
+						.description("The number of messages buffered in the flux channel")
+						.build();
+	}
+
+	/**
+	 * Return the number of messages requested by the subscribers of this channel
+	 * and not delivered yet.
+	 * {@link Long#MAX_VALUE} means an unbounded demand.
+	 * Always {@code 0} unless the {@link #setDemandTracking(boolean) demand tracking} is enabled.
+	 * @return the outstanding demand.
+	 * @since 7.2
+	 */
+	public long getOutstandingDemand() {
+		long demand = 0;
+		for (SubscriberState subscriberState : this.subscriberStates) {
+			demand = addCap(demand, subscriberState.demand.get());
+		}
+		return demand;
+	}
+
+	/**
+	 * Return the number of messages accepted by this channel and not delivered yet
+	 * to the slowest subscriber.
+	 * Always {@code 0} unless the {@link #setDemandTracking(boolean) demand tracking} is enabled.
+	 * @return the number of buffered messages.
+	 * @since 7.2
+	 */
+	public long getBufferedCount() {
+		long emittedCount = this.emitted.get();
+		long buffered = 0;
+		for (SubscriberState subscriberState : this.subscriberStates) {
+			buffered = Math.max(buffered,
+					emittedCount - subscriberState.emittedAtStart - subscriberState.delivered.get());
+		}
+		return buffered;
+	}
+
 	@Override
 	protected boolean doSend(Message<?> message, long timeout) {
 		Assert.state(this.active && this.sink.currentSubscriberCount() > 0,
@@ -98,7 +187,12 @@ public class FluxMessageChannel extends AbstractMessageChannel
 
 		if (this.active) {
 			return switch (this.sink.tryEmitNext(messageToEmit)) {
-				case OK -> true;
+				case OK -> {
+					if (this.demandTracking) {
+						this.emitted.incrementAndGet();
+					}
+					yield true;
+				}
 				case FAIL_NON_SERIALIZED, FAIL_OVERFLOW -> false;
 				case FAIL_ZERO_SUBSCRIBER ->
 						throw new IllegalStateException("The [" + this + "] doesn't have subscribers to accept messages");
@@ -114,10 +208,24 @@ public class FluxMessageChannel extends AbstractMessageChannel
 
 	@Override
 	public void subscribe(Subscriber<? super Message<?>> subscriber) {
-		this.sink.asFlux()
-				.publish(1)
-				.refCount()
-				.subscribe(subscriber);
+		Flux<Message<?>> flux =
+				this.sink.asFlux()
+						.publish(1)
+						.refCount();
+		if (this.demandTracking) {
+			SubscriberState subscriberState = new SubscriberState(this.emitted.get());
+			this.subscriberStates.add(subscriberState);
+			flux = flux
+					.doOnRequest(subscriberState::request)
+					.doOnNext((message) -> subscriberState.delivered())
+					.doFinally((signal) -> this.subscriberStates.remove(subscriberState));
+		}
+		flux.subscribe(subscriber);
+	}
+
+	private static long addCap(long a, long b) {
+		long sum = a + b;
+		return sum < 0 ? Long.MAX_VALUE : sum;
 	}
 
 	@Override
@@ -218,6 +326,35 @@ public class FluxMessageChannel extends AbstractMessageChannel
 		this.sourcePublishers.clear();
 		this.sink.emitComplete(Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
 		super.destroy();
+		if (this.demandGauge != null) {
+			this.demandGauge.remove();
+		}
+		if (this.bufferedGauge != null) {
+			this.bufferedGauge.remove();
+		}
+	}
+
+	private static final class SubscriberState {
+
+		private final AtomicLong demand = new AtomicLong();
+
+		private final AtomicLong delivered = new AtomicLong();
+
+		private final long emittedAtStart;
+
+		SubscriberState(long emittedAtStart) {
+			this.emittedAtStart = emittedAtStart;
+		}
+
+		void request(long requested) {
+			this.demand.accumulateAndGet(requested, FluxMessageChannel::addCap);
+		}
+
+		void delivered() {
+			this.delivered.incrementAndGet();
+			this.demand.updateAndGet((value) -> value == Long.MAX_VALUE ? value : value - 1);
+		}
+
 	}
 
 }
@@ -153,17 +153,15 @@ public class PartitionedChannel extends AbstractExecutorChannel {
 
 		partitionedDispatcher.setErrorHandler(ChannelUtils.getErrorHandler(getBeanFactory()));
 
-		partitionedDispatcher.setMessageHandlingTaskDecorator(task -> {
-			if (this.executorInterceptorsSize > 0) {
-				return new MessageHandlingTask(task);
-			}
-			else {
-				return task;
-			}
-		});
+		partitionedDispatcher.setMessageHandlingTaskDecorator(this::decorateMessageHandlingTask);
 
 	}
 
+	@Override
+	public boolean isAsync() {
+		return true;
+	}
+
 	@Override
 	public void destroy() {
 		super.destroy();
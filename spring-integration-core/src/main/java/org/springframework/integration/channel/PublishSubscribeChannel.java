@@ -191,14 +191,7 @@ public class PublishSubscribeChannel extends AbstractExecutorChannel implements
 		}
 		dispatcherToUse.setBeanFactory(beanFactory);
 
-		dispatcherToUse.setMessageHandlingTaskDecorator(task -> {
-			if (PublishSubscribeChannel.this.executorInterceptorsSize > 0) {
-				return new MessageHandlingTask(task);
-			}
-			else {
-				return task;
-			}
-		});
+		dispatcherToUse.setMessageHandlingTaskDecorator(this::decorateMessageHandlingTask);
 	}
 
 	@Override
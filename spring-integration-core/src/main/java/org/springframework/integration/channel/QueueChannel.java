@@ -18,8 +18,11 @@ package org.springframework.integration.channel;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -46,8 +49,12 @@ import org.springframework.util.Assert;
  */
 public class QueueChannel extends AbstractPollableChannel implements QueueChannelOperations {
 
+	private static final int MAX_TRACKED_ENQUEUE_TIMES = 10_000;
+
 	private final Queue<Message<?>> queue;
 
+	private final Map<UUID, Long> enqueueTimes = new ConcurrentHashMap<>();
+
 	protected final Semaphore queueSemaphore = new Semaphore(0); // NOSONAR final
 
 	@Nullable
@@ -109,6 +116,29 @@ public class QueueChannel extends AbstractPollableChannel implements QueueChanne
 	@Override
 	protected boolean doSend(Message<?> message, long timeout) {
 		Assert.notNull(message, "'message' must not be null");
+		UUID id = message.getHeaders().getId();
+		long start = id != null ? queueTimeStart() : NOT_TIMED;
+		if (start == NOT_TIMED) {
+			return doSendToQueue(message, timeout);
+		}
+		if (this.enqueueTimes.size() >= MAX_TRACKED_ENQUEUE_TIMES) {
+			// The messages received from a shared persistent queue on other nodes are never removed here
+			this.enqueueTimes.clear();
+		}
+		this.enqueueTimes.put(id, start);
+		boolean sent = false;
+		try {
+			sent = doSendToQueue(message, timeout);
+			return sent;
+		}
+		finally {
+			if (!sent) {
+				this.enqueueTimes.remove(id);
+			}
+		}
+	}
+
+	private boolean doSendToQueue(Message<?> message, long timeout) {
 		try {
 			if (this.queue instanceof BlockingQueue) {
 				BlockingQueue<Message<?>> blockingQueue = (BlockingQueue<Message<?>>) this.queue;
@@ -139,6 +169,25 @@ public class QueueChannel extends AbstractPollableChannel implements QueueChanne
 	@Override
 	@Nullable
 	protected Message<?> doReceive(long timeout) {
+		Message<?> message = doReceiveFromQueue(timeout);
+		if (message != null && !this.enqueueTimes.isEmpty()) {
+			dequeued(message);
+		}
+		return message;
+	}
+
+	private void dequeued(Message<?> message) {
+		UUID id = message.getHeaders().getId();
+		if (id != null) {
+			Long start = this.enqueueTimes.remove(id);
+			if (start != null) {
+				recordQueueTime(start);
+			}
+		}
+	}
+
+	@Nullable
+	private Message<?> doReceiveFromQueue(long timeout) {
 		try {
 			if (timeout > 0) {
 				if (this.queue instanceof BlockingQueue) {
@@ -199,6 +248,7 @@ public class QueueChannel extends AbstractPollableChannel implements QueueChanne
 				clearedMessages.add(message);
 			}
 		}
+		this.enqueueTimes.clear();
 		return clearedMessages;
 	}
 
@@ -213,6 +263,10 @@ public class QueueChannel extends AbstractPollableChannel implements QueueChanne
 			Message<?> message = (Message<?>) o;
 			if (!selector.accept(message) && this.queue.remove(message)) {
 				purgedMessages.add(message);
+				UUID id = message.getHeaders().getId();
+				if (id != null) {
+					this.enqueueTimes.remove(id);
+				}
 			}
 		}
 		return purgedMessages;
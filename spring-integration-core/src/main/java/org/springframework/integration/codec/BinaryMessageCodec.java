@@ -0,0 +1,592 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.history.MessageHistory;
+import org.springframework.integration.support.MutableMessageHeaders;
+import org.springframework.integration.support.converter.AllowListDeserializingConverter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * A compact binary {@link Codec} for {@link Message} instances.
+ * <p>
+ * Well-known header names ({@link MessageHeaders#ID}, {@link MessageHeaders#TIMESTAMP},
+ * {@link IntegrationMessageHeaderAccessor} keys etc.) are written as a single-byte tag
+ * instead of the name string; {@link String}, numeric, {@link Boolean}, {@link UUID},
+ * {@link MimeType} and {@code byte[]} header values and payloads are written unboxed,
+ * integers as variable-length (zig-zag) numbers.
+ * Other values are written with Java serialization, and the header values which are not
+ * {@link Serializable} are skipped, similar to the {@link MessageHeaders} serialization.
+ * Java-serialized values are deserialized with an {@link AllowListDeserializingConverter},
+ * which by default allows only the {@code java.lang}, {@code java.util} and {@code java.time}
+ * types (as well as arrays, primitives and numbers), and Spring messaging and integration types
+ * (including the base Spring nested exceptions and {@link MimeType}),
+ * see {@link #addAllowedPatterns(String...)}.
+ * <p>
+ * The message can be written directly into a provided (e.g. pooled) {@link ByteBuffer}
+ * via {@link #encode(Object, ByteBuffer)} and read back via {@link #decode(ByteBuffer)}.
+ * <p>
+ * This class also implements {@link Serializer} and {@link Deserializer} contracts,
+ * so it can be used for message stores which can be configured with those,
+ * for example {@code JdbcMessageStore} and {@code JdbcChannelMessageStore}.
+ * <p>
+ * Only {@link GenericMessage} and {@link ErrorMessage} (including its
+ * {@link ErrorMessage#getOriginalMessage() original message}) are restored;
+ * the original message id and timestamp are preserved.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class BinaryMessageCodec implements Codec, Serializer<Message<?>>, Deserializer<Message<?>> {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int GENERIC_MESSAGE = 0;
+
+	private static final int ERROR_MESSAGE = 1;
+
+	private static final int ERROR_MESSAGE_WITH_ORIGINAL = 2;
+
+	private static final String[] DEFAULT_ALLOWED_PATTERNS = {
+			"java.lang.*",
+			"java.util.*",
+			"java.time.*",
+			"org.springframework.core.Nested*Exception",
+			"org.springframework.util.MimeType",
+			"org.springframework.messaging.*",
+			"org.springframework.integration.*"
+	};
+
+	private static final int CUSTOM_HEADER = 0;
+
+	/**
+	 * The dictionary of well-known header names; the tag is the index + 1.
+	 * New entries must be added only to the end.
+	 */
+	private static final List<String> WELL_KNOWN_HEADERS =
+			List.of(MessageHeaders.ID,
+					MessageHeaders.TIMESTAMP,
+					IntegrationMessageHeaderAccessor.CORRELATION_ID,
+					IntegrationMessageHeaderAccessor.SEQUENCE_NUMBER,
+					IntegrationMessageHeaderAccessor.SEQUENCE_SIZE,
+					IntegrationMessageHeaderAccessor.SEQUENCE_DETAILS,
+					IntegrationMessageHeaderAccessor.EXPIRATION_DATE,
+					IntegrationMessageHeaderAccessor.PRIORITY,
+					IntegrationMessageHeaderAccessor.DUPLICATE_MESSAGE,
+					IntegrationMessageHeaderAccessor.DELIVERY_ATTEMPT,
+					IntegrationMessageHeaderAccessor.ROUTING_SLIP,
+					MessageHeaders.CONTENT_TYPE,
+					MessageHeaders.REPLY_CHANNEL,
+					MessageHeaders.ERROR_CHANNEL,
+					MessageHistory.HEADER_NAME);
+
+	private static final Map<String, Integer> HEADER_TAGS = new HashMap<>();
+
+	static {
+		for (int i = 0; i < WELL_KNOWN_HEADERS.size(); i++) {
+			HEADER_TAGS.put(WELL_KNOWN_HEADERS.get(i), i + 1);
+		}
+	}
+
+	private static final int NULL = 0;
+
+	private static final int STRING = 1;
+
+	private static final int INT = 2;
+
+	private static final int LONG = 3;
+
+	private static final int TRUE = 4;
+
+	private static final int FALSE = 5;
+
+	private static final int UUID_VALUE = 6;
+
+	private static final int DOUBLE = 7;
+
+	private static final int BYTES = 8;
+
+	private static final int MIME_TYPE = 9;
+
+	private static final int SERIALIZED = 10;
+
+	private final Serializer<Object> serializer = new DefaultSerializer();
+
+	private final AllowListDeserializingConverter deserializingConverter;
+
+	/**
+	 * Create an instance with the default {@link ClassLoader} for Java-serialized values.
+	 */
+	public BinaryMessageCodec() {
+		this.deserializingConverter = new AllowListDeserializingConverter();
+		this.deserializingConverter.setAllowedPatterns(DEFAULT_ALLOWED_PATTERNS);
+	}
+
+	/**
+	 * Create an instance with the provided {@link ClassLoader} for Java-serialized values.
+	 * @param classLoader the class loader.
+	 */
+	public BinaryMessageCodec(ClassLoader classLoader) {
+		this.deserializingConverter = new AllowListDeserializingConverter(classLoader);
+		this.deserializingConverter.setAllowedPatterns(DEFAULT_ALLOWED_PATTERNS);
+	}
+
+	/**
+	 * Add patterns for classes allowed to be deserialized from Java-serialized values
+	 * in addition to the default {@code java.lang.*}, {@code java.util.*}, {@code java.time.*},
+	 * {@code org.springframework.core.Nested*Exception}, {@code org.springframework.util.MimeType},
+	 * {@code org.springframework.messaging.*}
+	 * and {@code org.springframework.integration.*} ones.
+	 * @param patterns the patterns.
+	 * @see AllowListDeserializingConverter#addAllowedPatterns(String...)
+	 */
+	public void addAllowedPatterns(String... patterns) {
+		this.deserializingConverter.addAllowedPatterns(patterns);
+	}
+
+	/**
+	 * Set patterns for classes allowed to be deserialized from Java-serialized values
+	 * instead of the default ones.
+	 * Use {@code *} to allow all classes if the data comes only from trusted sources.
+	 * @param patterns the patterns.
+	 * @see AllowListDeserializingConverter#setAllowedPatterns(String...)
+	 */
+	public void setAllowedPatterns(String... patterns) {
+		this.deserializingConverter.setAllowedPatterns(patterns);
+	}
+
+	@Override
+	public void encode(Object object, OutputStream outputStream) throws IOException {
+		Assert.isInstanceOf(Message.class, object, "Only messages are supported by this codec");
+		write((Message<?>) object, streamOutput(outputStream));
+	}
+
+	@Override
+	public byte[] encode(Object object) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream(256); // NOSONAR magic number
+		encode(object, outputStream);
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * Encode the message directly into the provided buffer starting from its current position.
+	 * @param object the message to encode.
+	 * @param buffer the buffer to write into.
+	 * @return the number of bytes written.
+	 * @throws java.nio.BufferOverflowException if there is not enough space in the buffer.
+	 * @throws IOException if a value cannot be serialized.
+	 */
+	@Override
+	public int encode(Object object, ByteBuffer buffer) throws IOException {
+		Assert.isInstanceOf(Message.class, object, "Only messages are supported by this codec");
+		int start = buffer.position();
+		write((Message<?>) object, bufferOutput(buffer));
+		return buffer.position() - start;
+	}
+
+	@Override
+	public <T> T decode(InputStream inputStream, Class<T> type) throws IOException {
+		Message<?> message = read(streamInput(inputStream));
+		Assert.isInstanceOf(type, message, "The decoded message is not of the requested type");
+		return type.cast(message);
+	}
+
+	@Override
+	public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
+		return decode(new ByteArrayInputStream(bytes), type);
+	}
+
+	/**
+	 * Decode a message from the provided buffer starting from its current position.
+	 * @param buffer the buffer to read from.
+	 * @return the message.
+	 * @throws IOException if the buffer content cannot be decoded.
+	 */
+	public Message<?> decode(ByteBuffer buffer) throws IOException {
+		return read(bufferInput(buffer));
+	}
+
+	@Override
+	public <T> T decode(ByteBuffer buffer, Class<T> type) throws IOException {
+		Message<?> message = decode(buffer);
+		Assert.isInstanceOf(type, message, "The decoded message is not of the requested type");
+		return type.cast(message);
+	}
+
+	@Override
+	public void serialize(Message<?> message, OutputStream outputStream) throws IOException {
+		write(message, streamOutput(outputStream));
+	}
+
+	@Override
+	public Message<?> deserialize(InputStream inputStream) throws IOException {
+		return read(streamInput(inputStream));
+	}
+
+	private void write(Message<?> message, Output output) throws IOException {
+		output.write(FORMAT_VERSION);
+		writeMessage(message, output);
+	}
+
+	private void writeMessage(Message<?> message, Output output) throws IOException {
+		Message<?> originalMessage = null;
+		if (message instanceof ErrorMessage errorMessage) {
+			originalMessage = errorMessage.getOriginalMessage();
+			output.write(originalMessage != null ? ERROR_MESSAGE_WITH_ORIGINAL : ERROR_MESSAGE);
+		}
+		else {
+			output.write(GENERIC_MESSAGE);
+		}
+		MessageHeaders headers = message.getHeaders();
+		int count = 0;
+		for (Object value : headers.values()) {
+			if (isWritable(value)) {
+				count++;
+			}
+		}
+		writeVarInt(output, count);
+		for (Map.Entry<String, Object> header : headers.entrySet()) {
+			Object value = header.getValue();
+			if (isWritable(value)) {
+				Integer tag = HEADER_TAGS.get(header.getKey());
+				if (tag != null) {
+					writeVarInt(output, tag);
+				}
+				else {
+					writeVarInt(output, CUSTOM_HEADER);
+					writeString(output, header.getKey());
+				}
+				writeValue(output, value);
+			}
+		}
+		writeValue(output, message.getPayload());
+		if (originalMessage != null) {
+			writeMessage(originalMessage, output);
+		}
+	}
+
+	private static boolean isWritable(@Nullable Object value) {
+		return value == null || value instanceof Serializable || value instanceof MimeType;
+	}
+
+	private void writeValue(Output output, @Nullable Object value) throws IOException {
+		if (value == null) {
+			output.write(NULL);
+		}
+		else if (value instanceof String string) {
+			output.write(STRING);
+			writeString(output, string);
+		}
+		else if (value instanceof Integer integer) {
+			output.write(INT);
+			writeVarLong(output, zigZag(integer));
+		}
+		else if (value instanceof Long number) {
+			output.write(LONG);
+			writeVarLong(output, zigZag(number));
+		}
+		else if (value instanceof Boolean bool) {
+			output.write(bool ? TRUE : FALSE);
+		}
+		else if (value instanceof UUID uuid) {
+			output.write(UUID_VALUE);
+			writeFixedLong(output, uuid.getMostSignificantBits());
+			writeFixedLong(output, uuid.getLeastSignificantBits());
+		}
+		else if (value instanceof Double number) {
+			output.write(DOUBLE);
+			writeFixedLong(output, Double.doubleToRawLongBits(number));
+		}
+		else if (value instanceof byte[] bytes) {
+			output.write(BYTES);
+			writeVarInt(output, bytes.length);
+			output.write(bytes);
+		}
+		else if (value.getClass().equals(MimeType.class)) {
+			output.write(MIME_TYPE);
+			writeString(output, value.toString());
+		}
+		else {
+			output.write(SERIALIZED);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(256); // NOSONAR magic number
+			this.serializer.serialize(value, outputStream);
+			writeVarInt(output, outputStream.size());
+			output.write(outputStream.toByteArray());
+		}
+	}
+
+	private Message<?> read(Input input) throws IOException {
+		int version = input.read();
+		if (version != FORMAT_VERSION) {
+			throw new IOException("Unsupported binary message format version: " + version);
+		}
+		return readMessage(input);
+	}
+
+	private Message<?> readMessage(Input input) throws IOException {
+		int kind = input.read();
+		int count = readVarInt(input);
+		Map<String, Object> headers = new HashMap<>(count * 4 / 3 + 1); // NOSONAR magic number
+		for (int i = 0; i < count; i++) {
+			int tag = readVarInt(input);
+			String name;
+			if (tag == CUSTOM_HEADER) {
+				name = readString(input);
+			}
+			else if (tag <= WELL_KNOWN_HEADERS.size()) {
+				name = WELL_KNOWN_HEADERS.get(tag - 1);
+			}
+			else {
+				throw new IOException("Unknown header tag: " + tag);
+			}
+			Object value = readValue(input);
+			if (value != null) {
+				headers.put(name, value);
+			}
+		}
+		Object payload = readValue(input);
+		Assert.state(payload != null, "The message payload must not be null");
+		MessageHeaders messageHeaders = new MutableMessageHeaders(headers);
+		if (kind == ERROR_MESSAGE) {
+			return new ErrorMessage((Throwable) payload, messageHeaders);
+		}
+		else if (kind == ERROR_MESSAGE_WITH_ORIGINAL) {
+			return new ErrorMessage((Throwable) payload, messageHeaders, readMessage(input));
+		}
+		return new GenericMessage<>(payload, messageHeaders);
+	}
+
+	private @Nullable Object readValue(Input input) throws IOException {
+		int type = input.read();
+		return switch (type) {
+			case NULL -> null;
+			case STRING -> readString(input);
+			case INT -> (int) unZigZag(readVarLong(input));
+			case LONG -> unZigZag(readVarLong(input));
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case UUID_VALUE -> new UUID(readFixedLong(input), readFixedLong(input));
+			case DOUBLE -> Double.longBitsToDouble(readFixedLong(input));
+			case BYTES -> readBytes(input);
+			case MIME_TYPE -> MimeType.valueOf(readString(input));
+			case SERIALIZED -> this.deserializingConverter.convert(readBytes(input));
+			default -> throw new IOException("Unknown value type: " + type);
+		};
+	}
+
+	private static void writeString(Output output, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(output, bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(Input input) throws IOException {
+		return new String(readBytes(input), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] readBytes(Input input) throws IOException {
+		int length = readVarInt(input);
+		int remaining = input.remaining();
+		if (length < 0 || length > remaining) {
+			throw new IllegalStateException("Invalid length of a value: " + length
+					+ "; it must be from 0 to the " + remaining + " bytes remaining in the input");
+		}
+		return input.read(length);
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63); // NOSONAR magic number
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarInt(Output output, int value) throws IOException {
+		writeVarLong(output, value & 0xFFFFFFFFL); // NOSONAR magic number
+	}
+
+	private static void writeVarLong(Output output, long value) throws IOException {
+		long remaining = value;
+		while ((remaining & ~0x7FL) != 0) { // NOSONAR magic number
+			output.write((int) ((remaining & 0x7F) | 0x80)); // NOSONAR magic number
+			remaining >>>= 7; // NOSONAR magic number
+		}
+		output.write((int) remaining);
+	}
+
+	private static int readVarInt(Input input) throws IOException {
+		return (int) readVarLong(input);
+	}
+
+	private static long readVarLong(Input input) throws IOException {
+		long result = 0;
+		for (int shift = 0; shift < 64; shift += 7) { // NOSONAR magic number
+			int b = input.read();
+			result |= (long) (b & 0x7F) << shift; // NOSONAR magic number
+			if ((b & 0x80) == 0) { // NOSONAR magic number
+				return result;
+			}
+		}
+		throw new IOException("Malformed variable-length number");
+	}
+
+	private static void writeFixedLong(Output output, long value) throws IOException {
+		for (int shift = 56; shift >= 0; shift -= 8) { // NOSONAR magic number
+			output.write((int) (value >>> shift));
+		}
+	}
+
+	private static long readFixedLong(Input input) throws IOException {
+		long result = 0;
+		for (int i = 0; i < 8; i++) { // NOSONAR magic number
+			result = (result << 8) | input.read(); // NOSONAR magic number
+		}
+		return result;
+	}
+
+	private static Output streamOutput(OutputStream outputStream) {
+		return new Output() {
+
+			@Override
+			public void write(int b) throws IOException {
+				outputStream.write(b);
+			}
+
+			@Override
+			public void write(byte[] bytes) throws IOException {
+				outputStream.write(bytes);
+			}
+
+		};
+	}
+
+	private static Output bufferOutput(ByteBuffer buffer) {
+		return new Output() {
+
+			@Override
+			public void write(int b) {
+				buffer.put((byte) b);
+			}
+
+			@Override
+			public void write(byte[] bytes) {
+				buffer.put(bytes);
+			}
+
+		};
+	}
+
+	private static Input streamInput(InputStream inputStream) {
+		return new Input() {
+
+			@Override
+			public int read() throws IOException {
+				int b = inputStream.read();
+				if (b < 0) {
+					throw new EOFException();
+				}
+				return b;
+			}
+
+			@Override
+			public byte[] read(int length) throws IOException {
+				// reads in chunks instead of allocating the whole declared length up front
+				byte[] bytes = inputStream.readNBytes(length);
+				if (bytes.length < length) {
+					throw new EOFException();
+				}
+				return bytes;
+			}
+
+			@Override
+			public int remaining() {
+				return Integer.MAX_VALUE;
+			}
+
+		};
+	}
+
+	private static Input bufferInput(ByteBuffer buffer) {
+		return new Input() {
+
+			@Override
+			public int read() {
+				return buffer.get() & 0xFF; // NOSONAR magic number
+			}
+
+			@Override
+			public byte[] read(int length) {
+				byte[] bytes = new byte[length];
+				buffer.get(bytes);
+				return bytes;
+			}
+
+			@Override
+			public int remaining() {
+				return buffer.remaining();
+			}
+
+		};
+	}
+
+	private interface Output {
+
+		void write(int b) throws IOException;
+
+		void write(byte[] bytes) throws IOException;
+
+	}
+
+	private interface Input {
+
+		int read() throws IOException;
+
+		byte[] read(int length) throws IOException;
+
+		// Integer.MAX_VALUE if unknown
+		int remaining();
+
+	}
+
+}
@@ -19,11 +19,14 @@ package org.springframework.integration.codec;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Interface for classes that perform both encode (serialize) and decode (deserialize) on multiple classes.
  *
  * @author David Turanski
+ * @author Artem Bilan
+ *
  * @since 4.2
  */
 public interface Codec {
@@ -64,4 +67,48 @@ public interface Codec {
 	 */
 	<T> T decode(byte[] bytes, Class<T> type) throws IOException;
 
+	/**
+	 * Encode an object into the buffer starting from its current position.
+	 * The default implementation copies the result of the {@link #encode(Object)}.
+	 * @param object the object to encode
+	 * @param buffer the buffer to write into
+	 * @return the number of bytes written
+	 * @throws IOException if the operation fails
+	 * @throws java.nio.BufferOverflowException if there is not enough space in the buffer
+	 * @since 7.2
+	 */
+	default int encode(Object object, ByteBuffer buffer) throws IOException {
+		byte[] bytes = encode(object);
+		buffer.put(bytes);
+		return bytes.length;
+	}
+
+	/**
+	 * Decode an object of a given type from the buffer starting from its current position.
+	 * The default implementation consumes all the remaining bytes of the buffer.
+	 * @param buffer the buffer containing the encoded object
+	 * @param type the object's class
+	 * @param <T> the object's type
+	 * @return the object
+	 * @throws IOException if the operation fails
+	 * @since 7.2
+	 */
+	default <T> T decode(ByteBuffer buffer, Class<T> type) throws IOException {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return decode(bytes, type);
+	}
+
+	/**
+	 * Estimate the size of the encoded object, e.g. to allocate a buffer for the
+	 * {@link #encode(Object, ByteBuffer)}.
+	 * The default implementation returns {@code -1} - unknown.
+	 * @param object the object to encode
+	 * @return the estimated size in bytes, or {@code -1} if unknown
+	 * @since 7.2
+	 */
+	default int estimateSize(Object object) {
+		return -1;
+	}
+
 }
@@ -20,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,6 +41,7 @@ import org.springframework.util.Assert;
  *
  * @author David Turanski
  * @author Glenn Renfro
+ * @author Artem Bilan
  *
  * @since 4.2
  */
@@ -80,6 +82,26 @@ public class CompositeCodec implements Codec {
 		return decode(new ByteArrayInputStream(bytes), type);
 	}
 
+	@Override
+	public int encode(Object object, ByteBuffer buffer) throws IOException {
+		Assert.notNull(object, "cannot encode a null object");
+		Assert.notNull(buffer, "'buffer' cannot be null");
+		return findDelegate(object.getClass()).encode(object, buffer);
+	}
+
+	@Override
+	public <T> T decode(ByteBuffer buffer, Class<T> type) throws IOException {
+		Assert.notNull(buffer, "'buffer' cannot be null");
+		Assert.notNull(type, "'type' cannot be null");
+		return findDelegate(type).decode(buffer, type);
+	}
+
+	@Override
+	public int estimateSize(Object object) {
+		Assert.notNull(object, "cannot estimate a null object");
+		return findDelegate(object.getClass()).estimateSize(object);
+	}
+
 	private Codec findDelegate(Class<?> type) {
 		Class<?> clazz = ClassUtils.findClosestMatch(type, this.delegates.keySet(), true);
 		return clazz == null ? this.defaultCodec : this.delegates.getOrDefault(clazz, this.defaultCodec);
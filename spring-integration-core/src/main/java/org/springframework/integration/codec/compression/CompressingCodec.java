@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.integration.codec.Codec;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * A {@link Codec} which compresses the result of the delegate {@link Codec} encoding
+ * and decompresses the data for the delegate {@link Codec} decoding.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class CompressingCodec implements Codec {
+
+	private final Codec delegate;
+
+	private final CompressionCodec compressionCodec;
+
+	/**
+	 * Create an instance based on the provided {@link Codec} and {@link CompressionCodec}.
+	 * @param delegate the codec to encode and decode objects.
+	 * @param compressionCodec the codec to compress and decompress encoded data.
+	 */
+	public CompressingCodec(Codec delegate, CompressionCodec compressionCodec) {
+		Assert.notNull(delegate, "'delegate' must not be null");
+		Assert.notNull(compressionCodec, "'compressionCodec' must not be null");
+		this.delegate = delegate;
+		this.compressionCodec = compressionCodec;
+	}
+
+	@Override
+	public void encode(Object object, OutputStream outputStream) throws IOException {
+		try (OutputStream compressingStream = this.compressionCodec.compress(StreamUtils.nonClosing(outputStream))) {
+			this.delegate.encode(object, compressingStream);
+		}
+	}
+
+	@Override
+	public byte[] encode(Object object) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		encode(object, outputStream);
+		return outputStream.toByteArray();
+	}
+
+	@Override
+	public <T> T decode(InputStream inputStream, Class<T> type) throws IOException {
+		try (InputStream decompressingStream = this.compressionCodec.decompress(StreamUtils.nonClosing(inputStream))) {
+			return this.delegate.decode(decompressingStream, type);
+		}
+	}
+
+	@Override
+	public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
+		return decode(new ByteArrayInputStream(bytes), type);
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
+/**
+ * A {@link Serializer} and {@link Deserializer} which compresses the result of the delegate
+ * {@link Serializer} and decompresses the data for the delegate {@link Deserializer}.
+ * Can be used, for example, for message store implementations accepting a serializer.
+ *
+ * @param <T> the object type.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class CompressingSerializer<T> implements Serializer<T>, Deserializer<T> {
+
+	private final Serializer<T> serializer;
+
+	private final Deserializer<? extends T> deserializer;
+
+	private final CompressionCodec compressionCodec;
+
+	/**
+	 * Create an instance based on the provided delegates and {@link CompressionCodec}.
+	 * @param serializer the serializer to delegate to.
+	 * @param deserializer the deserializer to delegate to.
+	 * @param compressionCodec the codec to compress and decompress serialized data.
+	 */
+	public CompressingSerializer(Serializer<T> serializer, Deserializer<? extends T> deserializer,
+			CompressionCodec compressionCodec) {
+
+		Assert.notNull(serializer, "'serializer' must not be null");
+		Assert.notNull(deserializer, "'deserializer' must not be null");
+		Assert.notNull(compressionCodec, "'compressionCodec' must not be null");
+		this.serializer = serializer;
+		this.deserializer = deserializer;
+		this.compressionCodec = compressionCodec;
+	}
+
+	@Override
+	public void serialize(T object, OutputStream outputStream) throws IOException {
+		try (OutputStream compressingStream = this.compressionCodec.compress(StreamUtils.nonClosing(outputStream))) {
+			this.serializer.serialize(object, compressingStream);
+		}
+	}
+
+	@Override
+	public T deserialize(InputStream inputStream) throws IOException {
+		try (InputStream decompressingStream = this.compressionCodec.decompress(StreamUtils.nonClosing(inputStream))) {
+			return this.deserializer.deserialize(decompressingStream);
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A strategy to compress and decompress a stream of bytes, e.g. a message payload.
+ * The {@link #getName()} is recorded in the
+ * {@link org.springframework.integration.IntegrationMessageHeaderAccessor#COMPRESSION_CODEC} header
+ * by the {@link org.springframework.integration.transformer.CompressingTransformer}, so the
+ * {@link org.springframework.integration.transformer.DecompressingTransformer} can select a respective codec.
+ * <p>
+ * Implementations for other compression algorithms (e.g. LZ4 or Zstandard) can be plugged in
+ * by wrapping the streams of a respective library.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public interface CompressionCodec {
+
+	/**
+	 * Return the name of this codec, e.g. {@code gzip}.
+	 * Codecs producing incompatible data (like a different dictionary) must have different names.
+	 * @return the codec name.
+	 */
+	String getName();
+
+	/**
+	 * Wrap the provided stream into a compressing one.
+	 * The returned stream must be closed to finish the compression; this closes the target stream as well.
+	 * @param outputStream the stream to write the compressed data to.
+	 * @return the stream to write the data to compress.
+	 * @throws IOException if the operation fails.
+	 */
+	OutputStream compress(OutputStream outputStream) throws IOException;
+
+	/**
+	 * Wrap the provided stream into a decompressing one.
+	 * The returned stream must be closed to release the resources; this closes the source stream as well.
+	 * @param inputStream the stream of the compressed data.
+	 * @return the stream to read the decompressed data from.
+	 * @throws IOException if the operation fails.
+	 */
+	InputStream decompress(InputStream inputStream) throws IOException;
+
+	/**
+	 * Compress the provided bytes.
+	 * @param bytes the bytes to compress.
+	 * @return the compressed bytes.
+	 * @throws IOException if the operation fails.
+	 */
+	default byte[] compress(byte[] bytes) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(Math.max(32, bytes.length / 2));
+		try (OutputStream outputStream = compress(byteArrayOutputStream)) {
+			outputStream.write(bytes);
+		}
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	/**
+	 * Decompress the provided bytes.
+	 * @param bytes the bytes to decompress.
+	 * @return the decompressed bytes.
+	 * @throws IOException if the operation fails.
+	 */
+	default byte[] decompress(byte[] bytes) throws IOException {
+		try (InputStream inputStream = decompress(new ByteArrayInputStream(bytes))) {
+			return inputStream.readAllBytes();
+		}
+	}
+
+}
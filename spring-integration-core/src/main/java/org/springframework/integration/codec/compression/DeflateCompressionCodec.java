@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CompressionCodec} for the DEFLATE algorithm.
+ * Without a dictionary, the data is in the ZLIB format.
+ * <p>
+ * A preset dictionary can significantly improve compression of small messages with a lot of
+ * common content, e.g. JSON documents of the same structure.
+ * With a dictionary, the data is a raw DEFLATE stream, and the same dictionary (and a codec name)
+ * must be used for decompression.
+ * A dictionary can be trained from the sample messages with the
+ * {@link #trainDictionary(Collection, int, double)}.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class DeflateCompressionCodec implements CompressionCodec {
+
+	/**
+	 * The default name of this codec.
+	 */
+	public static final String NAME = "deflate";
+
+	private static final int SEGMENT_LENGTH = 8;
+
+	private static final double DEFAULT_MIN_SAMPLE_SHARE = 0.5;
+
+	private final String name;
+
+	private final byte @Nullable [] dictionary;
+
+	private int level = Deflater.DEFAULT_COMPRESSION;
+
+	private int bufferSize = 512;
+
+	/**
+	 * Create an instance without a dictionary and with the {@link #NAME} name.
+	 */
+	public DeflateCompressionCodec() {
+		this.name = NAME;
+		this.dictionary = null;
+	}
+
+	/**
+	 * Create an instance with a preset dictionary.
+	 * The name should identify the dictionary (e.g. {@code deflate-orders-v1}),
+	 * so the data compressed with different dictionaries is not mixed up.
+	 * @param name the codec name.
+	 * @param dictionary the preset dictionary.
+	 */
+	public DeflateCompressionCodec(String name, byte[] dictionary) {
+		Assert.hasText(name, "'name' must not be empty");
+		Assert.notNull(dictionary, "'dictionary' must not be null");
+		Assert.isTrue(dictionary.length > 0, "'dictionary' must not be empty");
+		this.name = name;
+		this.dictionary = dictionary.clone();
+	}
+
+	/**
+	 * Set the compression level from {@code 0} to {@code 9}.
+	 * Defaults to {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param level the compression level.
+	 */
+	public void setLevel(int level) {
+		Assert.isTrue(level == Deflater.DEFAULT_COMPRESSION || (level >= 0 && level <= 9),
+				"'level' must be from 0 to 9, or -1 for default");
+		this.level = level;
+	}
+
+	/**
+	 * Set the size of the buffers for compression and decompression streams.
+	 * Defaults to {@code 512}.
+	 * @param bufferSize the buffer size.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be greater than zero");
+		this.bufferSize = bufferSize;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public OutputStream compress(OutputStream outputStream) throws IOException {
+		byte[] presetDictionary = this.dictionary;
+		Deflater deflater = new Deflater(this.level, presetDictionary != null);
+		if (presetDictionary != null) {
+			deflater.setDictionary(presetDictionary);
+		}
+		return new DeflaterOutputStream(outputStream, deflater, this.bufferSize) {
+
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				}
+				finally {
+					deflater.end();
+				}
+			}
+
+		};
+	}
+
+	@Override
+	public InputStream decompress(InputStream inputStream) throws IOException {
+		byte[] presetDictionary = this.dictionary;
+		Inflater inflater = new Inflater(presetDictionary != null);
+		if (presetDictionary != null) {
+			inflater.setDictionary(presetDictionary);
+		}
+		return new InflaterInputStream(inputStream, inflater, this.bufferSize) {
+
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				}
+				finally {
+					inflater.end();
+				}
+			}
+
+		};
+	}
+
+	/**
+	 * Build a preset dictionary from the byte sequences found in more than half of the sample messages.
+	 * @param samples the sample messages.
+	 * @param dictionarySize the maximum size of the dictionary; DEFLATE uses up to 32 KB of it.
+	 * @return the dictionary.
+	 * @throws IllegalArgumentException if the samples have nothing in common.
+	 * @see #trainDictionary(Collection, int, double)
+	 */
+	public static byte[] trainDictionary(Collection<byte[]> samples, int dictionarySize) {
+		return trainDictionary(samples, dictionarySize, DEFAULT_MIN_SAMPLE_SHARE);
+	}
+
+	/**
+	 * Build a preset dictionary from the sample messages.
+	 * The byte sequences found in more than the {@code minSampleShare} of the samples
+	 * are included into the dictionary, the most common ones closer to its end,
+	 * as DEFLATE encodes near matches cheaper.
+	 * The samples should be representative for the messages to compress.
+	 * @param samples the sample messages.
+	 * @param dictionarySize the maximum size of the dictionary; DEFLATE uses up to 32 KB of it.
+	 * @param minSampleShare the share of the samples, from {@code 0} (inclusive) to {@code 1} (exclusive),
+	 * a byte sequence must be found in more than to be included into the dictionary.
+	 * @return the dictionary.
+	 * @throws IllegalArgumentException if no byte sequences are found in enough samples.
+	 */
+	public static byte[] trainDictionary(Collection<byte[]> samples, int dictionarySize, double minSampleShare) {
+		Assert.notEmpty(samples, "'samples' must not be empty");
+		Assert.isTrue(dictionarySize > 0, "'dictionarySize' must be greater than zero");
+		Assert.isTrue(minSampleShare >= 0 && minSampleShare < 1, "'minSampleShare' must be from 0 to 1 (exclusive)");
+
+		Map<String, Integer> segmentFrequencies = new HashMap<>();
+		for (byte[] sample : samples) {
+			// ISO-8859-1 maps every byte to a char one-to-one
+			String content = new String(sample, StandardCharsets.ISO_8859_1);
+			Set<String> segments = new HashSet<>();
+			for (int i = 0; i + SEGMENT_LENGTH <= content.length(); i++) {
+				segments.add(content.substring(i, i + SEGMENT_LENGTH));
+			}
+			segments.forEach((segment) -> segmentFrequencies.merge(segment, 1, Integer::sum));
+		}
+
+		double minSamples = samples.size() * minSampleShare;
+		List<Map.Entry<String, Integer>> candidates =
+				segmentFrequencies.entrySet()
+						.stream()
+						.filter((entry) -> entry.getValue() > minSamples)
+						.sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+								.thenComparing(Map.Entry.comparingByKey()))
+						.toList();
+
+		List<String> selected = new ArrayList<>();
+		StringBuilder content = new StringBuilder();
+		for (Map.Entry<String, Integer> candidate : candidates) {
+			if (content.length() >= dictionarySize) {
+				break;
+			}
+			String segment = candidate.getKey();
+			if (content.indexOf(segment) < 0) {
+				selected.add(segment);
+				content.append(segment);
+			}
+		}
+
+		Assert.isTrue(!selected.isEmpty(), () -> "No byte sequences of " + SEGMENT_LENGTH
+				+ " bytes are found in more than " + minSampleShare + " of the " + samples.size()
+				+ " samples to build a dictionary from");
+
+		Collections.reverse(selected);
+		String dictionary = String.join("", selected);
+		if (dictionary.length() > dictionarySize) {
+			dictionary = dictionary.substring(dictionary.length() - dictionarySize);
+		}
+		return dictionary.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+}
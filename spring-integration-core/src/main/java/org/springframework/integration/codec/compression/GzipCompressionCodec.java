@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CompressionCodec} for the GZIP format.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class GzipCompressionCodec implements CompressionCodec {
+
+	/**
+	 * The default name of this codec.
+	 */
+	public static final String NAME = "gzip";
+
+	private int bufferSize = 512;
+
+	/**
+	 * Set the size of the buffers for compression and decompression streams.
+	 * Defaults to {@code 512}.
+	 * @param bufferSize the buffer size.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be greater than zero");
+		this.bufferSize = bufferSize;
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public OutputStream compress(OutputStream outputStream) throws IOException {
+		return new GZIPOutputStream(outputStream, this.bufferSize);
+	}
+
+	@Override
+	public InputStream decompress(InputStream inputStream) throws IOException {
+		return new GZIPInputStream(inputStream, this.bufferSize);
+	}
+
+}
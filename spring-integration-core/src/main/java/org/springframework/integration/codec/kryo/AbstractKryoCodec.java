@@ -16,12 +16,13 @@
 
 package org.springframework.integration.codec.kryo;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.ByteBufferInput;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.util.Pool;
@@ -32,6 +33,15 @@ import org.springframework.util.Assert;
 /**
  * Base class for {@link Codec}s using {@link Kryo}.
  * Manages pooled {@link Kryo} instances.
+ * <p>
+ * Since version 7.2, the Kryo {@link Output} and {@link Input} buffers are pooled as well,
+ * so encoding and decoding do not allocate a buffer per object.
+ * A pooled output buffer grows as needed; the buffer which has grown over the
+ * {@link #setMaxPooledBufferSize(int) maxPooledBufferSize} is not returned to the pool.
+ * New output buffers are sized according to the average size of the recently encoded objects,
+ * which is also exposed via {@link #estimateSize(Object)}.
+ * As before, the {@link OutputStream} provided for the {@link #encode(Object, OutputStream)}
+ * and the {@link InputStream} provided for the {@link #decode(InputStream, Class)} are closed.
  *
  * @author David Turanski
  * @author Artem Bilan
@@ -41,8 +51,18 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractKryoCodec implements Codec {
 
+	private static final int DEFAULT_BUFFER_SIZE = 4096;
+
 	protected final Pool<Kryo> pool; // NOSONAR final
 
+	private final Pool<Output> outputPool;
+
+	private final Pool<Input> inputPool;
+
+	private int maxPooledBufferSize = 1024 * 1024;
+
+	private volatile int sizeEstimate = 256;
+
 	protected AbstractKryoCodec() {
 		this.pool = new Pool<>(true, true) {
 
@@ -56,6 +76,34 @@ public abstract class AbstractKryoCodec implements Codec {
 			}
 
 		};
+		this.outputPool = new Pool<>(true, true) {
+
+			@Override
+			protected Output create() {
+				return new Output(Math.min(AbstractKryoCodec.this.sizeEstimate, DEFAULT_BUFFER_SIZE / 2) * 2, -1);
+			}
+
+		};
+		this.inputPool = new Pool<>(true, true) {
+
+			@Override
+			protected Input create() {
+				return new Input(DEFAULT_BUFFER_SIZE);
+			}
+
+		};
+	}
+
+	/**
+	 * Set the maximum size of the output buffer to return to the pool after encoding;
+	 * a larger buffer (grown for a large object) is left for garbage collection.
+	 * Defaults to 1 MB.
+	 * @param maxPooledBufferSize the maximum buffer size in bytes.
+	 * @since 7.2
+	 */
+	public void setMaxPooledBufferSize(int maxPooledBufferSize) {
+		Assert.isTrue(maxPooledBufferSize > 0, "'maxPooledBufferSize' must be greater than 0");
+		this.maxPooledBufferSize = maxPooledBufferSize;
 	}
 
 	@Override
@@ -63,22 +111,63 @@ public abstract class AbstractKryoCodec implements Codec {
 		Assert.notNull(object, "cannot encode a null object");
 		Assert.notNull(outputStream, "'outputSteam' cannot be null");
 
-		Kryo kryo = this.pool.obtain();
-		try (Output output = (outputStream instanceof Output castOutput ? castOutput : new Output(outputStream))) {
-			doEncode(kryo, object, output);
+		if (outputStream instanceof Output output) {
+			try (output) {
+				write(object, output);
+			}
+			return;
+		}
+		Output output = this.outputPool.obtain();
+		output.setOutputStream(outputStream);
+		try (output) {
+			write(object, output);
 		}
 		finally {
-			this.pool.free(kryo);
+			release(output);
 		}
+	}
 
+	@Override
+	public byte[] encode(Object object) throws IOException {
+		Assert.notNull(object, "cannot encode a null object");
+		Output output = this.outputPool.obtain();
+		try {
+			write(object, output);
+			return output.toBytes();
+		}
+		finally {
+			release(output);
+		}
+	}
+
+	/**
+	 * Encode an object directly into the buffer from the pooled {@link Output}
+	 * without an intermediate {@code byte[]}.
+	 * @param object the object to encode.
+	 * @param buffer the buffer to write into.
+	 * @return the number of bytes written.
+	 * @since 7.2
+	 */
+	@Override
+	public int encode(Object object, ByteBuffer buffer) {
+		Assert.notNull(object, "cannot encode a null object");
+		Assert.notNull(buffer, "'buffer' cannot be null");
+		Output output = this.outputPool.obtain();
+		try {
+			write(object, output);
+			int length = output.position();
+			buffer.put(output.getBuffer(), 0, length);
+			return length;
+		}
+		finally {
+			release(output);
+		}
 	}
 
 	@Override
 	public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
 		Assert.notNull(bytes, "'bytes' cannot be null");
-		try (Input input = new Input(bytes)) {
-			return decode(input, type);
-		}
+		return read(new Input(bytes), type);
 	}
 
 	@Override
@@ -86,8 +175,80 @@ public abstract class AbstractKryoCodec implements Codec {
 		Assert.notNull(inputStream, "'inputStream' cannot be null");
 		Assert.notNull(type, "'type' cannot be null");
 
+		if (inputStream instanceof Input input) {
+			try (input) {
+				return read(input, type);
+			}
+		}
+		Input input = this.inputPool.obtain();
+		input.setInputStream(inputStream);
+		try (input) {
+			return read(input, type);
+		}
+		finally {
+			input.setInputStream(null);
+			this.inputPool.free(input);
+		}
+	}
+
+	/**
+	 * Decode an object from the buffer without copying its content;
+	 * the buffer position is advanced by the number of bytes read.
+	 * @param buffer the buffer containing the encoded object.
+	 * @param type the object's class.
+	 * @param <T> the object's type.
+	 * @return the object.
+	 * @since 7.2
+	 */
+	@Override
+	public <T> T decode(ByteBuffer buffer, Class<T> type) {
+		Assert.notNull(buffer, "'buffer' cannot be null");
+		Assert.notNull(type, "'type' cannot be null");
+
+		int start = buffer.position();
+		if (buffer.hasArray()) {
+			int offset = buffer.arrayOffset() + start;
+			Input input = new Input(buffer.array(), offset, buffer.remaining());
+			T result = read(input, type);
+			buffer.position(start + input.position() - offset);
+			return result;
+		}
+		else {
+			ByteBufferInput input = new ByteBufferInput(buffer.slice());
+			T result = read(input, type);
+			buffer.position(start + input.position());
+			return result;
+		}
+	}
+
+	/**
+	 * Return the average size of the recently encoded objects.
+	 * @param object the object to encode.
+	 * @return the estimated size in bytes.
+	 * @since 7.2
+	 */
+	@Override
+	public int estimateSize(Object object) {
+		return this.sizeEstimate;
+	}
+
+	private void write(Object object, Output output) {
+		long start = output.total();
+		Kryo kryo = this.pool.obtain();
+		try {
+			doEncode(kryo, object, output);
+		}
+		finally {
+			this.pool.free(kryo);
+		}
+		int size = (int) Math.min(Integer.MAX_VALUE, output.total() - start);
+		// Exponential moving average: the estimate follows the recent sizes
+		this.sizeEstimate = Math.max(1, this.sizeEstimate - (this.sizeEstimate >> 3) + (size >> 3)); // NOSONAR
+	}
+
+	private <T> T read(Input input, Class<T> type) {
 		Kryo kryo = this.pool.obtain();
-		try (Input input = (inputStream instanceof Input castInput ? castInput : new Input(inputStream))) {
+		try {
 			return doDecode(kryo, input, type);
 		}
 		finally {
@@ -95,13 +256,11 @@ public abstract class AbstractKryoCodec implements Codec {
 		}
 	}
 
-	@Override
-	public byte[] encode(Object object) throws IOException {
-		ByteArrayOutputStream bos = new ByteArrayOutputStream();
-		encode(object, bos);
-		byte[] bytes = bos.toByteArray();
-		bos.close();
-		return bytes;
+	private void release(Output output) {
+		output.setOutputStream(null);
+		if (output.getBuffer().length <= this.maxPooledBufferSize) {
+			this.outputPool.free(output);
+		}
 	}
 
 	/**
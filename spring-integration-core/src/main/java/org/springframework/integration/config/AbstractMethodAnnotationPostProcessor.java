@@ -701,6 +701,7 @@ public abstract class AbstractMethodAnnotationPostProcessor<T extends Annotation
 			maxMessagesPerPoll = 1;
 		}
 		pollingEndpoint.setMaxMessagesPerPoll(maxMessagesPerPoll);
+		pollingEndpoint.setTransactionBatchSize(pollerMetadata.getTransactionBatchSize());
 		pollingEndpoint.setErrorHandler(pollerMetadata.getErrorHandler());
 		if (pollingEndpoint instanceof PollingConsumer pollingConsumer) {
 			pollingConsumer.setReceiveTimeout(pollerMetadata.getReceiveTimeout());
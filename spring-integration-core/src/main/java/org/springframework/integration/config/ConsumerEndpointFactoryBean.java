@@ -16,6 +16,7 @@
 
 package org.springframework.integration.config;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -105,6 +106,12 @@ public class ConsumerEndpointFactoryBean
 	@Nullable
 	private Function<? super Flux<Message<?>>, ? extends Publisher<Message<?>>> reactiveCustomizer;
 
+	private int reactivePrefetch;
+
+	private int reactiveBatchSize = 1;
+
+	private @Nullable Duration reactiveBatchTimeout;
+
 	@Nullable
 	private Boolean autoStartup;
 
@@ -179,6 +186,39 @@ public class ConsumerEndpointFactoryBean
 		this.reactiveCustomizer = reactiveCustomizer;
 	}
 
+	/**
+	 * Set the number of messages for the {@link ReactiveStreamsConsumer} to request from the input channel at once.
+	 * Makes the endpoint reactive independently of an input channel.
+	 * @param reactivePrefetch the number of messages to request.
+	 * @since 7.2
+	 * @see ReactiveStreamsConsumer#setPrefetch(int)
+	 */
+	public void setReactivePrefetch(int reactivePrefetch) {
+		this.reactivePrefetch = reactivePrefetch;
+	}
+
+	/**
+	 * Set the number of messages for the {@link ReactiveStreamsConsumer} to deliver to the handler
+	 * in a single message with a {@code List<Message<?>>} payload.
+	 * Makes the endpoint reactive independently of an input channel, if greater than 1.
+	 * @param reactiveBatchSize the number of messages in a batch.
+	 * @since 7.2
+	 * @see ReactiveStreamsConsumer#setBatchSize(int)
+	 */
+	public void setReactiveBatchSize(int reactiveBatchSize) {
+		this.reactiveBatchSize = reactiveBatchSize;
+	}
+
+	/**
+	 * Set the maximum time for the {@link ReactiveStreamsConsumer} to wait for a batch to be filled.
+	 * @param reactiveBatchTimeout the time to wait for a batch to be filled.
+	 * @since 7.2
+	 * @see ReactiveStreamsConsumer#setBatchTimeout(Duration)
+	 */
+	public void setReactiveBatchTimeout(Duration reactiveBatchTimeout) {
+		this.reactiveBatchTimeout = reactiveBatchTimeout;
+	}
+
 	/**
 	 * Specify the {@link DestinationResolver} strategy to use.
 	 * The default is a BeanFactoryChannelResolver.
@@ -329,12 +369,16 @@ public class ConsumerEndpointFactoryBean
 			}
 			MessageChannel channel = resolveInputChannel();
 
-			Assert.state(this.reactiveCustomizer == null || this.pollerMetadata == null,
-					"The 'pollerMetadata' and 'reactiveCustomizer' are mutually exclusive.");
+			boolean reactiveOptions =
+					this.reactiveCustomizer != null || this.reactivePrefetch > 0 || this.reactiveBatchSize > 1;
+
+			Assert.state(!reactiveOptions || this.pollerMetadata == null,
+					"The 'pollerMetadata' and the reactive options " +
+							"('reactiveCustomizer', 'reactivePrefetch', 'reactiveBatchSize') are mutually exclusive.");
 
 			if (channel instanceof Publisher ||
 					this.handler instanceof ReactiveMessageHandlerAdapter ||
-					this.reactiveCustomizer != null) {
+					reactiveOptions) {
 
 				reactiveStreamsConsumer(channel);
 			}
@@ -388,6 +432,13 @@ public class ConsumerEndpointFactoryBean
 		}
 
 		reactiveStreamsConsumer.setReactiveCustomizer(this.reactiveCustomizer);
+		if (this.reactivePrefetch > 0) {
+			reactiveStreamsConsumer.setPrefetch(this.reactivePrefetch);
+		}
+		reactiveStreamsConsumer.setBatchSize(this.reactiveBatchSize);
+		if (this.reactiveBatchTimeout != null) {
+			reactiveStreamsConsumer.setBatchTimeout(this.reactiveBatchTimeout);
+		}
 
 		this.endpoint = reactiveStreamsConsumer;
 	}
@@ -414,6 +465,7 @@ public class ConsumerEndpointFactoryBean
 		pollingConsumer.setTrigger(this.pollerMetadata.getTrigger());
 		pollingConsumer.setAdviceChain(this.pollerMetadata.getAdviceChain());
 		pollingConsumer.setMaxMessagesPerPoll(this.pollerMetadata.getMaxMessagesPerPoll());
+		pollingConsumer.setTransactionBatchSize(this.pollerMetadata.getTransactionBatchSize());
 
 		pollingConsumer.setErrorHandler(this.pollerMetadata.getErrorHandler());
 
@@ -313,7 +313,7 @@ public class DefaultConfiguringBeanFactoryPostProcessor implements BeanDefinitio
 	}
 
 	/**
-	 * Register {@code jsonPath} and {@code xpath} SpEL-function beans, if necessary.
+	 * Register {@code jsonPath}, {@code jsonPathStreaming} and {@code xpath} SpEL-function beans, if necessary.
 	 */
 	private void registerBuiltInBeans() {
 		int registryId = System.identityHashCode(this.registry);
@@ -324,11 +324,18 @@ public class DefaultConfiguringBeanFactoryPostProcessor implements BeanDefinitio
 
 	private void jsonPath(int registryId) throws LinkageError {
 		String jsonPathBeanName = "jsonPath";
+		String jsonPathStreamingBeanName = "jsonPathStreaming";
 		if (JSON_PATH_PRESENT) {
 			if (!this.beanFactory.containsBean(jsonPathBeanName) && !REGISTRIES_PROCESSED.contains(registryId)) {
 				IntegrationConfigUtils.registerSpelFunctionBean(this.registry, jsonPathBeanName,
 						JsonPathUtils.class, "evaluate");
 			}
+			if (!this.beanFactory.containsBean(jsonPathStreamingBeanName)
+					&& !REGISTRIES_PROCESSED.contains(registryId)) {
+
+				IntegrationConfigUtils.registerSpelFunctionBean(this.registry, jsonPathStreamingBeanName,
+						JsonPathUtils.class, "evaluateStreaming");
+			}
 		}
 		else {
 			LOGGER.debug("The '#jsonPath' SpEL function cannot be registered: " +
@@ -61,6 +61,16 @@ public @interface EnableIntegrationManagement {
 	 */
 	String defaultLoggingEnabled() default "true";
 
+	/**
+	 * Set the rate for sampling the send timers: only one (randomly chosen) of every {@code N}
+	 * send and handle operations is timed, to reduce the metrics overhead for high-volume flows.
+	 * The value can be a property placeholder.
+	 * @return the sample rate; 1 by default - time all the operations.
+	 * @since 7.2
+	 * @see org.springframework.integration.support.management.IntegrationManagement#setMetricsSampleRate(int)
+	 */
+	String metricsSampleRate() default "1";
+
 	/**
 	 * Set simple pattern component names matching for observation registry injection.
 	 * @return simple pattern component names matching for observation registry injection.
@@ -73,6 +83,17 @@ public @interface EnableIntegrationManagement {
 	 */
 	String[] observationPatterns() default {};
 
+	/**
+	 * Set the rate for head-based sampling of the observed message flows: only one (randomly chosen)
+	 * of every {@code N} flows is observed, and no observation contexts are created for the rest of them.
+	 * Ignored if no {@link #observationPatterns()} are provided.
+	 * The value can be a property placeholder.
+	 * @return the sample rate; 1 by default - observe all the flows.
+	 * @since 7.2
+	 * @see org.springframework.integration.support.management.observation.IntegrationObservationSampler
+	 */
+	String observationSampleRate() default "1";
+
 	/**
 	 * Set to {@code true} to turn on Control Bus commands loading after application context initialization.
 	 * @return the flag to initialize the control bus registry eagerly or not.
@@ -23,6 +23,8 @@ import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
 import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 
 /**
  * {@link BeanDefinitionRegistryPostProcessor} to apply external Integration
@@ -44,8 +46,17 @@ public class IntegrationConfigurationBeanFactoryPostProcessor implements BeanDef
 				SpringFactoriesLoader.loadFactories(IntegrationConfigurationInitializer.class,
 						beanFactory.getBeanClassLoader());
 
+		ApplicationStartup applicationStartup = beanFactory.getApplicationStartup();
 		for (IntegrationConfigurationInitializer initializer : initializers) {
-			initializer.initialize(beanFactory);
+			StartupStep startupStep =
+					applicationStartup.start("spring.integration.config.initialize")
+							.tag("initializer", () -> initializer.getClass().getName());
+			try {
+				initializer.initialize(beanFactory);
+			}
+			finally {
+				startupStep.end();
+			}
 		}
 	}
 
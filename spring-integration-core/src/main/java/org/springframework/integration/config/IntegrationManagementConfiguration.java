@@ -93,11 +93,21 @@ public class IntegrationManagementConfiguration implements ImportAware, Environm
 		configurer.setDefaultLoggingEnabled(
 				Boolean.parseBoolean(this.environment.resolvePlaceholders(defaultLoggingEnabled == null
 						? "false" : defaultLoggingEnabled)));
+		String metricsSampleRate = (String) Objects.requireNonNull(this.attributes).get("metricsSampleRate");
+		if (metricsSampleRate != null) {
+			configurer.setDefaultMetricsSampleRate(
+					Integer.parseInt(this.environment.resolvePlaceholders(metricsSampleRate)));
+		}
 		configurer.setMetricsCaptorProvider(metricsCaptorProvider);
 		String[] observationPatterns = obtainObservationPatterns();
 		if (observationPatterns.length > 0) {
 			configurer.setObservationPatterns(observationPatterns);
 			configurer.setObservationRegistry(observationRegistryProvider);
+			String observationSampleRate = (String) this.attributes.get("observationSampleRate");
+			if (observationSampleRate != null) {
+				configurer.setObservationSampleRate(
+						Integer.parseInt(this.environment.resolvePlaceholders(observationSampleRate)));
+			}
 		}
 		return configurer;
 	}
@@ -38,6 +38,7 @@ import org.springframework.integration.support.management.IntegrationManagement;
 import org.springframework.integration.support.management.IntegrationManagement.ManagementOverrides;
 import org.springframework.integration.support.management.metrics.MeterFacade;
 import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.observation.IntegrationObservationSampler;
 import org.springframework.integration.support.utils.PatternMatchUtils;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
@@ -74,6 +75,8 @@ public class IntegrationManagementConfigurer
 
 	private boolean defaultLoggingEnabled = true;
 
+	private int defaultMetricsSampleRate = 1;
+
 	private volatile boolean singletonsInstantiated;
 
 	private @Nullable MetricsCaptor metricsCaptor;
@@ -87,6 +90,8 @@ public class IntegrationManagementConfigurer
 	@SuppressWarnings("NullAway.Init") //Creation is handled in the postProcessAfterInitialization
 	private String[]  observationPatterns;
 
+	private @Nullable IntegrationObservationSampler observationSampler;
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
@@ -120,6 +125,19 @@ public class IntegrationManagementConfigurer
 		this.defaultLoggingEnabled = defaultLoggingEnabled;
 	}
 
+	/**
+	 * Set the default rate for sampling the send timers of all the {@link IntegrationManagement}
+	 * components: only one (randomly chosen) of every {@code N} operations is timed.
+	 * Can be overridden on the specific component via
+	 * {@link IntegrationManagement#setMetricsSampleRate(int)}.
+	 * @param defaultMetricsSampleRate the sample rate; defaults to 1 - time all the operations.
+	 * @since 7.2
+	 */
+	public void setDefaultMetricsSampleRate(int defaultMetricsSampleRate) {
+		Assert.isTrue(defaultMetricsSampleRate > 0, "'defaultMetricsSampleRate' must be greater than 0");
+		this.defaultMetricsSampleRate = defaultMetricsSampleRate;
+	}
+
 	public void setMetricsCaptor(@Nullable MetricsCaptor metricsCaptor) {
 		this.metricsCaptor = metricsCaptor;
 	}
@@ -153,6 +171,21 @@ public class IntegrationManagementConfigurer
 		this.observationPatterns = Arrays.copyOf(observationPatterns, observationPatterns.length);
 	}
 
+	/**
+	 * Set the rate for head-based sampling of the observed message flows: only one
+	 * (randomly chosen) of every {@code N} flows is observed.
+	 * The decision is made by the component which starts the flow and is followed by all
+	 * the downstream components.
+	 * @param observationSampleRate the sample rate; defaults to 1 - observe all the flows.
+	 * @since 7.2
+	 * @see IntegrationObservationSampler
+	 */
+	public void setObservationSampleRate(int observationSampleRate) {
+		Assert.isTrue(observationSampleRate > 0, "'observationSampleRate' must be greater than 0");
+		this.observationSampler =
+				observationSampleRate > 1 ? new IntegrationObservationSampler(observationSampleRate) : null;
+	}
+
 	@Override
 	public void afterSingletonsInstantiated() {
 		Assert.state(this.applicationContext != null, "'applicationContext' must not be null");
@@ -207,17 +240,24 @@ public class IntegrationManagementConfigurer
 	}
 
 	private void enhanceIntegrationManagement(IntegrationManagement integrationManagement) {
-		if (!getOverrides(integrationManagement).loggingConfigured) {
+		ManagementOverrides overrides = getOverrides(integrationManagement);
+		if (!overrides.loggingConfigured) {
 			integrationManagement.setLoggingEnabled(this.defaultLoggingEnabled);
 		}
 		if (this.metricsCaptor != null) {
 			integrationManagement.registerMetricsCaptor(this.metricsCaptor);
+			if (this.defaultMetricsSampleRate != 1 && !overrides.metricsSampleRateConfigured) {
+				integrationManagement.setMetricsSampleRate(this.defaultMetricsSampleRate);
+			}
 		}
 		if (this.observationRegistry != null &&
 				Boolean.TRUE.equals(PatternMatchUtils.smartMatch(
 						integrationManagement.getComponentName(), this.observationPatterns))) {
 
 			integrationManagement.registerObservationRegistry(this.observationRegistry);
+			if (this.observationSampler != null) {
+				integrationManagement.registerObservationSampler(this.observationSampler);
+			}
 		}
 	}
 
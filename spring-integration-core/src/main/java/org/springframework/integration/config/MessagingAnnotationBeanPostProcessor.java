@@ -25,6 +25,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
@@ -38,6 +40,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.annotation.MergedAnnotation;
 import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.integration.annotation.EndpointId;
 import org.springframework.integration.annotation.Role;
 import org.springframework.integration.config.annotation.MethodAnnotationPostProcessor;
@@ -156,12 +159,29 @@ public class MessagingAnnotationBeanPostProcessor
 		}
 	}
 
-	@SuppressWarnings("unchecked")
 	private void postProcessMethodAndRegisterEndpointIfAny(Object bean, String beanName, Method method,
 			Class<? extends Annotation> annotationType, List<Annotation> annotations,
 			MethodAnnotationPostProcessor<?> postProcessor, Method targetMethod) {
 
-		Object result = postProcessor.postProcess(bean, beanName, targetMethod, annotations);
+		StartupStep startupStep =
+				this.beanFactory.getApplicationStartup()
+						.start("spring.integration.annotation.process")
+						.tag("beanName", beanName)
+						.tag("method", method::toGenericString)
+						.tag("annotation", annotationType::getName);
+		try {
+			registerEndpointIfAny(postProcessor.postProcess(bean, beanName, targetMethod, annotations), beanName,
+					method, annotationType, annotations);
+		}
+		finally {
+			startupStep.end();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void registerEndpointIfAny(@Nullable Object result, String beanName, Method method,
+			Class<? extends Annotation> annotationType, List<Annotation> annotations) {
+
 		if (result instanceof AbstractEndpoint endpoint) {
 			String autoStartup = MessagingAnnotationUtils.resolveAttribute(annotations, "autoStartup", String.class);
 			if (StringUtils.hasText(autoStartup)) {
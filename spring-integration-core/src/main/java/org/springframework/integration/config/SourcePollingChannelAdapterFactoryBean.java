@@ -219,6 +219,7 @@ public class SourcePollingChannelAdapterFactoryBean implements FactoryBean<Sourc
 				maxMessagesPerPoll = 1;
 			}
 			spca.setMaxMessagesPerPoll(maxMessagesPerPoll);
+			spca.setTransactionBatchSize(this.pollerMetadata.getTransactionBatchSize());
 			if (this.sendTimeout != null) {
 				spca.setSendTimeout(this.sendTimeout);
 			}
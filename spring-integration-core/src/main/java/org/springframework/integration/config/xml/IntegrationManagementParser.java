@@ -45,6 +45,7 @@ public class IntegrationManagementParser extends AbstractBeanDefinitionParser {
 		BeanDefinitionBuilder builder =
 				BeanDefinitionBuilder.genericBeanDefinition(IntegrationManagementConfigurer.class);
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "default-logging-enabled");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "default-metrics-sample-rate");
 		return builder.getBeanDefinition();
 	}
 
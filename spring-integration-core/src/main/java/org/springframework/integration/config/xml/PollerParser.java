@@ -87,6 +87,7 @@ public class PollerParser extends AbstractBeanDefinitionParser {
 
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(metadataBuilder, element, "max-messages-per-poll");
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(metadataBuilder, element, "receive-timeout");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(metadataBuilder, element, "transaction-batch-size");
 		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(metadataBuilder, element, "task-executor");
 
 		Element txElement = DomUtils.getChildElementByTagName(element, "transactional");
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.core;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -25,10 +27,13 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.context.IntegrationProperties;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.support.channel.ChannelResolverUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.core.GenericMessagingTemplate;
+import org.springframework.messaging.support.ErrorMessage;
 
 /**
  * @author Mark Fisher
@@ -48,6 +53,10 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 
 	private volatile boolean throwExceptionOnLateReplySet;
 
+	private volatile boolean throwExceptionOnLateReply;
+
+	private @Nullable ReplyCorrelationChannel replyCorrelationChannel;
+
 	/**
 	 * Create a MessagingTemplate with no default channel. Note, that one
 	 * may be provided by invoking {@link #setDefaultChannel(MessageChannel)}.
@@ -76,9 +85,22 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 	@Override
 	public void setThrowExceptionOnLateReply(boolean throwExceptionOnLateReply) {
 		super.setThrowExceptionOnLateReply(throwExceptionOnLateReply);
+		this.throwExceptionOnLateReply = throwExceptionOnLateReply;
 		this.throwExceptionOnLateReplySet = true;
 	}
 
+	/**
+	 * Set a {@link ReplyCorrelationChannel} to correlate replies for the
+	 * {@link #sendAndReceive(MessageChannel, Message)} operations instead of creating
+	 * a temporary reply channel for each request.
+	 * The channel can be shared between several templates.
+	 * @param replyCorrelationChannel the {@link ReplyCorrelationChannel} to use.
+	 * @since 7.2
+	 */
+	public void setReplyCorrelationChannel(@Nullable ReplyCorrelationChannel replyCorrelationChannel) {
+		this.replyCorrelationChannel = replyCorrelationChannel;
+	}
+
 	/**
 	 * Invokes {@code setDefaultDestination(MessageChannel)} - provided for
 	 * backward compatibility.
@@ -98,8 +120,9 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 					if (this.beanFactory != null) {
 						IntegrationProperties integrationProperties =
 								IntegrationContextUtils.getIntegrationProperties(this.beanFactory);
-						super.setThrowExceptionOnLateReply(
-								integrationProperties.isMessagingTemplateThrowExceptionOnLateReply());
+						this.throwExceptionOnLateReply =
+								integrationProperties.isMessagingTemplateThrowExceptionOnLateReply();
+						super.setThrowExceptionOnLateReply(this.throwExceptionOnLateReply);
 					}
 					this.throwExceptionOnLateReplySet = true;
 				}
@@ -108,9 +131,80 @@ public class MessagingTemplate extends GenericMessagingTemplate {
 				this.lock.unlock();
 			}
 		}
+		ReplyCorrelationChannel replyCorrelationChannelToUse = this.replyCorrelationChannel;
+		if (replyCorrelationChannelToUse != null) {
+			ReplyCorrelationChannel.PendingReply pendingReply = replyCorrelationChannelToUse.register();
+			if (pendingReply != null) {
+				return doSendAndReceive(destination, requestMessage, replyCorrelationChannelToUse, pendingReply);
+			}
+		}
 		return super.sendAndReceive(destination, requestMessage);
 	}
 
+	private @Nullable Message<?> doSendAndReceive(MessageChannel destination, Message<?> requestMessage,
+			ReplyCorrelationChannel replyCorrelationChannelToUse, ReplyCorrelationChannel.PendingReply pendingReply) {
+
+		MessageHeaders requestHeaders = requestMessage.getHeaders();
+		Object originalReplyChannelHeader = requestHeaders.getReplyChannel();
+		Object originalErrorChannelHeader = requestHeaders.getErrorChannel();
+		long sendTimeout = headerToLong(requestHeaders.get(getSendTimeoutHeader()), getSendTimeout());
+		long receiveTimeout = headerToLong(requestHeaders.get(getReceiveTimeoutHeader()), getReceiveTimeout());
+		Message<?> messageToSend =
+				MessageBuilder.fromMessage(requestMessage)
+						.setReplyChannel(replyCorrelationChannelToUse)
+						.setErrorChannel(replyCorrelationChannelToUse)
+						.setHeader(ReplyCorrelationChannel.SLOT_ID_HEADER, pendingReply.getSlotId())
+						.setHeader(ReplyCorrelationChannel.THROW_ON_LATE_REPLY_HEADER,
+								this.throwExceptionOnLateReply ? true : null)
+						.setHeader(getSendTimeoutHeader(), null)
+						.setHeader(getReceiveTimeoutHeader(), null)
+						.build();
+		try {
+			doSend(destination, messageToSend, sendTimeout);
+		}
+		catch (RuntimeException ex) {
+			replyCorrelationChannelToUse.release(pendingReply);
+			throw ex;
+		}
+		Message<?> replyMessage = replyCorrelationChannelToUse.receive(pendingReply, receiveTimeout);
+		if (replyMessage == null) {
+			return null;
+		}
+		Map<String, Object> replyHeaders = new HashMap<>(replyMessage.getHeaders());
+		replyHeaders.remove(ReplyCorrelationChannel.SLOT_ID_HEADER);
+		replyHeaders.remove(ReplyCorrelationChannel.THROW_ON_LATE_REPLY_HEADER);
+		restoreHeader(replyHeaders, MessageHeaders.REPLY_CHANNEL, originalReplyChannelHeader);
+		restoreHeader(replyHeaders, MessageHeaders.ERROR_CHANNEL, originalErrorChannelHeader);
+		if (replyMessage instanceof ErrorMessage errorMessage) {
+			Message<?> originalMessage = errorMessage.getOriginalMessage();
+			return originalMessage != null
+					? new ErrorMessage(errorMessage.getPayload(), replyHeaders, originalMessage)
+					: new ErrorMessage(errorMessage.getPayload(), replyHeaders);
+		}
+		return MessageBuilder.withPayload(replyMessage.getPayload())
+				.copyHeaders(replyHeaders)
+				.build();
+	}
+
+	private static void restoreHeader(Map<String, Object> headers, String name, @Nullable Object value) {
+		if (value != null) {
+			headers.put(name, value);
+		}
+		else {
+			headers.remove(name);
+		}
+	}
+
+	private static long headerToLong(@Nullable Object headerValue, long defaultValue) {
+		if (headerValue instanceof Number number) {
+			return number.longValue();
+		}
+		else if (headerValue instanceof String text) {
+			return Long.parseLong(text);
+		}
+		return defaultValue;
+	}
+
 	@Nullable
 	public Object receiveAndConvert(MessageChannel destination, long timeout) {
 		Message<?> message = doReceive(destination, timeout);
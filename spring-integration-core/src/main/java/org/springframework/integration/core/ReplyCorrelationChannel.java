@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.core;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MessageChannel} shared by many request-reply operations of the
+ * {@link MessagingTemplate} instead of a temporary reply channel per request.
+ * <p>
+ * Every request takes a slot in a fixed-size table and carries its id in the
+ * {@link #SLOT_ID_HEADER} header; a reply (or an {@link ErrorMessage} for the failed request)
+ * sent to this channel is correlated back to the slot by the header value and completes
+ * the waiting {@link CompletableFuture} without locking.
+ * A timed out request frees its slot directly, so there is no reaping of abandoned entries.
+ * A late reply for a freed (or reused) slot is discarded, or rejected with a
+ * {@link MessageDeliveryException} if {@link #setThrowExceptionOnLateReply(boolean)} is true
+ * or the request has been sent with the {@link #THROW_ON_LATE_REPLY_HEADER} set to true.
+ * <p>
+ * The downstream flow must propagate the {@link #SLOT_ID_HEADER} header to the reply message,
+ * which is done by all the out-of-the-box reply-producing endpoints.
+ * When a {@link org.springframework.integration.channel.DefaultHeaderChannelRegistry} is used
+ * to convert the reply channel header to a {@link String}, this channel is registered
+ * once under a stable name.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see MessagingTemplate#setReplyCorrelationChannel(ReplyCorrelationChannel)
+ */
+public class ReplyCorrelationChannel implements MessageChannel {
+
+	/**
+	 * The header for the request slot id.
+	 */
+	public static final String SLOT_ID_HEADER = "replyCorrelationSlotId";
+
+	/**
+	 * The header to reject a late reply for this particular request with a {@link MessageDeliveryException}.
+	 */
+	public static final String THROW_ON_LATE_REPLY_HEADER = "replyCorrelationThrowOnLateReply";
+
+	private static final LogAccessor LOGGER = new LogAccessor(ReplyCorrelationChannel.class);
+
+	private final String name = "replyCorrelationChannel." + UUID.randomUUID();
+
+	private final AtomicReferenceArray<@Nullable PendingReply> slots;
+
+	private final int mask;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private volatile boolean throwExceptionOnLateReply;
+
+	/**
+	 * Create an instance with the provided number of slots for concurrent requests;
+	 * the number is rounded up to the power of two.
+	 * Requests over the capacity are performed via regular temporary reply channels.
+	 * @param capacity the number of slots.
+	 */
+	public ReplyCorrelationChannel(int capacity) {
+		Assert.isTrue(capacity > 0 && capacity <= 1 << 30, // NOSONAR magic number
+				"'capacity' must be between 1 and 2^30");
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Set to true to throw a {@link MessageDeliveryException} when a reply arrives
+	 * for a request which is not waiting for it anymore.
+	 * This is a default for all the requests; a request can opt in individually with the
+	 * {@link #THROW_ON_LATE_REPLY_HEADER}.
+	 * @param throwExceptionOnLateReply true to throw on late reply.
+	 */
+	public void setThrowExceptionOnLateReply(boolean throwExceptionOnLateReply) {
+		this.throwExceptionOnLateReply = throwExceptionOnLateReply;
+	}
+
+	/**
+	 * Return the name this channel is registered under in the header channel registry.
+	 * @return the name.
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Return the number of slots in this channel.
+	 * @return the capacity.
+	 */
+	public int getCapacity() {
+		return this.slots.length();
+	}
+
+	/**
+	 * Return the current number of requests waiting for replies.
+	 * @return the number of pending requests.
+	 */
+	public int getPendingCount() {
+		int count = 0;
+		for (int i = 0; i < this.slots.length(); i++) {
+			if (this.slots.get(i) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public boolean send(Message<?> message, long timeout) {
+		long slotId = slotId(message);
+		if (slotId > 0) {
+			int index = (int) (slotId & this.mask);
+			PendingReply pendingReply = this.slots.get(index);
+			if (pendingReply != null && pendingReply.slotId == slotId
+					&& this.slots.compareAndSet(index, pendingReply, null)) {
+
+				pendingReply.reply.complete(message);
+				return true;
+			}
+		}
+		if (this.throwExceptionOnLateReply || throwOnLateReply(message)) {
+			throw new MessageDeliveryException(message,
+					"Reply message received but the receiving thread has exited due to a timeout");
+		}
+		LOGGER.warn(() -> "Reply message received but the receiving thread has exited due to a timeout: "
+				+ message);
+		return false;
+	}
+
+	/**
+	 * Take a free slot for a request.
+	 * @return the slot, or null if all the slots are taken.
+	 */
+	@Nullable PendingReply register() {
+		for (int attempt = 0; attempt <= this.mask; attempt++) {
+			long slotId = this.sequence.incrementAndGet();
+			int index = (int) (slotId & this.mask);
+			if (this.slots.get(index) == null) {
+				PendingReply pendingReply = new PendingReply(slotId);
+				if (this.slots.compareAndSet(index, null, pendingReply)) {
+					return pendingReply;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Wait for a reply to the request in the slot and free the slot on timeout.
+	 * @param pendingReply the slot.
+	 * @param timeout the time to wait in milliseconds; negative to wait indefinitely.
+	 * @return the reply, or null if timed out or interrupted.
+	 */
+	@Nullable Message<?> receive(PendingReply pendingReply, long timeout) {
+		try {
+			return timeout < 0
+					? pendingReply.reply.get()
+					: pendingReply.reply.get(timeout, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (TimeoutException | ExecutionException ex) {
+			// No reply
+		}
+		release(pendingReply);
+		return pendingReply.reply.getNow(null);
+	}
+
+	/**
+	 * Free the slot without waiting for a reply.
+	 * @param pendingReply the slot.
+	 */
+	void release(PendingReply pendingReply) {
+		this.slots.compareAndSet((int) (pendingReply.slotId & this.mask), pendingReply, null);
+	}
+
+	private static long slotId(Message<?> message) {
+		Object slotId = correlationHeader(message, SLOT_ID_HEADER);
+		if (slotId instanceof Number number) {
+			return number.longValue();
+		}
+		else if (slotId instanceof String string) {
+			try {
+				return Long.parseLong(string);
+			}
+			catch (NumberFormatException ex) {
+				return 0;
+			}
+		}
+		return 0;
+	}
+
+	private static boolean throwOnLateReply(Message<?> message) {
+		Object throwOnLateReply = correlationHeader(message, THROW_ON_LATE_REPLY_HEADER);
+		return Boolean.TRUE.equals(throwOnLateReply) || "true".equals(throwOnLateReply);
+	}
+
+	private static @Nullable Object correlationHeader(Message<?> message, String headerName) {
+		Object value = message.getHeaders().get(headerName);
+		if (value == null && message instanceof ErrorMessage errorMessage
+				&& errorMessage.getPayload() instanceof MessagingException messagingException) {
+
+			Message<?> failedMessage = messagingException.getFailedMessage();
+			if (failedMessage != null) {
+				value = failedMessage.getHeaders().get(headerName);
+			}
+		}
+		return value;
+	}
+
+	static final class PendingReply {
+
+		private final long slotId;
+
+		private final CompletableFuture<Message<?>> reply = new CompletableFuture<>();
+
+		PendingReply(long slotId) {
+			this.slotId = slotId;
+		}
+
+		long getSlotId() {
+			return this.slotId;
+		}
+
+	}
+
+}
@@ -2302,7 +2302,7 @@ public abstract class BaseIntegrationFlowDefinition<B extends BaseIntegrationFlo
 		AggregatingMessageHandler aggregatingMessageHandler = aggregatorSpec.getObject().getT2();
 		addComponent(aggregatingMessageHandler);
 		ScatterGatherHandler messageHandler = new ScatterGatherHandler(scatterChannel, aggregatingMessageHandler);
-		return register(new ScatterGatherSpec(messageHandler), scatterGather);
+		return register(new ScatterGatherSpec(messageHandler, aggregatingMessageHandler), scatterGather);
 	}
 
 	/**
@@ -2358,7 +2358,7 @@ public abstract class BaseIntegrationFlowDefinition<B extends BaseIntegrationFlo
 		AggregatingMessageHandler aggregatingMessageHandler = aggregatorSpec.getObject().getT2();
 		addComponent(aggregatingMessageHandler);
 		ScatterGatherHandler messageHandler = new ScatterGatherHandler(recipientListRouter, aggregatingMessageHandler);
-		return register(new ScatterGatherSpec(messageHandler), scatterGather);
+		return register(new ScatterGatherSpec(messageHandler, aggregatingMessageHandler), scatterGather);
 	}
 
 	/**
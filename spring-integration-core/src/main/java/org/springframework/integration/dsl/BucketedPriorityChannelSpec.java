@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.dsl;
+
+import org.springframework.integration.channel.BucketedPriorityChannel;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class BucketedPriorityChannelSpec
+		extends MessageChannelSpec<BucketedPriorityChannelSpec, BucketedPriorityChannel> {
+
+	private final int minPriority;
+
+	private final int maxPriority;
+
+	private int capacity;
+
+	private int agingInterval;
+
+	protected BucketedPriorityChannelSpec(int minPriority, int maxPriority) {
+		this.minPriority = minPriority;
+		this.maxPriority = maxPriority;
+	}
+
+	public BucketedPriorityChannelSpec capacity(int capacity) {
+		this.capacity = capacity;
+		return this;
+	}
+
+	/**
+	 * Serve every {@code agingInterval}-th receive from a lower priority level.
+	 * @param agingInterval the number of receives per one receive from a lower priority level.
+	 * @return the spec.
+	 * @see BucketedPriorityChannel#setAgingInterval(int)
+	 */
+	public BucketedPriorityChannelSpec agingInterval(int agingInterval) {
+		this.agingInterval = agingInterval;
+		return this;
+	}
+
+	@Override
+	protected BucketedPriorityChannel doGet() {
+		BucketedPriorityChannel bucketedPriorityChannel =
+				new BucketedPriorityChannel(this.minPriority, this.maxPriority, this.capacity);
+		bucketedPriorityChannel.setAgingInterval(this.agingInterval);
+		this.channel = bucketedPriorityChannel;
+		return super.doGet();
+	}
+
+}
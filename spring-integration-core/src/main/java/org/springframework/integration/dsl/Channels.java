@@ -86,6 +86,29 @@ public final class Channels {
 		return MessageChannels.priority(id, messageGroupStore, groupId);
 	}
 
+	/**
+	 * Create a {@link BucketedPriorityChannelSpec}.
+	 * @param minPriority the lowest priority.
+	 * @param maxPriority the highest priority.
+	 * @return the spec.
+	 * @since 7.2
+	 */
+	public BucketedPriorityChannelSpec bucketedPriority(int minPriority, int maxPriority) {
+		return MessageChannels.bucketedPriority(minPriority, maxPriority);
+	}
+
+	/**
+	 * Create a {@link BucketedPriorityChannelSpec}.
+	 * @param id the bean name for the channel.
+	 * @param minPriority the lowest priority.
+	 * @param maxPriority the highest priority.
+	 * @return the spec.
+	 * @since 7.2
+	 */
+	public BucketedPriorityChannelSpec bucketedPriority(String id, int minPriority, int maxPriority) {
+		return MessageChannels.bucketedPriority(id, minPriority, maxPriority);
+	}
+
 	public RendezvousChannelSpec rendezvous() {
 		return MessageChannels.rendezvous();
 	}
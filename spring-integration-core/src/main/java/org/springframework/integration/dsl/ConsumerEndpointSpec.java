@@ -16,6 +16,7 @@
 
 package org.springframework.integration.dsl;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -123,6 +124,34 @@ public abstract class ConsumerEndpointSpec<S extends ConsumerEndpointSpec<S, H>,
 		return _this();
 	}
 
+	/**
+	 * Make the consumer endpoint as reactive independently of an input channel and
+	 * request the provided number of messages from the input channel at once.
+	 * @param prefetch the number of messages to request.
+	 * @return the spec
+	 * @since 7.2
+	 * @see org.springframework.integration.endpoint.ReactiveStreamsConsumer#setPrefetch(int)
+	 */
+	public S reactivePrefetch(int prefetch) {
+		this.endpointFactoryBean.setReactivePrefetch(prefetch);
+		return _this();
+	}
+
+	/**
+	 * Make the consumer endpoint as reactive independently of an input channel and
+	 * deliver messages to the handler in batches as a single message with a {@code List<Message<?>>} payload.
+	 * @param batchSize the number of messages in a batch.
+	 * @param batchTimeout the maximum time to wait for a batch to be filled.
+	 * @return the spec
+	 * @since 7.2
+	 * @see org.springframework.integration.endpoint.ReactiveStreamsConsumer#setBatchSize(int)
+	 */
+	public S reactiveBatch(int batchSize, Duration batchTimeout) {
+		this.endpointFactoryBean.setReactiveBatchSize(batchSize);
+		this.endpointFactoryBean.setReactiveBatchTimeout(batchTimeout);
+		return _this();
+	}
+
 	@Override
 	public S role(String role) {
 		this.endpointFactoryBean.setRole(role);
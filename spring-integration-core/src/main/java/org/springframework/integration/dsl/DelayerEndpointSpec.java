@@ -171,6 +171,60 @@ public class DelayerEndpointSpec extends ConsumerEndpointSpec<DelayerEndpointSpe
 		return this;
 	}
 
+	/**
+	 * Set to {@code true} to persist the due time of delayed messages into the index of a
+	 * {@link org.springframework.integration.store.ScheduledMessageGroupStore}
+	 * and release them in batches.
+	 * @param indexedDueTime true to release messages by their indexed due time.
+	 * @return the endpoint spec.
+	 * @since 7.2
+	 * @see DelayHandler#setIndexedDueTime(boolean)
+	 */
+	public DelayerEndpointSpec indexedDueTime(boolean indexedDueTime) {
+		this.handler.setIndexedDueTime(indexedDueTime);
+		return this;
+	}
+
+	/**
+	 * Set the maximum number of due messages to poll from the store at once
+	 * in the {@link #indexedDueTime(boolean)} mode.
+	 * Default {@value DelayHandler#DEFAULT_RELEASE_BATCH_SIZE}.
+	 * @param releaseBatchSize the batch size.
+	 * @return the endpoint spec.
+	 * @since 7.2
+	 */
+	public DelayerEndpointSpec releaseBatchSize(int releaseBatchSize) {
+		this.handler.setReleaseBatchSize(releaseBatchSize);
+		return this;
+	}
+
+	/**
+	 * Set the maximum interval in milliseconds between polls for due messages
+	 * in the {@link #indexedDueTime(boolean)} mode.
+	 * Default {@value DelayHandler#DEFAULT_RELEASE_WINDOW}.
+	 * @param releaseWindow the release window.
+	 * @return the endpoint spec.
+	 * @since 7.2
+	 */
+	public DelayerEndpointSpec releaseWindow(long releaseWindow) {
+		this.handler.setReleaseWindow(releaseWindow);
+		return this;
+	}
+
+	/**
+	 * Set the time in milliseconds the due messages polled from the store are claimed for their release
+	 * in the {@link #indexedDueTime(boolean)} mode.
+	 * Default {@value DelayHandler#DEFAULT_RELEASE_LEASE}.
+	 * @param releaseLease the release lease.
+	 * @return the endpoint spec.
+	 * @since 7.2
+	 * @see DelayHandler#setReleaseLease(long)
+	 */
+	public DelayerEndpointSpec releaseLease(long releaseLease) {
+		this.handler.setReleaseLease(releaseLease);
+		return this;
+	}
+
 	/**
 	 * Specify a {@link TransactionInterceptor} {@link Advice} with default
 	 * {@link TransactionManager} and
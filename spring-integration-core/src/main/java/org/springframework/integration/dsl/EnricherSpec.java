@@ -16,6 +16,7 @@
 
 package org.springframework.integration.dsl;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -160,6 +161,39 @@ public class EnricherSpec extends ConsumerEndpointSpec<EnricherSpec, ContentEnri
 		return _this();
 	}
 
+	/**
+	 * @param batchSize the maximum number of request payloads to coalesce.
+	 * @return the enricher spec.
+	 * @since 7.2
+	 * @see ContentEnricher#setBatchSize(int)
+	 */
+	public EnricherSpec batchSize(int batchSize) {
+		this.handler.setBatchSize(batchSize);
+		return _this();
+	}
+
+	/**
+	 * @param batchTimeout the time to collect a batch.
+	 * @return the enricher spec.
+	 * @since 7.2
+	 * @see ContentEnricher#setBatchTimeout(Duration)
+	 */
+	public EnricherSpec batchTimeout(Duration batchTimeout) {
+		this.handler.setBatchTimeout(batchTimeout);
+		return _this();
+	}
+
+	/**
+	 * @param cacheTimeToLive the time to keep results in the local cache.
+	 * @return the enricher spec.
+	 * @since 7.2
+	 * @see ContentEnricher#setCacheTimeToLive(Duration)
+	 */
+	public EnricherSpec cacheTimeToLive(Duration cacheTimeToLive) {
+		this.handler.setCacheTimeToLive(cacheTimeToLive);
+		return _this();
+	}
+
 	/**
 	 * The request sub-flow.
 	 * @param subFlow the subFlowDefinition
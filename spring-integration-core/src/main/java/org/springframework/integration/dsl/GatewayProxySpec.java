@@ -277,6 +277,19 @@ public class GatewayProxySpec {
 		return this;
 	}
 
+	/**
+	 * Set the number of slots for concurrent requests in a shared reply correlation channel
+	 * instead of creating a temporary reply channel per request.
+	 * @param replyCorrelationCapacity the number of slots.
+	 * @return current {@link GatewayProxySpec}.
+	 * @since 7.2
+	 * @see GatewayProxyFactoryBean#setReplyCorrelationCapacity(int)
+	 */
+	public GatewayProxySpec replyCorrelationCapacity(int replyCorrelationCapacity) {
+		this.gatewayProxyFactoryBean.setReplyCorrelationCapacity(replyCorrelationCapacity);
+		return this;
+	}
+
 	MessageChannel getGatewayRequestChannel() {
 		return this.gatewayRequestChannel;
 	}
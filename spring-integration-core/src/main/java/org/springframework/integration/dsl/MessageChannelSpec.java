@@ -56,6 +56,8 @@ public abstract class MessageChannelSpec<S extends MessageChannelSpec<S, C>, C e
 
 	private @Nullable MessageConverter messageConverter;
 
+	private boolean queueTimeEnabled;
+
 	protected MessageChannelSpec() {
 	}
 
@@ -113,6 +115,18 @@ public abstract class MessageChannelSpec<S extends MessageChannelSpec<S, C>, C e
 		return _this();
 	}
 
+	/**
+	 * Record the time messages wait in this channel before processing.
+	 * @param queueTimeEnabled true to record the queue time.
+	 * @return the current {@link MessageChannelSpec}.
+	 * @since 7.2
+	 * @see AbstractMessageChannel#setQueueTimeEnabled(boolean)
+	 */
+	public S queueTimeEnabled(boolean queueTimeEnabled) {
+		this.queueTimeEnabled = queueTimeEnabled;
+		return _this();
+	}
+
 	@Override
 	public Map<Object, @Nullable String> getComponentsToRegister() {
 		return this.componentsToRegister;
@@ -121,6 +135,7 @@ public abstract class MessageChannelSpec<S extends MessageChannelSpec<S, C>, C e
 	@Override
 	protected C doGet() {
 		this.channel.setDatatypes(this.datatypes.toArray(new Class<?>[0]));
+		this.channel.setQueueTimeEnabled(this.queueTimeEnabled);
 		if (getId() != null) {
 			this.channel.setBeanName(getId());
 		}
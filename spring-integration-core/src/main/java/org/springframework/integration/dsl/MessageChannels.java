@@ -107,6 +107,31 @@ public final class MessageChannels {
 		return priority(messageGroupStore, groupId).id(id);
 	}
 
+	/**
+	 * Create a {@link BucketedPriorityChannelSpec} for priorities from {@code minPriority}
+	 * to {@code maxPriority} inclusive.
+	 * @param minPriority the lowest priority.
+	 * @param maxPriority the highest priority.
+	 * @return the spec.
+	 * @since 7.2
+	 */
+	public static BucketedPriorityChannelSpec bucketedPriority(int minPriority, int maxPriority) {
+		return new BucketedPriorityChannelSpec(minPriority, maxPriority);
+	}
+
+	/**
+	 * Create a {@link BucketedPriorityChannelSpec} for priorities from {@code minPriority}
+	 * to {@code maxPriority} inclusive.
+	 * @param id the bean name for the channel.
+	 * @param minPriority the lowest priority.
+	 * @param maxPriority the highest priority.
+	 * @return the spec.
+	 * @since 7.2
+	 */
+	public static BucketedPriorityChannelSpec bucketedPriority(String id, int minPriority, int maxPriority) {
+		return bucketedPriority(minPriority, maxPriority).id(id);
+	}
+
 	public static PublishSubscribeChannelSpec<?> publishSubscribe() {
 		return publishSubscribe(false);
 	}
@@ -120,6 +120,19 @@ public final class PollerSpec extends IntegrationComponentSpec<PollerSpec, Polle
 		return this;
 	}
 
+	/**
+	 * Specify a number of messages to poll and handle within a single invocation of the
+	 * {@link #advice(Advice...)} chain, e.g. in a single {@link #transactional()} transaction.
+	 * @param transactionBatchSize the number of messages to handle in a single transaction.
+	 * @return the spec.
+	 * @since 7.2
+	 * @see org.springframework.integration.endpoint.AbstractPollingEndpoint#setTransactionBatchSize(int)
+	 */
+	public PollerSpec transactionBatchSize(int transactionBatchSize) {
+		this.target.setTransactionBatchSize(transactionBatchSize);
+		return this;
+	}
+
 	/**
 	 * Specify a timeout in milliseconds to wait for a message in the
 	 * {@link org.springframework.messaging.MessageChannel}.
@@ -16,8 +16,13 @@
 
 package org.springframework.integration.dsl;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.aggregator.AggregatingMessageHandler;
+import org.springframework.integration.aggregator.QuorumReleaseStrategy;
 import org.springframework.integration.scattergather.ScatterGatherHandler;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.util.Assert;
 
 /**
  * A {@link GenericEndpointSpec} extension for the {@link ScatterGatherHandler}.
@@ -31,8 +36,21 @@ import org.springframework.messaging.MessageChannel;
  */
 public class ScatterGatherSpec extends ConsumerEndpointSpec<ScatterGatherSpec, ScatterGatherHandler> {
 
+	private final @Nullable AggregatingMessageHandler gatherer;
+
 	protected ScatterGatherSpec(ScatterGatherHandler messageHandler) {
+		this(messageHandler, null);
+	}
+
+	/**
+	 * Create an instance based on the provided {@link ScatterGatherHandler} and its gatherer.
+	 * @param messageHandler the {@link ScatterGatherHandler} to configure.
+	 * @param gatherer the {@link AggregatingMessageHandler} used as a gatherer in the {@link ScatterGatherHandler}.
+	 * @since 7.2
+	 */
+	protected ScatterGatherSpec(ScatterGatherHandler messageHandler, @Nullable AggregatingMessageHandler gatherer) {
 		super(messageHandler);
+		this.gatherer = gatherer;
 	}
 
 	/**
@@ -72,4 +90,22 @@ public class ScatterGatherSpec extends ConsumerEndpointSpec<ScatterGatherSpec, S
 		return this;
 	}
 
+	/**
+	 * Produce the gather result as soon as the provided number of replies have arrived,
+	 * without waiting for the rest of recipients.
+	 * The replies arriving after the gather result are dropped.
+	 * Overrides a release strategy configured on the gatherer.
+	 * Also enables the {@link ScatterGatherHandler#SCATTER_COMPLETION} header for the scattered messages.
+	 * @param quorum the number of replies to produce the gather result from.
+	 * @return the current {@link ScatterGatherSpec} instance.
+	 * @since 7.2
+	 * @see QuorumReleaseStrategy
+	 */
+	public ScatterGatherSpec quorum(int quorum) {
+		Assert.state(this.gatherer != null, "The 'quorum' requires an 'AggregatingMessageHandler' gatherer.");
+		this.gatherer.setReleaseStrategy(new QuorumReleaseStrategy(quorum));
+		this.handler.setScatterCompletionEnabled(true);
+		return this;
+	}
+
 }
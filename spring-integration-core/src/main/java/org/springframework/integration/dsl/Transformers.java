@@ -31,12 +31,15 @@ import org.springframework.core.serializer.Serializer;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.codec.Codec;
+import org.springframework.integration.codec.compression.CompressionCodec;
 import org.springframework.integration.expression.FunctionExpression;
 import org.springframework.integration.json.JsonToObjectTransformer;
 import org.springframework.integration.json.ObjectToJsonTransformer;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.support.json.JsonObjectMapper;
+import org.springframework.integration.transformer.CompressingTransformer;
 import org.springframework.integration.transformer.DecodingTransformer;
+import org.springframework.integration.transformer.DecompressingTransformer;
 import org.springframework.integration.transformer.EncodingPayloadTransformer;
 import org.springframework.integration.transformer.MapToObjectTransformer;
 import org.springframework.integration.transformer.ObjectToMapTransformer;
@@ -293,6 +296,27 @@ public abstract class Transformers {
 		return new DecodingTransformer<>(codec, typeExpression);
 	}
 
+	/**
+	 * The factory method for the {@link CompressingTransformer}.
+	 * @param codec the {@link CompressionCodec} to use.
+	 * @return the {@link CompressingTransformer} instance.
+	 * @since 7.2
+	 */
+	public static CompressingTransformer compress(CompressionCodec codec) {
+		return new CompressingTransformer(codec);
+	}
+
+	/**
+	 * The factory method for the {@link DecompressingTransformer}.
+	 * @param codecs the {@link CompressionCodec}s to select by the
+	 * {@link org.springframework.integration.IntegrationMessageHeaderAccessor#COMPRESSION_CODEC} header.
+	 * @return the {@link DecompressingTransformer} instance.
+	 * @since 7.2
+	 */
+	public static DecompressingTransformer decompress(CompressionCodec... codecs) {
+		return new DecompressingTransformer(codecs);
+	}
+
 	/**
 	 * The factory method for the {@link StreamTransformer}.
 	 * @return the {@link StreamTransformer} instance.
@@ -54,6 +54,7 @@ import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.DescriptiveResource;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.integration.JavaUtils;
 import org.springframework.integration.channel.AbstractMessageChannel;
 import org.springframework.integration.channel.DirectChannel;
@@ -121,11 +122,25 @@ public class IntegrationFlowBeanPostProcessor
 
 	@Override
 	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
-		if (bean instanceof StandardIntegrationFlow standardIntegrationFlow) {
-			return processStandardIntegrationFlow(standardIntegrationFlow, beanName);
-		}
-		else if (bean instanceof IntegrationFlow integrationFlow) {
-			return processIntegrationFlowImpl(integrationFlow, beanName);
+		if (bean instanceof IntegrationFlow integrationFlow) {
+			StartupStep startupStep =
+					this.applicationContext.getApplicationStartup()
+							.start("spring.integration.flow.process")
+							.tag("beanName", beanName);
+			try {
+				Object result =
+						integrationFlow instanceof StandardIntegrationFlow standardIntegrationFlow
+								? processStandardIntegrationFlow(standardIntegrationFlow, beanName)
+								: processIntegrationFlowImpl(integrationFlow, beanName);
+				if (result instanceof IntegrationFlow processedFlow) {
+					startupStep.tag("components",
+							() -> String.valueOf(processedFlow.getIntegrationComponents().size()));
+				}
+				return result;
+			}
+			finally {
+				startupStep.end();
+			}
 		}
 		if (bean instanceof IntegrationComponentSpec<?, ?> integrationComponentSpec) {
 			processIntegrationComponentSpec(beanName, integrationComponentSpec);
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.dsl.context;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
@@ -65,6 +67,23 @@ public interface IntegrationFlowContext {
 	 */
 	IntegrationFlowRegistrationBuilder registration(IntegrationFlow integrationFlow);
 
+	/**
+	 * Register all the provided {@link IntegrationFlowRegistrationBuilder}s
+	 * (obtained from the {@link #registration(IntegrationFlow)}) in one pass.
+	 * The default implementation just calls {@link IntegrationFlowRegistrationBuilder#register()}
+	 * for each of them in order.
+	 * @param registrations the registrations to register.
+	 * @return the {@link IntegrationFlowRegistration}s in the order of provided builders.
+	 * @since 7.2
+	 */
+	default List<IntegrationFlowRegistration> registerAll(
+			Collection<? extends IntegrationFlowRegistrationBuilder> registrations) {
+
+		return registrations.stream()
+				.map(IntegrationFlowRegistrationBuilder::register)
+				.toList();
+	}
+
 	/**
 	 * Obtain an {@link IntegrationFlowRegistration} for the {@link IntegrationFlow}
 	 * associated with the provided {@code flowId}.
@@ -16,11 +16,16 @@
 
 package org.springframework.integration.dsl.context;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -32,6 +37,9 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.context.SmartLifecycle;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.integration.context.ComponentSourceAware;
 import org.springframework.integration.core.MessagingTemplate;
 import org.springframework.integration.dsl.IntegrationFlow;
@@ -56,10 +64,14 @@ import org.springframework.util.StringUtils;
  */
 public final class StandardIntegrationFlowContext implements IntegrationFlowContext, BeanFactoryAware {
 
+	private static final LogAccessor LOGGER = new LogAccessor(StandardIntegrationFlowContext.class);
+
 	private final Map<String, IntegrationFlowRegistration> registry = new ConcurrentHashMap<>();
 
 	private final Map<String, Boolean> useFlowIdAsPrefix = new ConcurrentHashMap<>();
 
+	private final Map<String, AtomicInteger> generatedBeanNameCounters = new ConcurrentHashMap<>();
+
 	private final Lock registerFlowsLock = new ReentrantLock();
 
 	@SuppressWarnings("NullAway.Init")
@@ -93,7 +105,98 @@ public final class StandardIntegrationFlowContext implements IntegrationFlowCont
 		return Boolean.TRUE.equals(this.useFlowIdAsPrefix.get(flowId));
 	}
 
+	/**
+	 * Register all the provided {@link IntegrationFlowRegistrationBuilder}s in one pass.
+	 * All the flows and their additional beans are wired into the application context first,
+	 * under a single acquisition of the registration lock, and only after that the flows
+	 * marked for {@code autoStartup} are started.
+	 * This way none of the flows starts producing messages until the whole batch is available.
+	 * If any flow fails to be registered, the flows already registered by this call are removed
+	 * and the exception is re-thrown.
+	 * The wiring and starting phases are recorded as {@code spring.integration.flows.register}
+	 * and {@code spring.integration.flows.start} {@link StartupStep}s,
+	 * and their timing is logged on {@code DEBUG} level.
+	 * @param registrations the registrations to register.
+	 * @return the {@link IntegrationFlowRegistration}s in the order of provided builders.
+	 * @since 7.2
+	 */
+	@Override
+	public List<IntegrationFlowRegistration> registerAll(
+			Collection<? extends IntegrationFlowRegistrationBuilder> registrations) {
+
+		List<StandardIntegrationFlowRegistrationBuilder> builders = new ArrayList<>(registrations.size());
+		for (IntegrationFlowRegistrationBuilder registration : registrations) {
+			Assert.isInstanceOf(StandardIntegrationFlowRegistrationBuilder.class, registration,
+					"Only registrations obtained from the 'StandardIntegrationFlowContext' are supported");
+			builders.add((StandardIntegrationFlowRegistrationBuilder) registration);
+		}
+
+		ApplicationStartup applicationStartup = this.beanFactory.getApplicationStartup();
+		List<IntegrationFlowRegistration> flowRegistrations = new ArrayList<>(builders.size());
+
+		long wiringStart = System.nanoTime();
+		StartupStep registerStep =
+				applicationStartup.start("spring.integration.flows.register")
+						.tag("flows", String.valueOf(builders.size()));
+		this.registerFlowsLock.lock();
+		try {
+			for (StandardIntegrationFlowRegistrationBuilder builder : builders) {
+				flowRegistrations.add(wire(builder));
+			}
+		}
+		catch (RuntimeException ex) {
+			for (IntegrationFlowRegistration flowRegistration : flowRegistrations) {
+				try {
+					remove(flowRegistration.getId());
+				}
+				catch (RuntimeException suppressed) {
+					ex.addSuppressed(suppressed);
+				}
+			}
+			throw ex;
+		}
+		finally {
+			this.registerFlowsLock.unlock();
+			registerStep.end();
+		}
+
+		long startingStart = System.nanoTime();
+		StartupStep startStep = applicationStartup.start("spring.integration.flows.start");
+		int started = 0;
+		try {
+			for (int i = 0; i < builders.size(); i++) {
+				StandardIntegrationFlowRegistrationBuilder builder = builders.get(i);
+				if (builder.autoStartup) {
+					start(builder, flowRegistrations.get(i));
+					started++;
+				}
+			}
+		}
+		finally {
+			startStep.tag("flows", String.valueOf(started));
+			startStep.end();
+		}
+
+		long finish = System.nanoTime();
+		int startedFlows = started;
+		LOGGER.debug(() -> "Registered " + builders.size() + " IntegrationFlows in "
+				+ TimeUnit.NANOSECONDS.toMillis(startingStart - wiringStart) + " ms and started "
+				+ startedFlows + " of them in " + TimeUnit.NANOSECONDS.toMillis(finish - startingStart) + " ms");
+
+		return flowRegistrations;
+	}
+
 	private IntegrationFlowRegistration register(StandardIntegrationFlowRegistrationBuilder builder) {
+		IntegrationFlowRegistration registration = wire(builder);
+		if (builder.autoStartup) {
+			start(builder, registration);
+		}
+		return registration;
+	}
+
+	private IntegrationFlowRegistration wire(StandardIntegrationFlowRegistrationBuilder builder) {
+		Assert.state(!builder.idAsPrefix || StringUtils.hasText(builder.id),
+				"An 'id' must be present to use 'useFlowIdAsPrefix'");
 		IntegrationFlow integrationFlow = builder.integrationFlow;
 		String flowId = builder.id;
 		this.registerFlowsLock.lock();
@@ -108,6 +211,10 @@ public final class StandardIntegrationFlowContext implements IntegrationFlowCont
 						"An existing IntegrationFlowRegistration must be destroyed before overriding.");
 			}
 
+			if (builder.idAsPrefix) {
+				this.useFlowIdAsPrefix.put(flowId, true);
+			}
+
 			integrationFlow = registerFlowBean(integrationFlow, flowId, builder.source, builder.description);
 		}
 		finally {
@@ -122,19 +229,23 @@ public final class StandardIntegrationFlowContext implements IntegrationFlowCont
 
 		IntegrationFlowRegistration registration =
 				new StandardIntegrationFlowRegistration(integrationFlow, this, flowId);
-		if (builder.autoStartup) {
-			registration.start();
-			builder.additionalBeans.keySet()
-					.stream()
-					.filter(SmartLifecycle.class::isInstance)
-					.filter((lifecycle) -> ((SmartLifecycle) lifecycle).isAutoStartup())
-					.forEach((lifecycle) -> ((SmartLifecycle) lifecycle).start());
-		}
+		registration.setBeanFactory(this.beanFactory);
 		this.registry.put(flowId, registration);
 
 		return registration;
 	}
 
+	private static void start(StandardIntegrationFlowRegistrationBuilder builder,
+			IntegrationFlowRegistration registration) {
+
+		registration.start();
+		builder.additionalBeans.keySet()
+				.stream()
+				.filter(SmartLifecycle.class::isInstance)
+				.filter((lifecycle) -> ((SmartLifecycle) lifecycle).isAutoStartup())
+				.forEach((lifecycle) -> ((SmartLifecycle) lifecycle).start());
+	}
+
 	private IntegrationFlow registerFlowBean(IntegrationFlow flow, @Nullable String beanName,
 			@Nullable Object source, @Nullable String description) {
 
@@ -196,6 +307,11 @@ public final class StandardIntegrationFlowContext implements IntegrationFlowCont
 			removeDependantBeans(flowId);
 
 			this.beanFactory.destroySingleton(flowId);
+
+			// The names are probed from '#0' again for the next flow and its beans
+			this.generatedBeanNameCounters.keySet()
+					.removeIf((key) -> key.startsWith(flowId)
+							|| flowId.startsWith(key + BeanFactoryUtils.GENERATED_BEAN_NAME_SEPARATOR));
 		}
 		else {
 			throw new IllegalStateException("An IntegrationFlow with the id "
@@ -249,12 +365,14 @@ public final class StandardIntegrationFlowContext implements IntegrationFlowCont
 		}
 
 		String generatedBeanName = (parentName != null ? parentName : "") + instance.getClass().getName();
-		String id = generatedBeanName;
-		int counter = -1;
-		while (counter == -1 || this.beanFactory.containsBean(id)) {
-			counter++;
-			id = generatedBeanName + BeanFactoryUtils.GENERATED_BEAN_NAME_SEPARATOR + counter;
+		// Continue from the last generated index instead of probing from '0' for every new instance
+		AtomicInteger counter =
+				this.generatedBeanNameCounters.computeIfAbsent(generatedBeanName, (key) -> new AtomicInteger());
+		String id;
+		do {
+			id = generatedBeanName + BeanFactoryUtils.GENERATED_BEAN_NAME_SEPARATOR + counter.getAndIncrement();
 		}
+		while (this.beanFactory.containsBean(id));
 		return id;
 	}
 
@@ -361,14 +479,7 @@ public final class StandardIntegrationFlowContext implements IntegrationFlowCont
 		 */
 		@Override
 		public IntegrationFlowRegistration register() {
-			Assert.state(!this.idAsPrefix || StringUtils.hasText(this.id),
-					"An 'id' must be present to use 'useFlowIdAsPrefix'");
-			if (this.idAsPrefix) {
-				StandardIntegrationFlowContext.this.useFlowIdAsPrefix.put(this.id, this.idAsPrefix);
-			}
-			IntegrationFlowRegistration registration = StandardIntegrationFlowContext.this.register(this);
-			registration.setBeanFactory(StandardIntegrationFlowContext.this.beanFactory);
-			return registration;
+			return StandardIntegrationFlowContext.this.register(this);
 		}
 
 	}
@@ -26,6 +26,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
 
 import org.aopalliance.aop.Advice;
 import org.jspecify.annotations.Nullable;
@@ -39,6 +40,7 @@ import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.aop.support.NameMatchMethodPointcutAdvisor;
 import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.integration.aop.ReceiveMessageAdvice;
@@ -48,7 +50,9 @@ import org.springframework.integration.support.MessagingExceptionWrapper;
 import org.springframework.integration.transaction.IntegrationResourceHolder;
 import org.springframework.integration.transaction.IntegrationResourceHolderSynchronization;
 import org.springframework.integration.transaction.PassThroughTransactionSynchronizationFactory;
+import org.springframework.integration.transaction.PseudoTransactionManager;
 import org.springframework.integration.transaction.TransactionSynchronizationFactory;
+import org.springframework.integration.util.AdaptivePollingTrigger;
 import org.springframework.integration.util.ErrorHandlingTaskExecutor;
 import org.springframework.jmx.export.annotation.ManagedAttribute;
 import org.springframework.messaging.Message;
@@ -58,6 +62,7 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.support.PeriodicTrigger;
 import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.transaction.TransactionManager;
 import org.springframework.transaction.interceptor.TransactionInterceptor;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -112,9 +117,15 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 
 	private volatile long maxMessagesPerPoll = -1;
 
+	private int transactionBatchSize = 1;
+
+	private boolean transactionalBatch;
+
 	@SuppressWarnings("NullAway.Init")
 	private volatile Callable<@Nullable Message<?>> pollingTask;
 
+	private volatile @Nullable IntUnaryOperator batchPollingTask;
+
 	private volatile @Nullable Flux<Message<?>> pollingFlux;
 
 	private volatile @Nullable Subscription subscription;
@@ -157,6 +168,8 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 	 * Zero means do not poll for any records -
 	 * it can be considered as pausing if 'maxMessagesPerPoll' is later changed to a non-zero value.
 	 * The polling cycle may exit earlier if the source returns null for the current {@code receive} call.
+	 * Any non-zero value is ignored when the trigger is an {@link AdaptivePollingTrigger}:
+	 * its {@link AdaptivePollingTrigger#getMaxMessagesPerPoll()} is used instead.
 	 * @param maxMessagesPerPoll the number of messages to poll per schedule.
 	 */
 	@ManagedAttribute
@@ -168,6 +181,41 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 		return this.maxMessagesPerPoll;
 	}
 
+	/**
+	 * Configure a number of messages to poll and handle within a single invocation of the {@code adviceChain},
+	 * e.g. in a single transaction when a {@link TransactionInterceptor} is present.
+	 * This way, for example, a {@code QueueChannel} backed by a transactional message store
+	 * commits once per batch instead of once per message.
+	 * The {@link TransactionSynchronizationFactory} is still applied for every message in the batch.
+	 * A batch is ended earlier if no message is received, or when the {@code maxMessagesPerPoll} is reached.
+	 * If a batch fails in a resource transaction (a {@link TransactionInterceptor} with a transaction manager
+	 * other than the {@link PseudoTransactionManager} is present in the {@code adviceChain}),
+	 * the transaction is rolled back and the messages of this batch are re-polled each in its own transaction,
+	 * so the failure is isolated to a single message and handled by the {@code errorHandler} as usual.
+	 * This relies on the message source taking part in that transaction, e.g. a {@code QueueChannel}
+	 * backed by a JDBC message store with the same {@code DataSource} as the transaction manager.
+	 * Without a transaction, or with the {@link PseudoTransactionManager}, the messages polled before the failure
+	 * are not returned to the source, so the exception is propagated to the {@code errorHandler} immediately,
+	 * the same way as for a single message.
+	 * Ignored for reactive endpoints.
+	 * Defaults to {@code 1} - a separate {@code adviceChain} invocation for every message.
+	 * @param transactionBatchSize the number of messages to handle in a single transaction.
+	 * @since 7.2
+	 */
+	public void setTransactionBatchSize(int transactionBatchSize) {
+		Assert.isTrue(transactionBatchSize > 0, "'transactionBatchSize' must be greater than zero");
+		this.transactionBatchSize = transactionBatchSize;
+	}
+
+	/**
+	 * Return the number of messages to handle in a single transaction.
+	 * @return the number of messages to handle in a single transaction.
+	 * @since 7.2
+	 */
+	public int getTransactionBatchSize() {
+		return this.transactionBatchSize;
+	}
+
 	public void setErrorHandler(@Nullable ErrorHandler errorHandler) {
 		this.errorHandler = errorHandler;
 	}
@@ -287,6 +335,10 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 					this.adviceChain.stream().anyMatch(TransactionInterceptor.class::isInstance)) {
 				this.transactionSynchronizationFactory = new PassThroughTransactionSynchronizationFactory();
 			}
+			this.transactionalBatch = this.adviceChain != null &&
+					this.adviceChain.stream()
+							.anyMatch((advice) -> advice instanceof TransactionInterceptor transactionInterceptor
+									&& isResourceTransaction(transactionInterceptor));
 			this.initialized = true;
 		}
 		finally {
@@ -300,6 +352,17 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 		}
 	}
 
+	private boolean isResourceTransaction(TransactionInterceptor transactionInterceptor) {
+		TransactionManager transactionManager = transactionInterceptor.getTransactionManager();
+		if (transactionManager == null) {
+			BeanFactory beanFactory = getBeanFactory();
+			if (beanFactory != null) {
+				transactionManager = beanFactory.getBeanProvider(TransactionManager.class).getIfUnique();
+			}
+		}
+		return transactionManager != null && !(transactionManager instanceof PseudoTransactionManager);
+	}
+
 	// LifecycleSupport implementation
 
 	@Override // guarded by super#lifecycleLock
@@ -314,12 +377,14 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 			this.pollingFlux = createFluxGenerator();
 		}
 		else {
+			if (this.transactionBatchSize > 1) {
+				this.batchPollingTask = adviseTask((IntUnaryOperator) this::doPollBatch);
+			}
 			TaskScheduler taskScheduler = getTaskScheduler();
 			this.runningTask = taskScheduler.schedule(createPoller(), this.trigger);
 		}
 	}
 
-	@SuppressWarnings("unchecked")
 	private Callable<@Nullable Message<?>> createPollingTask() {
 		List<Advice> receiveOnlyAdviceChain = null;
 		if (!CollectionUtils.isEmpty(this.adviceChain)) {
@@ -328,20 +393,25 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 					.toList();
 		}
 
-		Callable<@Nullable Message<?>> task = this::doPoll;
+		Callable<@Nullable Message<?>> task = adviseTask((Callable<@Nullable Message<?>>) this::doPoll);
+
+		if (!CollectionUtils.isEmpty(receiveOnlyAdviceChain)) {
+			applyReceiveOnlyAdviceChain(receiveOnlyAdviceChain);
+		}
+
+		return task;
+	}
 
+	@SuppressWarnings("unchecked")
+	private <T> T adviseTask(T task) {
 		List<Advice> advices = this.adviceChain;
 		if (!CollectionUtils.isEmpty(advices)) {
 			ProxyFactory proxyFactory = new ProxyFactory(task);
 			advices.stream()
 					.filter(advice -> !isReceiveOnlyAdvice(advice))
 					.forEach(proxyFactory::addAdvice);
-			task = (Callable<@Nullable Message<?>>) proxyFactory.getProxy(this.beanClassLoader);
-		}
-		if (!CollectionUtils.isEmpty(receiveOnlyAdviceChain)) {
-			applyReceiveOnlyAdviceChain(receiveOnlyAdviceChain);
+			return (T) proxyFactory.getProxy(this.beanClassLoader);
 		}
-
 		return task;
 	}
 
@@ -349,19 +419,75 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 		return () ->
 				this.taskExecutor.execute(() -> {
 					int count = 0;
-					while (this.initialized && (this.maxMessagesPerPoll <= 0 || count < this.maxMessagesPerPoll)) {
-						if (this.maxMessagesPerPoll == 0) {
-							logger.info("Polling disabled while 'maxMessagesPerPoll == 0'");
-							break;
-						}
-						if (pollForMessage() == null) {
-							break;
+					boolean full = false;
+					int singleMessagePolls = 0;
+					long start = System.nanoTime();
+					try {
+						long maxMessages = currentMaxMessagesPerPoll();
+						while (this.initialized && (maxMessages <= 0 || count < maxMessages)) {
+							if (maxMessages == 0) {
+								logger.info("Polling disabled while 'maxMessagesPerPoll == 0'");
+								return;
+							}
+							IntUnaryOperator batchTask = this.batchPollingTask;
+							if (batchTask != null && singleMessagePolls == 0) {
+								int batchSize = this.transactionBatchSize;
+								if (maxMessages > 0) {
+									batchSize = (int) Math.min(batchSize, maxMessages - count);
+								}
+								int polled;
+								try {
+									polled = pollForMessages(batchTask, batchSize);
+								}
+								catch (RuntimeException ex) {
+									if (!this.transactionalBatch) {
+										throw ex;
+									}
+									logger.debug(ex, () -> "The batch of up to " + this.transactionBatchSize
+											+ " messages has been rolled back; re-polling them one by one");
+									singleMessagePolls = batchSize;
+									continue;
+								}
+								count += polled;
+								if (polled < batchSize) {
+									break;
+								}
+							}
+							else {
+								if (pollForMessage() == null) {
+									break;
+								}
+								count++;
+								if (singleMessagePolls > 0) {
+									singleMessagePolls--;
+								}
+							}
+							maxMessages = currentMaxMessagesPerPoll();
 						}
-						count++;
+						// Full only if the cap has been reached, not when the source has been drained earlier
+						// or the endpoint has been stopped in the middle
+						full = this.initialized && maxMessages > 0 && count >= maxMessages;
+					}
+					finally {
+						adaptivePollCompleted(count, full, start);
 					}
 				});
 	}
 
+	private long currentMaxMessagesPerPoll() {
+		long maxMessages = this.maxMessagesPerPoll;
+		if (maxMessages != 0 && this.trigger instanceof AdaptivePollingTrigger adaptivePollingTrigger) {
+			return adaptivePollingTrigger.getMaxMessagesPerPoll();
+		}
+		return maxMessages;
+	}
+
+	private void adaptivePollCompleted(long count, boolean full, long start) {
+		if (this.maxMessagesPerPoll != 0 && this.trigger instanceof AdaptivePollingTrigger adaptivePollingTrigger) {
+			adaptivePollingTrigger.pollCompleted(count, full, System.nanoTime() - start);
+		}
+	}
+
 	private Flux<Message<?>> createFluxGenerator() {
 		SimpleTriggerContext triggerContext = new SimpleTriggerContext();
 
@@ -384,25 +510,30 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 								.flatMapMany(l ->
 										Flux
 												.defer(() -> {
-													if (this.maxMessagesPerPoll == 0) {
+													long maxMessages = currentMaxMessagesPerPoll();
+													if (maxMessages == 0) {
 														logger.info("Polling disabled while 'maxMessagesPerPoll == 0'");
 														return Mono.empty();
 													}
 													else {
+														long start = System.nanoTime();
+														long[] count = new long[1];
 														return Flux
 																.<Message<?>>generate(fluxSink -> {
 																	Message<?> message = pollForMessage();
 																	if (message != null) {
+																		count[0]++;
 																		fluxSink.next(message);
 																	}
 																	else {
 																		fluxSink.complete();
 																	}
 																})
-																.take(this.maxMessagesPerPoll < 0
-																				? Long.MAX_VALUE
-																				: this.maxMessagesPerPoll,
-																		true);
+																.take(maxMessages < 0 ? Long.MAX_VALUE : maxMessages, true)
+																.doFinally(signal ->
+																		adaptivePollCompleted(count[0],
+																				maxMessages > 0 && count[0] >= maxMessages,
+																				start));
 													}
 												})
 												.subscribeOn(Schedulers.fromExecutor(this.taskExecutor))
@@ -443,11 +574,44 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 			}
 		}
 		finally {
-			if (this.transactionSynchronizationFactory != null) {
-				Object resource = getResourceToBind();
-				if (resource != null && TransactionSynchronizationManager.hasResource(resource)) {
-					TransactionSynchronizationManager.unbindResource(resource);
-				}
+			unbindResourceIfNecessary();
+		}
+	}
+
+	private int pollForMessages(IntUnaryOperator batchTask, int batchSize) {
+		try {
+			return batchTask.applyAsInt(batchSize);
+		}
+		finally {
+			unbindResourceIfNecessary();
+		}
+	}
+
+	private int doPollBatch(int batchSize) {
+		int count = 0;
+		while (count < batchSize) {
+			Message<?> message;
+			try {
+				message = doPoll();
+			}
+			finally {
+				// A new resource holder and synchronization for the next message in the same transaction
+				unbindResourceIfNecessary();
+			}
+			donePollingTask(message);
+			if (message == null) {
+				break;
+			}
+			count++;
+		}
+		return count;
+	}
+
+	private void unbindResourceIfNecessary() {
+		if (this.transactionSynchronizationFactory != null) {
+			Object resource = getResourceToBind();
+			if (resource != null && TransactionSynchronizationManager.hasResource(resource)) {
+				TransactionSynchronizationManager.unbindResource(resource);
 			}
 		}
 	}
@@ -500,7 +664,9 @@ public abstract class AbstractPollingEndpoint extends AbstractEndpoint implement
 
 	/**
 	 * The callback of a received message (if any) after the polling task is done.
-	 * If a transaction is enabled, it is committed at this point.
+	 * If a transaction is enabled, it is committed at this point,
+	 * unless the {@link #setTransactionBatchSize(int)} is greater than {@code 1}:
+	 * in this case the callback is called for each message within the batch transaction.
 	 * @param message the message result from the polling task.
 	 */
 	protected void donePollingTask(@Nullable Message<?> message) {
@@ -37,6 +37,7 @@ import org.springframework.integration.support.management.IntegrationInboundMana
 import org.springframework.integration.support.management.TrackableComponent;
 import org.springframework.integration.support.management.observation.DefaultMessageReceiverObservationConvention;
 import org.springframework.integration.support.management.observation.IntegrationObservation;
+import org.springframework.integration.support.management.observation.IntegrationObservationSampler;
 import org.springframework.integration.support.management.observation.MessageReceiverContext;
 import org.springframework.integration.support.management.observation.MessageReceiverObservationConvention;
 import org.springframework.messaging.Message;
@@ -65,6 +66,8 @@ public abstract class MessageProducerSupport extends AbstractEndpoint
 
 	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
+	private @Nullable IntegrationObservationSampler observationSampler;
+
 	@Nullable
 	private MessageReceiverObservationConvention observationConvention;
 
@@ -218,6 +221,12 @@ public abstract class MessageProducerSupport extends AbstractEndpoint
 		this.observationRegistry = observationRegistry;
 	}
 
+	@Override
+	public void registerObservationSampler(IntegrationObservationSampler observationSampler) {
+		Assert.notNull(observationSampler, "'observationSampler' must not be null");
+		this.observationSampler = observationSampler;
+	}
+
 	@Override
 	public boolean isObserved() {
 		return !ObservationRegistry.NOOP.equals(this.observationRegistry);
@@ -269,7 +278,11 @@ public abstract class MessageProducerSupport extends AbstractEndpoint
 		}
 
 		try {
-			if (isObserved()) {
+			IntegrationObservationSampler sampler = this.observationSampler;
+			if (isObserved() && sampler != null && !sampler.sample(this.observationRegistry, message)) {
+				IntegrationObservationSampler.runUnsampled(() -> sendMessageWithTracking(message));
+			}
+			else if (isObserved()) {
 				IntegrationObservation.HANDLER.observation(
 								this.observationConvention,
 								DefaultMessageReceiverObservationConvention.INSTANCE,
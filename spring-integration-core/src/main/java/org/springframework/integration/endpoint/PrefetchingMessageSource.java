@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.endpoint;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.Lifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.acks.AckUtils;
+import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.core.MessageSource;
+import org.springframework.integration.support.management.MessageSourceManagement;
+import org.springframework.messaging.Message;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MessageSource} wrapper which fetches messages from the delegate
+ * (typically a remote {@link AbstractFetchLimitingMessageSource}) on a background thread
+ * into a bounded buffer, so the next fetch runs while the current messages are processed
+ * and the fetch latency does not add to the poll time.
+ * <p>
+ * The fetch is started on a {@link #receive()} call when the buffer is not full and
+ * continues until the buffer is full or the delegate returns no message.
+ * An exception from the delegate is thrown to the next {@link #receive()} call
+ * which finds the buffer empty.
+ * <p>
+ * The prefetching is active only while this source is running;
+ * otherwise, {@link #receive()} is delegated directly.
+ * The {@link org.springframework.integration.IntegrationMessageHeaderAccessor#ACKNOWLEDGMENT_CALLBACK}
+ * header of the prefetched message is propagated as is, so the message is acknowledged
+ * when it is processed downstream; the buffered messages are requeued via their
+ * {@link AcknowledgmentCallback} when this source is stopped.
+ * When a transaction is active on the calling thread (e.g. a transactional poller),
+ * {@link #receive()} is delegated directly, so the fetch takes part in that transaction.
+ * <p>
+ * The {@link MessageSourceManagement} calls are delegated to the target source,
+ * if it implements this interface.
+ *
+ * @param <T> the expected payload type.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class PrefetchingMessageSource<T>
+		implements MessageSource<T>, MessageSourceManagement, Lifecycle, DisposableBean {
+
+	private final MessageSource<T> delegate;
+
+	private final BlockingQueue<Message<T>> buffer;
+
+	private final AtomicBoolean fetching = new AtomicBoolean();
+
+	private final AtomicReference<@Nullable RuntimeException> fetchError = new AtomicReference<>();
+
+	private Executor fetchExecutor = new SimpleAsyncTaskExecutor("prefetch-");
+
+	private long receiveTimeout;
+
+	private volatile boolean running;
+
+	/**
+	 * Create an instance for the delegate with a buffer of 16 messages.
+	 * @param delegate the source to fetch messages from.
+	 */
+	public PrefetchingMessageSource(MessageSource<T> delegate) {
+		this(delegate, 16); // NOSONAR magic number
+	}
+
+	/**
+	 * Create an instance for the delegate with the provided size of the buffer.
+	 * @param delegate the source to fetch messages from.
+	 * @param prefetchSize the maximum number of messages to fetch in advance.
+	 */
+	public PrefetchingMessageSource(MessageSource<T> delegate, int prefetchSize) {
+		Assert.notNull(delegate, "'delegate' must not be null");
+		Assert.isTrue(prefetchSize > 0, "'prefetchSize' must be greater than 0");
+		this.delegate = delegate;
+		this.buffer = new LinkedBlockingQueue<>(prefetchSize);
+	}
+
+	/**
+	 * Set an {@link Executor} to fetch messages from the delegate.
+	 * Defaults to the {@link SimpleAsyncTaskExecutor}.
+	 * @param fetchExecutor the executor to use.
+	 */
+	public void setFetchExecutor(Executor fetchExecutor) {
+		Assert.notNull(fetchExecutor, "'fetchExecutor' must not be null");
+		this.fetchExecutor = fetchExecutor;
+	}
+
+	/**
+	 * Set the time for {@link #receive()} to wait for a message to be fetched
+	 * when the buffer is empty.
+	 * Defaults to {@link Duration#ZERO} - return {@code null} immediately
+	 * and let the next poll get the message fetched in the meantime.
+	 * @param receiveTimeout the time to wait.
+	 */
+	public void setReceiveTimeout(Duration receiveTimeout) {
+		Assert.isTrue(receiveTimeout != null && !receiveTimeout.isNegative(), "'receiveTimeout' must not be negative");
+		this.receiveTimeout = receiveTimeout.toMillis();
+	}
+
+	/**
+	 * Return the current number of prefetched messages.
+	 * @return the number of messages in the buffer.
+	 */
+	public int getPrefetchedCount() {
+		return this.buffer.size();
+	}
+
+	@Override
+	public void setMaxFetchSize(int maxFetchSize) {
+		if (this.delegate instanceof MessageSourceManagement management) {
+			management.setMaxFetchSize(maxFetchSize);
+		}
+	}
+
+	@Override
+	public int getMaxFetchSize() {
+		return this.delegate instanceof MessageSourceManagement management
+				? management.getMaxFetchSize()
+				: Integer.MIN_VALUE;
+	}
+
+	@Override
+	public void start() {
+		if (this.delegate instanceof Lifecycle lifecycle) {
+			lifecycle.start();
+		}
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+		requeueBuffered();
+		if (this.delegate instanceof Lifecycle lifecycle) {
+			lifecycle.stop();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public @Nullable Message<T> receive() {
+		if (!this.running || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return this.delegate.receive();
+		}
+		Message<T> message = this.buffer.poll();
+		if (message == null) {
+			RuntimeException error = this.fetchError.getAndSet(null);
+			if (error != null) {
+				throw error;
+			}
+			fetchIfNecessary();
+			if (this.receiveTimeout > 0) {
+				try {
+					message = this.buffer.poll(this.receiveTimeout, TimeUnit.MILLISECONDS);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		if (message != null) {
+			fetchIfNecessary();
+		}
+		return message;
+	}
+
+	private void fetchIfNecessary() {
+		if (this.buffer.remainingCapacity() > 0 && this.fetching.compareAndSet(false, true)) {
+			try {
+				this.fetchExecutor.execute(this::fetch);
+			}
+			catch (RuntimeException ex) {
+				this.fetching.set(false);
+				throw ex;
+			}
+		}
+	}
+
+	private void fetch() {
+		boolean exhausted = false;
+		try {
+			while (this.running && this.buffer.remainingCapacity() > 0) {
+				Message<T> message = this.delegate.receive();
+				if (message == null) {
+					exhausted = true;
+					break;
+				}
+				if (!this.buffer.offer(message)) {
+					AckUtils.requeue(StaticMessageHeaderAccessor.getAcknowledgmentCallback(message));
+					break;
+				}
+				if (!this.running) {
+					requeueBuffered();
+				}
+			}
+		}
+		catch (RuntimeException ex) {
+			exhausted = true;
+			this.fetchError.set(ex);
+		}
+		finally {
+			this.fetching.set(false);
+		}
+		if (!exhausted && this.running) {
+			// A message might have been taken after the loop exited, but before the flag was reset
+			fetchIfNecessary();
+		}
+	}
+
+	private void requeueBuffered() {
+		Message<T> message;
+		while ((message = this.buffer.poll()) != null) {
+			AcknowledgmentCallback callback = StaticMessageHeaderAccessor.getAcknowledgmentCallback(message);
+			if (callback != null && !callback.isAcknowledged()) {
+				AckUtils.requeue(callback);
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		stop();
+	}
+
+}
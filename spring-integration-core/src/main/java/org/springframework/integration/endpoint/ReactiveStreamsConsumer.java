@@ -16,6 +16,8 @@
 
 package org.springframework.integration.endpoint;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -78,6 +80,12 @@ public class ReactiveStreamsConsumer extends AbstractEndpoint implements Integra
 	@SuppressWarnings("NullAway.Init")
 	private ErrorHandler errorHandler;
 
+	private int prefetch;
+
+	private int batchSize = 1;
+
+	private Duration batchTimeout = Duration.ofMillis(100); // NOSONAR magic number
+
 	private volatile @Nullable Disposable subscription;
 
 	@SuppressWarnings("unchecked")
@@ -140,6 +148,47 @@ public class ReactiveStreamsConsumer extends AbstractEndpoint implements Integra
 		this.reactiveCustomizer = reactiveCustomizer;
 	}
 
+	/**
+	 * Set the number of messages to request from the input channel at once;
+	 * the next batch is requested when 75% of the previous one is consumed.
+	 * By default, the demand of the subscriber is propagated to the channel as is
+	 * (typically unbounded for the {@link MessageHandler}).
+	 * @param prefetch the number of messages to request.
+	 * @since 7.2
+	 * @see Flux#limitRate(int)
+	 */
+	public void setPrefetch(int prefetch) {
+		Assert.isTrue(prefetch > 0, "'prefetch' must be greater than 0");
+		this.prefetch = prefetch;
+	}
+
+	/**
+	 * Set the number of messages to deliver to the handler in a single message
+	 * with a {@code List<Message<?>>} payload.
+	 * A batch is delivered when it is full or when the {@link #setBatchTimeout(Duration) batchTimeout}
+	 * elapses since its first message.
+	 * Defaults to 1 - every message is delivered individually.
+	 * @param batchSize the number of messages in a batch.
+	 * @since 7.2
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the maximum time to wait for a batch to be filled.
+	 * Defaults to 100 milliseconds.
+	 * @param batchTimeout the time to wait for a batch to be filled.
+	 * @since 7.2
+	 * @see #setBatchSize(int)
+	 */
+	public void setBatchTimeout(Duration batchTimeout) {
+		Assert.isTrue(batchTimeout != null && !batchTimeout.isNegative() && !batchTimeout.isZero(),
+				"'batchTimeout' must be positive");
+		this.batchTimeout = batchTimeout;
+	}
+
 	@Override
 	public MessageChannel getInputChannel() {
 		return this.inputChannel;
@@ -183,9 +232,18 @@ public class ReactiveStreamsConsumer extends AbstractEndpoint implements Integra
 		}
 
 		Flux<Message<?>> fluxFromChannel = Flux.from(this.publisher);
+		if (this.prefetch > 0) {
+			fluxFromChannel = fluxFromChannel.limitRate(this.prefetch);
+		}
 		if (this.reactiveCustomizer != null) {
 			fluxFromChannel = fluxFromChannel.transform(this.reactiveCustomizer);
 		}
+		if (this.batchSize > 1) {
+			fluxFromChannel =
+					fluxFromChannel
+							.bufferTimeout(this.batchSize, this.batchTimeout)
+							.map(this::batchMessage);
+		}
 
 		if (this.reactiveMessageHandler != null) {
 			this.subscription =
@@ -203,6 +261,10 @@ public class ReactiveStreamsConsumer extends AbstractEndpoint implements Integra
 		}
 	}
 
+	private Message<?> batchMessage(List<Message<?>> batch) {
+		return getMessageBuilderFactory().withPayload(batch).build();
+	}
+
 	@Override
 	protected void doStop() {
 		if (this.subscription != null) {
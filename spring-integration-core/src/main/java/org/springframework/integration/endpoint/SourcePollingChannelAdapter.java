@@ -41,6 +41,7 @@ import org.springframework.integration.support.management.IntegrationManagement;
 import org.springframework.integration.support.management.TrackableComponent;
 import org.springframework.integration.support.management.observation.DefaultMessageReceiverObservationConvention;
 import org.springframework.integration.support.management.observation.IntegrationObservation;
+import org.springframework.integration.support.management.observation.IntegrationObservationSampler;
 import org.springframework.integration.support.management.observation.MessageReceiverContext;
 import org.springframework.integration.support.management.observation.MessageReceiverObservationConvention;
 import org.springframework.integration.transaction.IntegrationResourceHolder;
@@ -70,6 +71,8 @@ public class SourcePollingChannelAdapter extends AbstractPollingEndpoint
 
 	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
+	private @Nullable IntegrationObservationSampler observationSampler;
+
 	private @Nullable MessageReceiverObservationConvention observationConvention;
 
 	@SuppressWarnings("NullAway.Init")
@@ -143,6 +146,12 @@ public class SourcePollingChannelAdapter extends AbstractPollingEndpoint
 		this.observationRegistry = observationRegistry;
 	}
 
+	@Override
+	public void registerObservationSampler(IntegrationObservationSampler observationSampler) {
+		Assert.notNull(observationSampler, "'observationSampler' must not be null");
+		this.observationSampler = observationSampler;
+	}
+
 	/**
 	 * Set a custom {@link MessageReceiverObservationConvention} for {@link IntegrationObservation#HANDLER}.
 	 * Ignored if an {@link ObservationRegistry} is not configured for this component.
@@ -236,7 +245,14 @@ public class SourcePollingChannelAdapter extends AbstractPollingEndpoint
 		}
 		AcknowledgmentCallback ackCallback = StaticMessageHeaderAccessor.getAcknowledgmentCallback(message);
 		try {
-			this.messagingTemplate.send(getOutputChannel(), message);
+			if (this.observationSampler != null && isObserved() && this.observationRegistry.getCurrentObservation() == null) {
+				Message<?> messageToSend = message;
+				IntegrationObservationSampler.runUnsampled(() ->
+						this.messagingTemplate.send(getOutputChannel(), messageToSend));
+			}
+			else {
+				this.messagingTemplate.send(getOutputChannel(), message);
+			}
 			AckUtils.autoAck(ackCallback);
 		}
 		catch (Exception ex) {
@@ -262,7 +278,9 @@ public class SourcePollingChannelAdapter extends AbstractPollingEndpoint
 	 */
 	@Override
 	protected void messageReceived(@Nullable IntegrationResourceHolder holder, Message<?> message) {
-		if (isObserved()) {
+		if (isObserved()
+				&& (this.observationSampler == null || this.observationSampler.sample(this.observationRegistry, message))) {
+
 			// Cannot use 'Observation.observe()' API
 			// since transaction needs to be aware of the message
 			// and error handling happens in the caller of 'doPoll()' - 'ErrorHandler'
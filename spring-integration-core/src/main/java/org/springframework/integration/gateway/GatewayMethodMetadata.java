@@ -47,6 +47,8 @@ public class GatewayMethodMetadata {
 
 	private @Nullable String replyTimeout;
 
+	private int batchWindow;
+
 	public @Nullable Expression getPayloadExpression() {
 		return this.payloadExpression;
 	}
@@ -98,4 +100,18 @@ public class GatewayMethodMetadata {
 		this.replyTimeout = replyTimeout;
 	}
 
+	public int getBatchWindow() {
+		return this.batchWindow;
+	}
+
+	/**
+	 * Set the maximum number of requests in flight for a batch gateway method.
+	 * @param batchWindow the in-flight window for batch requests.
+	 * @since 7.2
+	 * @see org.springframework.integration.annotation.Gateway#batchWindow()
+	 */
+	public void setBatchWindow(int batchWindow) {
+		this.batchWindow = batchWindow;
+	}
+
 }
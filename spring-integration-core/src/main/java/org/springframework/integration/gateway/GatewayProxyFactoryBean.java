@@ -19,6 +19,8 @@ package org.springframework.integration.gateway;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,11 +37,15 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
@@ -61,9 +67,11 @@ import org.springframework.expression.common.LiteralExpression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.JavaUtils;
+import org.springframework.integration.MessageTimeoutException;
 import org.springframework.integration.annotation.Gateway;
 import org.springframework.integration.annotation.GatewayHeader;
 import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.core.ReplyCorrelationChannel;
 import org.springframework.integration.endpoint.AbstractEndpoint;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.expression.ValueExpression;
@@ -163,6 +171,8 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 
 	private boolean errorOnTimeout;
 
+	private @Nullable ReplyCorrelationChannel replyCorrelationChannel;
+
 	/**
 	 * Create a Factory whose service interface type can be configured by setter injection.
 	 * If none is set, it will fall back to the default service interface type,
@@ -448,6 +458,23 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 		this.errorOnTimeout = errorOnTimeout;
 	}
 
+	/**
+	 * Set the number of slots for concurrent requests in a {@link ReplyCorrelationChannel}
+	 * shared by all the gateway methods, to correlate replies instead of creating
+	 * a temporary reply channel per request.
+	 * The downstream flow must propagate the {@link ReplyCorrelationChannel#SLOT_ID_HEADER}
+	 * to the reply message.
+	 * Requests over the capacity fall back to temporary reply channels.
+	 * Defaults to 0 - temporary reply channels are used.
+	 * @param replyCorrelationCapacity the number of slots.
+	 * @since 7.2
+	 * @see MessagingGatewaySupport#setReplyCorrelationChannel(ReplyCorrelationChannel)
+	 */
+	public void setReplyCorrelationCapacity(int replyCorrelationCapacity) {
+		this.replyCorrelationChannel =
+				replyCorrelationCapacity > 0 ? new ReplyCorrelationChannel(replyCorrelationCapacity) : null;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	protected void onInit() {
@@ -506,6 +533,9 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 		Method method = invocation.getMethod();
 		Class<?> returnType;
 		MethodInvocationGateway gateway = this.gatewayMap.get(method);
+		if (gateway != null && gateway.batchWindow > 0) {
+			return invokeBatch(invocation.getArguments()[0], gateway);
+		}
 		if (gateway != null) {
 			returnType = gateway.returnType;
 		}
@@ -653,6 +683,77 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 		return null;
 	}
 
+	private @Nullable Object invokeBatch(@Nullable Object argument, MethodInvocationGateway gateway) {
+		Assert.notNull(argument, "The batch gateway method argument must not be null");
+		if (gateway.batchVoidReturn) {
+			// One-way sends are performed on the caller thread, as for a single message
+			List<?> elements = argument instanceof Stream<?> stream ? stream.toList() : batchElements(argument);
+			for (Object element : elements) {
+				gateway.send(new Object[] {element});
+			}
+			return null;
+		}
+		Scheduler scheduler = this.asyncExecutor != null ? Schedulers.fromExecutor(this.asyncExecutor) : null;
+		if (gateway.batchFluxReturn) {
+			Flux<?> elements =
+					argument instanceof Stream<?> stream
+							? Flux.fromStream(stream)
+							: Flux.fromIterable(batchElements(argument));
+			return elements.flatMapSequential(element -> batchRequest(gateway, element, scheduler),
+					gateway.batchWindow);
+		}
+		List<?> elements = argument instanceof Stream<?> stream ? stream.toList() : batchElements(argument);
+		List<CompletableFuture<@Nullable Object>> replies = new ArrayList<>(elements.size());
+		for (int i = 0; i < elements.size(); i++) {
+			replies.add(new CompletableFuture<>());
+		}
+		Flux.range(0, elements.size())
+				.flatMap(i -> {
+					CompletableFuture<@Nullable Object> reply = replies.get(i);
+					if (reply.isDone()) {
+						// Cancelled by the caller before being sent
+						return Mono.empty();
+					}
+					return batchRequest(gateway, elements.get(i), scheduler)
+							.doOnSuccess(reply::complete)
+							.doOnError(reply::completeExceptionally)
+							.onErrorResume(ex -> Mono.empty());
+				}, gateway.batchWindow)
+				.subscribe();
+		return replies;
+	}
+
+	private static List<?> batchElements(Object argument) {
+		if (argument instanceof List<?> list) {
+			return list;
+		}
+		else if (argument instanceof Iterable<?> iterable) {
+			List<Object> elements = new ArrayList<>();
+			iterable.forEach(elements::add);
+			return elements;
+		}
+		else {
+			return Arrays.asList(ObjectUtils.toObjectArray(argument));
+		}
+	}
+
+	private Mono<?> batchRequest(MethodInvocationGateway gateway, Object element, @Nullable Scheduler scheduler) {
+		Mono<Message<?>> reply = Mono.defer(() -> gateway.sendAndReceiveMessageReactive(new Object[] {element}));
+		if (scheduler != null) {
+			reply = reply.subscribeOn(scheduler);
+		}
+		long replyTimeout = gateway.messagingTemplate.getReceiveTimeout();
+		if (replyTimeout >= 0) {
+			Mono<Message<?>> fallback =
+					this.errorOnTimeout
+							? Mono.error(() -> new MessageTimeoutException(
+							"No reply received within timeout for batch element: " + element))
+							: Mono.empty();
+			reply = reply.timeout(Duration.ofMillis(replyTimeout), fallback);
+		}
+		return gateway.batchExpectMessage ? reply : reply.map(Message::getPayload);
+	}
+
 	private void rethrowExceptionCauseIfPossible(Throwable originalException, Method method) throws Throwable {
 		Class<?>[] exceptionTypes = method.getExceptionTypes();
 		Throwable t = originalException;
@@ -697,8 +798,21 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 			headerExpressions.putAll(methodMetadata.getHeaderExpressions());
 		}
 
-		return doCreateMethodInvocationGateway(method, payloadExpression, headerExpressions,
-				requestChannelName, replyChannelName, requestTimeout, replyTimeout);
+		MethodInvocationGateway gateway =
+				doCreateMethodInvocationGateway(method, payloadExpression, headerExpressions,
+						requestChannelName, replyChannelName, requestTimeout, replyTimeout);
+
+		int batchWindow = 0;
+		if (gatewayAnnotation != null) {
+			batchWindow = gatewayAnnotation.batchWindow();
+		}
+		else if (methodMetadata != null) {
+			batchWindow = methodMetadata.getBatchWindow();
+		}
+		if (batchWindow > 0) {
+			gateway.setupBatch(method, batchWindow);
+		}
+		return gateway;
 	}
 
 	private @Nullable Expression extractPayloadExpressionFromAnnotationOrMetadata(@Nullable Gateway gatewayAnnotation,
@@ -853,6 +967,7 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 			gateway.registerMetricsCaptor(this.metricsCaptor);
 		}
 		gateway.setErrorOnTimeout(this.errorOnTimeout);
+		gateway.setReplyCorrelationChannel(this.replyCorrelationChannel);
 		gateway.afterPropertiesSet();
 
 		return gateway;
@@ -1040,6 +1155,14 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 
 		private boolean isSuspendingFunction;
 
+		private int batchWindow;
+
+		private boolean batchFluxReturn;
+
+		private boolean batchVoidReturn;
+
+		private boolean batchExpectMessage;
+
 		MethodInvocationGateway(GatewayMethodInboundMessageMapper messageMapper) {
 			setRequestMapper(messageMapper);
 		}
@@ -1100,6 +1223,34 @@ public class GatewayProxyFactoryBean<T> extends AbstractEndpoint
 			this.pollable = true;
 		}
 
+		private void setupBatch(Method method, int batchWindow) {
+			Assert.isTrue(method.getParameterCount() == 1,
+					() -> "A batch gateway method must have exactly one parameter: " + method);
+			Class<?> parameterType = method.getParameterTypes()[0];
+			Assert.isTrue(Iterable.class.isAssignableFrom(parameterType) || Stream.class.isAssignableFrom(parameterType)
+							|| parameterType.isArray(),
+					() -> "A batch gateway method parameter must be an Iterable, a Stream or an array: " + method);
+			ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+			ResolvableType replyType;
+			if (void.class.equals(this.returnType)) {
+				this.batchVoidReturn = true;
+				replyType = ResolvableType.NONE;
+			}
+			else if (Flux.class.equals(this.returnType)) {
+				this.batchFluxReturn = true;
+				replyType = returnType.getGeneric(0);
+			}
+			else {
+				Assert.isTrue(List.class.equals(this.returnType)
+								&& CompletableFuture.class.equals(returnType.getGeneric(0).resolve()),
+						() -> "A batch gateway method must return a 'List<CompletableFuture<?>>', a 'Flux<?>' "
+								+ "or 'void': " + method);
+				replyType = returnType.getGeneric(0).getGeneric(0);
+			}
+			this.batchExpectMessage = Message.class.isAssignableFrom(replyType.resolve(Object.class));
+			this.batchWindow = batchWindow;
+		}
+
 	}
 
 	private final class Invoker implements Supplier<Object> {
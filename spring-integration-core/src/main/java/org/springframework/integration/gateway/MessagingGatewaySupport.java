@@ -19,6 +19,8 @@ package org.springframework.integration.gateway;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -37,6 +39,7 @@ import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.MessageTimeoutException;
 import org.springframework.integration.channel.ReactiveStreamsSubscribableChannel;
 import org.springframework.integration.core.MessagingTemplate;
+import org.springframework.integration.core.ReplyCorrelationChannel;
 import org.springframework.integration.endpoint.AbstractEndpoint;
 import org.springframework.integration.endpoint.EventDrivenConsumer;
 import org.springframework.integration.endpoint.PollingConsumer;
@@ -60,11 +63,12 @@ import org.springframework.integration.support.management.IntegrationManagedReso
 import org.springframework.integration.support.management.TrackableComponent;
 import org.springframework.integration.support.management.metrics.MeterFacade;
 import org.springframework.integration.support.management.metrics.MetricsCaptor;
-import org.springframework.integration.support.management.metrics.SampleFacade;
+import org.springframework.integration.support.management.metrics.SendCounters;
 import org.springframework.integration.support.management.metrics.TimerFacade;
 import org.springframework.integration.support.management.observation.DefaultMessageReceiverObservationConvention;
 import org.springframework.integration.support.management.observation.DefaultMessageRequestReplyReceiverObservationConvention;
 import org.springframework.integration.support.management.observation.IntegrationObservation;
+import org.springframework.integration.support.management.observation.IntegrationObservationSampler;
 import org.springframework.integration.support.management.observation.MessageReceiverContext;
 import org.springframework.integration.support.management.observation.MessageReceiverObservationConvention;
 import org.springframework.integration.support.management.observation.MessageRequestReplyReceiverContext;
@@ -112,6 +116,8 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 
 	private final Set<TimerFacade> timers = ConcurrentHashMap.newKeySet();
 
+	private final Map<Class<?>, TimerFacade> exceptionTimers = new ConcurrentHashMap<>();
+
 	private boolean errorOnTimeout;
 
 	private ErrorMessageStrategy errorMessageStrategy = new DefaultErrorMessageStrategy();
@@ -144,8 +150,14 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 
 	private @Nullable TimerFacade successTimer;
 
+	private final SendCounters sendCounters = new SendCounters("source", this::getComponentName);
+
+	private int metricsSampleRate = 1;
+
 	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
+	private @Nullable IntegrationObservationSampler observationSampler;
+
 	private @Nullable MessageRequestReplyReceiverObservationConvention observationConvention;
 
 	private @Nullable MessageReceiverObservationConvention receiverObservationConvention;
@@ -279,6 +291,17 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 		this.replyTimeoutSet = true;
 	}
 
+	/**
+	 * Set a {@link ReplyCorrelationChannel} to correlate replies for the request-reply operations
+	 * instead of creating a temporary reply channel per request.
+	 * @param replyCorrelationChannel the {@link ReplyCorrelationChannel} to use.
+	 * @since 7.2
+	 * @see org.springframework.integration.core.MessagingTemplate#setReplyCorrelationChannel
+	 */
+	public void setReplyCorrelationChannel(@Nullable ReplyCorrelationChannel replyCorrelationChannel) {
+		this.messagingTemplate.setReplyCorrelationChannel(replyCorrelationChannel);
+	}
+
 	/**
 	 * Provide an {@link InboundMessageMapper} for creating request Messages
 	 * from any object passed in a {@code send} or {@code sendAndReceive} operation.
@@ -382,12 +405,30 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 		this.metricsCaptor = metricsCaptorToRegister;
 	}
 
+	@Override
+	public void setMetricsSampleRate(int metricsSampleRate) {
+		Assert.isTrue(metricsSampleRate > 0, "'metricsSampleRate' must be greater than 0");
+		this.metricsSampleRate = metricsSampleRate;
+		this.managementOverrides.metricsSampleRateConfigured = true;
+	}
+
+	@Override
+	public int getMetricsSampleRate() {
+		return this.metricsSampleRate;
+	}
+
 	@Override
 	public void registerObservationRegistry(ObservationRegistry observationRegistry) {
 		Assert.notNull(observationRegistry, "'observationRegistry' must not be null");
 		this.observationRegistry = observationRegistry;
 	}
 
+	@Override
+	public void registerObservationSampler(IntegrationObservationSampler observationSampler) {
+		Assert.notNull(observationSampler, "'observationSampler' must not be null");
+		this.observationSampler = observationSampler;
+	}
+
 	@Override
 	public boolean isObserved() {
 		return !ObservationRegistry.NOOP.equals(this.observationRegistry);
@@ -497,7 +538,13 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 				&& (this.observationRegistry.getCurrentObservation() == null
 				|| this.observationRegistry.getCurrentObservation().isNoop())) {
 
-			sendWithObservation(channel, requestMessage);
+			IntegrationObservationSampler sampler = this.observationSampler;
+			if (sampler == null || sampler.sample(this.observationRegistry, requestMessage)) {
+				sendWithObservation(channel, requestMessage);
+			}
+			else {
+				IntegrationObservationSampler.runUnsampled(() -> doSend(channel, requestMessage));
+			}
 		}
 		else if (this.metricsCaptor != null) {
 			sendWithMetrics(channel, requestMessage, this.metricsCaptor);
@@ -522,13 +569,20 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 	}
 
 	private void sendWithMetrics(MessageChannel channel, Message<?> message, MetricsCaptor metricsCaptor) {
-		SampleFacade sample = metricsCaptor.start();
+		boolean timed = isMetricsSampled();
+		long start = timed ? metricsCaptor.monotonicTime() : 0;
 		try {
 			this.messagingTemplate.send(channel, message);
-			sample.stop(sendTimer());
+			if (timed) {
+				sendTimer().record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+			}
+			incrementSendCounter(metricsCaptor, true);
 		}
 		catch (Exception ex) {
-			sample.stop(buildSendTimer(false, ex.getClass().getSimpleName()));
+			if (timed) {
+				exceptionTimer(ex).record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+			}
+			incrementSendCounter(metricsCaptor, false);
 			sendErrorMessage(ex, message);
 		}
 	}
@@ -616,7 +670,15 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 			Message<?> replyMessage;
 
 			if (!ObservationRegistry.NOOP.equals(this.observationRegistry)) {
-				replyMessage = sendAndReceiveWithObservation(channel, object, requestMessage);
+				IntegrationObservationSampler sampler = this.observationSampler;
+				if (sampler == null || sampler.sample(this.observationRegistry, requestMessage)) {
+					replyMessage = sendAndReceiveWithObservation(channel, object, requestMessage);
+				}
+				else {
+					Message<?> messageToSend = requestMessage;
+					replyMessage = IntegrationObservationSampler.callUnsampled(() ->
+							doSendAndReceive(channel, object, messageToSend));
+				}
 			}
 			else if (this.metricsCaptor != null) {
 				replyMessage = sendAndReceiveWithMetrics(channel, object, requestMessage, this.metricsCaptor);
@@ -625,6 +687,9 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 				replyMessage = doSendAndReceive(channel, object, requestMessage);
 			}
 
+			if (replyMessage != null && this.observationSampler != null) {
+				replyMessage = IntegrationObservationSampler.removeSampledHeader(replyMessage);
+			}
 			reply = replyMessage;
 			if (replyMessage != null && shouldConvert) {
 				reply = this.messagingTemplate.getMessageConverter().fromMessage(replyMessage, Object.class);
@@ -680,16 +745,26 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 	private Message<?> sendAndReceiveWithMetrics(MessageChannel requestChannel, Object object,
 			Message<?> requestMessage, MetricsCaptor metricsCaptor) {
 
-		SampleFacade sample = metricsCaptor.start();
+		boolean timed = isMetricsSampled();
+		long start = timed ? metricsCaptor.monotonicTime() : 0;
+		boolean success = false;
 		try {
 			Message<?> replyMessage = doSendAndReceive(requestChannel, object, requestMessage);
-			sample.stop(sendTimer());
+			success = true;
+			if (timed) {
+				sendTimer().record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+			}
 			return replyMessage;
 		}
 		catch (Exception ex) {
-			sample.stop(buildSendTimer(false, ex.getClass().getSimpleName()));
+			if (timed) {
+				exceptionTimer(ex).record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+			}
 			throw ex;
 		}
+		finally {
+			incrementSendCounter(metricsCaptor, success);
+		}
 	}
 
 	@Nullable
@@ -845,7 +920,7 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 		return reply
 				.doOnSubscribe(s -> {
 					if (!error && captor != null) {
-						captor.start().stop(sendTimer());
+						sendTimer().record(0, TimeUnit.NANOSECONDS);
 					}
 				})
 				.handle((replyMessage, sink) -> {
@@ -892,6 +967,27 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 		return this.successTimer;
 	}
 
+	/**
+	 * Return the failure timer for the exception class, building it on the first call.
+	 * @param exception the exception.
+	 * @return the timer.
+	 * @since 7.2
+	 */
+	protected TimerFacade exceptionTimer(Exception exception) {
+		return this.exceptionTimers.computeIfAbsent(exception.getClass(),
+				(exceptionClass) -> buildSendTimer(false, exceptionClass.getSimpleName()));
+	}
+
+	private void incrementSendCounter(MetricsCaptor metricsCaptor, boolean success) {
+		if (this.metricsSampleRate > 1) {
+			this.sendCounters.increment(metricsCaptor, success);
+		}
+	}
+
+	private boolean isMetricsSampled() {
+		return this.metricsSampleRate == 1 || ThreadLocalRandom.current().nextInt(this.metricsSampleRate) == 0;
+	}
+
 	@SuppressWarnings("NullAway") // Dataflow analysis limitation
 	protected TimerFacade buildSendTimer(boolean success, String exception) {
 		TimerFacade timer = this.metricsCaptor.timerBuilder(SEND_TIMER_NAME)
@@ -1022,6 +1118,8 @@ public abstract class MessagingGatewaySupport extends AbstractEndpoint
 		super.destroy();
 		this.timers.forEach(MeterFacade::remove);
 		this.timers.clear();
+		this.exceptionTimers.clear();
+		this.sendCounters.remove();
 	}
 
 	private static class DefaultRequestMapper implements InboundMessageMapper<Object> {
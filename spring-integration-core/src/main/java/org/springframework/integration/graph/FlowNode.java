@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.graph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Represents an {@link org.springframework.integration.dsl.IntegrationFlow}: the ids of its nodes
+ * and the critical path through them, calculated from the current timer statistics.
+ * <p>
+ * The critical path is the chain of the flow nodes (starting from a node without incoming links
+ * in this flow) with the largest sum of the estimated per-node processing times and the queue times
+ * of the asynchronous channels.
+ * Since the timers of the synchronous components include the time of the downstream components
+ * they call, the processing time of a node is estimated as the mean of its successful sends minus
+ * the (count-weighted) means of the synchronous downstream nodes.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class FlowNode {
+
+	private final String name;
+
+	private final List<Integer> nodes;
+
+	private final Map<Integer, IntegrationNode> nodesById;
+
+	private final Map<Integer, List<Integer>> downstream = new HashMap<>();
+
+	private final Set<Integer> entries = new HashSet<>();
+
+	public FlowNode(String name, Collection<IntegrationNode> nodes, Collection<LinkNode> links) {
+		this.name = name;
+		this.nodesById = new HashMap<>();
+		for (IntegrationNode node : nodes) {
+			this.nodesById.put(node.getNodeId(), node);
+		}
+		this.nodes = this.nodesById.keySet().stream().sorted().toList();
+		this.entries.addAll(this.nodes);
+		for (LinkNode link : links) {
+			if (!LinkNode.Type.error.equals(link.type())
+					&& this.nodesById.containsKey(link.from()) && this.nodesById.containsKey(link.to())) {
+
+				this.downstream.computeIfAbsent(link.from(), (from) -> new ArrayList<>()).add(link.to());
+				this.entries.remove(link.to());
+			}
+		}
+		if (this.entries.isEmpty()) {
+			this.entries.addAll(this.nodes);
+		}
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public List<Integer> getNodes() {
+		return this.nodes;
+	}
+
+	/**
+	 * Calculate the critical path through this flow from the current statistics.
+	 * @return the critical path.
+	 */
+	public CriticalPath getCriticalPath() {
+		Map<Integer, Hop> hops = new HashMap<>();
+		for (IntegrationNode node : this.nodesById.values()) {
+			hops.put(node.getNodeId(), hop(node));
+		}
+		Map<Integer, List<Hop>> longestPaths = new HashMap<>();
+		List<Hop> criticalPath = List.of();
+		double latency = 0;
+		for (Integer entry : this.entries) {
+			List<Hop> path = longestPath(entry, hops, longestPaths, new HashSet<>());
+			double pathLatency = latency(path);
+			if (criticalPath.isEmpty() || pathLatency > latency) {
+				criticalPath = path;
+				latency = pathLatency;
+			}
+		}
+		return new CriticalPath(latency, criticalPath);
+	}
+
+	private List<Hop> longestPath(Integer nodeId, Map<Integer, Hop> hops, Map<Integer, List<Hop>> longestPaths,
+			Set<Integer> visiting) {
+
+		List<Hop> longestPath = longestPaths.get(nodeId);
+		if (longestPath != null) {
+			return longestPath;
+		}
+		visiting.add(nodeId);
+		List<Hop> longestTail = List.of();
+		double longestTailLatency = 0;
+		for (Integer next : this.downstream.getOrDefault(nodeId, List.of())) {
+			if (!visiting.contains(next)) {
+				List<Hop> tail = longestPath(next, hops, longestPaths, visiting);
+				double tailLatency = latency(tail);
+				if (longestTail.isEmpty() || tailLatency > longestTailLatency) {
+					longestTail = tail;
+					longestTailLatency = tailLatency;
+				}
+			}
+		}
+		visiting.remove(nodeId);
+		longestPath = new ArrayList<>(longestTail.size() + 1);
+		longestPath.add(hops.get(nodeId));
+		longestPath.addAll(longestTail);
+		longestPaths.put(nodeId, longestPath);
+		return longestPath;
+	}
+
+	private Hop hop(IntegrationNode node) {
+		double queueTime = 0;
+		if (node instanceof MessageChannelNode channelNode) {
+			TimerStats queueTimeStats = channelNode.getQueueTime();
+			if (queueTimeStats != null) {
+				queueTime = queueTimeStats.mean();
+			}
+		}
+		double time = 0;
+		TimerStats successes = successes(node);
+		if (successes != null && successes.count() > 0) {
+			time = successes.mean();
+			if (!(node instanceof MessageChannelNode channelNode && channelNode.isAsync())) {
+				for (Integer next : this.downstream.getOrDefault(node.getNodeId(), List.of())) {
+					TimerStats nextSuccesses = successes(this.nodesById.get(next));
+					if (nextSuccesses != null) {
+						time -= nextSuccesses.count() * nextSuccesses.mean() / successes.count();
+					}
+				}
+			}
+		}
+		return new Hop(node.getNodeId(), node.getName(), Math.max(time, 0), queueTime);
+	}
+
+	private static @Nullable TimerStats successes(@Nullable IntegrationNode node) {
+		SendTimers sendTimers = null;
+		if (node instanceof MessageChannelNode channelNode) {
+			sendTimers = channelNode.getSendTimers();
+		}
+		else if (node instanceof MessageHandlerNode handlerNode) {
+			sendTimers = handlerNode.getSendTimers();
+		}
+		else if (node instanceof MessageProducerNode producerNode) {
+			sendTimers = producerNode.getSendTimers();
+		}
+		else if (node instanceof MessageGatewayNode gatewayNode) {
+			sendTimers = gatewayNode.getSendTimers();
+		}
+		return sendTimers != null ? sendTimers.successes() : null;
+	}
+
+	private static double latency(List<Hop> path) {
+		double latency = 0;
+		for (Hop hop : path) {
+			latency += hop.time() + hop.queueTime();
+		}
+		return latency;
+	}
+
+	/**
+	 * The critical path through the flow.
+	 * @param latency the estimated end-to-end latency of the path in milliseconds.
+	 * @param hops the nodes of the path.
+	 */
+	public record CriticalPath(double latency, List<Hop> hops) {
+
+	}
+
+	/**
+	 * A node on the critical path.
+	 * @param nodeId the node id.
+	 * @param name the node name.
+	 * @param time the estimated mean processing time of the node itself in milliseconds.
+	 * @param queueTime the mean time messages wait in the (asynchronous) channel in milliseconds.
+	 */
+	public record Hop(int nodeId, String name, double time, double queueTime) {
+
+	}
+
+}
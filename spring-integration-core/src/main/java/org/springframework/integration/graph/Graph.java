@@ -17,6 +17,7 @@
 package org.springframework.integration.graph;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -25,6 +26,7 @@ import java.util.Map;
  * @param contentDescriptor the Spring Integration application attributes.
  * @param nodes the Spring Integration application endpoints.
  * @param links the Spring Integration application message channels between endpoints.
+ * @param flows the {@link org.springframework.integration.dsl.IntegrationFlow}s with their critical paths (since 7.2).
  *
  * @author Andy Clement
  * @author Gary Russell
@@ -36,6 +38,19 @@ import java.util.Map;
 public record Graph(
 		Map<String, Object> contentDescriptor,
 		Collection<IntegrationNode> nodes,
-		Collection<LinkNode> links) {
+		Collection<LinkNode> links,
+		Collection<FlowNode> flows) {
+
+	/**
+	 * Create an instance without flows.
+	 * @param contentDescriptor the Spring Integration application attributes.
+	 * @param nodes the Spring Integration application endpoints.
+	 * @param links the Spring Integration application message channels between endpoints.
+	 */
+	public Graph(Map<String, Object> contentDescriptor, Collection<IntegrationNode> nodes,
+			Collection<LinkNode> links) {
+
+		this(contentDescriptor, nodes, links, List.of());
+	}
 
 }
@@ -37,6 +37,7 @@ class IntegrationGraphRuntimeHints implements RuntimeHintsRegistrar {
 		new BindingReflectionHintsRegistrar()
 				.registerReflectionHints(hints.reflection(),
 						Graph.class,
+						FlowNode.class,
 						ErrorCapableCompositeMessageHandlerNode.class,
 						ErrorCapableDiscardingMessageHandlerNode.class,
 						ErrorCapableMessageHandlerNode.class,
@@ -20,11 +20,15 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -41,6 +45,7 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.integration.core.MessageSource;
+import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.endpoint.IntegrationConsumer;
 import org.springframework.integration.endpoint.MessageProducerSupport;
 import org.springframework.integration.endpoint.PollingConsumer;
@@ -75,7 +80,7 @@ import org.springframework.util.Assert;
 @ImportRuntimeHints(IntegrationGraphRuntimeHints.class)
 public class IntegrationGraphServer implements ApplicationContextAware, ApplicationListener<ContextRefreshedEvent> {
 
-	private static final float GRAPH_VERSION = 1.2f;
+	private static final float GRAPH_VERSION = 1.3f;
 
 	private final Lock lock = new ReentrantLock();
 
@@ -214,11 +219,12 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 		Collection<IntegrationNode> nodes = new ArrayList<>();
 		Collection<LinkNode> links = new ArrayList<>();
 		Map<String, MessageChannelNode> channelNodes = channels(nodes);
-		pollingAdapters(nodes, links, channelNodes);
-		gateways(nodes, links, channelNodes);
-		producers(nodes, links, channelNodes);
-		consumers(nodes, links, channelNodes);
-		var localGraph = new Graph(descriptor, nodes, links);
+		Map<String, IntegrationNode> nodesByBeanName = new HashMap<>(channelNodes);
+		pollingAdapters(nodes, links, channelNodes, nodesByBeanName);
+		gateways(nodes, links, channelNodes, nodesByBeanName);
+		producers(nodes, links, channelNodes, nodesByBeanName);
+		consumers(nodes, links, channelNodes, nodesByBeanName);
+		var localGraph = new Graph(descriptor, nodes, links, flows(nodesByBeanName, links));
 		this.graph = localGraph;
 		return localGraph;
 	}
@@ -240,7 +246,7 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 	}
 
 	private void pollingAdapters(Collection<IntegrationNode> nodes, Collection<LinkNode> links,
-			Map<String, MessageChannelNode> channelNodes) {
+			Map<String, MessageChannelNode> channelNodes, Map<String, IntegrationNode> nodesByBeanName) {
 
 		getBeansOfType(SourcePollingChannelAdapter.class)
 				.entrySet()
@@ -249,6 +255,7 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 					SourcePollingChannelAdapter sourceAdapter = e.getValue();
 					MessageSourceNode sourceNode = this.nodeFactory.sourceNode(e.getKey(), sourceAdapter);
 					sourceNode.addProperties(getAdditionalPropertiesIfAny(sourceAdapter));
+					nodesByBeanName.put(e.getKey(), sourceNode);
 					return sourceNode;
 				})
 				.peek(nodes::add)
@@ -256,7 +263,7 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 	}
 
 	private void gateways(Collection<IntegrationNode> nodes, Collection<LinkNode> links,
-			Map<String, MessageChannelNode> channelNodes) {
+			Map<String, MessageChannelNode> channelNodes, Map<String, IntegrationNode> nodesByBeanName) {
 
 		getBeansOfType(MessagingGatewaySupport.class)
 				.entrySet()
@@ -265,6 +272,7 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 					MessagingGatewaySupport gateway = e.getValue();
 					MessageGatewayNode gatewayNode = this.nodeFactory.gatewayNode(e.getKey(), gateway);
 					gatewayNode.addProperties(getAdditionalPropertiesIfAny(gateway));
+					nodesByBeanName.put(e.getKey(), gatewayNode);
 					return gatewayNode;
 				})
 				.peek(nodes::add)
@@ -301,7 +309,7 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 	}
 
 	private void producers(Collection<IntegrationNode> nodes, Collection<LinkNode> links,
-			Map<String, MessageChannelNode> channelNodes) {
+			Map<String, MessageChannelNode> channelNodes, Map<String, IntegrationNode> nodesByBeanName) {
 
 		getBeansOfType(MessageProducerSupport.class)
 				.entrySet()
@@ -310,6 +318,7 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 					MessageProducerSupport producer = e.getValue();
 					MessageProducerNode producerNode = this.nodeFactory.producerNode(e.getKey(), producer);
 					producerNode.addProperties(getAdditionalPropertiesIfAny(producer));
+					nodesByBeanName.put(e.getKey(), producerNode);
 					return producerNode;
 				})
 				.peek(nodes::add)
@@ -317,7 +326,7 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 	}
 
 	private void consumers(Collection<IntegrationNode> nodes, Collection<LinkNode> links,
-			Map<String, MessageChannelNode> channelNodes) {
+			Map<String, MessageChannelNode> channelNodes, Map<String, IntegrationNode> nodesByBeanName) {
 
 		getBeansOfType(IntegrationConsumer.class)
 				.entrySet()
@@ -329,6 +338,7 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 									? this.nodeFactory.polledHandlerNode(e.getKey(), pollingConsumer)
 									: this.nodeFactory.handlerNode(e.getKey(), consumer);
 					handlerNode.addProperties(getAdditionalPropertiesIfAny(consumer));
+					nodesByBeanName.put(e.getKey(), handlerNode);
 					return handlerNode;
 				})
 				.peek(nodes::add)
@@ -341,6 +351,37 @@ public class IntegrationGraphServer implements ApplicationContextAware, Applicat
 				});
 	}
 
+	private Collection<FlowNode> flows(Map<String, IntegrationNode> nodesByBeanName, Collection<LinkNode> links) {
+		Collection<FlowNode> flows = new ArrayList<>();
+		for (Entry<String, IntegrationFlow> entry : getBeansOfType(IntegrationFlow.class).entrySet()) {
+			Set<IntegrationNode> flowNodes = new LinkedHashSet<>();
+			collectFlowNodes(entry.getValue(), nodesByBeanName, flowNodes,
+					Collections.newSetFromMap(new IdentityHashMap<>()));
+			if (!flowNodes.isEmpty()) {
+				flows.add(new FlowNode(entry.getKey(), flowNodes, links));
+			}
+		}
+		return flows;
+	}
+
+	private static void collectFlowNodes(IntegrationFlow flow, Map<String, IntegrationNode> nodesByBeanName,
+			Set<IntegrationNode> flowNodes, Set<IntegrationFlow> visited) {
+
+		if (visited.add(flow)) {
+			for (Entry<Object, @Nullable String> component : flow.getIntegrationComponents().entrySet()) {
+				if (component.getKey() instanceof IntegrationFlow subFlow) {
+					collectFlowNodes(subFlow, nodesByBeanName, flowNodes, visited);
+				}
+				else if (component.getValue() != null) {
+					IntegrationNode node = nodesByBeanName.get(component.getValue());
+					if (node != null) {
+						flowNodes.add(node);
+					}
+				}
+			}
+		}
+	}
+
 	@Nullable
 	private Map<String, Object> getAdditionalPropertiesIfAny(NamedComponent namedComponent) {
 		if (this.additionalPropertiesCallback != null) {
@@ -20,7 +20,10 @@ import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.integration.channel.AbstractExecutorChannel;
+import org.springframework.integration.channel.NullChannel;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.PollableChannel;
 
 /**
  * Represents a message channel.
@@ -33,10 +36,41 @@ import org.springframework.messaging.MessageChannel;
  */
 public class MessageChannelNode extends IntegrationNode implements SendTimersAware {
 
+	private final boolean async;
+
 	private @Nullable Supplier<SendTimers> sendTimers;
 
+	private @Nullable Supplier<TimerStats> queueTime;
+
 	public MessageChannelNode(int nodeId, String name, MessageChannel channel) {
 		super(nodeId, name, channel);
+		this.async =
+				(channel instanceof PollableChannel && !(channel instanceof NullChannel))
+						|| (channel instanceof AbstractExecutorChannel executorChannel && executorChannel.isAsync());
+	}
+
+	/**
+	 * Return true if the messages sent to this channel are processed on other threads.
+	 * @return true if the channel is asynchronous.
+	 * @since 7.2
+	 */
+	public boolean isAsync() {
+		return this.async;
+	}
+
+	/**
+	 * Return the statistics for the time messages wait in this channel
+	 * (the queue or the executor) until they are processed.
+	 * @return the queue time statistics, or null for a synchronous channel.
+	 * @since 7.2
+	 */
+	@Nullable
+	public TimerStats getQueueTime() {
+		return this.queueTime != null ? this.queueTime.get() : null;
+	}
+
+	void queueTime(Supplier<TimerStats> queueTimeSupplier) {
+		this.queueTime = queueTimeSupplier;
 	}
 
 	@Nullable
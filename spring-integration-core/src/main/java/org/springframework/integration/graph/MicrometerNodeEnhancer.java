@@ -16,12 +16,15 @@
 
 package org.springframework.integration.graph;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import io.micrometer.core.instrument.search.Search;
 import io.micrometer.observation.ObservationConvention;
 import org.jspecify.annotations.Nullable;
@@ -76,6 +79,9 @@ class MicrometerNodeEnhancer {
 
 		if (node instanceof MessageChannelNode messageChannelNode) {
 			enhanceWithTimers(messageChannelNode, "channel");
+			if (messageChannelNode.isAsync()) {
+				messageChannelNode.queueTime(() -> buildTimerStats(obtainQueueTimer(messageChannelNode)));
+			}
 		}
 		else if (node instanceof MessageHandlerNode messageHandlerNode) {
 			enhanceWithTimers(messageHandlerNode, "handler");
@@ -127,6 +133,14 @@ class MicrometerNodeEnhancer {
 		}
 	}
 
+	@SuppressWarnings("NullAway") // Dataflow analysis limitation
+	private @Nullable Timer obtainQueueTimer(MessageChannelNode node) {
+		return this.registry.find(IntegrationManagement.QUEUE_TIMER_NAME)
+				.tag(TAG_TYPE, "channel")
+				.tag(TAG_NAME, node.getName())
+				.timer();
+	}
+
 	private <T extends IntegrationNode> @Nullable Timer observationTimer(T node, String type, boolean success) {
 		Search timerSearch =
 				switch (type) {
@@ -190,9 +204,17 @@ class MicrometerNodeEnhancer {
 	}
 
 	private static TimerStats buildTimerStats(@Nullable Timer timer) {
-		return timer == null
-				? ZERO_TIMER_STATS
-				: new TimerStats(timer.count(), timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS));
+		if (timer == null) {
+			return ZERO_TIMER_STATS;
+		}
+		ValueAtPercentile[] percentileValues = timer.takeSnapshot().percentileValues();
+		Map<String, Double> percentiles = new LinkedHashMap<>(percentileValues.length);
+		for (ValueAtPercentile percentileValue : percentileValues) {
+			percentiles.put(String.valueOf(percentileValue.percentile()),
+					percentileValue.value(TimeUnit.MILLISECONDS));
+		}
+		return new TimerStats(timer.count(), timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS),
+				percentiles);
 	}
 
 }
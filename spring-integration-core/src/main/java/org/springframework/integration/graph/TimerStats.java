@@ -16,12 +16,16 @@
 
 package org.springframework.integration.graph;
 
+import java.util.Map;
+
 /**
  * Statistics captured from a timer meter.
  *
  * @param count the number of times the timer was invoked
  * @param mean the mean of the timer
  * @param max the maximum of the timer
+ * @param percentiles the latency percentiles of the timer, e.g. {@code 0.99 -> 12.5},
+ * if the timer is configured to publish percentiles (since 7.2)
  *
  * @author Gary Russell
  * @author Artem Bilan
@@ -29,6 +33,16 @@ package org.springframework.integration.graph;
  * @since 5.2
  *
  */
-public record TimerStats(long count, double mean, double max) {
+public record TimerStats(long count, double mean, double max, Map<String, Double> percentiles) {
+
+	/**
+	 * Create an instance without percentiles.
+	 * @param count the number of times the timer was invoked
+	 * @param mean the mean of the timer
+	 * @param max the maximum of the timer
+	 */
+	public TimerStats(long count, double mean, double max) {
+		this(count, mean, max, Map.of());
+	}
 
 }
@@ -16,6 +16,8 @@
 
 package org.springframework.integration.handler;
 
+import java.util.concurrent.TimeUnit;
+
 import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Subscription;
@@ -23,9 +25,9 @@ import reactor.core.CoreSubscriber;
 
 import org.springframework.integration.history.MessageHistory;
 import org.springframework.integration.support.management.metrics.MetricsCaptor;
-import org.springframework.integration.support.management.metrics.SampleFacade;
 import org.springframework.integration.support.management.observation.DefaultMessageReceiverObservationConvention;
 import org.springframework.integration.support.management.observation.IntegrationObservation;
+import org.springframework.integration.support.management.observation.IntegrationObservationSampler;
 import org.springframework.integration.support.management.observation.MessageReceiverContext;
 import org.springframework.integration.support.management.observation.MessageReceiverObservationConvention;
 import org.springframework.integration.support.utils.IntegrationUtils;
@@ -59,7 +61,17 @@ public abstract class AbstractMessageHandler extends MessageHandlerSupport
 			this.logger.debug(() -> this + " received message: " + message);
 		}
 		if (isObserved()) {
-			handleWithObservation(message, getObservationRegistry());
+			ObservationRegistry observationRegistry = getObservationRegistry();
+			IntegrationObservationSampler sampler = getObservationSampler();
+			if (sampler == null) {
+				handleWithObservation(message, observationRegistry);
+			}
+			else if (sampler.isSampled(observationRegistry, message)) {
+				handleWithObservation(IntegrationObservationSampler.removeSampledHeader(message), observationRegistry);
+			}
+			else {
+				IntegrationObservationSampler.runUnsampled(() -> doHandleMessage(message));
+			}
 		}
 		else {
 			MetricsCaptor metricsCaptor = getMetricsCaptor();
@@ -82,15 +94,25 @@ public abstract class AbstractMessageHandler extends MessageHandlerSupport
 	}
 
 	private void handleWithMetrics(Message<?> message, MetricsCaptor metricsCaptor) {
-		SampleFacade sample = metricsCaptor.start();
+		boolean timed = isMetricsSampled();
+		long start = timed ? metricsCaptor.monotonicTime() : 0;
+		boolean success = false;
 		try {
 			doHandleMessage(message);
-			sample.stop(sendTimer());
+			success = true;
+			if (timed) {
+				sendTimer().record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+			}
 		}
 		catch (Exception ex) {
-			sample.stop(buildSendTimer(false, ex.getClass().getSimpleName()));
+			if (timed) {
+				exceptionTimer(ex).record(metricsCaptor.monotonicTime() - start, TimeUnit.NANOSECONDS);
+			}
 			throw ex;
 		}
+		finally {
+			incrementSendCounter(metricsCaptor, success);
+		}
 	}
 
 	private void doHandleMessage(Message<?> message) {
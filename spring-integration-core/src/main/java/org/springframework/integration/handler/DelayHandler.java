@@ -19,6 +19,7 @@ package org.springframework.integration.handler;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
@@ -47,6 +49,7 @@ import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
+import org.springframework.integration.store.ScheduledMessageGroupStore;
 import org.springframework.integration.store.SimpleMessageStore;
 import org.springframework.integration.support.management.IntegrationManagedResource;
 import org.springframework.jmx.export.annotation.ManagedResource;
@@ -95,6 +98,12 @@ import org.springframework.util.ObjectUtils;
  * After application restart the bean may get a different generated name and its delayed
  * messages might be lost from reschedule since its group is not managed
  * by the application anymore.
+ * <p>
+ * With a {@link ScheduledMessageGroupStore} and the {@link #setIndexedDueTime(boolean) indexedDueTime}
+ * option, the due time of delayed messages is persisted into the store index and a single task
+ * releases the due messages in batches, instead of a scheduled task per message.
+ * The due messages are claimed for the {@link #setReleaseLease(long) releaseLease} and removed from
+ * the store only after their release, so they are released at least once.
  *
  * @author Mark Fisher
  * @author Artem Bilan
@@ -113,6 +122,24 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 	public static final long DEFAULT_RETRY_DELAY = 1_000;
 
+	/**
+	 * The default number of due messages to poll from the store at once.
+	 * @since 7.2
+	 */
+	public static final int DEFAULT_RELEASE_BATCH_SIZE = 100;
+
+	/**
+	 * The default maximum interval in milliseconds between polls for due messages.
+	 * @since 7.2
+	 */
+	public static final long DEFAULT_RELEASE_WINDOW = 1_000;
+
+	/**
+	 * The default time in milliseconds the polled due messages are claimed for their release.
+	 * @since 7.2
+	 */
+	public static final long DEFAULT_RELEASE_LEASE = 60_000;
+
 	private final Lock lock = new ReentrantLock();
 
 	private final ConcurrentMap<String, AtomicInteger> deliveries = new ConcurrentHashMap<>();
@@ -146,6 +173,20 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 	private long retryDelay = DEFAULT_RETRY_DELAY;
 
+	private boolean indexedDueTime;
+
+	private int releaseBatchSize = DEFAULT_RELEASE_BATCH_SIZE;
+
+	private long releaseWindow = DEFAULT_RELEASE_WINDOW;
+
+	private long releaseLease = DEFAULT_RELEASE_LEASE;
+
+	private @Nullable ScheduledMessageGroupStore scheduledMessageStore;
+
+	private @Nullable ScheduledFuture<?> releaseFuture;
+
+	private long nextReleaseTime = Long.MAX_VALUE;
+
 	/**
 	 * Construct an instance with default options.
 	 * The {@link #messageGroupId} must then be provided via the setter.
@@ -311,6 +352,71 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 		this.retryDelay = retryDelay;
 	}
 
+	/**
+	 * Set to {@code true} to persist the due time of delayed messages into the index of a
+	 * {@link ScheduledMessageGroupStore} and release them in batches by a single scheduled task.
+	 * On startup, only the messages which are due are fetched from the store, instead of
+	 * the whole group, and the released messages are removed from the store in bulk.
+	 * The polled messages stay in the store until they are released, so a message is released
+	 * at least once: it is released again if the application crashes in between.
+	 * Requires the {@link #setMessageStore(MessageGroupStore) messageStore} to be a
+	 * {@link ScheduledMessageGroupStore}.
+	 * Must not be switched on for a group which already has messages stored without a due time.
+	 * @param indexedDueTime true to release messages by their indexed due time.
+	 * @since 7.2
+	 * @see #setReleaseBatchSize(int)
+	 * @see #setReleaseWindow(long)
+	 * @see #setReleaseLease(long)
+	 */
+	public void setIndexedDueTime(boolean indexedDueTime) {
+		this.indexedDueTime = indexedDueTime;
+	}
+
+	/**
+	 * Set the maximum number of due messages to poll from the store at once
+	 * in the {@link #setIndexedDueTime(boolean) indexedDueTime} mode.
+	 * Default {@value #DEFAULT_RELEASE_BATCH_SIZE}.
+	 * @param releaseBatchSize the batch size.
+	 * @since 7.2
+	 */
+	public void setReleaseBatchSize(int releaseBatchSize) {
+		Assert.isTrue(releaseBatchSize > 0, "'releaseBatchSize' must be greater than 0");
+		this.releaseBatchSize = releaseBatchSize;
+	}
+
+	/**
+	 * Set the maximum interval in milliseconds between polls for due messages
+	 * in the {@link #setIndexedDueTime(boolean) indexedDueTime} mode.
+	 * The next poll is scheduled for the earliest due time in the store, but not later than
+	 * this window, so messages stored by other instances for the same group are released
+	 * with at most this lag.
+	 * Default {@value #DEFAULT_RELEASE_WINDOW}.
+	 * @param releaseWindow the release window.
+	 * @since 7.2
+	 */
+	public void setReleaseWindow(long releaseWindow) {
+		Assert.isTrue(releaseWindow > 0, "'releaseWindow' must be greater than 0");
+		this.releaseWindow = releaseWindow;
+	}
+
+	/**
+	 * Set the time in milliseconds the due messages polled from the store are claimed for their release
+	 * in the {@link #setIndexedDueTime(boolean) indexedDueTime} mode.
+	 * The messages are removed from the store only after their release (or discarding after
+	 * the {@link #setMaxAttempts(int) maxAttempts});
+	 * if that does not happen within this time, for example, because the application has crashed,
+	 * they are polled and released again.
+	 * Must be longer than the time to release a batch of {@link #setReleaseBatchSize(int) releaseBatchSize}
+	 * messages, otherwise they can be released twice.
+	 * Default {@value #DEFAULT_RELEASE_LEASE}.
+	 * @param releaseLease the release lease.
+	 * @since 7.2
+	 */
+	public void setReleaseLease(long releaseLease) {
+		Assert.isTrue(releaseLease > 0, "'releaseLease' must be greater than 0");
+		this.releaseLease = releaseLease;
+	}
+
 	private @Nullable MessageChannel getErrorChannel() {
 		if (this.delayedMessageErrorChannel != null) {
 			return this.delayedMessageErrorChannel;
@@ -340,6 +446,16 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 			this.messageStore = new SimpleMessageStore();
 		}
 
+		if (this.indexedDueTime) {
+			if (this.messageStore instanceof ScheduledMessageGroupStore scheduledStore) {
+				this.scheduledMessageStore = scheduledStore;
+			}
+			else {
+				throw new IllegalStateException("The 'indexedDueTime' option requires a 'ScheduledMessageGroupStore', " +
+						"but provided: " + this.messageStore);
+			}
+		}
+
 		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
 		this.releaseHandler = createReleaseMessageTask();
 	}
@@ -463,6 +579,14 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 					.copyHeaders(message.getHeaders())
 					.build();
 
+			ScheduledMessageGroupStore scheduledStore = this.scheduledMessageStore;
+			if (scheduledStore != null) {
+				long dueTime = messageWrapper.getRequestDate() + delay;
+				scheduledStore.scheduleMessage(this.messageGroupId, delayedMessage, dueTime);
+				runAfterCommit(() -> scheduleDueMessagesRelease(scheduledStore, dueTime));
+				return;
+			}
+
 			this.lock.lock();
 			try {
 				this.messageStore.addMessageToGroup(this.messageGroupId, delayedMessage);
@@ -474,7 +598,10 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 		Runnable releaseTask = releaseTaskForMessage(delayedMessage);
 		Instant startTime = Instant.ofEpochMilli(messageWrapper.getRequestDate()).plusMillis(delay);
+		runAfterCommit(() -> getTaskScheduler().schedule(releaseTask, startTime));
+	}
 
+	private static void runAfterCommit(Runnable task) {
 		if (TransactionSynchronizationManager.isSynchronizationActive() &&
 				TransactionSynchronizationManager.isActualTransactionActive()) {
 
@@ -483,16 +610,95 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 						@Override
 						public void afterCommit() {
-							getTaskScheduler().schedule(releaseTask, startTime);
+							task.run();
 						}
 
 					});
 		}
 		else {
-			getTaskScheduler().schedule(releaseTask, startTime);
+			task.run();
 		}
 	}
 
+	/**
+	 * Schedule the release task for the provided time, unless there is one already
+	 * scheduled for an earlier time.
+	 */
+	private void scheduleDueMessagesRelease(ScheduledMessageGroupStore scheduledStore, long releaseTime) {
+		this.lock.lock();
+		try {
+			if (releaseTime < this.nextReleaseTime) {
+				ScheduledFuture<?> future = this.releaseFuture;
+				if (future != null) {
+					future.cancel(false);
+				}
+				this.nextReleaseTime = releaseTime;
+				this.releaseFuture =
+						getTaskScheduler().schedule(() -> releaseDueMessages(scheduledStore),
+								Instant.ofEpochMilli(releaseTime));
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void releaseDueMessages(ScheduledMessageGroupStore scheduledStore) {
+		this.lock.lock();
+		try {
+			this.nextReleaseTime = Long.MAX_VALUE;
+			this.releaseFuture = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		long releaseTime = Long.MAX_VALUE;
+		try {
+			List<Message<?>> dueMessages;
+			do {
+				dueMessages = pollDueMessages(scheduledStore);
+				List<UUID> settledMessageIds = new ArrayList<>(dueMessages.size());
+				for (Message<?> message : dueMessages) {
+					UUID messageId = Objects.requireNonNull(message.getHeaders().getId());
+					try {
+						releaseMessage(message);
+					}
+					catch (Exception ex) {
+						logger.error(ex, () -> "Failed to release message: " + message);
+					}
+					// No delivery attempts left: the message has been released, handled by the error flow
+					// or discarded; otherwise it has been scheduled for retry, or stays claimed
+					// by the lease to be released again if the retry could not be scheduled
+					if (!this.deliveries.containsKey(messageId.toString())) {
+						settledMessageIds.add(messageId);
+					}
+				}
+				if (!settledMessageIds.isEmpty()) {
+					scheduledStore.removeScheduledMessages(this.messageGroupId, settledMessageIds);
+				}
+			}
+			while (dueMessages.size() == this.releaseBatchSize);
+
+			Long nextDueTime = scheduledStore.getNextDueTime(this.messageGroupId);
+			if (nextDueTime != null) {
+				releaseTime = nextDueTime;
+			}
+		}
+		catch (Exception ex) {
+			logger.error(ex, () -> "Failed to release due messages for group: " + this.messageGroupId);
+		}
+		finally {
+			scheduleDueMessagesRelease(scheduledStore,
+					Math.min(releaseTime, System.currentTimeMillis() + this.releaseWindow));
+		}
+	}
+
+	private List<Message<?>> pollDueMessages(ScheduledMessageGroupStore scheduledStore) {
+		long now = System.currentTimeMillis();
+		return scheduledStore.pollDueMessages(this.messageGroupId, now, this.releaseBatchSize, now + this.releaseLease);
+	}
+
 	private Runnable releaseTaskForMessage(Message<?> delayedMessage) {
 		if (this.messageStore instanceof SimpleMessageStore) {
 			return () -> releaseMessage(delayedMessage);
@@ -529,7 +735,11 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 	}
 
 	private void releaseMessage(Message<?> message) {
-		String identity = ObjectUtils.getIdentityHexString(message);
+		// The messages polled from the scheduled store are new instances for every release attempt
+		String identity =
+				this.scheduledMessageStore != null
+						? Objects.requireNonNull(message.getHeaders().getId()).toString()
+						: ObjectUtils.getIdentityHexString(message);
 		this.deliveries.putIfAbsent(identity, new AtomicInteger());
 		try {
 			this.releaseHandler.handleMessage(message);
@@ -585,12 +795,25 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 	}
 
 	protected void rescheduleAt(Message<?> message, Date startTime) {
-		Runnable releaseTask = releaseTaskForMessage(message);
-		getTaskScheduler().schedule(releaseTask, startTime.toInstant());
+		ScheduledMessageGroupStore scheduledStore = this.scheduledMessageStore;
+		if (scheduledStore != null) {
+			scheduledStore.scheduleMessage(this.messageGroupId, message, startTime.getTime());
+			scheduleDueMessagesRelease(scheduledStore, startTime.getTime());
+		}
+		else {
+			Runnable releaseTask = releaseTaskForMessage(message);
+			getTaskScheduler().schedule(releaseTask, startTime.toInstant());
+		}
 	}
 
 	@SuppressWarnings("NullAway") // critical path
 	private void doReleaseMessage(Message<?> message) {
+		if (this.scheduledMessageStore != null) {
+			// Removed from the store in bulk after the release
+			handleMessageInternal(message);
+			return;
+		}
+
 		boolean removed;
 		this.lock.lock();
 		try {
@@ -611,6 +834,10 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 
 	@Override
 	public int getDelayedMessageCount() {
+		ScheduledMessageGroupStore scheduledStore = this.scheduledMessageStore;
+		if (scheduledStore != null) {
+			return scheduledStore.getScheduledMessageCount(this.messageGroupId);
+		}
 		this.lock.lock();
 		try {
 			return this.messageStore.messageGroupSize(this.messageGroupId);
@@ -625,9 +852,17 @@ public class DelayHandler extends AbstractReplyProducingMessageHandler implement
 	 * upon application restart. The logic is based on iteration over
 	 * {@code messageGroup.getMessages()} and schedules a task for 'delay' logic. This
 	 * behavior is dictated by the avoidance of invocation thread overload.
+	 * In the {@link #setIndexedDueTime(boolean) indexedDueTime} mode, the group is not loaded:
+	 * only a task to release the due messages in batches is scheduled.
 	 */
 	@Override
 	public void reschedulePersistedMessages() {
+		ScheduledMessageGroupStore scheduledStore = this.scheduledMessageStore;
+		if (scheduledStore != null) {
+			scheduleDueMessagesRelease(scheduledStore, System.currentTimeMillis());
+			return;
+		}
+
 		this.lock.lock();
 		try {
 			MessageGroup messageGroup = this.messageStore.getMessageGroup(this.messageGroupId);
@@ -16,8 +16,10 @@
 
 package org.springframework.integration.handler;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
@@ -32,7 +34,9 @@ import org.springframework.integration.support.management.IntegrationManagement;
 import org.springframework.integration.support.management.TrackableComponent;
 import org.springframework.integration.support.management.metrics.MeterFacade;
 import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.SendCounters;
 import org.springframework.integration.support.management.metrics.TimerFacade;
+import org.springframework.integration.support.management.observation.IntegrationObservationSampler;
 import org.springframework.util.Assert;
 
 /**
@@ -59,6 +63,8 @@ public abstract class MessageHandlerSupport extends IntegrationObjectSupport
 
 	private final Set<TimerFacade> timers = ConcurrentHashMap.newKeySet();
 
+	private final Map<Class<?>, TimerFacade> exceptionTimers = new ConcurrentHashMap<>();
+
 	private boolean shouldTrack = false;
 
 	private boolean loggingEnabled = true;
@@ -67,6 +73,8 @@ public abstract class MessageHandlerSupport extends IntegrationObjectSupport
 
 	private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
+	private @Nullable IntegrationObservationSampler observationSampler;
+
 	private int order = Ordered.LOWEST_PRECEDENCE;
 
 	private @Nullable String managedName;
@@ -75,6 +83,10 @@ public abstract class MessageHandlerSupport extends IntegrationObjectSupport
 
 	private @Nullable TimerFacade successTimer;
 
+	private final SendCounters sendCounters = new SendCounters("handler", this::getComponentName);
+
+	private int metricsSampleRate = 1;
+
 	@Override
 	public boolean isLoggingEnabled() {
 		return this.loggingEnabled;
@@ -95,6 +107,28 @@ public abstract class MessageHandlerSupport extends IntegrationObjectSupport
 		return this.metricsCaptor;
 	}
 
+	@Override
+	public void setMetricsSampleRate(int metricsSampleRate) {
+		Assert.isTrue(metricsSampleRate > 0, "'metricsSampleRate' must be greater than 0");
+		this.metricsSampleRate = metricsSampleRate;
+		this.managementOverrides.metricsSampleRateConfigured = true;
+	}
+
+	@Override
+	public int getMetricsSampleRate() {
+		return this.metricsSampleRate;
+	}
+
+	/**
+	 * Determine whether the current operation has to be timed according to the
+	 * {@link #setMetricsSampleRate(int) metricsSampleRate}.
+	 * @return true if the operation has to be timed.
+	 * @since 7.2
+	 */
+	protected boolean isMetricsSampled() {
+		return this.metricsSampleRate == 1 || ThreadLocalRandom.current().nextInt(this.metricsSampleRate) == 0;
+	}
+
 	@Override
 	public void registerObservationRegistry(ObservationRegistry observationRegistry) {
 		Assert.notNull(observationRegistry, "'observationRegistry' must not be null");
@@ -110,6 +144,21 @@ public abstract class MessageHandlerSupport extends IntegrationObjectSupport
 		return this.observationRegistry;
 	}
 
+	@Override
+	public void registerObservationSampler(IntegrationObservationSampler observationSampler) {
+		Assert.notNull(observationSampler, "'observationSampler' must not be null");
+		this.observationSampler = observationSampler;
+	}
+
+	/**
+	 * Return the {@link IntegrationObservationSampler} if the observations of this component are sampled.
+	 * @return the sampler or null.
+	 * @since 7.2
+	 */
+	protected @Nullable IntegrationObservationSampler getObservationSampler() {
+		return this.observationSampler;
+	}
+
 	@Override
 	public void setOrder(int order) {
 		this.order = order;
@@ -151,6 +200,30 @@ public abstract class MessageHandlerSupport extends IntegrationObjectSupport
 		return this.successTimer;
 	}
 
+	/**
+	 * Return the failure timer for the exception class, building it on the first call.
+	 * @param exception the exception.
+	 * @return the timer.
+	 * @since 7.2
+	 */
+	protected TimerFacade exceptionTimer(Exception exception) {
+		return this.exceptionTimers.computeIfAbsent(exception.getClass(),
+				(exceptionClass) -> buildSendTimer(false, exceptionClass.getSimpleName()));
+	}
+
+	/**
+	 * Increment the unsampled {@link #SEND_COUNTER_NAME} counter if the
+	 * {@link #setMetricsSampleRate(int) metricsSampleRate} is greater than 1.
+	 * @param metricsCaptor the metrics captor.
+	 * @param success whether the operation was successful.
+	 * @since 7.2
+	 */
+	protected void incrementSendCounter(MetricsCaptor metricsCaptor, boolean success) {
+		if (this.metricsSampleRate > 1) {
+			this.sendCounters.increment(metricsCaptor, success);
+		}
+	}
+
 	@SuppressWarnings("NullAway") // dataflow analysis limitation
 	protected TimerFacade buildSendTimer(boolean success, String exception) {
 		TimerFacade timer = this.metricsCaptor.timerBuilder(SEND_TIMER_NAME)
@@ -184,6 +257,8 @@ public abstract class MessageHandlerSupport extends IntegrationObjectSupport
 	public void destroy() {
 		this.timers.forEach(MeterFacade::remove);
 		this.timers.clear();
+		this.exceptionTimers.clear();
+		this.sendCounters.remove();
 	}
 
 }
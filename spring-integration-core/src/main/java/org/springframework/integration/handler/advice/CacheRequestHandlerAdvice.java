@@ -17,14 +17,24 @@
 package org.springframework.integration.handler.advice;
 
 import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.interceptor.CacheAspectSupport;
@@ -36,14 +46,22 @@ import org.springframework.cache.interceptor.CachePutOperation;
 import org.springframework.cache.interceptor.CacheResolver;
 import org.springframework.cache.interceptor.CacheableOperation;
 import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.expression.FunctionExpression;
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.integration.support.management.IntegrationManagement;
+import org.springframework.integration.support.management.metrics.CounterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.metrics.SampleFacade;
+import org.springframework.integration.support.management.metrics.TimerFacade;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 
@@ -53,6 +71,13 @@ import org.springframework.util.ReflectionUtils;
  * Supports all the cache operations - cacheable, put, evict.
  * By default, only cacheable is applied for the provided {@code cacheNames}.
  * The default cache {@code key} is {@code payload} of the request message.
+ * <p>
+ * Starting with version 7.2, this advice can also provide a read-through layer
+ * on top of the cache operations: {@link #setSingleFlight(boolean) single-flight}
+ * loading per key, {@link #setRefreshAfter(Duration) asynchronous refresh-ahead},
+ * {@link #setFailureTimeToLive(Duration) negative caching of failures}, and
+ * hit, miss and load time metrics published through the {@link MetricsCaptor}.
+ * These features use the key evaluated by the {@link #setKeyExpression(Expression)}.
  *
  * @author Artem Bilan
  * @author Ngoc Nhan
@@ -63,7 +88,7 @@ import org.springframework.util.ReflectionUtils;
  * @see CacheOperation
  */
 public class CacheRequestHandlerAdvice extends AbstractRequestHandlerAdvice
-		implements SmartInitializingSingleton {
+		implements SmartInitializingSingleton, DisposableBean {
 
 	@SuppressWarnings("NullAway.Init")
 	private static final Method HANDLE_REQUEST_METHOD;
@@ -87,14 +112,49 @@ public class CacheRequestHandlerAdvice extends AbstractRequestHandlerAdvice
 		}
 	}
 
+	private static final String CACHE_METER_NAME = IntegrationManagement.METER_PREFIX + "cache";
+
 	private final IntegrationCacheAspect delegate = new IntegrationCacheAspect();
 
+	private final IntegrationCacheAspect refreshDelegate = new IntegrationCacheAspect();
+
 	private final String @Nullable [] cacheNames;
 
 	private final List<CacheOperation> cacheOperations = new ArrayList<>(3);
 
+	private final Map<Object, CompletableFuture<@Nullable Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+	private final Map<Object, Long> loadTimes = new ConcurrentReferenceHashMap<>();
+
+	private final Map<Object, FailedLoad> failedLoads = new ConcurrentReferenceHashMap<>();
+
+	private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
 	private Expression keyExpression = new FunctionExpression<Message<?>>(Message::getPayload);
 
+	private boolean singleFlight;
+
+	private @Nullable Duration refreshAfter;
+
+	private Executor refreshExecutor = new SimpleAsyncTaskExecutor("cache-refresh-");
+
+	private @Nullable Duration failureTimeToLive;
+
+	private Clock clock = Clock.systemUTC();
+
+	private @Nullable MetricsCaptor metricsCaptor;
+
+	@SuppressWarnings("NullAway.Init")
+	private EvaluationContext evaluationContext;
+
+	private boolean refreshSupported;
+
+	private @Nullable CounterFacade hitCounter;
+
+	private @Nullable CounterFacade missCounter;
+
+	private @Nullable TimerFacade loadTimer;
+
 	/**
 	 * Create a {@link CacheRequestHandlerAdvice} instance based on the provided name of caches
 	 * and {@link CacheableOperation} as default one.
@@ -130,6 +190,7 @@ public class CacheRequestHandlerAdvice extends AbstractRequestHandlerAdvice
 	 */
 	public void setCacheManager(CacheManager cacheManager) {
 		this.delegate.setCacheManager(cacheManager);
+		this.refreshDelegate.setCacheManager(cacheManager);
 	}
 
 	/**
@@ -140,6 +201,7 @@ public class CacheRequestHandlerAdvice extends AbstractRequestHandlerAdvice
 	 */
 	public void setCacheResolver(CacheResolver cacheResolver) {
 		this.delegate.setCacheResolver(cacheResolver);
+		this.refreshDelegate.setCacheResolver(cacheResolver);
 	}
 
 	/**
@@ -151,6 +213,7 @@ public class CacheRequestHandlerAdvice extends AbstractRequestHandlerAdvice
 	public void setErrorHandler(CacheErrorHandler errorHandler) {
 		Assert.notNull(errorHandler, "'errorHandler' must not be null");
 		this.delegate.setErrorHandler(errorHandler);
+		this.refreshDelegate.setErrorHandler(errorHandler);
 	}
 
 	/**
@@ -183,9 +246,84 @@ public class CacheRequestHandlerAdvice extends AbstractRequestHandlerAdvice
 		this.keyExpression = keyExpression;
 	}
 
+	/**
+	 * Set to true to let only one thread invoke the handler for the same cache key on a cache miss;
+	 * other threads requesting the same key wait for and share its result (or failure).
+	 * Defaults to false.
+	 * @param singleFlight true to enable single-flight loading.
+	 * @since 7.2
+	 */
+	public void setSingleFlight(boolean singleFlight) {
+		this.singleFlight = singleFlight;
+	}
+
+	/**
+	 * Set a duration after the last load of a key when a cache hit for this key triggers
+	 * an asynchronous reload of the cached value (refresh-ahead).
+	 * Set it less than the cache expiration to avoid hot keys expiring under load.
+	 * Only applied to the {@link CacheableOperation}s: the reloaded value is put
+	 * into their caches.
+	 * The refresh is not performed for keys loaded by other application instances.
+	 * @param refreshAfter the duration after load to refresh a value.
+	 * @since 7.2
+	 * @see #setRefreshExecutor(Executor)
+	 */
+	public void setRefreshAfter(@Nullable Duration refreshAfter) {
+		this.refreshAfter = refreshAfter;
+	}
+
+	/**
+	 * Set an {@link Executor} for refresh-ahead reloads.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param refreshExecutor the {@link Executor} to use.
+	 * @since 7.2
+	 * @see #setRefreshAfter(Duration)
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+		Assert.notNull(refreshExecutor, "'refreshExecutor' must not be null");
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Set a time-to-live for handler failures to be cached locally per key (negative caching).
+	 * During this time, a cache miss for the key re-throws the cached exception
+	 * instead of calling the handler.
+	 * Not cached by default.
+	 * @param failureTimeToLive the time to keep failures.
+	 * @since 7.2
+	 */
+	public void setFailureTimeToLive(@Nullable Duration failureTimeToLive) {
+		this.failureTimeToLive = failureTimeToLive;
+	}
+
+	/**
+	 * Set a {@link Clock} to track the {@link #setRefreshAfter(Duration) refreshAfter}
+	 * and {@link #setFailureTimeToLive(Duration) failureTimeToLive} durations.
+	 * Defaults to {@link Clock#systemUTC()}.
+	 * @param clock the {@link Clock} to use.
+	 * @since 7.2
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "'clock' must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Set a {@link MetricsCaptor} for hit, miss and load time metrics.
+	 * If not provided, a unique {@link MetricsCaptor} bean is used from the application context, if any.
+	 * @param metricsCaptor the {@link MetricsCaptor} to use.
+	 * @since 7.2
+	 */
+	public void setMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.metricsCaptor = metricsCaptor;
+	}
+
 	@Override
 	public void afterSingletonsInstantiated() {
 		this.delegate.afterSingletonsInstantiated();
+		if (this.refreshSupported) {
+			this.refreshDelegate.afterSingletonsInstantiated();
+		}
 	}
 
 	@Override
@@ -243,33 +381,222 @@ public class CacheRequestHandlerAdvice extends AbstractRequestHandlerAdvice
 
 		BeanFactory beanFactory = getBeanFactory();
 		this.delegate.setBeanFactory(beanFactory);
-		EvaluationContext evaluationContext = ExpressionUtils.createStandardEvaluationContext(beanFactory);
-		KeyGenerator keyGenerator = (target, method, params) -> {
-			Object key = this.keyExpression.getValue(evaluationContext, params[0]);
-			Assert.state(key != null, "the cache key evaluated from the KeyExpression must not be null");
-			return key;
-		};
+		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(beanFactory);
+		KeyGenerator keyGenerator = (target, method, params) -> evaluateKey((Message<?>) params[0]);
 		this.delegate.setKeyGenerator(keyGenerator);
 		this.delegate.setCacheOperationSources((method, targetClass) -> cacheOperationsToUse);
 		this.delegate.afterPropertiesSet();
 
+		if (this.refreshAfter != null) {
+			List<CacheOperation> refreshOperations = toRefreshOperations(cacheOperationsToUse);
+			this.refreshSupported = !refreshOperations.isEmpty();
+			if (this.refreshSupported) {
+				this.refreshDelegate.setBeanFactory(beanFactory);
+				this.refreshDelegate.setKeyGenerator(keyGenerator);
+				this.refreshDelegate.setCacheOperationSources((method, targetClass) -> refreshOperations);
+				this.refreshDelegate.afterPropertiesSet();
+			}
+		}
+
+		registerMeters(beanFactory);
+	}
+
+	private static List<CacheOperation> toRefreshOperations(List<CacheOperation> cacheOperations) {
+		return cacheOperations.stream()
+				.filter(CacheableOperation.class::isInstance)
+				.map((operation) -> {
+					CacheableOperation cacheableOperation = (CacheableOperation) operation;
+					CachePutOperation.Builder builder = new CachePutOperation.Builder();
+					String unless = cacheableOperation.getUnless();
+					if (unless != null) {
+						builder.setUnless(unless);
+					}
+					builder.setName(operation.getName());
+					builder.setCacheManager(operation.getCacheManager());
+					builder.setCacheNames(operation.getCacheNames().toArray(new String[0]));
+					builder.setCacheResolver(operation.getCacheResolver());
+					builder.setCondition(operation.getCondition());
+					builder.setKey(operation.getKey());
+					builder.setKeyGenerator(operation.getKeyGenerator());
+					return (CacheOperation) builder.build();
+				})
+				.toList();
+	}
+
+	private void registerMeters(BeanFactory beanFactory) {
+		MetricsCaptor metricsCaptorToUse = this.metricsCaptor;
+		if (metricsCaptorToUse == null) {
+			metricsCaptorToUse = beanFactory.getBeanProvider(MetricsCaptor.class).getIfUnique();
+		}
+		if (metricsCaptorToUse != null) {
+			String name = getComponentName();
+			if (name == null) {
+				name = getClass().getSimpleName();
+			}
+			this.hitCounter =
+					metricsCaptorToUse.counterBuilder(CACHE_METER_NAME)
+							.tag("name", name)
+							.tag("result", "hit")
+							.description("Cache hits for the request handler advice")
+							.build();
+			this.missCounter =
+					metricsCaptorToUse.counterBuilder(CACHE_METER_NAME)
+							.tag("name", name)
+							.tag("result", "miss")
+							.description("Cache misses for the request handler advice")
+							.build();
+			this.loadTimer =
+					metricsCaptorToUse.timerBuilder(CACHE_METER_NAME + ".load")
+							.tag("name", name)
+							.description("Handler invocation time on cache misses and refreshes")
+							.build();
+			this.metricsCaptor = metricsCaptorToUse;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (this.hitCounter != null) {
+			this.hitCounter.remove();
+		}
+		if (this.missCounter != null) {
+			this.missCounter.remove();
+		}
+		if (this.loadTimer != null) {
+			this.loadTimer.remove();
+		}
+	}
+
+	private Object evaluateKey(Message<?> message) {
+		Object key = this.keyExpression.getValue(this.evaluationContext, message);
+		Assert.state(key != null, "the cache key evaluated from the KeyExpression must not be null");
+		return key;
 	}
 
 	@Override
 	protected @Nullable Object doInvoke(ExecutionCallback callback, Object target, Message<?> message) {
+		boolean readThrough = this.singleFlight || this.failureTimeToLive != null || this.refreshSupported;
+		Object key = readThrough ? evaluateKey(message) : null;
+		boolean[] loaded = new boolean[1];
 		CacheOperationInvoker operationInvoker =
 				() -> {
-					Object result = callback.execute();
-					// Drop MessageBuilder optimization in favor of Serializable support in cache implementation.
-					if (result instanceof AbstractIntegrationMessageBuilder<?>) {
-						return ((AbstractIntegrationMessageBuilder<?>) result).build();
-					}
-					else {
-						return result;
-					}
+					loaded[0] = true;
+					return key != null ? load(callback::execute, key) : timedLoad(callback::execute, null);
 				};
 
-		return this.delegate.invoke(operationInvoker, target, message);
+		Object result = this.delegate.invoke(operationInvoker, target, message);
+
+		CounterFacade counter = loaded[0] ? this.missCounter : this.hitCounter;
+		if (counter != null) {
+			counter.increment();
+		}
+		if (!loaded[0] && key != null && this.refreshSupported) {
+			refreshIfNecessary(callback, target, message, key);
+		}
+		return result;
+	}
+
+	private @Nullable Object load(Supplier<@Nullable Object> handlerCall, Object key) {
+		FailedLoad failedLoad = this.failedLoads.get(key);
+		if (failedLoad != null) {
+			if (failedLoad.expiresAt() > this.clock.millis()) {
+				throw failedLoad.exception();
+			}
+			this.failedLoads.remove(key, failedLoad);
+		}
+
+		if (!this.singleFlight) {
+			return timedLoad(handlerCall, key);
+		}
+
+		CompletableFuture<@Nullable Object> ourLoad = new CompletableFuture<>();
+		CompletableFuture<@Nullable Object> inFlightLoad = this.inFlightLoads.putIfAbsent(key, ourLoad);
+		if (inFlightLoad != null) {
+			try {
+				return inFlightLoad.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw ex;
+			}
+		}
+		try {
+			Object result = timedLoad(handlerCall, key);
+			ourLoad.complete(result);
+			return result;
+		}
+		catch (RuntimeException ex) {
+			ourLoad.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightLoads.remove(key, ourLoad);
+		}
+	}
+
+	private @Nullable Object timedLoad(Supplier<@Nullable Object> handlerCall, @Nullable Object key) {
+		MetricsCaptor metricsCaptorToUse = this.metricsCaptor;
+		SampleFacade sample = metricsCaptorToUse != null && this.loadTimer != null ? metricsCaptorToUse.start() : null;
+		try {
+			Object result = handlerCall.get();
+			if (key != null) {
+				this.loadTimes.put(key, this.clock.millis());
+				this.failedLoads.remove(key);
+			}
+			// Drop MessageBuilder optimization in favor of Serializable support in cache implementation.
+			if (result instanceof AbstractIntegrationMessageBuilder<?>) {
+				return ((AbstractIntegrationMessageBuilder<?>) result).build();
+			}
+			else {
+				return result;
+			}
+		}
+		catch (RuntimeException ex) {
+			Duration timeToLive = this.failureTimeToLive;
+			if (key != null && timeToLive != null) {
+				this.failedLoads.put(key, new FailedLoad(ex, this.clock.millis() + timeToLive.toMillis()));
+			}
+			throw ex;
+		}
+		finally {
+			if (sample != null && this.loadTimer != null) {
+				sample.stop(this.loadTimer);
+			}
+		}
+	}
+
+	private void refreshIfNecessary(ExecutionCallback callback, Object target, Message<?> message, Object key) {
+		Long loadedAt = this.loadTimes.get(key);
+		Duration refreshAfterToUse = this.refreshAfter;
+		if (loadedAt == null || refreshAfterToUse == null
+				|| this.clock.millis() - loadedAt < refreshAfterToUse.toMillis()
+				|| !this.refreshingKeys.add(key)) {
+
+			return;
+		}
+		try {
+			this.refreshExecutor.execute(() -> {
+				try {
+					this.refreshDelegate.invoke(() -> timedLoad(callback::cloneAndExecute, key), target, message);
+				}
+				catch (Exception ex) {
+					this.logger.debug(ex, () -> "Failed to refresh the cache entry for key: " + key);
+				}
+				finally {
+					this.refreshingKeys.remove(key);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.refreshingKeys.remove(key);
+			throw new MessagingException(message, "Failed to schedule a cache refresh", ex);
+		}
+	}
+
+	private record FailedLoad(RuntimeException exception, long expiresAt) {
+
 	}
 
 	private static class IntegrationCacheAspect extends CacheAspectSupport {
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler.advice;
+
+import java.io.Serial;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.integration.support.management.IntegrationManagement;
+import org.springframework.integration.support.management.metrics.GaugeFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AbstractRequestHandlerAdvice} extension for adaptive concurrency limiting
+ * of the service method calls.
+ * <p>
+ * The limit of concurrent calls is adjusted after every call by a gradient algorithm
+ * (similar to the TCP Vegas congestion control): a long-term exponential moving average
+ * of the call latency is compared to the latency of the current call.
+ * While the latency does not grow (within the {@link #setTolerance(double) tolerance}),
+ * the limit is increased by the square root of the current limit;
+ * when the latency grows because of downstream queueing, the limit is reduced
+ * proportionally, but no more than by half per sample.
+ * The limit is not increased while the advised handler is not utilizing at least
+ * half of the current limit.
+ * <p>
+ * The calls in excess of the current limit are rejected with a
+ * {@link ConcurrencyLimitExceededException} by default, or wait for a permit
+ * up to the {@link #setMaxWaitTime(Duration) maxWaitTime}.
+ * <p>
+ * The current limit and the in-flight number of calls are exposed as the
+ * {@code spring.integration.concurrency.limit} and {@code spring.integration.concurrency.inflight}
+ * gauges (tagged with the {@code name} of this advice) when a {@link MetricsCaptor} is available.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class ConcurrencyLimitRequestHandlerAdvice extends AbstractRequestHandlerAdvice implements DisposableBean {
+
+	private static final double MIN_GRADIENT = 0.5;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Condition permitReleased = this.lock.newCondition();
+
+	private int minLimit = 1;
+
+	private int maxLimit = 200; // NOSONAR magic number
+
+	private double smoothing = 0.2; // NOSONAR magic number
+
+	private double tolerance = 1.5; // NOSONAR magic number
+
+	private double longLatencyFactor = 2.0 / (600 + 1); // NOSONAR magic number
+
+	private long maxWaitNanos;
+
+	private @Nullable MetricsCaptor metricsCaptor;
+
+	private Clock clock = Clock.systemUTC();
+
+	private volatile double limit = 20; // NOSONAR magic number
+
+	private volatile int inFlight;
+
+	private double longLatency;
+
+	private @Nullable GaugeFacade limitGauge;
+
+	private @Nullable GaugeFacade inFlightGauge;
+
+	/**
+	 * Set the initial concurrency limit.
+	 * Defaults to 20.
+	 * @param initialLimit the initial limit.
+	 */
+	public void setInitialLimit(int initialLimit) {
+		Assert.isTrue(initialLimit > 0, "'initialLimit' must be greater than 0");
+		this.limit = initialLimit;
+	}
+
+	/**
+	 * Set the minimum concurrency limit.
+	 * Defaults to 1.
+	 * @param minLimit the minimum limit.
+	 */
+	public void setMinLimit(int minLimit) {
+		Assert.isTrue(minLimit > 0, "'minLimit' must be greater than 0");
+		this.minLimit = minLimit;
+	}
+
+	/**
+	 * Set the maximum concurrency limit.
+	 * Defaults to 200.
+	 * @param maxLimit the maximum limit.
+	 */
+	public void setMaxLimit(int maxLimit) {
+		Assert.isTrue(maxLimit > 0, "'maxLimit' must be greater than 0");
+		this.maxLimit = maxLimit;
+	}
+
+	/**
+	 * Set the factor of the current call latency relatively to the long-term latency
+	 * which is still not considered as a sign of overload.
+	 * Defaults to 1.5.
+	 * @param tolerance the latency tolerance; must be at least 1.
+	 */
+	public void setTolerance(double tolerance) {
+		Assert.isTrue(tolerance >= 1, "'tolerance' must be greater than or equal to 1");
+		this.tolerance = tolerance;
+	}
+
+	/**
+	 * Set the weight of a new limit estimation in the current limit.
+	 * Defaults to 0.2.
+	 * @param smoothing the smoothing factor; between 0 exclusive and 1 inclusive.
+	 */
+	public void setSmoothing(double smoothing) {
+		Assert.isTrue(smoothing > 0 && smoothing <= 1, "'smoothing' must be between 0 exclusive and 1 inclusive");
+		this.smoothing = smoothing;
+	}
+
+	/**
+	 * Set the number of the latency samples to consider for the long-term latency
+	 * exponential moving average.
+	 * Defaults to 600.
+	 * @param longLatencyWindow the number of samples.
+	 */
+	public void setLongLatencyWindow(int longLatencyWindow) {
+		Assert.isTrue(longLatencyWindow > 0, "'longLatencyWindow' must be greater than 0");
+		this.longLatencyFactor = 2.0 / (longLatencyWindow + 1);
+	}
+
+	/**
+	 * Set the maximum time for a call to wait for a permit when the limit is reached.
+	 * Defaults to {@link Duration#ZERO} - reject the call immediately.
+	 * @param maxWaitTime the maximum time to wait.
+	 */
+	public void setMaxWaitTime(Duration maxWaitTime) {
+		Assert.isTrue(!maxWaitTime.isNegative(), "'maxWaitTime' must not be negative");
+		this.maxWaitNanos = maxWaitTime.toNanos();
+	}
+
+	/**
+	 * Set a {@link Clock} to measure the latency of the calls.
+	 * Defaults to {@link Clock#systemUTC()}.
+	 * @param clock the {@link Clock} to use.
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "'clock' must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Set a {@link MetricsCaptor} for the limit and in-flight gauges.
+	 * If not provided, a unique {@link MetricsCaptor} bean is used from the application context, if any.
+	 * @param metricsCaptor the {@link MetricsCaptor} to use.
+	 */
+	public void setMetricsCaptor(MetricsCaptor metricsCaptor) {
+		this.metricsCaptor = metricsCaptor;
+	}
+
+	/**
+	 * Return the current concurrency limit.
+	 * @return the limit.
+	 */
+	public int getLimit() {
+		return (int) this.limit;
+	}
+
+	/**
+	 * Return the current number of calls in the advised handler.
+	 * @return the number of in-flight calls.
+	 */
+	public int getInFlight() {
+		return this.inFlight;
+	}
+
+	@Override
+	protected void onInit() {
+		super.onInit();
+		Assert.state(this.minLimit <= this.maxLimit, "'minLimit' must not be greater than 'maxLimit'");
+		this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, this.limit));
+		MetricsCaptor metricsCaptorToUse = this.metricsCaptor;
+		if (metricsCaptorToUse == null && getBeanFactory() != null) {
+			metricsCaptorToUse = getBeanFactory().getBeanProvider(MetricsCaptor.class).getIfUnique();
+		}
+		if (metricsCaptorToUse != null) {
+			String name = getComponentName();
+			if (name == null) {
+				name = getClass().getSimpleName();
+			}
+			this.limitGauge =
+					metricsCaptorToUse.gaugeBuilder(IntegrationManagement.METER_PREFIX + "concurrency.limit", this,
+									(advice) -> ((ConcurrencyLimitRequestHandlerAdvice) advice).getLimit())
+							.tag("name", name)
+							.description("The current concurrency limit")
+							.build();
+			this.inFlightGauge =
+					metricsCaptorToUse.gaugeBuilder(IntegrationManagement.METER_PREFIX + "concurrency.inflight", this,
+									(advice) -> ((ConcurrencyLimitRequestHandlerAdvice) advice).getInFlight())
+							.tag("name", name)
+							.description("The current number of in-flight calls")
+							.build();
+		}
+	}
+
+	@Override
+	protected @Nullable Object doInvoke(ExecutionCallback callback, Object target, Message<?> message) {
+		int inFlightAtStart = acquire(target, message);
+		Instant start = this.clock.instant();
+		try {
+			return callback.execute();
+		}
+		finally {
+			release(Duration.between(start, this.clock.instant()).toNanos(), inFlightAtStart);
+		}
+	}
+
+	private int acquire(Object target, Message<?> message) {
+		this.lock.lock();
+		try {
+			long remainingNanos = this.maxWaitNanos;
+			while (this.inFlight >= (int) this.limit) {
+				if (remainingNanos <= 0) {
+					throw new ConcurrencyLimitExceededException(message,
+							"Concurrency limit of " + (int) this.limit + " exceeded for: " + target);
+				}
+				remainingNanos = this.permitReleased.awaitNanos(remainingNanos);
+			}
+			return ++this.inFlight;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessagingException(message, "Interrupted while waiting for a concurrency permit", ex);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void release(long latency, int inFlightAtStart) {
+		this.lock.lock();
+		try {
+			this.inFlight--;
+			int previousLimit = (int) this.limit;
+			updateLimit(Math.max(1, latency), inFlightAtStart);
+			int permits = (int) this.limit - previousLimit + 1;
+			if (permits > 1) {
+				this.permitReleased.signalAll();
+			}
+			else if (permits == 1) {
+				this.permitReleased.signal();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void updateLimit(long latency, int inFlightAtStart) {
+		if (this.longLatency == 0) {
+			this.longLatency = latency;
+		}
+		else {
+			this.longLatency = this.longLatency * (1 - this.longLatencyFactor) + latency * this.longLatencyFactor;
+		}
+		// Let the long-term latency recover faster after a steady-state overload
+		if (this.longLatency / latency > 2) { // NOSONAR magic number
+			this.longLatency *= 0.95; // NOSONAR magic number
+		}
+
+		double currentLimit = this.limit;
+		if (inFlightAtStart < currentLimit / 2) {
+			return;
+		}
+		double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, this.tolerance * this.longLatency / latency));
+		double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+		newLimit = currentLimit * (1 - this.smoothing) + newLimit * this.smoothing;
+		this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+	}
+
+	@Override
+	public void destroy() {
+		if (this.limitGauge != null) {
+			this.limitGauge.remove();
+		}
+		if (this.inFlightGauge != null) {
+			this.inFlightGauge.remove();
+		}
+	}
+
+	/**
+	 * A {@link MessagingException} thrown when a call is rejected by the
+	 * {@link ConcurrencyLimitRequestHandlerAdvice}.
+	 */
+	public static class ConcurrencyLimitExceededException extends MessagingException {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		ConcurrencyLimitExceededException(Message<?> message, String description) {
+			super(message, description);
+		}
+
+	}
+
+}
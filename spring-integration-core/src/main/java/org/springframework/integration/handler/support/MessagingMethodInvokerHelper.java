@@ -483,7 +483,7 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 		}
 		Object result;
 		if (this.useSpelInvoker || candidate.spelOnly) {
-			result = invokeExpression(candidate.expression, parameters);
+			result = invokeExpression(obtainExpression(candidate), parameters);
 		}
 		else {
 			result = invokeHandlerMethod(candidate, parameters);
@@ -552,24 +552,39 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 	 */
 
 	private void initializeHandler(HandlerMethod candidate) {
-		ExpressionParser parser;
-		if (candidate.useSpelInvoker == null) {
-			parser = EXPRESSION_PARSER_DEFAULT;
+		if (this.useSpelInvoker || candidate.spelOnly) {
+			obtainExpression(candidate);
 		}
 		else {
-			String compilerMode = resolveExpression(candidate.useSpelInvoker.compilerMode());
-			parser = !StringUtils.hasText(compilerMode)
-					? EXPRESSION_PARSER_DEFAULT
-					: SPEL_COMPILERS.get(SpelCompilerMode.valueOf(compilerMode.toUpperCase()));
-		}
-		Assert.state(parser != null, "'parser' must not be null");
-		candidate.expression = parser.parseExpression(candidate.expressionString);
-		if (!this.useSpelInvoker && !candidate.spelOnly) {
 			candidate.setInvocableHandlerMethod(createInvocableHandlerMethod(candidate.method));
 		}
 		candidate.initialized = true;
 	}
 
+	/*
+	 * The SpEL expression is parsed only when it is going to be evaluated:
+	 * for the SpEL invoker or as a fallback when the InvocableHandlerMethod cannot be called.
+	 */
+	private Expression obtainExpression(HandlerMethod candidate) {
+		Expression expression = candidate.expression;
+		if (expression == null) {
+			ExpressionParser parser;
+			if (candidate.useSpelInvoker == null) {
+				parser = EXPRESSION_PARSER_DEFAULT;
+			}
+			else {
+				String compilerMode = resolveExpression(candidate.useSpelInvoker.compilerMode());
+				parser = !StringUtils.hasText(compilerMode)
+						? EXPRESSION_PARSER_DEFAULT
+						: SPEL_COMPILERS.get(SpelCompilerMode.valueOf(compilerMode.toUpperCase()));
+			}
+			Assert.state(parser != null, "'parser' must not be null");
+			expression = parser.parseExpression(candidate.expressionString);
+			candidate.expression = expression;
+		}
+		return expression;
+	}
+
 	@Nullable
 	private Object invokeHandlerMethod(HandlerMethod handlerMethod, ParametersWrapper parameters) {
 		try {
@@ -614,7 +629,7 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 	}
 
 	private @Nullable Object fallbackToInvokeExpression(HandlerMethod handlerMethod, ParametersWrapper parameters) {
-		Expression expression = handlerMethod.expression;
+		Expression expression = obtainExpression(handlerMethod);
 
 		if (++handlerMethod.failedAttempts >= FAILED_ATTEMPTS_THRESHOLD) {
 			handlerMethod.spelOnly = true;
@@ -1068,8 +1083,7 @@ public class MessagingMethodInvokerHelper extends AbstractExpressionEvaluator im
 
 		private @Nullable InvocableHandlerMethod invocableHandlerMethod;
 
-		@SuppressWarnings("NullAway.Init")
-		private Expression expression;
+		private volatile @Nullable Expression expression;
 
 		@SuppressWarnings("NullAway.Init")
 		private TypeDescriptor targetParameterTypeDescriptor;
@@ -16,19 +16,37 @@
 
 package org.springframework.integration.json;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.Predicate;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+import org.springframework.integration.support.json.JacksonPresent;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Utility class to {@link #evaluate} a jsonPath on the provided object.
  * Delegates evaluation to <a href="https://github.com/json-path/JsonPath">JsonPath</a>.
  * Note {@link #evaluate} is used as {@code #jsonPath()} SpEL function.
+ * <p>Starting with version 7.2, the compiled {@link JsonPath} instances are cached
+ * (when no {@link Predicate}s are provided).
+ * The {@link #evaluateStreaming} variant is used as {@code #jsonPathStreaming()} SpEL function
+ * for simple definite paths to stop parsing as soon as the requested scalar value is found.
  *
  * @author Artem Bilan
  * @author Gary Russell
@@ -37,29 +55,193 @@ import com.jayway.jsonpath.Predicate;
  */
 public final class JsonPathUtils {
 
+	private static final Map<String, JsonPath> COMPILED_PATHS = new ConcurrentReferenceHashMap<>(256);
+
 	public static <T> T evaluate(Object json, String jsonPath, Predicate... predicates) throws IOException {
-		if (json instanceof String) {
-			return JsonPath.read((String) json, jsonPath, predicates);
+		JsonPath compiledPath = compile(jsonPath, predicates);
+		if (json instanceof String string) {
+			return compiledPath.read(string);
 		}
-		else if (json instanceof byte[]) {
-			return JsonPath.read(new ByteArrayInputStream((byte[]) json), jsonPath, predicates);
+		else if (json instanceof byte[] bytes) {
+			return compiledPath.read(Configuration.defaultConfiguration().jsonProvider().parse(bytes));
 		}
-		else if (json instanceof File) {
-			return JsonPath.read((File) json, jsonPath, predicates);
+		else if (json instanceof File file) {
+			return compiledPath.read(file);
 		}
-		else if (json instanceof URL) {
-			return JsonPath.read(((URL) json).openStream(), jsonPath, predicates);
+		else if (json instanceof URL url) {
+			return compiledPath.read(url.openStream());
 		}
-		else if (json instanceof InputStream) {
-			return JsonPath.read((InputStream) json, jsonPath, predicates);
+		else if (json instanceof InputStream inputStream) {
+			return compiledPath.read(inputStream);
 		}
 		else {
-			return JsonPath.read(json, jsonPath, predicates);
+			return compiledPath.read(json);
+		}
+	}
+
+	/**
+	 * Evaluate a simple definite jsonPath (e.g. {@code $.store.book[0].author})
+	 * against a {@link String} or {@code byte[]} JSON with a streaming parser,
+	 * which stops reading the input as soon as the requested value is found.
+	 * Falls back to the {@link #evaluate} if the path is not simple, the input is of
+	 * another type, Jackson 3 is not on the classpath, or the found value is not a scalar.
+	 * @param json the JSON to evaluate the path against.
+	 * @param jsonPath the path to evaluate.
+	 * @param <T> the expected result type.
+	 * @return the evaluation result.
+	 * @throws IOException the I/O exception from the {@link #evaluate} fallback.
+	 * @since 7.2
+	 */
+	public static <T> T evaluateStreaming(Object json, String jsonPath) throws IOException {
+		if (JacksonPresent.isJackson3Present() && (json instanceof String || json instanceof byte[])) {
+			Object[] segments = StreamingEvaluator.parseSimplePath(jsonPath);
+			if (segments != null) {
+				StreamingEvaluator.Result result = StreamingEvaluator.evaluate(json, segments);
+				if (result == StreamingEvaluator.Result.NOT_FOUND) {
+					throw new PathNotFoundException("No results for path: " + jsonPath);
+				}
+				else if (result != StreamingEvaluator.Result.NOT_SCALAR) {
+					@SuppressWarnings("unchecked")
+					T value = (T) result.value;
+					return value;
+				}
+			}
 		}
+		return evaluate(json, jsonPath);
+	}
 
+	private static JsonPath compile(String jsonPath, Predicate... predicates) {
+		if (predicates.length > 0) {
+			return JsonPath.compile(jsonPath, predicates);
+		}
+		return COMPILED_PATHS.computeIfAbsent(jsonPath, JsonPath::compile);
 	}
 
 	private JsonPathUtils() {
 	}
 
+	/**
+	 * The Jackson streaming parser based evaluator for simple definite paths.
+	 * Extracted to a separate class to avoid Jackson class loading when it is not present.
+	 */
+	private static final class StreamingEvaluator {
+
+		private static final Pattern SIMPLE_PATH_SEGMENT =
+				Pattern.compile("\\.([A-Za-z_][\\w-]*)|\\['([^'\\\\]+)']|\\[(\\d+)]");
+
+		private static final Map<String, Object[]> SIMPLE_PATHS = new ConcurrentReferenceHashMap<>(256);
+
+		private static final Object[] NOT_SIMPLE = new Object[0];
+
+		private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+		private StreamingEvaluator() {
+		}
+
+		static Object @Nullable [] parseSimplePath(String jsonPath) {
+			Object[] segments = SIMPLE_PATHS.computeIfAbsent(jsonPath, StreamingEvaluator::doParseSimplePath);
+			return segments == NOT_SIMPLE ? null : segments;
+		}
+
+		private static Object[] doParseSimplePath(String jsonPath) {
+			if (jsonPath.length() < 2 || jsonPath.charAt(0) != '$') {
+				return NOT_SIMPLE;
+			}
+			List<Object> segments = new ArrayList<>();
+			Matcher matcher = SIMPLE_PATH_SEGMENT.matcher(jsonPath);
+			int position = 1;
+			while (position < jsonPath.length()) {
+				if (!matcher.find(position) || matcher.start() != position) {
+					return NOT_SIMPLE;
+				}
+				if (matcher.group(3) != null) {
+					segments.add(Integer.parseInt(matcher.group(3)));
+				}
+				else {
+					segments.add(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+				}
+				position = matcher.end();
+			}
+			return segments.toArray();
+		}
+
+		static Result evaluate(Object json, Object[] segments) {
+			try (JsonParser parser = json instanceof String string
+					? JSON_FACTORY.createParser(ObjectReadContext.empty(), string)
+					: JSON_FACTORY.createParser(ObjectReadContext.empty(), (byte[]) json)) {
+
+				JsonToken token = parser.nextToken();
+				for (Object segment : segments) {
+					if (segment instanceof String property ? !moveToProperty(parser, token, property)
+							: !moveToIndex(parser, token, (Integer) segment)) {
+
+						return Result.NOT_FOUND;
+					}
+					token = parser.currentToken();
+				}
+				return scalarValue(parser, token);
+			}
+		}
+
+		private static boolean moveToProperty(JsonParser parser, @Nullable JsonToken token, String property) {
+			if (token != JsonToken.START_OBJECT) {
+				return false;
+			}
+			while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+				boolean found = property.equals(parser.currentName());
+				parser.nextToken();
+				if (found) {
+					return true;
+				}
+				parser.skipChildren();
+			}
+			return false;
+		}
+
+		private static boolean moveToIndex(JsonParser parser, @Nullable JsonToken token, int index) {
+			if (token != JsonToken.START_ARRAY) {
+				return false;
+			}
+			int current = 0;
+			for (JsonToken element = parser.nextToken(); element != JsonToken.END_ARRAY && element != null;
+					element = parser.nextToken()) {
+
+				if (current++ == index) {
+					return true;
+				}
+				parser.skipChildren();
+			}
+			return false;
+		}
+
+		private static Result scalarValue(JsonParser parser, @Nullable JsonToken token) {
+			if (token == null) {
+				return Result.NOT_FOUND;
+			}
+			return switch (token) {
+				case VALUE_STRING -> new Result(parser.getString());
+				case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> new Result(parser.getNumberValue());
+				case VALUE_TRUE -> new Result(Boolean.TRUE);
+				case VALUE_FALSE -> new Result(Boolean.FALSE);
+				case VALUE_NULL -> new Result(null);
+				default -> Result.NOT_SCALAR;
+			};
+		}
+
+		private static final class Result {
+
+			static final Result NOT_FOUND = new Result(null);
+
+			static final Result NOT_SCALAR = new Result(null);
+
+			final @Nullable Object value;
+
+			Result(@Nullable Object value) {
+				this.value = value;
+			}
+
+		}
+
+	}
+
 }
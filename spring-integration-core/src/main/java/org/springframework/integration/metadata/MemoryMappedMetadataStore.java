@@ -0,0 +1,518 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ConcurrentMetadataStore} backed by a memory-mapped, append-only log file
+ * and an in-memory hash index.
+ * <p>
+ * Every modification is appended to the log as a checksummed record, so a write costs
+ * an in-memory copy, independently of the number of entries in the store
+ * (unlike the {@link PropertiesPersistingMetadataStore}, which rewrites the whole file on flush).
+ * Reads are served from the index without locking.
+ * On start, the log is replayed to rebuild the index; the replay stops at the first torn or
+ * corrupted record (e.g. after a crash in the middle of a write), which is then overwritten.
+ * <p>
+ * When the log grows beyond the {@link #setCompactionThreshold(int) compaction threshold}
+ * and most of it consists of overwritten and removed entries, it is compacted: the live entries
+ * are written into a new file which atomically replaces the log.
+ * <p>
+ * The records are written into the memory-mapped file, so they survive the crash of the
+ * process, but not of the operating system, until {@link #flush()} forces them to the storage.
+ * This store is local to the node and must not be shared between processes.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class MemoryMappedMetadataStore implements ConcurrentMetadataStore, InitializingBean, DisposableBean,
+		Closeable, Flushable {
+
+	private static final int MAGIC = 0x53494d53; // NOSONAR magic number
+
+	private static final int VERSION = 1;
+
+	private static final int FILE_HEADER_SIZE = 8;
+
+	private static final int RECORD_HEADER_SIZE = 8;
+
+	private static final byte PUT = 1;
+
+	private static final byte REMOVE = 2;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<String, String> metadata = new ConcurrentHashMap<>();
+
+	private final Lock writeLock = new ReentrantLock();
+
+	private final CRC32 crc32 = new CRC32();
+
+	private String baseDirectory = System.getProperty("java.io.tmpdir") + "/spring-integration/";
+
+	private String fileName = "metadata-store.log";
+
+	private int initialSize = 1024 * 1024; // NOSONAR magic number
+
+	private int compactionThreshold = 16 * 1024 * 1024; // NOSONAR magic number
+
+	@SuppressWarnings("NullAway.Init")
+	private Path file;
+
+	private @Nullable FileChannel fileChannel;
+
+	@SuppressWarnings("NullAway.Init")
+	private MappedByteBuffer buffer;
+
+	private int position;
+
+	private long liveBytes;
+
+	/**
+	 * Set the location for the log file. Defaults to
+	 * {@code 'java.io.tmpdir' +  "/spring-integration/"}.
+	 * @param baseDirectory the directory.
+	 */
+	public void setBaseDirectory(String baseDirectory) {
+		Assert.hasText(baseDirectory, "'baseDirectory' must be non-empty");
+		this.baseDirectory = baseDirectory;
+	}
+
+	/**
+	 * Set the name of the log file in {@link #setBaseDirectory(String)}.
+	 * Defaults to {@code metadata-store.log}.
+	 * @param fileName the log file name.
+	 */
+	public void setFileName(String fileName) {
+		Assert.hasText(fileName, "'fileName' must be non-empty");
+		this.fileName = fileName;
+	}
+
+	/**
+	 * Set the initial size of the memory-mapped region of the log file.
+	 * The region is doubled each time it is full. Defaults to 1 MB.
+	 * @param initialSize the initial size in bytes.
+	 */
+	public void setInitialSize(int initialSize) {
+		Assert.isTrue(initialSize > FILE_HEADER_SIZE, () -> "'initialSize' must be greater than " + FILE_HEADER_SIZE);
+		this.initialSize = initialSize;
+	}
+
+	/**
+	 * Set the log size after which the log is compacted when more than half of it
+	 * is occupied by overwritten and removed entries. Defaults to 16 MB.
+	 * @param compactionThreshold the threshold in bytes.
+	 */
+	public void setCompactionThreshold(int compactionThreshold) {
+		Assert.isTrue(compactionThreshold > 0, "'compactionThreshold' must be greater than 0");
+		this.compactionThreshold = compactionThreshold;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		File baseDir = new File(this.baseDirectory);
+		if (!baseDir.mkdirs() && !baseDir.exists() && this.logger.isWarnEnabled()) {
+			this.logger.warn("Failed to create directories for " + baseDir);
+		}
+		this.file = new File(baseDir, this.fileName).toPath();
+		try {
+			Files.deleteIfExists(compactionFile());
+			this.fileChannel = openChannel(this.file);
+			long size = this.fileChannel.size();
+			map(Math.max(size, this.initialSize));
+			if (size == 0) {
+				this.buffer.putInt(0, MAGIC);
+				this.buffer.putInt(4, VERSION);
+				this.position = FILE_HEADER_SIZE;
+			}
+			else {
+				replay();
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to open metadata-store file '" + this.file + "'", ex);
+		}
+	}
+
+	@Override
+	public void put(String key, String value) {
+		this.writeLock.lock();
+		try {
+			append(PUT, key, value);
+			updateLiveBytes(key, this.metadata.put(key, value), value);
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public @Nullable String get(String key) {
+		return this.metadata.get(key);
+	}
+
+	@Override
+	public @Nullable String remove(String key) {
+		this.writeLock.lock();
+		try {
+			String previous = this.metadata.get(key);
+			if (previous != null) {
+				append(REMOVE, key, null);
+				this.metadata.remove(key);
+				updateLiveBytes(key, previous, null);
+			}
+			return previous;
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public @Nullable String putIfAbsent(String key, String value) {
+		String existing = this.metadata.get(key);
+		if (existing != null) {
+			return existing;
+		}
+		this.writeLock.lock();
+		try {
+			existing = this.metadata.get(key);
+			if (existing == null) {
+				append(PUT, key, value);
+				this.metadata.put(key, value);
+				updateLiveBytes(key, null, value);
+			}
+			return existing;
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public boolean replace(String key, String oldValue, String newValue) {
+		if (!oldValue.equals(this.metadata.get(key))) {
+			return false;
+		}
+		this.writeLock.lock();
+		try {
+			if (oldValue.equals(this.metadata.get(key))) {
+				append(PUT, key, newValue);
+				this.metadata.put(key, newValue);
+				updateLiveBytes(key, oldValue, newValue);
+				return true;
+			}
+			return false;
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Rewrite the log with only the live entries.
+	 */
+	public void compact() {
+		this.writeLock.lock();
+		try {
+			doCompact();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to compact metadata-store file '" + this.file + "'", ex);
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Force the appended records to the storage device.
+	 */
+	@Override
+	public void flush() {
+		this.writeLock.lock();
+		try {
+			if (this.fileChannel != null) {
+				this.buffer.force();
+			}
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		this.writeLock.lock();
+		try {
+			if (this.fileChannel != null) {
+				this.buffer.force();
+				closeChannel();
+			}
+		}
+		catch (IOException ex) {
+			this.logger.warn("Failed to close metadata-store file '" + this.file + "'", ex);
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		close();
+	}
+
+	private void append(byte type, String key, @Nullable String value) {
+		Assert.state(this.fileChannel != null, "The metadata store is closed");
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		byte[] valueBytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+		int bodyLength = bodyLength(keyBytes, valueBytes);
+		if (this.position >= this.compactionThreshold && this.position > 2 * this.liveBytes) {
+			try {
+				doCompact();
+			}
+			catch (IOException ex) {
+				this.logger.warn("Failed to compact metadata-store file '" + this.file + "'", ex);
+			}
+		}
+		ensureCapacity(RECORD_HEADER_SIZE + bodyLength);
+		this.position = writeRecord(this.buffer, this.position, type, keyBytes, valueBytes);
+	}
+
+	private int writeRecord(ByteBuffer target, int start, byte type, byte[] keyBytes, byte @Nullable [] valueBytes) {
+		int bodyStart = start + RECORD_HEADER_SIZE;
+		int index = bodyStart;
+		target.put(index++, type);
+		target.putInt(index, keyBytes.length);
+		index += Integer.BYTES;
+		target.put(index, keyBytes);
+		index += keyBytes.length;
+		if (valueBytes != null) {
+			target.putInt(index, valueBytes.length);
+			index += Integer.BYTES;
+			target.put(index, valueBytes);
+			index += valueBytes.length;
+		}
+		int bodyLength = index - bodyStart;
+		target.putInt(start + Integer.BYTES, checksum(target, bodyStart, bodyLength));
+		target.putInt(start, bodyLength);
+		return index;
+	}
+
+	private void replay() {
+		if (this.buffer.getInt(0) != MAGIC || this.buffer.getInt(4) != VERSION) {
+			throw new IllegalStateException("The file '" + this.file + "' is not a metadata-store log");
+		}
+		int index = FILE_HEADER_SIZE;
+		int limit = this.buffer.capacity();
+		while (index + RECORD_HEADER_SIZE <= limit) {
+			int bodyLength = this.buffer.getInt(index);
+			if (bodyLength == 0) {
+				break;
+			}
+			int bodyStart = index + RECORD_HEADER_SIZE;
+			if (bodyLength < 0 || bodyLength > limit - bodyStart
+					|| this.buffer.getInt(index + Integer.BYTES) != checksum(this.buffer, bodyStart, bodyLength)
+					|| !applyRecord(bodyStart, bodyLength)) {
+
+				this.logger.warn("Corrupted record at position " + index + " of the metadata-store file '"
+						+ this.file + "'. The rest of the log is discarded.");
+				for (int i = index; i < limit; i++) {
+					this.buffer.put(i, (byte) 0);
+				}
+				break;
+			}
+			index = bodyStart + bodyLength;
+		}
+		this.position = index;
+		this.liveBytes = liveSize();
+	}
+
+	private boolean applyRecord(int bodyStart, int bodyLength) {
+		int end = bodyStart + bodyLength;
+		int index = bodyStart;
+		byte type = this.buffer.get(index++);
+		int keyLength = this.buffer.getInt(index);
+		index += Integer.BYTES;
+		if (keyLength < 0 || keyLength > end - index) {
+			return false;
+		}
+		String key = readString(index, keyLength);
+		index += keyLength;
+		if (type == PUT) {
+			int valueLength = this.buffer.getInt(index);
+			index += Integer.BYTES;
+			if (valueLength < 0 || valueLength != end - index) {
+				return false;
+			}
+			this.metadata.put(key, readString(index, valueLength));
+			return true;
+		}
+		else if (type == REMOVE && index == end) {
+			this.metadata.remove(key);
+			return true;
+		}
+		return false;
+	}
+
+	private String readString(int index, int length) {
+		byte[] bytes = new byte[length];
+		this.buffer.get(index, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private void doCompact() throws IOException {
+		Path compactionFile = compactionFile();
+		long liveSize = liveSize();
+		Assert.state(liveSize <= Integer.MAX_VALUE, "The metadata-store log cannot exceed 2 GB");
+		int size = (int) liveSize;
+		ByteBuffer compacted = ByteBuffer.allocate(size);
+		compacted.putInt(0, MAGIC);
+		compacted.putInt(4, VERSION);
+		int index = FILE_HEADER_SIZE;
+		for (Map.Entry<String, String> entry : this.metadata.entrySet()) {
+			index = writeRecord(compacted, index, PUT, entry.getKey().getBytes(StandardCharsets.UTF_8),
+					entry.getValue().getBytes(StandardCharsets.UTF_8));
+		}
+		try (FileChannel channel = openChannel(compactionFile)) {
+			channel.truncate(0);
+			while (compacted.hasRemaining()) {
+				channel.write(compacted);
+			}
+			channel.force(true);
+		}
+		// Release the old file before replacing it: some platforms (e.g. Windows) cannot replace a file
+		// which is still open. The JDK has no API to unmap a buffer, so the old mapping is only dropped here.
+		int oldCapacity = this.buffer.capacity();
+		this.buffer.force();
+		closeChannel();
+		try {
+			Files.move(compactionFile, this.file, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex) {
+			// continue with the old log
+			this.fileChannel = openChannel(this.file);
+			map(oldCapacity);
+			throw ex;
+		}
+		this.fileChannel = openChannel(this.file);
+		map(Math.max((long) size * 2, this.initialSize));
+		this.position = size;
+		this.liveBytes = size;
+	}
+
+	private void ensureCapacity(int recordSize) {
+		long required = (long) this.position + recordSize;
+		if (required > this.buffer.capacity()) {
+			long newSize = this.buffer.capacity();
+			while (newSize < required) {
+				newSize *= 2;
+			}
+			try {
+				map(newSize);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to extend metadata-store file '" + this.file + "'", ex);
+			}
+		}
+	}
+
+	private void map(long size) throws IOException {
+		Assert.state(size <= Integer.MAX_VALUE, "The metadata-store log cannot exceed 2 GB");
+		FileChannel channel = this.fileChannel;
+		Assert.state(channel != null, "The metadata store is closed");
+		this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+	}
+
+	private void closeChannel() throws IOException {
+		FileChannel channel = this.fileChannel;
+		if (channel != null) {
+			this.fileChannel = null;
+			channel.close();
+		}
+	}
+
+	private long liveSize() {
+		long size = FILE_HEADER_SIZE;
+		for (Map.Entry<String, String> entry : this.metadata.entrySet()) {
+			size += recordSize(entry.getKey(), entry.getValue());
+		}
+		return size;
+	}
+
+	private void updateLiveBytes(String key, @Nullable String oldValue, @Nullable String newValue) {
+		if (oldValue != null) {
+			this.liveBytes -= recordSize(key, oldValue);
+		}
+		if (newValue != null) {
+			this.liveBytes += recordSize(key, newValue);
+		}
+	}
+
+	private int checksum(ByteBuffer source, int start, int length) {
+		this.crc32.reset();
+		this.crc32.update(source.slice(start, length));
+		return (int) this.crc32.getValue();
+	}
+
+	private Path compactionFile() {
+		return this.file.resolveSibling(this.fileName + ".compact");
+	}
+
+	private static int recordSize(String key, String value) {
+		return RECORD_HEADER_SIZE + bodyLength(key.getBytes(StandardCharsets.UTF_8),
+				value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static int bodyLength(byte[] keyBytes, byte @Nullable [] valueBytes) {
+		return 1 + Integer.BYTES + keyBytes.length + (valueBytes != null ? Integer.BYTES + valueBytes.length : 0);
+	}
+
+	private static FileChannel openChannel(Path path) throws IOException {
+		return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+}
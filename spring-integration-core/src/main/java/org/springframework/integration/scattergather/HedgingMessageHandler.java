@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.scattergather;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.integration.core.MessagingTemplate;
+import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.core.DestinationResolutionException;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link org.springframework.messaging.MessageHandler} which sends a request to the primary
+ * channel and, if no reply arrives within a latency percentile of the primary recent replies,
+ * sends a duplicate (hedged) request to the alternative channel.
+ * The first reply wins and is sent to the {@code replyChannel} of the request;
+ * a reply from the other channel is dropped.
+ * <p>
+ * Typically used as a recipient in the scatter-gather to cut the tail latency of a slow service:
+ * <pre class="code">
+ * {@code
+ * .scatterGather(s -> s.recipientFlow(f -> f.handle(new HedgingMessageHandler(primary, alternative))))
+ * }
+ * </pre>
+ * The {@link #getTaskScheduler() taskScheduler} is used only as a timer for the hedge delay:
+ * the hedged request is sent on a thread of the {@link #setHedgeExecutor(Executor) hedgeExecutor}.
+ * The pending hedge is cancelled when the request is replied,
+ * or the {@link ScatterGatherHandler#SCATTER_COMPLETION} of the request (if any) is completed.
+ * The work already in progress on the primary and alternative flows is not interrupted.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class HedgingMessageHandler extends AbstractMessageHandler {
+
+	/**
+	 * The default percentile of the primary latency to send a hedged request after.
+	 */
+	public static final double DEFAULT_PERCENTILE = 0.95;
+
+	/**
+	 * The default number of the recent primary latencies to calculate the percentile over.
+	 */
+	public static final int DEFAULT_SAMPLE_SIZE = 100;
+
+	private static final int MIN_SAMPLES = 10;
+
+	private final MessagingTemplate messagingTemplate = new MessagingTemplate();
+
+	private final MessageChannel primaryChannel;
+
+	private final MessageChannel hedgeChannel;
+
+	private final AtomicLong hedgeCount = new AtomicLong();
+
+	private final AtomicInteger latencyIndex = new AtomicInteger();
+
+	private double percentile = DEFAULT_PERCENTILE;
+
+	private Duration initialHedgeDelay = Duration.ofSeconds(1);
+
+	private AtomicLongArray latencies = new AtomicLongArray(DEFAULT_SAMPLE_SIZE);
+
+	private Executor hedgeExecutor = new SimpleAsyncTaskExecutor("hedge-");
+
+	/**
+	 * Create an instance to send requests to the primary channel and hedged requests to the alternative one.
+	 * @param primaryChannel the channel to send the requests to.
+	 * @param hedgeChannel the channel to send the hedged requests to.
+	 */
+	public HedgingMessageHandler(MessageChannel primaryChannel, MessageChannel hedgeChannel) {
+		Assert.notNull(primaryChannel, "'primaryChannel' must not be null");
+		Assert.notNull(hedgeChannel, "'hedgeChannel' must not be null");
+		this.primaryChannel = primaryChannel;
+		this.hedgeChannel = hedgeChannel;
+	}
+
+	/**
+	 * Set the percentile of the recent primary latencies to send a hedged request after.
+	 * Defaults to {@link #DEFAULT_PERCENTILE}.
+	 * @param percentile the percentile in the {@code (0, 1]} range.
+	 */
+	public void setPercentile(double percentile) {
+		Assert.isTrue(percentile > 0 && percentile <= 1, "'percentile' must be in the (0, 1] range");
+		this.percentile = percentile;
+	}
+
+	/**
+	 * Set the number of the recent primary latencies to calculate the percentile over.
+	 * Defaults to {@link #DEFAULT_SAMPLE_SIZE}.
+	 * @param sampleSize the number of latencies to keep.
+	 */
+	public void setSampleSize(int sampleSize) {
+		Assert.isTrue(sampleSize >= MIN_SAMPLES, () -> "'sampleSize' must not be less than " + MIN_SAMPLES);
+		this.latencies = new AtomicLongArray(sampleSize);
+	}
+
+	/**
+	 * Set the delay to send a hedged request after until there are enough primary latencies
+	 * to calculate the percentile.
+	 * Defaults to 1 second.
+	 * @param initialHedgeDelay the delay before the percentile is available.
+	 */
+	public void setInitialHedgeDelay(Duration initialHedgeDelay) {
+		Assert.notNull(initialHedgeDelay, "'initialHedgeDelay' must not be null");
+		this.initialHedgeDelay = initialHedgeDelay;
+	}
+
+	/**
+	 * Set an {@link Executor} to send the hedged requests on.
+	 * The {@link #getTaskScheduler() taskScheduler} only triggers the hedge,
+	 * so a slow hedge channel does not block the shared scheduler threads.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param hedgeExecutor the executor to send the hedged requests on.
+	 */
+	public void setHedgeExecutor(Executor hedgeExecutor) {
+		Assert.notNull(hedgeExecutor, "'hedgeExecutor' must not be null");
+		this.hedgeExecutor = hedgeExecutor;
+	}
+
+	/**
+	 * Return the number of the hedged requests sent so far.
+	 * @return the number of hedged requests.
+	 */
+	public long getHedgeCount() {
+		return this.hedgeCount.get();
+	}
+
+	/**
+	 * Return the current delay to send a hedged request after.
+	 * @return the hedge delay.
+	 */
+	public Duration getHedgeDelay() {
+		int count = Math.min(this.latencyIndex.get(), this.latencies.length());
+		if (count < MIN_SAMPLES) {
+			return this.initialHedgeDelay;
+		}
+		long[] samples = new long[count];
+		for (int i = 0; i < count; i++) {
+			samples[i] = this.latencies.get(i);
+		}
+		Arrays.sort(samples);
+		int index = Math.max((int) Math.ceil(this.percentile * count) - 1, 0);
+		return Duration.ofNanos(samples[index]);
+	}
+
+	@Override
+	public String getComponentType() {
+		return "hedging-handler";
+	}
+
+	@Override
+	protected void onInit() {
+		super.onInit();
+		this.messagingTemplate.setBeanFactory(getBeanFactory());
+	}
+
+	@Override
+	protected void handleMessageInternal(Message<?> message) {
+		Object replyChannel = message.getHeaders().getReplyChannel();
+		if (replyChannel == null) {
+			throw new DestinationResolutionException("no replyChannel header available");
+		}
+		new HedgedRequest(message, replyChannel).send();
+	}
+
+	private void recordLatency(long nanos) {
+		int index = this.latencyIndex.getAndIncrement() & Integer.MAX_VALUE;
+		this.latencies.set(index % this.latencies.length(), nanos);
+	}
+
+	private final class HedgedRequest {
+
+		private final AtomicBoolean replied = new AtomicBoolean();
+
+		private final long start = System.nanoTime();
+
+		private final Message<?> request;
+
+		private final Object replyChannel;
+
+		private final @Nullable CompletableFuture<?> scatterCompletion;
+
+		private volatile @Nullable ScheduledFuture<?> hedge;
+
+		HedgedRequest(Message<?> request, Object replyChannel) {
+			this.request = request;
+			this.replyChannel = replyChannel;
+			this.scatterCompletion =
+					request.getHeaders().get(ScatterGatherHandler.SCATTER_COMPLETION, CompletableFuture.class);
+		}
+
+		void send() {
+			this.hedge =
+					getTaskScheduler()
+							.schedule(this::submitHedge, Instant.now().plus(getHedgeDelay()));
+			if (this.scatterCompletion != null) {
+				this.scatterCompletion.whenComplete((result, ex) -> cancelHedge());
+			}
+			try {
+				HedgingMessageHandler.this.messagingTemplate.send(HedgingMessageHandler.this.primaryChannel,
+						requestFor((reply, timeout) -> reply(reply, true)));
+			}
+			catch (RuntimeException ex) {
+				cancelHedge();
+				throw ex;
+			}
+		}
+
+		private boolean isDone() {
+			return this.replied.get() || (this.scatterCompletion != null && this.scatterCompletion.isDone());
+		}
+
+		private void submitHedge() {
+			if (isDone()) {
+				return;
+			}
+			try {
+				HedgingMessageHandler.this.hedgeExecutor.execute(this::sendHedge);
+			}
+			catch (RuntimeException ex) {
+				logger.error(ex, () -> "Failed to submit hedged request: " + this.request);
+			}
+		}
+
+		private void sendHedge() {
+			if (isDone()) {
+				return;
+			}
+			HedgingMessageHandler.this.hedgeCount.incrementAndGet();
+			try {
+				HedgingMessageHandler.this.messagingTemplate.send(HedgingMessageHandler.this.hedgeChannel,
+						requestFor((reply, timeout) -> reply(reply, false)));
+			}
+			catch (RuntimeException ex) {
+				logger.error(ex, () -> "Failed to send hedged request: " + this.request);
+			}
+		}
+
+		private Message<?> requestFor(MessageChannel replyChannel) {
+			return getMessageBuilderFactory()
+					.fromMessage(this.request)
+					.setReplyChannel(replyChannel)
+					.build();
+		}
+
+		private boolean reply(Message<?> reply, boolean primary) {
+			if (primary) {
+				recordLatency(System.nanoTime() - this.start);
+			}
+			if (this.replied.compareAndSet(false, true)) {
+				cancelHedge();
+				Message<?> replyMessage =
+						getMessageBuilderFactory()
+								.fromMessage(reply)
+								.setHeader(MessageHeaders.REPLY_CHANNEL, this.replyChannel)
+								.build();
+				if (this.replyChannel instanceof MessageChannel channel) {
+					HedgingMessageHandler.this.messagingTemplate.send(channel, replyMessage);
+				}
+				else {
+					HedgingMessageHandler.this.messagingTemplate.send(this.replyChannel.toString(), replyMessage);
+				}
+			}
+			else {
+				logger.debug(() -> "The request is already replied. Dropping the " +
+						(primary ? "primary" : "hedged") + " reply: " + reply);
+			}
+			return true;
+		}
+
+		private void cancelHedge() {
+			ScheduledFuture<?> hedgeToCancel = this.hedge;
+			if (hedgeToCancel != null) {
+				hedgeToCancel.cancel(false);
+			}
+		}
+
+	}
+
+}
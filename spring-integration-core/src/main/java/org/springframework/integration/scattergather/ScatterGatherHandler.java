@@ -17,6 +17,7 @@
 package org.springframework.integration.scattergather;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
@@ -56,6 +57,12 @@ import org.springframework.util.ClassUtils;
  * <p>
  * When {@link #setAsync(boolean)} is {@code true}, the {@link ScatterGatherHandler} produces
  * a {@link Mono} as a reply based on the gather result.
+ * <p>
+ * When {@link #setScatterCompletionEnabled(boolean)} is {@code true} (e.g. in the quorum mode),
+ * each scattered message carries a {@link #SCATTER_COMPLETION} header which is completed
+ * when the gather result is produced or the gather timeout is reached.
+ * The replies arriving after that to the default gather channel are dropped.
+ * This header is removed from the reply of this handler.
  *
  * @author Artem Bilan
  * @author Abdul Zaheer
@@ -65,6 +72,15 @@ import org.springframework.util.ClassUtils;
  */
 public class ScatterGatherHandler extends AbstractReplyProducingMessageHandler implements ManageableLifecycle {
 
+	/**
+	 * The header for a {@link CompletableFuture} in the scattered messages, which is completed
+	 * when the gather result is produced or the gather timeout is reached.
+	 * The recipients may use it to cancel their outstanding work for the request.
+	 * @since 7.2
+	 * @see HedgingMessageHandler
+	 */
+	public static final String SCATTER_COMPLETION = "scatterCompletion";
+
 	private static final String GATHER_RESULT_CHANNEL = "gatherResultChannel";
 
 	private static final String ORIGINAL_ERROR_CHANNEL = "originalErrorChannel";
@@ -83,6 +99,8 @@ public class ScatterGatherHandler extends AbstractReplyProducingMessageHandler i
 
 	private @Nullable AbstractEndpoint gatherEndpoint;
 
+	private boolean scatterCompletionEnabled;
+
 	public ScatterGatherHandler(MessageHandler scatterer, MessageHandler gatherer) {
 		this(new FixedSubscriberChannel(scatterer), gatherer);
 		Assert.notNull(scatterer, "'scatterer' must not be null");
@@ -107,6 +125,20 @@ public class ScatterGatherHandler extends AbstractReplyProducingMessageHandler i
 		this.gatherTimeout = gatherTimeout;
 	}
 
+	/**
+	 * Set to {@code true} to add a {@link #SCATTER_COMPLETION} header into the scattered messages,
+	 * so the recipients can cancel their outstanding work and the late replies are dropped
+	 * as soon as the gather result is produced.
+	 * Makes sense when the gatherer releases the group before all the replies have arrived,
+	 * e.g. with a {@link org.springframework.integration.aggregator.QuorumReleaseStrategy}.
+	 * Defaults to {@code false}.
+	 * @param scatterCompletionEnabled true to add the {@link #SCATTER_COMPLETION} header.
+	 * @since 7.2
+	 */
+	public void setScatterCompletionEnabled(boolean scatterCompletionEnabled) {
+		this.scatterCompletionEnabled = scatterCompletionEnabled;
+	}
+
 	/**
 	 * Specify a {@link MessageChannel} bean name for async error processing.
 	 * Defaults to {@link IntegrationContextUtils#ERROR_CHANNEL_BEAN_NAME}.
@@ -137,8 +169,14 @@ public class ScatterGatherHandler extends AbstractReplyProducingMessageHandler i
 		BeanFactory beanFactory = getBeanFactory();
 		if (this.gatherChannel == null) {
 			this.gatherChannel =
-					new FixedSubscriberChannel((message) ->
-							this.gatherer.handleMessage(enhanceScatterReplyMessage(message)));
+					new FixedSubscriberChannel((message) -> {
+						if (isScatterCompleted(message)) {
+							logger.debug(() -> "The scatter-gather is already completed. Dropping late reply: " + message);
+						}
+						else {
+							this.gatherer.handleMessage(enhanceScatterReplyMessage(message));
+						}
+					});
 		}
 		else {
 			Assert.isInstanceOf(InterceptableChannel.class, this.gatherChannel,
@@ -188,6 +226,11 @@ public class ScatterGatherHandler extends AbstractReplyProducingMessageHandler i
 				}));
 	}
 
+	private static boolean isScatterCompleted(Message<?> message) {
+		CompletableFuture<?> scatterCompletion = message.getHeaders().get(SCATTER_COMPLETION, CompletableFuture.class);
+		return scatterCompletion != null && scatterCompletion.isDone();
+	}
+
 	private Message<?> enhanceScatterReplyMessage(Message<?> message) {
 		MessageHeaders headers = message.getHeaders();
 		return getMessageBuilderFactory()
@@ -212,36 +255,57 @@ public class ScatterGatherHandler extends AbstractReplyProducingMessageHandler i
 			gatherResultChannel = new QueueChannel();
 		}
 
+		@Nullable CompletableFuture<Void> scatterCompletion = this.scatterCompletionEnabled ? new CompletableFuture<>() : null;
+
 		Message<?> scatterMessage =
 				getMessageBuilderFactory()
 						.fromMessage(requestMessage)
 						.setHeader(GATHER_RESULT_CHANNEL, gatherResultChannel)
 						.setHeader(ORIGINAL_ERROR_CHANNEL, requestMessageHeaders.getErrorChannel())
+						.setHeader(SCATTER_COMPLETION, scatterCompletion)
 						.setReplyChannel(this.gatherChannel)
 						.setErrorChannelName(this.errorChannelName)
 						.build();
 
-		this.messagingTemplate.send(this.scatterChannel, scatterMessage);
+		try {
+			this.messagingTemplate.send(this.scatterChannel, scatterMessage);
+		}
+		catch (RuntimeException ex) {
+			completeScatter(scatterCompletion);
+			throw ex;
+		}
 
 		if (replyMono != null) {
 			return replyMono.asMono()
 					.map(this::replyFromGatherResult)
-					.timeout(Duration.ofMillis(this.gatherTimeout), Mono.empty());
+					.timeout(Duration.ofMillis(this.gatherTimeout), Mono.empty())
+					.doFinally((signal) -> completeScatter(scatterCompletion));
 		}
 		else {
-			Message<?> gatherResult = ((PollableChannel) gatherResultChannel).receive(this.gatherTimeout);
-			if (gatherResult != null) {
-				return replyFromGatherResult(gatherResult);
+			try {
+				Message<?> gatherResult = ((PollableChannel) gatherResultChannel).receive(this.gatherTimeout);
+				if (gatherResult != null) {
+					return replyFromGatherResult(gatherResult);
+				}
+			}
+			finally {
+				completeScatter(scatterCompletion);
 			}
 		}
 
 		return null;
 	}
 
+	private static void completeScatter(@Nullable CompletableFuture<Void> scatterCompletion) {
+		if (scatterCompletion != null) {
+			scatterCompletion.complete(null);
+		}
+	}
+
 	private AbstractIntegrationMessageBuilder<?> replyFromGatherResult(Message<?> gatherResult) {
 		return getMessageBuilderFactory()
 				.fromMessage(gatherResult)
-				.removeHeaders(GATHER_RESULT_CHANNEL, ORIGINAL_ERROR_CHANNEL,
+				.removeHeaders(GATHER_RESULT_CHANNEL, ORIGINAL_ERROR_CHANNEL, SCATTER_COMPLETION,
 						MessageHeaders.REPLY_CHANNEL, MessageHeaders.ERROR_CHANNEL);
 	}
 
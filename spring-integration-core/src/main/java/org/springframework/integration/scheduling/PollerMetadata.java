@@ -63,6 +63,8 @@ public class PollerMetadata {
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private int transactionBatchSize = 1;
+
 	private @Nullable ErrorHandler errorHandler;
 
 	private @Nullable List<Advice> adviceChain;
@@ -121,6 +123,28 @@ public class PollerMetadata {
 		return this.receiveTimeout;
 	}
 
+	/**
+	 * Set the number of messages to poll and handle within a single invocation of the
+	 * {@link #setAdviceChain(List) adviceChain}, e.g. in a single transaction.
+	 * <p>The default is {@code 1}.
+	 * @param transactionBatchSize the number of messages to handle in a single transaction.
+	 * @since 7.2
+	 * @see org.springframework.integration.endpoint.AbstractPollingEndpoint#setTransactionBatchSize(int)
+	 */
+	public void setTransactionBatchSize(int transactionBatchSize) {
+		Assert.isTrue(transactionBatchSize > 0, "'transactionBatchSize' must be greater than zero");
+		this.transactionBatchSize = transactionBatchSize;
+	}
+
+	/**
+	 * Return the number of messages to handle in a single transaction.
+	 * @return the number of messages to handle in a single transaction.
+	 * @since 7.2
+	 */
+	public int getTransactionBatchSize() {
+		return this.transactionBatchSize;
+	}
+
 	public void setAdviceChain(List<Advice> adviceChain) {
 		this.adviceChain = adviceChain;
 	}
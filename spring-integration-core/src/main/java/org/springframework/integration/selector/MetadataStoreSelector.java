@@ -16,16 +16,27 @@
 
 package org.springframework.integration.selector;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiPredicate;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.integration.handler.MessageProcessor;
 import org.springframework.integration.metadata.ConcurrentMetadataStore;
 import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.integration.support.management.IntegrationManagement;
+import org.springframework.integration.support.management.metrics.CounterFacade;
+import org.springframework.integration.support.management.metrics.MetricsCaptor;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
@@ -50,6 +61,10 @@ import org.springframework.util.Assert;
  * <p>
  * It can be used in a {@link org.springframework.integration.filter.MessageFilter}
  * or {@link org.springframework.integration.handler.advice.IdempotentReceiverInterceptor}.
+ * <p>
+ * A {@link TimeWindowBloomFilter} can be provided via {@link #setDuplicateFilter} as a local
+ * pre-check tier in front of the {@link ConcurrentMetadataStore}: new keys are accepted
+ * locally and written into the store asynchronously.
  *
  * @author Artem Bilan
  * @author Gary Russell
@@ -58,10 +73,18 @@ import org.springframework.util.Assert;
  *
  * @since 4.1
  */
-public class MetadataStoreSelector implements MessageSelector {
+public class MetadataStoreSelector implements MessageSelector, BeanNameAware, DisposableBean {
+
+	private static final String DUPLICATE_FILTER_METER_NAME = IntegrationManagement.METER_PREFIX + "duplicate.filter";
 
 	private final Lock lock = new ReentrantLock();
 
+	private final LongAdder falsePositives = new LongAdder();
+
+	private final Map<String, String> pendingWrites = new ConcurrentHashMap<>();
+
+	private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
 	private final ConcurrentMetadataStore metadataStore;
 
 	private final MessageProcessor<String> keyStrategy;
@@ -70,6 +93,16 @@ public class MetadataStoreSelector implements MessageSelector {
 
 	private @Nullable BiPredicate<String, String> compareValues;
 
+	private @Nullable TimeWindowBloomFilter duplicateFilter;
+
+	private Executor storeWriteExecutor = new SimpleAsyncTaskExecutor("metadata-store-selector-");
+
+	private @Nullable MetricsCaptor metricsCaptor;
+
+	private String beanName = getClass().getSimpleName();
+
+	private volatile @Nullable DuplicateFilterMeters meters;
+
 	public MetadataStoreSelector(MessageProcessor<String> keyStrategy) {
 		this(keyStrategy, (MessageProcessor<String>) null);
 	}
@@ -112,6 +145,79 @@ public class MetadataStoreSelector implements MessageSelector {
 		return this;
 	}
 
+	/**
+	 * Set a {@link TimeWindowBloomFilter} to pre-check keys locally before consulting the
+	 * {@link ConcurrentMetadataStore}.
+	 * A key which the filter reports as definitely not seen is accepted without a store
+	 * round trip, and it is written into the store asynchronously on the
+	 * {@link #setStoreWriteExecutor(Executor) storeWriteExecutor}.
+	 * Only possible duplicates go to the store synchronously, through the regular logic,
+	 * after the pending writes for them have been flushed.
+	 * Since the filter is local, a key which has been accepted before a restart or by another
+	 * application instance, but is not yet known to the filter, is accepted again:
+	 * such late duplicates are only detected by the asynchronous write (and counted
+	 * by the {@link #setMetricsCaptor(MetricsCaptor) meters}).
+	 * @param duplicateFilter the {@link TimeWindowBloomFilter} to use.
+	 * @since 7.2
+	 */
+	public void setDuplicateFilter(@Nullable TimeWindowBloomFilter duplicateFilter) {
+		this.duplicateFilter = duplicateFilter;
+	}
+
+	/**
+	 * Fluent version of {@link #setDuplicateFilter(TimeWindowBloomFilter)}.
+	 * @param duplicateFilter the {@link TimeWindowBloomFilter} to use.
+	 * @return this.
+	 * @since 7.2
+	 */
+	public MetadataStoreSelector duplicateFilter(@Nullable TimeWindowBloomFilter duplicateFilter) {
+		setDuplicateFilter(duplicateFilter);
+		return this;
+	}
+
+	/**
+	 * Set an {@link Executor} to write the keys accepted by the
+	 * {@link #setDuplicateFilter duplicate filter} into the store.
+	 * The pending keys are written in batches by a single task at a time.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor}.
+	 * @param storeWriteExecutor the {@link Executor} to use.
+	 * @since 7.2
+	 */
+	public void setStoreWriteExecutor(Executor storeWriteExecutor) {
+		Assert.notNull(storeWriteExecutor, "'storeWriteExecutor' must not be null");
+		this.storeWriteExecutor = storeWriteExecutor;
+	}
+
+	/**
+	 * Set a {@link MetricsCaptor} to register the {@link #setDuplicateFilter duplicate filter}
+	 * counters: the keys accepted by the filter ({@code result=new}), the possible duplicates
+	 * ({@code result=possibleDuplicate}), the possible duplicates accepted by the store
+	 * ({@code result=falsePositive}), and the keys accepted by the filter, but found in the store
+	 * by the asynchronous write ({@code result=lateDuplicate}).
+	 * The counters are tagged with the bean name and removed on {@link #destroy()}.
+	 * @param metricsCaptor the {@link MetricsCaptor} to use.
+	 * @since 7.2
+	 */
+	public void setMetricsCaptor(@Nullable MetricsCaptor metricsCaptor) {
+		this.metricsCaptor = metricsCaptor;
+	}
+
+	@Override
+	public void setBeanName(String name) {
+		this.beanName = name;
+	}
+
+	/**
+	 * Return the number of keys reported by the {@link #setDuplicateFilter duplicate filter}
+	 * as possible duplicates, but accepted by the {@link ConcurrentMetadataStore}
+	 * (not tracked when {@link #setCompareValues(BiPredicate)} is provided).
+	 * @return the number of the duplicate filter false positives.
+	 * @since 7.2
+	 */
+	public long getFalsePositiveCount() {
+		return this.falsePositives.sum();
+	}
+
 	@Override
 	public boolean accept(Message<?> message) {
 		String key = this.keyStrategy.processMessage(message);
@@ -123,6 +229,73 @@ public class MetadataStoreSelector implements MessageSelector {
 				: (timestamp == null ? "0" : Long.toString(timestamp));
 		Assert.state(value != null, () -> "The valueStrategy.processMessage must not return null.");
 
+		TimeWindowBloomFilter filter = this.duplicateFilter;
+		if (filter == null) {
+			return doAccept(key, value);
+		}
+		DuplicateFilterMeters duplicateFilterMeters = obtainMeters();
+		if (!filter.mightContain(key)) {
+			filter.put(key);
+			if (duplicateFilterMeters != null) {
+				duplicateFilterMeters.newKeys.increment();
+			}
+			this.pendingWrites.put(key, value);
+			scheduleWrite();
+			return true;
+		}
+		if (duplicateFilterMeters != null) {
+			duplicateFilterMeters.possibleDuplicates.increment();
+		}
+		String pendingValue = this.pendingWrites.get(key);
+		if (pendingValue != null) {
+			writePending(key, pendingValue);
+		}
+		boolean accepted = doAccept(key, value);
+		if (accepted && this.compareValues == null) {
+			this.falsePositives.increment();
+			if (duplicateFilterMeters != null) {
+				duplicateFilterMeters.falsePositives.increment();
+			}
+		}
+		return accepted;
+	}
+
+	private void scheduleWrite() {
+		if (this.writeScheduled.compareAndSet(false, true)) {
+			this.storeWriteExecutor.execute(this::writePending);
+		}
+	}
+
+	private void writePending() {
+		do {
+			try {
+				this.pendingWrites.forEach(this::writePending);
+			}
+			finally {
+				this.writeScheduled.set(false);
+			}
+		}
+		while (!this.pendingWrites.isEmpty() && this.writeScheduled.compareAndSet(false, true));
+	}
+
+	private void writePending(String key, String value) {
+		// Removed only after the write, so a concurrent possible duplicate never misses the key
+		String oldValue = this.metadataStore.putIfAbsent(key, value);
+		if (oldValue != null && !oldValue.equals(value)) {
+			// The key is known to the store from a previous run or another instance
+			DuplicateFilterMeters duplicateFilterMeters = this.meters;
+			if (duplicateFilterMeters != null) {
+				duplicateFilterMeters.lateDuplicates.increment();
+			}
+			BiPredicate<String, String> predicate = this.compareValues;
+			if (predicate != null && predicate.test(oldValue, value)) {
+				this.metadataStore.replace(key, oldValue, value);
+			}
+		}
+		this.pendingWrites.remove(key, value);
+	}
+
+	private boolean doAccept(String key, String value) {
 		BiPredicate<String, String> predicate = this.compareValues;
 		if (predicate == null) {
 			return this.metadataStore.putIfAbsent(key, value) == null;
@@ -145,4 +318,64 @@ public class MetadataStoreSelector implements MessageSelector {
 		}
 	}
 
+	private @Nullable DuplicateFilterMeters obtainMeters() {
+		DuplicateFilterMeters duplicateFilterMeters = this.meters;
+		MetricsCaptor metricsCaptorToUse = this.metricsCaptor;
+		if (duplicateFilterMeters == null && metricsCaptorToUse != null) {
+			// A race here is harmless: the captor returns the same meters for the same name and tags
+			duplicateFilterMeters = new DuplicateFilterMeters(metricsCaptorToUse, this.beanName);
+			this.meters = duplicateFilterMeters;
+		}
+		return duplicateFilterMeters;
+	}
+
+	@Override
+	public void destroy() {
+		DuplicateFilterMeters duplicateFilterMeters = this.meters;
+		if (duplicateFilterMeters != null) {
+			duplicateFilterMeters.remove();
+			this.meters = null;
+		}
+		this.pendingWrites.forEach(this::writePending);
+	}
+
+	private static final class DuplicateFilterMeters {
+
+		private final CounterFacade newKeys;
+
+		private final CounterFacade possibleDuplicates;
+
+		private final CounterFacade falsePositives;
+
+		private final CounterFacade lateDuplicates;
+
+		DuplicateFilterMeters(MetricsCaptor metricsCaptor, String name) {
+			this.newKeys = counter(metricsCaptor, name, "new", "Keys accepted by the duplicate filter");
+			this.possibleDuplicates = counter(metricsCaptor, name, "possibleDuplicate",
+					"Keys reported by the duplicate filter as possible duplicates");
+			this.falsePositives = counter(metricsCaptor, name, "falsePositive",
+					"Possible duplicates accepted by the metadata store");
+			this.lateDuplicates = counter(metricsCaptor, name, "lateDuplicate",
+					"Keys accepted by the duplicate filter, but found in the metadata store");
+		}
+
+		void remove() {
+			this.newKeys.remove();
+			this.possibleDuplicates.remove();
+			this.falsePositives.remove();
+			this.lateDuplicates.remove();
+		}
+
+		private static CounterFacade counter(MetricsCaptor metricsCaptor, String name, String result,
+				String description) {
+
+			return metricsCaptor.counterBuilder(DUPLICATE_FILTER_METER_NAME)
+					.tag("name", name)
+					.tag("result", result)
+					.description(description)
+					.build();
+		}
+
+	}
+
 }
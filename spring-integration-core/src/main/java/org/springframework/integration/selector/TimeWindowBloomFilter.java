@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.selector;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.util.Assert;
+
+/**
+ * A local, thread-safe Bloom filter for {@link String} keys with time-windowed expiry.
+ * <p>
+ * The filter keeps two generations of bits: the current and the previous one.
+ * The generations are rotated every {@code window}, so a key is remembered
+ * at least for the {@code window} and at most for two of them, and the filter
+ * does not grow unbounded.
+ * <p>
+ * The {@link #mightContain} answer {@code false} means the key has definitely not been
+ * {@link #put} during the remembered period; {@code true} means a possible duplicate
+ * with the configured false positive probability (provided that no more than
+ * {@code expectedInsertions} keys are put during a single window).
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see MetadataStoreSelector#setDuplicateFilter(TimeWindowBloomFilter)
+ */
+public class TimeWindowBloomFilter {
+
+	private final Lock rotationLock = new ReentrantLock();
+
+	private final int numberOfBits;
+
+	private final int numberOfHashFunctions;
+
+	private final long windowNanos;
+
+	private final LongAdder insertions = new LongAdder();
+
+	private final LongAdder possibleDuplicates = new LongAdder();
+
+	private volatile AtomicLongArray current;
+
+	private volatile AtomicLongArray previous;
+
+	private volatile long currentWindowStart = System.nanoTime();
+
+	/**
+	 * Create a filter for the provided expected number of insertions per window
+	 * and the desired false positive probability.
+	 * @param expectedInsertions the number of keys expected to be put during a window.
+	 * @param falsePositiveProbability the desired false positive probability; between 0 and 1 exclusive.
+	 * @param window the period after which the oldest generation of keys is discarded.
+	 */
+	public TimeWindowBloomFilter(int expectedInsertions, double falsePositiveProbability, Duration window) {
+		Assert.isTrue(expectedInsertions > 0, "'expectedInsertions' must be greater than 0");
+		Assert.isTrue(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+				"'falsePositiveProbability' must be between 0 and 1 exclusive");
+		Assert.isTrue(window != null && !window.isNegative() && !window.isZero(), "'window' must be positive");
+		double ln2 = Math.log(2);
+		long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+		Assert.isTrue(bits <= Integer.MAX_VALUE - Long.SIZE,
+				"The 'expectedInsertions' is too large for the 'falsePositiveProbability'");
+		this.numberOfBits = (int) Math.max(Long.SIZE, bits);
+		this.numberOfHashFunctions =
+				Math.max(1, (int) Math.round((double) this.numberOfBits / expectedInsertions * ln2));
+		this.windowNanos = window.toNanos();
+		this.current = newBits();
+		this.previous = newBits();
+	}
+
+	/**
+	 * Check if the key might have been put into this filter during the remembered period.
+	 * @param key the key to check.
+	 * @return false if the key has definitely not been put; true otherwise.
+	 */
+	public boolean mightContain(String key) {
+		rotateIfNecessary();
+		long[] hashes = hash(key);
+		boolean result = contains(this.current, hashes) || contains(this.previous, hashes);
+		if (result) {
+			this.possibleDuplicates.increment();
+		}
+		return result;
+	}
+
+	/**
+	 * Record the key into the current generation of this filter.
+	 * @param key the key to put.
+	 */
+	public void put(String key) {
+		rotateIfNecessary();
+		long[] hashes = hash(key);
+		AtomicLongArray bits = this.current;
+		for (int i = 0; i < this.numberOfHashFunctions; i++) {
+			int index = index(hashes, i);
+			long mask = 1L << index;
+			int word = index >>> 6; // NOSONAR magic number
+			long value = bits.get(word);
+			while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+				value = bits.get(word);
+			}
+		}
+		this.insertions.increment();
+	}
+
+	/**
+	 * Return the number of bits in each generation of this filter.
+	 * @return the number of bits.
+	 */
+	public int getNumberOfBits() {
+		return this.numberOfBits;
+	}
+
+	/**
+	 * Return the number of hash functions (bits per key).
+	 * @return the number of hash functions.
+	 */
+	public int getNumberOfHashFunctions() {
+		return this.numberOfHashFunctions;
+	}
+
+	/**
+	 * Return the total number of keys {@link #put} into this filter.
+	 * @return the number of insertions.
+	 */
+	public long getInsertionCount() {
+		return this.insertions.sum();
+	}
+
+	/**
+	 * Return the total number of {@link #mightContain} calls which answered {@code true}.
+	 * @return the number of possible duplicates.
+	 */
+	public long getPossibleDuplicateCount() {
+		return this.possibleDuplicates.sum();
+	}
+
+	/**
+	 * Return the current false positive probability estimated from the share of the set bits
+	 * in both generations.
+	 * @return the estimated false positive probability.
+	 */
+	public double getEstimatedFalsePositiveProbability() {
+		double currentFill = (double) bitCount(this.current) / this.numberOfBits;
+		double previousFill = (double) bitCount(this.previous) / this.numberOfBits;
+		double currentProbability = Math.pow(currentFill, this.numberOfHashFunctions);
+		double previousProbability = Math.pow(previousFill, this.numberOfHashFunctions);
+		return currentProbability + previousProbability - currentProbability * previousProbability;
+	}
+
+	private void rotateIfNecessary() {
+		if (System.nanoTime() - this.currentWindowStart >= this.windowNanos) {
+			this.rotationLock.lock();
+			try {
+				long now = System.nanoTime();
+				long elapsed = now - this.currentWindowStart;
+				if (elapsed >= this.windowNanos) {
+					this.previous = elapsed >= 2 * this.windowNanos ? newBits() : this.current;
+					this.current = newBits();
+					this.currentWindowStart = now;
+				}
+			}
+			finally {
+				this.rotationLock.unlock();
+			}
+		}
+	}
+
+	private AtomicLongArray newBits() {
+		return new AtomicLongArray((this.numberOfBits + Long.SIZE - 1) / Long.SIZE);
+	}
+
+	private boolean contains(AtomicLongArray bits, long[] hashes) {
+		for (int i = 0; i < this.numberOfHashFunctions; i++) {
+			int index = index(hashes, i);
+			if ((bits.get(index >>> 6) & (1L << index)) == 0) { // NOSONAR magic number
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int index(long[] hashes, int i) {
+		long combined = hashes[0] + i * hashes[1];
+		return (int) ((combined & Long.MAX_VALUE) % this.numberOfBits);
+	}
+
+	private static long bitCount(AtomicLongArray bits) {
+		long count = 0;
+		for (int i = 0; i < bits.length(); i++) {
+			count += Long.bitCount(bits.get(i));
+		}
+		return count;
+	}
+
+	/**
+	 * Two independent 64-bit hashes (FNV-1a with a MurmurHash3 finalizer)
+	 * for the double hashing scheme.
+	 */
+	private static long[] hash(String key) {
+		byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+		long h1 = 0xcbf29ce484222325L; // NOSONAR magic number
+		long h2 = 0x9e3779b97f4a7c15L; // NOSONAR magic number
+		for (byte b : bytes) {
+			h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L; // NOSONAR magic number
+			h2 = (h2 ^ (b & 0xff)) * 0xc2b2ae3d27d4eb4fL; // NOSONAR magic number
+		}
+		return new long[] {fmix(h1), fmix(h2) | 1};
+	}
+
+	private static long fmix(long hash) {
+		long h = hash;
+		h ^= h >>> 33; // NOSONAR magic number
+		h *= 0xff51afd7ed558ccdL; // NOSONAR magic number
+		h ^= h >>> 33; // NOSONAR magic number
+		h *= 0xc4ceb3e52ed6e5a9L; // NOSONAR magic number
+		h ^= h >>> 33; // NOSONAR magic number
+		return h;
+	}
+
+}
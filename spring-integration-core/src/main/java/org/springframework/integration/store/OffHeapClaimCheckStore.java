@@ -0,0 +1,415 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.integration.support.MutableMessage;
+import org.springframework.integration.support.converter.AllowListDeserializingConverter;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReferenceCountingMessageStore} for the claim check pattern which keeps the payload
+ * bytes out of the heap: in a direct memory arena, or in a memory-mapped file when the
+ * {@link #setDirectory(String) directory} is provided.
+ * Only the message headers and the index of the arena blocks are kept on the heap.
+ * <p>
+ * The arena is split into the blocks of the {@link #setBlockSize(int) block size};
+ * a payload occupies as many blocks as needed, and they are returned to the arena
+ * when the message is removed or its last reference is checked out.
+ * A {@link MessageStoreException} is thrown when there are not enough free blocks in the arena.
+ * <p>
+ * The {@code byte[]} and {@link String} payloads are stored as is,
+ * the other payloads are serialized with the {@link #setSerializer(Serializer) serializer}.
+ * The content of this store does not survive an application restart.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class OffHeapClaimCheckStore implements ReferenceCountingMessageStore, InitializingBean, DisposableBean {
+
+	/**
+	 * The default size of the arena block.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 4096;
+
+	private static final byte BYTES = 0;
+
+	private static final byte STRING = 1;
+
+	private static final byte SERIALIZED = 2;
+
+	private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+	private final ReadWriteLock arenaLock = new ReentrantReadWriteLock();
+
+	private final int capacity;
+
+	private int blockSize;
+
+	private @Nullable String directory;
+
+	private SerializingConverter serializer = new SerializingConverter();
+
+	private AllowListDeserializingConverter deserializer =
+			new AllowListDeserializingConverter(OffHeapClaimCheckStore.class.getClassLoader());
+
+	@SuppressWarnings("NullAway.Init")
+	private ByteBuffer arena;
+
+	@SuppressWarnings("NullAway.Init")
+	private int[] freeBlocks;
+
+	private int freeBlockCount;
+
+	private @Nullable Path file;
+
+	private @Nullable FileChannel fileChannel;
+
+	/**
+	 * Create a store with the arena of the provided capacity.
+	 * @param capacity the arena capacity in bytes.
+	 */
+	public OffHeapClaimCheckStore(int capacity) {
+		Assert.isTrue(capacity > 0, "'capacity' must be greater than 0");
+		this.capacity = capacity;
+		this.blockSize = Math.min(DEFAULT_BLOCK_SIZE, capacity);
+	}
+
+	/**
+	 * Set the size of the arena block: the unit of space allocation for payloads.
+	 * Defaults to {@link #DEFAULT_BLOCK_SIZE}, or the capacity if it is smaller.
+	 * @param blockSize the block size in bytes.
+	 */
+	public void setBlockSize(int blockSize) {
+		Assert.isTrue(blockSize > 0 && blockSize <= this.capacity,
+				"'blockSize' must be greater than 0 and not greater than 'capacity'");
+		this.blockSize = blockSize;
+	}
+
+	/**
+	 * Set a directory for the memory-mapped arena file.
+	 * The file is created on {@link #afterPropertiesSet()} and deleted on {@link #destroy()}.
+	 * If not provided, the arena is allocated in direct memory.
+	 * @param directory the directory for the arena file.
+	 */
+	public void setDirectory(String directory) {
+		Assert.hasText(directory, "'directory' must not be empty");
+		this.directory = directory;
+	}
+
+	/**
+	 * A serializer for the payloads other than {@code byte[]} and {@link String}.
+	 * @param serializer the serializer to use.
+	 */
+	@SuppressWarnings("unchecked")
+	public void setSerializer(Serializer<?> serializer) {
+		this.serializer = new SerializingConverter((Serializer<Object>) serializer);
+	}
+
+	/**
+	 * A deserializer for the payloads other than {@code byte[]} and {@link String}.
+	 * @param deserializer the deserializer to use.
+	 */
+	@SuppressWarnings("unchecked")
+	public void setDeserializer(Deserializer<?> deserializer) {
+		this.deserializer = new AllowListDeserializingConverter((Deserializer<Object>) deserializer);
+	}
+
+	/**
+	 * Add patterns for packages/classes that are allowed to be deserialized.
+	 * A class can be fully qualified or a wildcard '*' is allowed at the
+	 * beginning or end of the class name. Examples: {@code com.foo.*}, {@code *.MyClass}.
+	 * @param patterns the patterns.
+	 */
+	public void addAllowedPatterns(String... patterns) {
+		this.deserializer.addAllowedPatterns(patterns);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		int blockCount = this.capacity / this.blockSize;
+		int arenaSize = blockCount * this.blockSize;
+		if (this.directory != null) {
+			try {
+				Path dir = Paths.get(this.directory);
+				Files.createDirectories(dir);
+				Path arenaFile = Files.createTempFile(dir, "claim-check-", ".arena");
+				FileChannel channel = FileChannel.open(arenaFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+				this.arena = channel.map(FileChannel.MapMode.READ_WRITE, 0, arenaSize);
+				this.file = arenaFile;
+				this.fileChannel = channel;
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to map the arena file in " + this.directory, ex);
+			}
+		}
+		else {
+			this.arena = ByteBuffer.allocateDirect(arenaSize);
+		}
+		this.freeBlocks = new int[blockCount];
+		for (int i = 0; i < blockCount; i++) {
+			this.freeBlocks[i] = blockCount - 1 - i;
+		}
+		this.freeBlockCount = blockCount;
+	}
+
+	@Override
+	public <T> Message<T> addMessage(Message<T> message) {
+		return addMessage(message, 1);
+	}
+
+	@Override
+	public <T> Message<T> addMessage(Message<T> message, int references) {
+		Assert.isTrue(references > 0, "'references' must be greater than 0");
+		UUID id = message.getHeaders().getId();
+		Assert.notNull(id, "ID header must not be null");
+		Object payload = message.getPayload();
+		byte type;
+		byte[] bytes;
+		if (payload instanceof byte[] byteArray) {
+			type = BYTES;
+			bytes = byteArray;
+		}
+		else if (payload instanceof String string) {
+			type = STRING;
+			bytes = string.getBytes(StandardCharsets.UTF_8);
+		}
+		else {
+			type = SERIALIZED;
+			bytes = this.serializer.convert(payload);
+		}
+		int[] blocks = allocate(message, (bytes.length + this.blockSize - 1) / this.blockSize);
+		for (int i = 0; i < blocks.length; i++) {
+			int offset = i * this.blockSize;
+			this.arena.put(blocks[i] * this.blockSize, bytes, offset, Math.min(this.blockSize, bytes.length - offset));
+		}
+		Entry previous = this.entries.put(id, new Entry(message.getHeaders(), type, bytes.length, blocks, references));
+		if (previous != null) {
+			free(previous);
+		}
+		return message;
+	}
+
+	@Override
+	public @Nullable Message<?> getMessage(UUID id) {
+		Entry entry = this.entries.get(id);
+		return entry != null ? readIfNotFreed(entry) : null;
+	}
+
+	@Override
+	public @Nullable Message<?> checkOutMessage(UUID id) {
+		Entry entry = this.entries.get(id);
+		if (entry == null) {
+			return null;
+		}
+		Message<?> message;
+		int references;
+		Lock lock = this.arenaLock.readLock();
+		lock.lock();
+		try {
+			references = entry.references.getAndUpdate((count) -> count > 0 ? count - 1 : count);
+			if (references <= 0 || entry.freed) {
+				return null;
+			}
+			message = read(entry);
+		}
+		finally {
+			lock.unlock();
+		}
+		if (references == 1 && this.entries.remove(id, entry)) {
+			free(entry);
+		}
+		return message;
+	}
+
+	@Override
+	public @Nullable MessageMetadata getMessageMetadata(UUID id) {
+		Entry entry = this.entries.get(id);
+		if (entry == null) {
+			return null;
+		}
+		MessageMetadata messageMetadata = new MessageMetadata(id);
+		Long timestamp = entry.headers.getTimestamp();
+		if (timestamp != null) {
+			messageMetadata.setTimestamp(timestamp);
+		}
+		return messageMetadata;
+	}
+
+	@Override
+	public @Nullable Message<?> removeMessage(UUID id) {
+		Entry entry = this.entries.remove(id);
+		if (entry == null) {
+			return null;
+		}
+		Message<?> message = readIfNotFreed(entry);
+		free(entry);
+		return message;
+	}
+
+	@Override
+	@ManagedAttribute
+	public long getMessageCount() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Return the number of bytes available in the arena for new payloads.
+	 * @return the number of free bytes.
+	 */
+	@ManagedAttribute
+	public long getFreeBytes() {
+		Lock lock = this.arenaLock.readLock();
+		lock.lock();
+		try {
+			return (long) this.freeBlockCount * this.blockSize;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void destroy() throws IOException {
+		this.entries.clear();
+		FileChannel channel = this.fileChannel;
+		if (channel != null) {
+			channel.close();
+			this.fileChannel = null;
+		}
+		Path arenaFile = this.file;
+		if (arenaFile != null) {
+			Files.deleteIfExists(arenaFile);
+			this.file = null;
+		}
+	}
+
+	private @Nullable Message<?> readIfNotFreed(Entry entry) {
+		Lock lock = this.arenaLock.readLock();
+		lock.lock();
+		try {
+			return entry.freed ? null : read(entry);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private Message<?> read(Entry entry) {
+		byte[] bytes = new byte[entry.length];
+		for (int i = 0; i < entry.blocks.length; i++) {
+			int offset = i * this.blockSize;
+			this.arena.get(entry.blocks[i] * this.blockSize, bytes, offset,
+					Math.min(this.blockSize, bytes.length - offset));
+		}
+		Object payload =
+				switch (entry.type) {
+					case BYTES -> bytes;
+					case STRING -> new String(bytes, StandardCharsets.UTF_8);
+					default -> this.deserializer.convert(bytes);
+				};
+		return new MutableMessage<>(payload, entry.headers);
+	}
+
+	private int[] allocate(Message<?> message, int blockCount) {
+		Lock lock = this.arenaLock.writeLock();
+		lock.lock();
+		try {
+			if (this.freeBlockCount < blockCount) {
+				throw new MessageStoreException(message,
+						"Not enough space in the arena: " + blockCount + " blocks of " + this.blockSize +
+								" bytes required, but only " + this.freeBlockCount + " available.");
+			}
+			int[] blocks = new int[blockCount];
+			for (int i = 0; i < blockCount; i++) {
+				blocks[i] = this.freeBlocks[--this.freeBlockCount];
+			}
+			return blocks;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void free(Entry entry) {
+		Lock lock = this.arenaLock.writeLock();
+		lock.lock();
+		try {
+			if (!entry.freed) {
+				entry.freed = true;
+				for (int block : entry.blocks) {
+					this.freeBlocks[this.freeBlockCount++] = block;
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static final class Entry {
+
+		private final MessageHeaders headers;
+
+		private final byte type;
+
+		private final int length;
+
+		private final int[] blocks;
+
+		private final AtomicInteger references;
+
+		private volatile boolean freed;
+
+		Entry(MessageHeaders headers, byte type, int length, int[] blocks, int references) {
+			this.headers = headers;
+			this.type = type;
+			this.length = length;
+			this.blocks = blocks;
+			this.references = new AtomicInteger(references);
+		}
+
+	}
+
+}
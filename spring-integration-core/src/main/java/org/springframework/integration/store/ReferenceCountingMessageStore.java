@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.messaging.Message;
+
+/**
+ * A {@link MessageStore} which counts the references to the stored messages,
+ * so a message checked in once can be checked out by several readers (e.g. in a fan-out flow)
+ * and is removed from the store when the last reader checks it out.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see org.springframework.integration.transformer.ClaimCheckInTransformer#setReaders(int)
+ * @see org.springframework.integration.transformer.ClaimCheckOutTransformer#setRemoveMessage(boolean)
+ */
+public interface ReferenceCountingMessageStore extends MessageStore {
+
+	/**
+	 * Store the message with the provided number of references.
+	 * @param message the message to store.
+	 * @param references the number of {@link #checkOutMessage(UUID)} calls to remove the message after.
+	 * @param <T> the payload type.
+	 * @return the message that was stored.
+	 */
+	<T> Message<T> addMessage(Message<T> message, int references);
+
+	/**
+	 * Return the message and release one reference to it.
+	 * The message is removed from the store when its last reference is released.
+	 * @param id the message id.
+	 * @return the message, or {@code null} if there is no message for the id,
+	 * or all its references have been released already.
+	 */
+	@Nullable
+	Message<?> checkOutMessage(UUID id);
+
+}
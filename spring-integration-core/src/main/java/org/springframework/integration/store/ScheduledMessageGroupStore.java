@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.messaging.Message;
+
+/**
+ * A {@link MessageGroupStore} which keeps scheduled messages indexed by their
+ * due time (for example, a sorted set score or an indexed column), so the messages which are due
+ * can be fetched in batches without loading the whole group.
+ * <p>
+ * The scheduled messages are kept apart from the regular messages of the group:
+ * scheduling and polling must not read and rewrite the group metadata, so their cost does not
+ * depend on the number of scheduled messages, and concurrent instances do not lose each other's updates.
+ * <p>
+ * The due messages are claimed with a lease rather than removed when polled: they are removed only
+ * after they have been released, and are polled again when the lease expires without the removal
+ * (for example, the process has crashed in between), so the release is at-least-once.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see org.springframework.integration.handler.DelayHandler#setIndexedDueTime(boolean)
+ */
+public interface ScheduledMessageGroupStore extends MessageGroupStore {
+
+	/**
+	 * Store the message for the group and index it by the provided due time.
+	 * @param groupId the group id to store the message under.
+	 * @param message the message to store.
+	 * @param dueTime the epoch milliseconds when the message is due.
+	 */
+	void scheduleMessage(Object groupId, Message<?> message, long dueTime);
+
+	/**
+	 * Atomically claim and return the scheduled messages with the due time not after
+	 * the provided one, ordered by their due time.
+	 * The claimed messages stay in the store with their due time moved to the {@code leaseExpiration},
+	 * so they are not returned to any other caller until then, unless they are
+	 * {@link #removeScheduledMessages(Object, Collection) removed} or scheduled again in between.
+	 * @param groupId the group id.
+	 * @param dueTime the epoch milliseconds to poll the messages due by.
+	 * @param maxMessages the maximum number of messages to poll.
+	 * @param leaseExpiration the epoch milliseconds when the claimed messages become due again.
+	 * @return the due messages; an empty list if there are none.
+	 */
+	List<Message<?>> pollDueMessages(Object groupId, long dueTime, int maxMessages, long leaseExpiration);
+
+	/**
+	 * Remove the scheduled messages from the store, for example, after they have been released.
+	 * @param groupId the group id.
+	 * @param messageIds the ids of the messages to remove.
+	 */
+	void removeScheduledMessages(Object groupId, Collection<UUID> messageIds);
+
+	/**
+	 * Return the due time of the earliest scheduled message in the group.
+	 * @param groupId the group id.
+	 * @return the epoch milliseconds of the earliest due time, or {@code null} if there are no
+	 * scheduled messages in the group.
+	 */
+	@Nullable Long getNextDueTime(Object groupId);
+
+	/**
+	 * Return the number of scheduled messages in the group.
+	 * @param groupId the group id.
+	 * @return the number of scheduled messages.
+	 */
+	int getScheduledMessageCount(Object groupId);
+
+}
@@ -18,6 +18,7 @@ package org.springframework.integration.support.leader;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -38,6 +39,7 @@ import org.springframework.integration.leader.DefaultCandidate;
 import org.springframework.integration.leader.event.DefaultLeaderEventPublisher;
 import org.springframework.integration.leader.event.LeaderEventPublisher;
 import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.integration.support.locks.ReleaseNotifyingLockRegistry;
 import org.springframework.util.Assert;
 
 /**
@@ -117,6 +119,8 @@ public class LockRegistryLeaderInitiator implements SmartLifecycle, DisposableBe
 
 	private boolean publishFailedEvents = false;
 
+	private boolean releaseNotifications;
+
 	private @Nullable LeaderSelector leaderSelector;
 
 	@SuppressWarnings("NullAway.Init")
@@ -275,6 +279,26 @@ public class LockRegistryLeaderInitiator implements SmartLifecycle, DisposableBe
 		this.publishFailedEvents = publishFailedEvents;
 	}
 
+	/**
+	 * Whether to use the lock release notifications when the lock registry is a
+	 * {@link ReleaseNotifyingLockRegistry}. In this mode, a node which is not a leader
+	 * tries to acquire the lock without waiting and then waits for a release notification
+	 * at most {@link #setHeartBeatMillis(long) heartBeatMillis} before the next attempt, instead of
+	 * polling the lock store. This way the leadership is taken over as soon as the leader
+	 * releases the lock and the lock store is queried only once per heart beat.
+	 * The periodic attempts are still needed for the locks expired in the store.
+	 * Enable this only when the registry is notified about the releases made by other instances
+	 * (e.g. a {@code JdbcLockRegistry} with a {@code PostgresLockReleaseNotifier}): otherwise a release by
+	 * a remote leader is detected only with the next attempt per heart beat, instead of per
+	 * {@link #setBusyWaitMillis(long) busyWaitMillis}.
+	 * Defaults to {@code false}.
+	 * @param releaseNotifications true to wait for the release notifications instead of polling the lock store.
+	 * @since 7.2
+	 */
+	public void setReleaseNotifications(boolean releaseNotifications) {
+		this.releaseNotifications = releaseNotifications;
+	}
+
 	/**
 	 * Start the registration of the {@link #candidate} for leader election.
 	 */
@@ -287,6 +311,7 @@ public class LockRegistryLeaderInitiator implements SmartLifecycle, DisposableBe
 			}
 			if (!this.running) {
 				this.leaderSelector = new LeaderSelector(buildLeaderPath());
+				this.leaderSelector.subscribeReleases();
 				this.running = true;
 				this.future = this.taskExecutor.submit(this.leaderSelector);
 				LOGGER.debug("Started LeaderInitiator");
@@ -312,6 +337,9 @@ public class LockRegistryLeaderInitiator implements SmartLifecycle, DisposableBe
 		try {
 			if (this.running) {
 				this.running = false;
+				if (this.leaderSelector != null) {
+					this.leaderSelector.unsubscribeReleases();
+				}
 				Future<?> futureToCancel = this.future;
 				if (futureToCancel != null) {
 					futureToCancel.cancel(true);
@@ -340,6 +368,12 @@ public class LockRegistryLeaderInitiator implements SmartLifecycle, DisposableBe
 
 		private final LockContext context = new LockContext(this);
 
+		private final @Nullable ReleaseNotifyingLockRegistry<?> notifyingLocks;
+
+		private final Semaphore released = new Semaphore(0);
+
+		private final Runnable releaseListener = this.released::release;
+
 		private volatile boolean locked = false;
 
 		private volatile boolean yielding = false;
@@ -347,6 +381,23 @@ public class LockRegistryLeaderInitiator implements SmartLifecycle, DisposableBe
 		LeaderSelector(String lockKey) {
 			this.lock = LockRegistryLeaderInitiator.this.locks.obtain(lockKey);
 			this.lockKey = lockKey;
+			this.notifyingLocks =
+					LockRegistryLeaderInitiator.this.releaseNotifications
+							&& LockRegistryLeaderInitiator.this.locks instanceof ReleaseNotifyingLockRegistry<?> registry
+							? registry
+							: null;
+		}
+
+		void subscribeReleases() {
+			if (this.notifyingLocks != null) {
+				this.notifyingLocks.addReleaseListener(this.lockKey, this.releaseListener);
+			}
+		}
+
+		void unsubscribeReleases() {
+			if (this.notifyingLocks != null) {
+				this.notifyingLocks.removeReleaseListener(this.lockKey, this.releaseListener);
+			}
 		}
 
 		@Override
@@ -393,17 +444,32 @@ public class LockRegistryLeaderInitiator implements SmartLifecycle, DisposableBe
 
 		private void tryAcquireLock() throws InterruptedException {
 			LOGGER.debug(() -> "Acquiring the lock for " + this.context);
-			// We always try to acquire the lock, in case it expired
-			boolean acquired =
-					this.lock.tryLock(LockRegistryLeaderInitiator.this.heartBeatMillis, TimeUnit.MILLISECONDS);
+			boolean waitForRelease = !this.locked && this.notifyingLocks != null;
+			boolean acquired;
+			if (waitForRelease) {
+				// Forget the releases before this attempt: they are covered by it
+				this.released.drainPermits();
+				acquired = this.lock.tryLock();
+			}
+			else {
+				// We always try to acquire the lock, in case it expired
+				acquired = this.lock.tryLock(LockRegistryLeaderInitiator.this.heartBeatMillis, TimeUnit.MILLISECONDS);
+			}
 			if (!this.locked) {
 				if (acquired) {
 					// Success: we are now leader
 					this.locked = true;
 					handleGranted();
 				}
-				else if (isPublishFailedEvents()) {
-					publishFailedToAcquire();
+				else {
+					if (isPublishFailedEvents()) {
+						publishFailedToAcquire();
+					}
+					if (waitForRelease) {
+						// Try again as soon as the lock is released, or on the heart beat in case the lock expired
+						this.released.tryAcquire(LockRegistryLeaderInitiator.this.heartBeatMillis, // NOSONAR
+								TimeUnit.MILLISECONDS);
+					}
 				}
 			}
 			else if (acquired) {
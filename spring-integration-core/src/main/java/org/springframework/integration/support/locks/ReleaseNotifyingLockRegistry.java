@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.locks;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * A {@link LockRegistry} implementing this interface can notify about the release
+ * of its locks, so the parties waiting for a lock can try to acquire it immediately
+ * instead of polling the lock store.
+ * <p>
+ * The notifications are a hint: they may be delayed, duplicated or lost (e.g. when a lock
+ * expires in the store, or a notification connection is re-established), so the waiting
+ * parties still have to re-try periodically.
+ * @param <L> The expected class of the lock implementation
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see org.springframework.integration.support.leader.LockRegistryLeaderInitiator
+ */
+public interface ReleaseNotifyingLockRegistry<L extends Lock> extends LockRegistry<L> {
+
+	/**
+	 * Add a listener to be called when the lock associated with the key is released.
+	 * The listener is called on a thread of the notification infrastructure,
+	 * so it must not block.
+	 * @param lockKey The object with which the lock is associated.
+	 * @param listener the listener.
+	 */
+	void addReleaseListener(Object lockKey, Runnable listener);
+
+	/**
+	 * Remove the listener for the lock associated with the key.
+	 * @param lockKey The object with which the lock is associated.
+	 * @param listener the listener.
+	 */
+	void removeReleaseListener(Object lockKey, Runnable listener);
+
+}
@@ -22,6 +22,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.integration.support.context.NamedComponent;
 import org.springframework.integration.support.management.metrics.MetricsCaptor;
+import org.springframework.integration.support.management.observation.IntegrationObservationSampler;
 import org.springframework.jmx.export.annotation.ManagedAttribute;
 
 /**
@@ -41,6 +42,21 @@ public interface IntegrationManagement extends NamedComponent, DisposableBean {
 
 	String RECEIVE_COUNTER_NAME = METER_PREFIX + "receive";
 
+	/**
+	 * The name of the counter for all the send operations of a component with
+	 * the {@link #setMetricsSampleRate(int) metricsSampleRate} greater than 1,
+	 * since the count of the sampled {@link #SEND_TIMER_NAME} timer is then only an estimate.
+	 * @since 7.2
+	 */
+	String SEND_COUNTER_NAME = METER_PREFIX + "send.count";
+
+	/**
+	 * The name of the timer for the time messages wait in a queue (or an executor)
+	 * of a channel until they are processed.
+	 * @since 7.2
+	 */
+	String QUEUE_TIMER_NAME = METER_PREFIX + "queue";
+
 	/**
 	 * Enable logging or not.
 	 * @param enabled false to disable.
@@ -92,6 +108,30 @@ public interface IntegrationManagement extends NamedComponent, DisposableBean {
 		// no op
 	}
 
+	/**
+	 * Set the rate for sampling the send timer: only one (randomly chosen) of every
+	 * {@code sampleRate} operations is timed, so the timer count is the number of operations
+	 * divided by the rate, while the time statistics stay representative.
+	 * With the rate greater than 1, all the operations are counted by the
+	 * unsampled {@link #SEND_COUNTER_NAME} counter.
+	 * The lower overhead allows the metrics to stay enabled for high-throughput components.
+	 * @param sampleRate the sample rate; 1 (default) to time all the operations.
+	 * @since 7.2
+	 */
+	@ManagedAttribute(description = "Time only one of every N operations")
+	default void setMetricsSampleRate(int sampleRate) {
+	}
+
+	/**
+	 * Return the rate for sampling the send timer.
+	 * @return the sample rate.
+	 * @since 7.2
+	 */
+	@ManagedAttribute
+	default int getMetricsSampleRate() {
+		return 1;
+	}
+
 	/**
 	 * Inject an {@link ObservationRegistry}.
 	 * If provided, the {@link MetricsCaptor} is ignored.
@@ -105,6 +145,17 @@ public interface IntegrationManagement extends NamedComponent, DisposableBean {
 		// no op
 	}
 
+	/**
+	 * Inject an {@link IntegrationObservationSampler} to observe only a sample of the message flows.
+	 * Ignored if no {@link ObservationRegistry} is provided.
+	 * @param observationSampler the sampler.
+	 * @since 7.2
+	 * @see #registerObservationRegistry(ObservationRegistry)
+	 */
+	default void registerObservationSampler(IntegrationObservationSampler observationSampler) {
+		// no op
+	}
+
 	/**
 	 * True if this implementation is going to deal with a registry other than the {@link  ObservationRegistry#NOOP} instance.
 	 * @return true if this implementation is going to deal with a registry other than the {@link  ObservationRegistry#NOOP} instance.
@@ -141,6 +192,12 @@ public interface IntegrationManagement extends NamedComponent, DisposableBean {
 
 		public boolean loggingConfigured; // NOSONAR
 
+		/**
+		 * Whether the metrics sample rate has been configured on the component.
+		 * @since 7.2
+		 */
+		public boolean metricsSampleRateConfigured; // NOSONAR
+
 	}
 
 }
@@ -24,6 +24,7 @@ import org.jspecify.annotations.Nullable;
  * A metrics facade that delegates to a concrete implementation.
  *
  * @author Gary Russell
+ * @author Artem Bilan
  * @since 5.0.4
  *
  */
@@ -58,6 +59,17 @@ public interface MetricsCaptor {
 	 */
 	SampleFacade start();
 
+	/**
+	 * Return the current value of the monotonic clock used by the timers, in nanoseconds.
+	 * Used to time operations directly into a pre-built timer via
+	 * {@link TimerFacade#record(long, java.util.concurrent.TimeUnit)} without a {@link SampleFacade}.
+	 * @return the current time in nanoseconds.
+	 * @since 7.2
+	 */
+	default long monotonicTime() {
+		return System.nanoTime();
+	}
+
 	/**
 	 * Remove a meter facade.
 	 * @param facade the facade to remove.
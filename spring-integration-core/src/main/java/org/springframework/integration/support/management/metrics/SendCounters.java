@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.management.metrics;
+
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.support.management.IntegrationManagement;
+
+/**
+ * The unsampled {@link IntegrationManagement#SEND_COUNTER_NAME} success and failure counters
+ * for a component which samples its send timers.
+ * The counters are built lazily on the first increment and removed from the registry
+ * via {@link #remove()}, e.g. when the component is destroyed.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public final class SendCounters {
+
+	private final String type;
+
+	private final Supplier<@Nullable String> nameSupplier;
+
+	private volatile @Nullable CounterFacade successCounter;
+
+	private volatile @Nullable CounterFacade failureCounter;
+
+	/**
+	 * Create an instance for the component of the provided type.
+	 * @param type the {@code type} tag value, e.g. {@code channel}.
+	 * @param nameSupplier the {@code name} tag value supplier; {@code unknown} is used if it returns null.
+	 */
+	public SendCounters(String type, Supplier<@Nullable String> nameSupplier) {
+		this.type = type;
+		this.nameSupplier = nameSupplier;
+	}
+
+	/**
+	 * Increment the success or failure counter, building it on the first call.
+	 * @param metricsCaptor the metrics captor to build the counter.
+	 * @param success whether the operation was successful.
+	 */
+	public void increment(MetricsCaptor metricsCaptor, boolean success) {
+		CounterFacade counter = success ? this.successCounter : this.failureCounter;
+		if (counter == null) {
+			String name = this.nameSupplier.get();
+			counter = metricsCaptor.counterBuilder(IntegrationManagement.SEND_COUNTER_NAME)
+					.tag("type", this.type)
+					.tag("name", name == null ? "unknown" : name)
+					.tag("result", success ? "success" : "failure")
+					.description("Messages sent")
+					.build();
+			if (success) {
+				this.successCounter = counter;
+			}
+			else {
+				this.failureCounter = counter;
+			}
+		}
+		counter.increment();
+	}
+
+	/**
+	 * Remove the counters from the registry, if they have been built.
+	 */
+	public void remove() {
+		CounterFacade counter = this.successCounter;
+		if (counter != null) {
+			counter.remove();
+			this.successCounter = null;
+		}
+		counter = this.failureCounter;
+		if (counter != null) {
+			counter.remove();
+			this.failureCounter = null;
+		}
+	}
+
+}
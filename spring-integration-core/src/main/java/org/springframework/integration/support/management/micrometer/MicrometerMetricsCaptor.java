@@ -92,6 +92,11 @@ public class MicrometerMetricsCaptor implements MetricsCaptor {
 		return new MicroSample(Timer.start(getMeterRegistry()));
 	}
 
+	@Override
+	public long monotonicTime() {
+		return getMeterRegistry().config().clock().monotonicTime();
+	}
+
 	@Override
 	public @Nullable MeterFacade removeMeter(MeterFacade facade) {
 		return facade.remove();
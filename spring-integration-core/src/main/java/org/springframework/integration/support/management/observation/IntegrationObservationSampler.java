@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.management.observation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.support.MutableMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.util.Assert;
+
+/**
+ * A head-based sampler for the observation of integration flows.
+ * <p>
+ * The sampling decision is made once per flow, at the component which gets the message
+ * without an active parent {@link Observation}: an inbound endpoint, a gateway or a channel
+ * the message is sent to from the application code.
+ * Only one (randomly chosen) of every {@code sampleRate} flows is observed; for the rest of the
+ * flows no observation contexts are created and no tracing headers are propagated.
+ * <p>
+ * The downstream components on the same thread follow the decision: they are observed
+ * as children of the current observation, or they are not observed at all, if the flow has not
+ * been sampled. To carry the decision over thread boundaries (e.g. a
+ * {@link org.springframework.integration.channel.QueueChannel}), the observed channels add the
+ * {@link #SAMPLED_HEADER} to the message and the message handlers without a parent observation
+ * are observed only for messages with this header.
+ * The message handlers and gateways remove this header (see {@link #removeSampledHeader(Message)}),
+ * so it is not propagated to the replies and outbound messages.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see org.springframework.integration.support.management.IntegrationManagement#registerObservationSampler
+ */
+public class IntegrationObservationSampler {
+
+	/**
+	 * The header to mark the messages of a sampled flow.
+	 */
+	public static final String SAMPLED_HEADER = "observationSampled";
+
+	private static final ThreadLocal<Boolean> UNSAMPLED = new ThreadLocal<>();
+
+	private final int sampleRate;
+
+	/**
+	 * Create an instance to observe one of every {@code sampleRate} flows.
+	 * @param sampleRate the sample rate.
+	 */
+	public IntegrationObservationSampler(int sampleRate) {
+		Assert.isTrue(sampleRate > 0, "'sampleRate' must be greater than 0");
+		this.sampleRate = sampleRate;
+	}
+
+	public int getSampleRate() {
+		return this.sampleRate;
+	}
+
+	/**
+	 * Determine whether a component, which may start a flow, has to observe the message.
+	 * The flow is sampled randomly, unless there is a decision already made upstream.
+	 * @param observationRegistry the registry of the component.
+	 * @param message the message.
+	 * @return true if the message has to be observed.
+	 */
+	public boolean sample(ObservationRegistry observationRegistry, Message<?> message) {
+		if (isPartOfFlow(observationRegistry, message)) {
+			return true;
+		}
+		if (UNSAMPLED.get() != null) {
+			return false;
+		}
+		return this.sampleRate == 1 || ThreadLocalRandom.current().nextInt(this.sampleRate) == 0;
+	}
+
+	/**
+	 * Determine whether a component, which only continues a flow (a message handler),
+	 * has to observe the message: there is a parent observation, or the message has been
+	 * marked as sampled upstream.
+	 * @param observationRegistry the registry of the component.
+	 * @param message the message.
+	 * @return true if the message has to be observed.
+	 */
+	public boolean isSampled(ObservationRegistry observationRegistry, Message<?> message) {
+		return isPartOfFlow(observationRegistry, message);
+	}
+
+	private static boolean isPartOfFlow(ObservationRegistry observationRegistry, Message<?> message) {
+		Observation currentObservation = observationRegistry.getCurrentObservation();
+		return (currentObservation != null && !currentObservation.isNoop())
+				|| message.getHeaders().containsKey(SAMPLED_HEADER);
+	}
+
+	/**
+	 * Return a copy of the message without the {@link #SAMPLED_HEADER},
+	 * or the message itself if it does not have this header.
+	 * The message is not modified, so the other subscribers still see the header.
+	 * @param message the message.
+	 * @return the message without the {@link #SAMPLED_HEADER}.
+	 */
+	public static Message<?> removeSampledHeader(Message<?> message) {
+		if (!message.getHeaders().containsKey(SAMPLED_HEADER)) {
+			return message;
+		}
+		Map<String, Object> headers = new HashMap<>(message.getHeaders());
+		headers.remove(SAMPLED_HEADER);
+		if (message instanceof ErrorMessage errorMessage) {
+			Message<?> originalMessage = errorMessage.getOriginalMessage();
+			return originalMessage != null
+					? new ErrorMessage(errorMessage.getPayload(), headers, originalMessage)
+					: new ErrorMessage(errorMessage.getPayload(), headers);
+		}
+		return new MutableMessage<>(message.getPayload(), headers);
+	}
+
+	/**
+	 * Perform the action of a not sampled flow, so the downstream components
+	 * on the same thread do not sample the flow again.
+	 * @param action the action.
+	 * @param <T> the result type.
+	 * @return the action result.
+	 */
+	public static <T extends @Nullable Object> T callUnsampled(Supplier<T> action) {
+		if (UNSAMPLED.get() != null) {
+			return action.get();
+		}
+		UNSAMPLED.set(Boolean.TRUE);
+		try {
+			return action.get();
+		}
+		finally {
+			UNSAMPLED.remove();
+		}
+	}
+
+	/**
+	 * Perform the action of a not sampled flow, so the downstream components
+	 * on the same thread do not sample the flow again.
+	 * @param action the action.
+	 */
+	public static void runUnsampled(Runnable action) {
+		if (UNSAMPLED.get() != null) {
+			action.run();
+			return;
+		}
+		UNSAMPLED.set(Boolean.TRUE);
+		try {
+			action.run();
+		}
+		finally {
+			UNSAMPLED.remove();
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.UUID;
 import org.springframework.integration.IntegrationPattern;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.store.MessageStore;
+import org.springframework.integration.store.ReferenceCountingMessageStore;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
@@ -37,6 +38,8 @@ public class ClaimCheckInTransformer extends AbstractTransformer implements Inte
 
 	private final MessageStore messageStore;
 
+	private int readers = 1;
+
 	/**
 	 * Create a claim check-in transformer that will delegate to the provided MessageStore.
 	 * @param messageStore The message store.
@@ -46,6 +49,23 @@ public class ClaimCheckInTransformer extends AbstractTransformer implements Inte
 		this.messageStore = messageStore;
 	}
 
+	/**
+	 * Set the number of readers expected to check the message out from the
+	 * {@link ReferenceCountingMessageStore}, e.g. the {@link ClaimCheckOutTransformer}s
+	 * in a fan-out flow.
+	 * The message is removed from the store when the last reader checks it out.
+	 * Defaults to {@code 1}.
+	 * @param readers the number of readers.
+	 * @since 7.2
+	 * @see ReferenceCountingMessageStore#addMessage(Message, int)
+	 */
+	public void setReaders(int readers) {
+		Assert.isTrue(readers > 0, "'readers' must be greater than 0");
+		Assert.isTrue(readers == 1 || this.messageStore instanceof ReferenceCountingMessageStore,
+				"The 'readers' option requires a 'ReferenceCountingMessageStore'");
+		this.readers = readers;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "claim-check-in";
@@ -60,7 +80,12 @@ public class ClaimCheckInTransformer extends AbstractTransformer implements Inte
 	protected Object doTransform(Message<?> message) {
 		UUID id = message.getHeaders().getId();
 		Assert.notNull(id, "ID header must not be null");
-		this.messageStore.addMessage(message);
+		if (this.messageStore instanceof ReferenceCountingMessageStore referenceCountingMessageStore) {
+			referenceCountingMessageStore.addMessage(message, this.readers);
+		}
+		else {
+			this.messageStore.addMessage(message);
+		}
 		return id;
 	}
 
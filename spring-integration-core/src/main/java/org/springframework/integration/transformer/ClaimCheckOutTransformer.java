@@ -22,6 +22,7 @@ import org.springframework.core.log.LogMessage;
 import org.springframework.integration.IntegrationPattern;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.store.MessageStore;
+import org.springframework.integration.store.ReferenceCountingMessageStore;
 import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
@@ -54,6 +55,13 @@ public class ClaimCheckOutTransformer extends AbstractTransformer implements Int
 		this.messageStore = messageStore;
 	}
 
+	/**
+	 * Set to {@code true} to remove the message from the store after retrieval.
+	 * With a {@link ReferenceCountingMessageStore}, the message is checked out instead:
+	 * it is removed when all the readers (see {@link ClaimCheckInTransformer#setReaders(int)})
+	 * have checked it out.
+	 * @param removeMessage true to remove the message.
+	 */
 	public void setRemoveMessage(boolean removeMessage) {
 		this.removeMessage = removeMessage;
 	}
@@ -73,7 +81,11 @@ public class ClaimCheckOutTransformer extends AbstractTransformer implements Int
 		Assert.isTrue(message.getPayload() instanceof UUID, "payload must be a UUID");
 		UUID id = (UUID) message.getPayload();
 		Message<?> retrievedMessage;
-		if (this.removeMessage) {
+		if (this.removeMessage && this.messageStore instanceof ReferenceCountingMessageStore referenceCountingMessageStore) {
+			retrievedMessage = referenceCountingMessageStore.checkOutMessage(id);
+			logger.debug(LogMessage.format("Checked out Message with claim-check '%s' from the MessageStore.", id));
+		}
+		else if (this.removeMessage) {
 			retrievedMessage = this.messageStore.removeMessage(id);
 			logger.debug(LogMessage.format("Removed Message with claim-check '%s' from the MessageStore.", id));
 		}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.transformer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.codec.compression.CompressionCodec;
+import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * Compresses a {@code byte[]}, {@link ByteBuffer}, {@link InputStream} or {@link String} payload
+ * into a {@code byte[]} with the provided {@link CompressionCodec}.
+ * The {@link InputStream} is compressed in a streaming fashion.
+ * The name of the codec is recorded in the {@link IntegrationMessageHeaderAccessor#COMPRESSION_CODEC} header
+ * for the {@link DecompressingTransformer}.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class CompressingTransformer extends AbstractTransformer {
+
+	private final CompressionCodec codec;
+
+	private Charset charset = StandardCharsets.UTF_8;
+
+	/**
+	 * Create an instance based on the provided {@link CompressionCodec}.
+	 * @param codec the codec to compress payloads with.
+	 */
+	public CompressingTransformer(CompressionCodec codec) {
+		Assert.notNull(codec, "'codec' must not be null");
+		this.codec = codec;
+	}
+
+	/**
+	 * Set the charset to convert a {@link String} payload to bytes.
+	 * Defaults to {@code UTF-8}.
+	 * @param charset the charset.
+	 */
+	public void setCharset(String charset) {
+		Assert.hasText(charset, "'charset' must not be empty");
+		this.charset = Charset.forName(charset);
+	}
+
+	@Override
+	public String getComponentType() {
+		return "compressing-transformer";
+	}
+
+	@Override
+	protected Object doTransform(Message<?> message) {
+		Object payload = message.getPayload();
+		Assert.isTrue(payload instanceof byte[] || payload instanceof ByteBuffer
+						|| payload instanceof InputStream || payload instanceof String,
+				() -> "The payload must be a byte[], ByteBuffer, InputStream or String, but it is: "
+						+ payload.getClass());
+		try {
+			ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			try (OutputStream outputStream = this.codec.compress(byteArrayOutputStream)) {
+				if (payload instanceof byte[] bytes) {
+					outputStream.write(bytes);
+				}
+				else if (payload instanceof ByteBuffer byteBuffer) {
+					Channels.newChannel(outputStream).write(byteBuffer.duplicate());
+				}
+				else if (payload instanceof InputStream inputStream) {
+					inputStream.transferTo(outputStream);
+				}
+				else {
+					outputStream.write(((String) payload).getBytes(this.charset));
+				}
+			}
+			AbstractIntegrationMessageBuilder<byte[]> builder =
+					getMessageBuilderFactory()
+							.withPayload(byteArrayOutputStream.toByteArray())
+							.copyHeaders(message.getHeaders())
+							.setHeader(IntegrationMessageHeaderAccessor.COMPRESSION_CODEC, this.codec.getName());
+			Closeable closeableResource = StaticMessageHeaderAccessor.getCloseableResource(message);
+			if (payload instanceof InputStream && closeableResource != null) {
+				closeableResource.close();
+				builder.removeHeader(IntegrationMessageHeaderAccessor.CLOSEABLE_RESOURCE);
+			}
+			return builder.build();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
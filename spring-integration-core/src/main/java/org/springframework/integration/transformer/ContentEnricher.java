@@ -17,8 +17,20 @@
 package org.springframework.integration.transformer;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -51,6 +63,12 @@ import org.springframework.util.ReflectionUtils;
  * either static values or by optionally invoking a downstream message flow via its
  * request channel and then applying values from the reply Message to the original
  * payload.
+ * <p>
+ * Starting with version 7.2, when the {@link #setBatchSize(int) batchSize} is greater than 1,
+ * concurrent (or closely timed) requests are coalesced into a single request message
+ * with a {@link List} of request payloads, and the reply payload (a {@link List} in the
+ * same order or a {@link Map} keyed by the request payloads) is fanned back to the waiting
+ * messages for enrichment.
  *
  * @author Mark Fisher
  * @author Gunnar Hillert
@@ -105,6 +123,14 @@ public class ContentEnricher extends AbstractReplyProducingMessageHandler implem
 
 	private @Nullable Gateway gateway;
 
+	private int batchSize = 1;
+
+	private Duration batchTimeout = Duration.ofMillis(10);
+
+	private @Nullable Duration cacheTimeToLive;
+
+	private @Nullable RequestCoalescer requestCoalescer;
+
 	public void setNullResultPropertyExpressions(Map<String, Expression> nullResultPropertyExpressions) {
 		this.nullResultPropertyExpressions = convertExpressions(nullResultPropertyExpressions);
 	}
@@ -243,6 +269,50 @@ public class ContentEnricher extends AbstractReplyProducingMessageHandler implem
 		this.shouldClonePayload = shouldClonePayload;
 	}
 
+	/**
+	 * Set the maximum number of request payloads to coalesce into a single request message.
+	 * Defaults to 1 - no coalescing.
+	 * When greater than 1, the request message sent to the request channel has a {@link List}
+	 * of distinct request payloads (see {@link #setRequestPayloadExpression(Expression)}),
+	 * and the reply message payload must be a {@link List} of results in the same order,
+	 * or a {@link Map} of results keyed by the request payloads.
+	 * A {@code null} (or missing) result is treated as a {@code null} reply for the
+	 * respective message.
+	 * @param batchSize the maximum number of request payloads in a single request.
+	 * @since 7.2
+	 * @see #setBatchTimeout(Duration)
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the maximum time to wait for more requests to coalesce before sending
+	 * a not yet full batch.
+	 * Defaults to 10 milliseconds.
+	 * Only applied when {@link #setBatchSize(int) batchSize} is greater than 1
+	 * and there are other enrichment requests in flight; a request which is alone
+	 * is sent immediately.
+	 * @param batchTimeout the time to collect a batch.
+	 * @since 7.2
+	 */
+	public void setBatchTimeout(Duration batchTimeout) {
+		Assert.notNull(batchTimeout, "'batchTimeout' must not be null");
+		this.batchTimeout = batchTimeout;
+	}
+
+	/**
+	 * Set a time-to-live for a local cache of results by request payloads.
+	 * Not cached by default.
+	 * Only applied when {@link #setBatchSize(int) batchSize} is greater than 1.
+	 * @param cacheTimeToLive the time to keep results in the cache.
+	 * @since 7.2
+	 */
+	public void setCacheTimeToLive(@Nullable Duration cacheTimeToLive) {
+		this.cacheTimeToLive = cacheTimeToLive;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "enricher";
@@ -279,6 +349,10 @@ public class ContentEnricher extends AbstractReplyProducingMessageHandler implem
 
 			gatewayToUse.afterPropertiesSet();
 			this.gateway = gatewayToUse;
+
+			if (this.batchSize > 1) {
+				this.requestCoalescer = new RequestCoalescer(gatewayToUse);
+			}
 		}
 
 		this.sourceEvaluationContext = ExpressionUtils.createStandardEvaluationContext(beanFactory);
@@ -341,6 +415,12 @@ public class ContentEnricher extends AbstractReplyProducingMessageHandler implem
 		if (this.gateway == null) {
 			replyMessage = actualRequestMessage;
 		}
+		else if (this.requestCoalescer != null) {
+			replyMessage = this.requestCoalescer.sendAndReceive(actualRequestMessage);
+			if (replyMessage == null) {
+				return processNullReply(requestMessage, targetPayload);
+			}
+		}
 		else {
 			replyMessage = this.gateway.sendAndReceiveMessage(actualRequestMessage);
 			if (replyMessage == null) {
@@ -476,6 +556,186 @@ public class ContentEnricher extends AbstractReplyProducingMessageHandler implem
 		return localMap;
 	}
 
+	/**
+	 * Coalesces concurrent requests into batches: the first request in a batch waits
+	 * for the batch to become full or the batch timeout, and then performs a single
+	 * request/reply on behalf of all the requests in the batch.
+	 * The first request does not wait if there are no other requests in flight.
+	 * The result for every request is returned in a message with the headers of that request,
+	 * overridden by the headers of the batch reply message.
+	 */
+	private final class RequestCoalescer {
+
+		private final Lock lock = new ReentrantLock();
+
+		private final Gateway batchGateway;
+
+		private final Map<Object, CachedResult> cache = new ConcurrentHashMap<>();
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private @Nullable Batch currentBatch;
+
+		private volatile long lastCacheCleanup = System.nanoTime();
+
+		RequestCoalescer(Gateway batchGateway) {
+			this.batchGateway = batchGateway;
+		}
+
+		@Nullable Message<?> sendAndReceive(Message<?> requestMessage) {
+			Object key = requestMessage.getPayload();
+			Duration timeToLive = ContentEnricher.this.cacheTimeToLive;
+			if (timeToLive != null) {
+				CachedResult cached = this.cache.get(key);
+				if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+					return itemReply(requestMessage, cached.reply());
+				}
+			}
+
+			this.inFlight.incrementAndGet();
+			try {
+				return itemReply(requestMessage, coalesce(requestMessage, key));
+			}
+			finally {
+				this.inFlight.decrementAndGet();
+			}
+		}
+
+		private @Nullable Message<?> itemReply(Message<?> requestMessage, @Nullable ItemReply reply) {
+			if (reply == null) {
+				return null;
+			}
+			return getMessageBuilderFactory()
+					.withPayload(reply.result())
+					.copyHeaders(requestMessage.getHeaders())
+					.copyHeaders(reply.batchReply().getHeaders())
+					.build();
+		}
+
+		private @Nullable ItemReply coalesce(Message<?> requestMessage, Object key) {
+			CompletableFuture<@Nullable ItemReply> future;
+			Batch batch;
+			boolean leader = false;
+			this.lock.lock();
+			try {
+				batch = this.currentBatch;
+				if (batch == null) {
+					batch = new Batch();
+					this.currentBatch = batch;
+					leader = true;
+				}
+				future = batch.requests.computeIfAbsent(key, k -> new CompletableFuture<>());
+				if (batch.requests.size() >= ContentEnricher.this.batchSize) {
+					this.currentBatch = null;
+					batch.full.countDown();
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+
+			if (leader) {
+				dispatch(batch);
+			}
+
+			try {
+				return future.join();
+			}
+			catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new MessageHandlingException(requestMessage, "Batched enrichment request failed", cause);
+			}
+		}
+
+		private void dispatch(Batch batch) {
+			try {
+				// Nobody else to coalesce with - don't wait for the batch timeout
+				boolean alone = this.inFlight.get() <= 1;
+				if (alone || !batch.full.await(ContentEnricher.this.batchTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+					this.lock.lock();
+					try {
+						if (this.currentBatch == batch) {
+							this.currentBatch = null;
+						}
+					}
+					finally {
+						this.lock.unlock();
+					}
+				}
+				List<Object> keys = new ArrayList<>(batch.requests.keySet());
+				Message<?> reply = this.batchGateway.sendAndReceiveMessage(
+						getMessageBuilderFactory().withPayload(keys).build());
+				completeRequests(batch, keys, reply);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				batch.requests.values().forEach(future -> future.completeExceptionally(ex));
+			}
+			catch (Exception ex) {
+				batch.requests.values().forEach(future -> future.completeExceptionally(ex));
+			}
+		}
+
+		private void completeRequests(Batch batch, List<Object> keys, @Nullable Message<?> reply) {
+			if (reply == null) {
+				batch.requests.values().forEach(future -> future.complete(null));
+				return;
+			}
+			Object results = reply.getPayload();
+			Assert.state(results instanceof List<?> || results instanceof Map<?, ?>,
+					() -> "The batched enrichment reply must be a List or a Map, but got: " + results);
+			for (int i = 0; i < keys.size(); i++) {
+				Object key = keys.get(i);
+				Object result;
+				if (results instanceof List<?> list) {
+					result = i < list.size() ? list.get(i) : null;
+				}
+				else {
+					result = ((Map<?, ?>) results).get(key);
+				}
+				ItemReply itemReply = result != null ? new ItemReply(result, reply) : null;
+				cacheResult(key, itemReply);
+				batch.requests.get(key).complete(itemReply);
+			}
+		}
+
+		private void cacheResult(Object key, @Nullable ItemReply reply) {
+			Duration timeToLive = ContentEnricher.this.cacheTimeToLive;
+			if (timeToLive != null && reply != null) {
+				long now = System.nanoTime();
+				long ttl = timeToLive.toNanos();
+				if (now - this.lastCacheCleanup > ttl) {
+					this.lastCacheCleanup = now;
+					this.cache.values().removeIf(cached -> cached.expiresAt() - now <= 0);
+				}
+				this.cache.put(key, new CachedResult(reply, now + ttl));
+			}
+		}
+
+	}
+
+	private static final class Batch {
+
+		private final Map<Object, CompletableFuture<@Nullable ItemReply>> requests = new LinkedHashMap<>();
+
+		private final CountDownLatch full = new CountDownLatch(1);
+
+	}
+
+	/**
+	 * The result for a coalesced request together with the batch reply message it comes from.
+	 */
+	private record ItemReply(Object result, Message<?> batchReply) {
+
+	}
+
+	private record CachedResult(ItemReply reply, long expiresAt) {
+
+	}
+
 	/**
 	 * Internal gateway implementation for request/reply handling. Simply exposes the
 	 * sendAndReceiveMessage method.
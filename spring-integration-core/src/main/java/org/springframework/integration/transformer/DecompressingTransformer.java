@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.transformer;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.StaticMessageHeaderAccessor;
+import org.springframework.integration.codec.compression.CompressionCodec;
+import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * Decompresses a {@code byte[]}, {@link ByteBuffer} or {@link InputStream} payload
+ * with the {@link CompressionCodec} selected by the {@link IntegrationMessageHeaderAccessor#COMPRESSION_CODEC}
+ * header (see {@link CompressingTransformer}).
+ * If there is no such a header, the first provided codec is used.
+ * <p>
+ * The result is a {@code byte[]} by default, or a {@link String} if a charset is provided.
+ * With the {@link #setStreaming(boolean)}, the result is a decompressing {@link InputStream},
+ * which has to be closed by the downstream flow.
+ * Otherwise, the decompressed content is limited by the {@link #setMaxDecompressedSize(int)}.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class DecompressingTransformer extends AbstractTransformer {
+
+	private final Map<String, CompressionCodec> codecs = new HashMap<>();
+
+	private final CompressionCodec defaultCodec;
+
+	private @Nullable Charset charset;
+
+	private boolean streaming;
+
+	private int maxDecompressedSize = Integer.MAX_VALUE;
+
+	/**
+	 * Create an instance based on the provided {@link CompressionCodec}s.
+	 * @param codecs the codecs to select for decompression by their names.
+	 * The first one is used if the message has no compression codec header.
+	 */
+	public DecompressingTransformer(CompressionCodec... codecs) {
+		Assert.notEmpty(codecs, "'codecs' must not be empty");
+		Assert.noNullElements(codecs, "'codecs' must not contain null elements");
+		for (CompressionCodec codec : codecs) {
+			Assert.isNull(this.codecs.put(codec.getName(), codec),
+					() -> "Duplicate codec name: " + codec.getName());
+		}
+		this.defaultCodec = codecs[0];
+	}
+
+	/**
+	 * Set the charset to convert decompressed bytes to a {@link String}.
+	 * @param charset the charset.
+	 */
+	public void setCharset(String charset) {
+		Assert.hasText(charset, "'charset' must not be empty");
+		this.charset = Charset.forName(charset);
+	}
+
+	/**
+	 * Set to {@code true} to produce a decompressing {@link InputStream} instead of a
+	 * {@code byte[]} or {@link String}.
+	 * Defaults to {@code false}.
+	 * @param streaming true to produce an {@link InputStream}.
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	/**
+	 * Set the maximum number of decompressed bytes when the result is a {@code byte[]} or {@link String};
+	 * the transformation fails if the decompressed content is larger.
+	 * Guards against highly compressed payloads (a.k.a. compression bombs) exhausting the memory.
+	 * Not applied in the {@link #setStreaming(boolean) streaming} mode.
+	 * No limit by default.
+	 * @param maxDecompressedSize the maximum number of decompressed bytes.
+	 */
+	public void setMaxDecompressedSize(int maxDecompressedSize) {
+		Assert.isTrue(maxDecompressedSize > 0, "'maxDecompressedSize' must be greater than 0");
+		this.maxDecompressedSize = maxDecompressedSize;
+	}
+
+	@Override
+	public String getComponentType() {
+		return "decompressing-transformer";
+	}
+
+	@Override
+	protected Object doTransform(Message<?> message) {
+		Object payload = message.getPayload();
+		Assert.isTrue(payload instanceof byte[] || payload instanceof ByteBuffer || payload instanceof InputStream,
+				() -> "The payload must be a byte[], ByteBuffer or InputStream, but it is: " + payload.getClass());
+		String codecName = message.getHeaders().get(IntegrationMessageHeaderAccessor.COMPRESSION_CODEC, String.class);
+		CompressionCodec codec = codecName != null ? this.codecs.get(codecName) : this.defaultCodec;
+		Assert.notNull(codec, () -> "No CompressionCodec for name: " + codecName);
+		try {
+			InputStream inputStream = codec.decompress(toInputStream(payload));
+			Object result = inputStream;
+			boolean closeResource = false;
+			if (!this.streaming) {
+				try (inputStream) {
+					byte[] bytes = readAllBytes(inputStream, message);
+					result = this.charset != null ? new String(bytes, this.charset) : bytes;
+				}
+				closeResource = payload instanceof InputStream;
+			}
+			AbstractIntegrationMessageBuilder<Object> builder =
+					getMessageBuilderFactory()
+							.withPayload(result)
+							.copyHeaders(message.getHeaders())
+							.removeHeader(IntegrationMessageHeaderAccessor.COMPRESSION_CODEC);
+			Closeable closeableResource = StaticMessageHeaderAccessor.getCloseableResource(message);
+			if (closeResource && closeableResource != null) {
+				closeableResource.close();
+				builder.removeHeader(IntegrationMessageHeaderAccessor.CLOSEABLE_RESOURCE);
+			}
+			return builder.build();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private byte[] readAllBytes(InputStream inputStream, Message<?> message) throws IOException {
+		int maxSize = this.maxDecompressedSize;
+		if (maxSize == Integer.MAX_VALUE) {
+			return inputStream.readAllBytes();
+		}
+		byte[] bytes = inputStream.readNBytes(maxSize + 1);
+		if (bytes.length > maxSize) {
+			throw new MessageTransformationException(message,
+					"The decompressed payload exceeds the 'maxDecompressedSize' of " + maxSize + " bytes");
+		}
+		return bytes;
+	}
+
+	private static InputStream toInputStream(Object payload) {
+		if (payload instanceof byte[] bytes) {
+			return new ByteArrayInputStream(bytes);
+		}
+		else if (payload instanceof ByteBuffer byteBuffer) {
+			ByteBuffer buffer = byteBuffer.duplicate();
+			if (buffer.hasArray()) {
+				return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(),
+						buffer.remaining());
+			}
+			byte[] bytes = new byte[buffer.remaining()];
+			buffer.get(bytes);
+			return new ByteArrayInputStream(bytes);
+		}
+		else {
+			return (InputStream) payload;
+		}
+	}
+
+}
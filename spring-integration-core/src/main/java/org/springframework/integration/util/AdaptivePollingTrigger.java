@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Trigger} for polling endpoints which adapts the poll period and the number
+ * of messages per poll to the outcome of the previous polling cycles.
+ * <p>
+ * When the polling endpoint is configured with this trigger, it reports every polling cycle
+ * via {@link #pollCompleted(long, boolean, long)} and takes the
+ * {@link #getMaxMessagesPerPoll()} of this trigger instead of its own {@code maxMessagesPerPoll}
+ * (unless the last one is set to {@code 0} to pause polling):
+ * <ul>
+ * <li> a cycle without messages multiplies the period by the {@link #setBackoffMultiplier(double)
+ * backoffMultiplier}, up to the {@link #setMaxPeriod(Duration) maxPeriod},
+ * and halves the number of messages per poll;
+ * <li> a cycle with messages resets the period to the minimum one;
+ * <li> a full cycle (the number of messages per poll has been reached, so there is more in the
+ * source) doubles the number of messages per poll, up to the
+ * {@link #setMaxMessagesPerPoll(int) maxMessagesPerPoll};
+ * <li> a cycle with the average time to receive and handle a message above the
+ * {@link #setMaxLatency(Duration) maxLatency} halves the number of messages per poll
+ * and delays the next poll by the time spent above the {@code maxLatency}.
+ * </ul>
+ * With an asynchronous polling task executor (or for a reactive endpoint) the latency does not
+ * include the downstream processing on other threads.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ *
+ * @see org.springframework.integration.endpoint.AbstractPollingEndpoint
+ */
+public class AdaptivePollingTrigger implements Trigger {
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Duration minPeriod;
+
+	private Duration maxPeriod = Duration.ofMinutes(1);
+
+	private double backoffMultiplier = 2.0;
+
+	private int minMessagesPerPoll = 1;
+
+	private int maxMessagesPerPoll = 1000; // NOSONAR magic number
+
+	private @Nullable Duration maxLatency;
+
+	private volatile Duration period;
+
+	private volatile int messagesPerPoll = 1;
+
+	/**
+	 * Create a trigger with the provided minimum period between polls.
+	 * This period is used while the source returns messages.
+	 * @param minPeriod the minimum period; must be positive.
+	 */
+	public AdaptivePollingTrigger(Duration minPeriod) {
+		Assert.isTrue(minPeriod != null && !minPeriod.isNegative() && !minPeriod.isZero(),
+				"'minPeriod' must be positive");
+		this.minPeriod = minPeriod;
+		this.period = minPeriod;
+	}
+
+	/**
+	 * Set the maximum period between polls the trigger backs off to while the source returns no messages.
+	 * Defaults to 1 minute.
+	 * @param maxPeriod the maximum period.
+	 */
+	public void setMaxPeriod(Duration maxPeriod) {
+		Assert.notNull(maxPeriod, "'maxPeriod' must not be null");
+		this.maxPeriod = maxPeriod;
+	}
+
+	/**
+	 * Set the multiplier for the period after each poll without messages.
+	 * Defaults to 2.
+	 * @param backoffMultiplier the multiplier; must be greater than 1.
+	 */
+	public void setBackoffMultiplier(double backoffMultiplier) {
+		Assert.isTrue(backoffMultiplier > 1, "'backoffMultiplier' must be greater than 1");
+		this.backoffMultiplier = backoffMultiplier;
+	}
+
+	/**
+	 * Set the minimum number of messages per poll; this is also the initial one.
+	 * Defaults to 1.
+	 * @param minMessagesPerPoll the minimum number of messages per poll.
+	 */
+	public void setMinMessagesPerPoll(int minMessagesPerPoll) {
+		Assert.isTrue(minMessagesPerPoll > 0, "'minMessagesPerPoll' must be greater than 0");
+		this.minMessagesPerPoll = minMessagesPerPoll;
+		this.messagesPerPoll = Math.max(this.messagesPerPoll, minMessagesPerPoll);
+	}
+
+	/**
+	 * Set the maximum number of messages per poll the trigger ramps up to while the polls are full.
+	 * Defaults to 1000.
+	 * @param maxMessagesPerPoll the maximum number of messages per poll.
+	 */
+	public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
+		Assert.isTrue(maxMessagesPerPoll > 0, "'maxMessagesPerPoll' must be greater than 0");
+		this.maxMessagesPerPoll = maxMessagesPerPoll;
+	}
+
+	/**
+	 * Set the average time to receive and handle a message above which the number
+	 * of messages per poll is reduced and the next poll is delayed.
+	 * Not set by default - the downstream latency is not taken into account.
+	 * @param maxLatency the maximum latency per message.
+	 */
+	public void setMaxLatency(@Nullable Duration maxLatency) {
+		this.maxLatency = maxLatency;
+	}
+
+	/**
+	 * Return the current period between polls.
+	 * @return the period.
+	 */
+	public Duration getPeriod() {
+		return this.period;
+	}
+
+	/**
+	 * Return the current number of messages to poll per cycle.
+	 * @return the number of messages per poll.
+	 */
+	public int getMaxMessagesPerPoll() {
+		return this.messagesPerPoll;
+	}
+
+	/**
+	 * Adjust the period and the number of messages per poll according to the polling cycle outcome.
+	 * Called by the polling endpoint after each polling cycle.
+	 * @param messageCount the number of messages received during the cycle.
+	 * @param full whether the cycle stopped because of the number of messages per poll
+	 * rather than the source returned no message, an exception was thrown or the endpoint was stopped.
+	 * @param elapsedNanos the time of the cycle.
+	 */
+	public void pollCompleted(long messageCount, boolean full, long elapsedNanos) {
+		Assert.state(this.minMessagesPerPoll <= this.maxMessagesPerPoll,
+				"'minMessagesPerPoll' must not be greater than 'maxMessagesPerPoll'");
+		this.lock.lock();
+		try {
+			if (messageCount == 0) {
+				long backoffNanos = (long) (this.period.toNanos() * this.backoffMultiplier);
+				this.period = Duration.ofNanos(Math.min(this.maxPeriod.toNanos(), backoffNanos));
+				this.messagesPerPoll = Math.max(this.minMessagesPerPoll, this.messagesPerPoll / 2);
+				return;
+			}
+			Duration nextPeriod = this.minPeriod;
+			long latency = elapsedNanos / messageCount;
+			Duration maxLatencyToUse = this.maxLatency;
+			if (maxLatencyToUse != null && latency > maxLatencyToUse.toNanos()) {
+				this.messagesPerPoll = Math.max(this.minMessagesPerPoll, this.messagesPerPoll / 2);
+				long overloadNanos = (latency - maxLatencyToUse.toNanos()) * messageCount;
+				nextPeriod = Duration.ofNanos(Math.min(this.maxPeriod.toNanos(),
+						Math.max(this.minPeriod.toNanos(), overloadNanos)));
+			}
+			else if (full) {
+				this.messagesPerPoll =
+						(int) Math.min(this.maxMessagesPerPoll, Math.max(this.minMessagesPerPoll,
+								2L * this.messagesPerPoll));
+			}
+			this.period = nextPeriod;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public Instant nextExecution(TriggerContext triggerContext) {
+		Instant now = triggerContext.getClock().instant();
+		if (triggerContext.lastScheduledExecution() == null) {
+			return now;
+		}
+		Instant lastCompletion = triggerContext.lastCompletion();
+		return (lastCompletion != null ? lastCompletion : now).plus(this.period);
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.aot;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.integration.annotation.ServiceActivator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class MessagingMethodsAotProcessorTests {
+
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	private final MessagingMethodsAotProcessor processor = new MessagingMethodsAotProcessor();
+
+	@Test
+	void invocationHintsForMessagingMethods() {
+		this.beanFactory.registerBeanDefinition("service", new RootBeanDefinition(Service.class));
+		BeanRegistrationAotContribution contribution =
+				this.processor.processAheadOfTime(RegisteredBean.of(this.beanFactory, "service"));
+		assertThat(contribution).isNotNull();
+
+		RuntimeHints runtimeHints = new RuntimeHints();
+		GenerationContext generationContext = mock();
+		given(generationContext.getRuntimeHints()).willReturn(runtimeHints);
+		contribution.applyTo(generationContext, mock(BeanRegistrationCode.class));
+
+		assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(Service.class, "handle"))
+				.accepts(runtimeHints);
+		assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(Service.class, "other"))
+				.rejects(runtimeHints);
+	}
+
+	@Test
+	void noContributionWithoutMessagingMethods() {
+		this.beanFactory.registerBeanDefinition("other", new RootBeanDefinition(Object.class));
+		assertThat(this.processor.processAheadOfTime(RegisteredBean.of(this.beanFactory, "other"))).isNull();
+	}
+
+	static class Service {
+
+		@ServiceActivator(inputChannel = "input")
+		String handle(String payload) {
+			return payload.toUpperCase();
+		}
+
+		String other(String payload) {
+			return payload;
+		}
+
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.StopWatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class BucketedPriorityChannelTests {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	@Test
+	void priorityOrderAndFifoWithinPriority() {
+		BucketedPriorityChannel channel = new BucketedPriorityChannel(0, 9);
+		channel.send(priorityMessage("low1", 1));
+		channel.send(priorityMessage("high1", 9));
+		channel.send(new GenericMessage<>("none"));
+		channel.send(priorityMessage("low2", 1));
+		channel.send(priorityMessage("high2", 9));
+		channel.send(priorityMessage("tooHigh", 100));
+		channel.send(priorityMessage("tooLow", -5));
+
+		assertThat(channel.getQueueSize()).isEqualTo(7);
+		assertThat(receiveAll(channel))
+				.containsExactly("high1", "high2", "tooHigh", "low1", "low2", "none", "tooLow");
+		assertThat(channel.receive(0)).isNull();
+	}
+
+	@Test
+	void capacityEnforcedAndReleasedOnClearAndPurge() {
+		BucketedPriorityChannel channel = new BucketedPriorityChannel(1, 3, 3);
+		assertThat(channel.send(priorityMessage("test1", 1), 0)).isTrue();
+		assertThat(channel.send(priorityMessage("test2", 2), 0)).isTrue();
+		assertThat(channel.send(priorityMessage("test3", 3), 0)).isTrue();
+		assertThat(channel.send(priorityMessage("test4", 3), 0)).isFalse();
+		assertThat(channel.getRemainingCapacity()).isEqualTo(0);
+
+		assertThat(channel.purge((message) -> !message.getPayload().equals("test2")))
+				.singleElement()
+				.extracting(Message::getPayload)
+				.isEqualTo("test2");
+		assertThat(channel.getRemainingCapacity()).isEqualTo(1);
+		assertThat(channel.send(priorityMessage("test5", 2), 0)).isTrue();
+
+		assertThat(channel.clear()).hasSize(3);
+		assertThat(channel.getRemainingCapacity()).isEqualTo(3);
+		assertThat(channel.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	void agingServesLowerPriorities() {
+		BucketedPriorityChannel channel = new BucketedPriorityChannel(0, 2);
+		channel.setAgingInterval(3);
+		for (int i = 0; i < 6; i++) {
+			channel.send(priorityMessage("high", 2));
+		}
+		channel.send(priorityMessage("medium", 1));
+		channel.send(priorityMessage("low", 0));
+
+		assertThat(receiveAll(channel))
+				.containsExactly("high", "high", "medium", "high", "high", "low", "high", "high");
+	}
+
+	@Test
+	void invalidPriorityRange() {
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new BucketedPriorityChannel(5, 1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new BucketedPriorityChannel(0, BucketedPriorityChannel.MAX_LEVELS));
+	}
+
+	@Test
+	void blockingReceiveIsNotifiedAboutSend() throws InterruptedException {
+		BucketedPriorityChannel channel = new BucketedPriorityChannel(0, 3);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.execute(() -> {
+			try {
+				Thread.sleep(100);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			channel.send(priorityMessage("test", 2));
+		});
+
+		Message<?> message = channel.receive(10_000);
+		assertThat(message).isNotNull().extracting(Message::getPayload).isEqualTo("test");
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void concurrentProducersAndConsumersDoNotLoseMessages() throws InterruptedException {
+		BucketedPriorityChannel channel = new BucketedPriorityChannel(0, 7);
+		int producers = 4;
+		int messagesPerProducer = 10_000;
+		Set<Object> received = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+		for (int p = 0; p < producers; p++) {
+			int producer = p;
+			executor.execute(() -> {
+				for (int i = 0; i < messagesPerProducer; i++) {
+					channel.send(priorityMessage(producer + "-" + i, i % 8));
+				}
+			});
+			executor.execute(() -> {
+				Message<?> message;
+				while ((message = channel.receive(1000)) != null) {
+					received.add(message.getPayload());
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).hasSize(producers * messagesPerProducer);
+		assertThat(channel.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	@Disabled("Used for performance testing only")
+	void performanceTest() {
+		int iterations = 1_000_000;
+		List<Message<?>> messages = new ArrayList<>(iterations);
+		for (int i = 0; i < iterations; i++) {
+			messages.add(priorityMessage("test", i % 5));
+		}
+		StopWatch watch = new StopWatch("Priority channels");
+		sendAndReceive(watch, "PriorityChannel", new PriorityChannel(), messages);
+		sendAndReceive(watch, "BucketedPriorityChannel", new BucketedPriorityChannel(0, 4), messages);
+		logger.info(watch.prettyPrint());
+	}
+
+	private static void sendAndReceive(StopWatch watch, String name, QueueChannel channel, List<Message<?>> messages) {
+		watch.start(name);
+		for (Message<?> message : messages) {
+			channel.send(message);
+		}
+		while (channel.receive(0) != null) {
+			// drain
+		}
+		watch.stop();
+	}
+
+	private static List<Object> receiveAll(QueueChannel channel) {
+		List<Object> payloads = new ArrayList<>();
+		Message<?> message;
+		while ((message = channel.receive(0)) != null) {
+			payloads.add(message.getPayload());
+		}
+		return payloads;
+	}
+
+	private static Message<String> priorityMessage(String payload, int priority) {
+		return MessageBuilder.withPayload(payload).setPriority(priority).build();
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.integration.channel;
 
 import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -25,10 +26,15 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.integration.selector.UnexpiredMessageSelector;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.management.IntegrationManagement;
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.GenericMessage;
 
@@ -285,4 +291,47 @@ public class QueueChannelTests {
 		assertThat(channel.send(new GenericMessage<>("roomAvailable"), 0)).isTrue();
 	}
 
+	@Test
+	public void queueTimeIsNotRecordedByDefault() {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		QueueChannel channel = new QueueChannel();
+		channel.setBeanName("queueTimeChannel");
+		channel.registerMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+		channel.send(new GenericMessage<>("test"));
+		assertThat(channel.receive(0)).isNotNull();
+		assertThat(meterRegistry.find(IntegrationManagement.QUEUE_TIMER_NAME).timer()).isNull();
+		assertThat(TestUtils.<Map<?, ?>>getPropertyValue(channel, "enqueueTimes")).isEmpty();
+	}
+
+	@Test
+	public void queueTimeIsRecordedWhenEnabled() {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		QueueChannel channel = new QueueChannel();
+		channel.setBeanName("queueTimeChannel");
+		channel.setQueueTimeEnabled(true);
+		channel.registerMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+		channel.send(new GenericMessage<>("test1"));
+		channel.send(new GenericMessage<>("test2"));
+		assertThat(channel.receive(0)).isNotNull();
+		assertThat(channel.receive(0)).isNotNull();
+		assertThat(meterRegistry.get(IntegrationManagement.QUEUE_TIMER_NAME)
+				.tag("name", "queueTimeChannel")
+				.timer()
+				.count())
+				.isEqualTo(2);
+		assertThat(TestUtils.<Map<?, ?>>getPropertyValue(channel, "enqueueTimes")).isEmpty();
+	}
+
+	@Test
+	public void trackedEnqueueTimesAreBounded() {
+		QueueChannel channel = new QueueChannel();
+		channel.setQueueTimeEnabled(true);
+		channel.registerMetricsCaptor(new MicrometerMetricsCaptor(new SimpleMeterRegistry()));
+		// Emulate messages received by another node from a shared queue
+		for (int i = 0; i < 10_001; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+		assertThat(TestUtils.<Map<?, ?>>getPropertyValue(channel, "enqueueTimes")).hasSizeLessThanOrEqualTo(10_000);
+	}
+
 }
@@ -19,6 +19,7 @@ package org.springframework.integration.channel.reactive;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -168,6 +169,33 @@ public class FluxMessageChannelTests {
 		await().untilAsserted(() -> assertThat(upstreamSubscriptions.size()).isEqualTo(0));
 	}
 
+	@Test
+	void demandIsTrackedOnlyWhenEnabled() {
+		FluxMessageChannel untrackedChannel = new FluxMessageChannel();
+		Disposable untracked = Flux.from(untrackedChannel).subscribe();
+		assertThat(untrackedChannel.getOutstandingDemand()).isZero();
+		assertThat(TestUtils.<Set<?>>getPropertyValue(untrackedChannel, "subscriberStates")).isEmpty();
+		untracked.dispose();
+
+		FluxMessageChannel trackedChannel = new FluxMessageChannel();
+		trackedChannel.setDemandTracking(true);
+		List<Message<?>> received = new ArrayList<>();
+		StepVerifier stepVerifier =
+				StepVerifier.create(trackedChannel, 2)
+						.recordWith(() -> received)
+						.expectNextCount(2)
+						.thenCancel()
+						.verifyLater();
+
+		await().untilAsserted(() -> assertThat(trackedChannel.getOutstandingDemand()).isEqualTo(2));
+		trackedChannel.send(new GenericMessage<>("test1"));
+		trackedChannel.send(new GenericMessage<>("test2"));
+		stepVerifier.verify(Duration.ofSeconds(10));
+		assertThat(received).hasSize(2);
+		await().untilAsserted(() -> assertThat(trackedChannel.getOutstandingDemand()).isZero());
+		assertThat(trackedChannel.getBufferedCount()).isZero();
+	}
+
 	@Configuration
 	@EnableIntegration
 	public static class TestConfiguration {
@@ -25,6 +25,8 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.junit.jupiter.api.Test;
@@ -46,6 +48,7 @@ import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.config.ConsumerEndpointFactoryBean;
 import org.springframework.integration.endpoint.ReactiveStreamsConsumer;
 import org.springframework.integration.handler.MethodInvokingMessageHandler;
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
 import org.springframework.integration.test.support.TestApplicationContextAware;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageDeliveryException;
@@ -366,4 +369,50 @@ public class ReactiveStreamsConsumerTests implements TestApplicationContextAware
 		assertThat(spied.get()).isSameAs(testMessage);
 	}
 
+	@Test
+	public void testReactiveBatchAndPrefetch() throws Exception {
+		FluxMessageChannel testChannel = new FluxMessageChannel();
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		testChannel.registerMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+
+		BlockingQueue<Message<?>> batches = new LinkedBlockingQueue<>();
+
+		ConsumerEndpointFactoryBean endpointFactoryBean = new ConsumerEndpointFactoryBean();
+		endpointFactoryBean.setBeanFactory(mock(ConfigurableBeanFactory.class));
+		endpointFactoryBean.setInputChannel(testChannel);
+		endpointFactoryBean.setHandler((MessageHandler) batches::add);
+		endpointFactoryBean.setBeanName("reactiveBatchConsumer");
+		endpointFactoryBean.setReactivePrefetch(4);
+		endpointFactoryBean.setReactiveBatchSize(3);
+		endpointFactoryBean.setReactiveBatchTimeout(Duration.ofMillis(100));
+		endpointFactoryBean.afterPropertiesSet();
+		endpointFactoryBean.start();
+
+		for (int i = 0; i < 7; i++) {
+			testChannel.send(new GenericMessage<>(i));
+		}
+
+		assertThat(batchPayloads(batches.poll(10, TimeUnit.SECONDS))).containsExactly(0, 1, 2);
+		assertThat(batchPayloads(batches.poll(10, TimeUnit.SECONDS))).containsExactly(3, 4, 5);
+		assertThat(batchPayloads(batches.poll(10, TimeUnit.SECONDS))).containsExactly(6);
+
+		assertThat(testChannel.getOutstandingDemand()).isBetween(1L, 4L);
+		assertThat(meterRegistry.get("spring.integration.channel.flux.demand").gauge().value())
+				.isEqualTo(testChannel.getOutstandingDemand());
+		assertThat(meterRegistry.get("spring.integration.channel.flux.buffered").gauge().value()).isZero();
+
+		endpointFactoryBean.stop();
+		await().untilAsserted(() -> assertThat(testChannel.getOutstandingDemand()).isZero());
+		testChannel.destroy();
+		assertThat(meterRegistry.find("spring.integration.channel.flux.demand").gauges()).isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> batchPayloads(Message<?> batch) {
+		assertThat(batch).isNotNull();
+		return ((List<Message<?>>) batch.getPayload()).stream()
+				.<Object>map(Message::getPayload)
+				.toList();
+	}
+
 }
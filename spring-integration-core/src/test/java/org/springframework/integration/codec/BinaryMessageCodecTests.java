@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.MimeTypeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class BinaryMessageCodecTests {
+
+	private final BinaryMessageCodec codec = new BinaryMessageCodec();
+
+	@Test
+	void messageRoundTripPreservesHeaders() throws IOException {
+		Message<String> message = testMessage();
+
+		byte[] bytes = this.codec.encode(message);
+		Message<?> decoded = this.codec.decode(bytes, Message.class);
+
+		assertThat(decoded).isInstanceOf(GenericMessage.class);
+		assertThat(decoded.getPayload()).isEqualTo("test");
+		assertThat(decoded.getHeaders()).isEqualTo(message.getHeaders());
+		assertThat(decoded.getHeaders().getId()).isEqualTo(message.getHeaders().getId());
+		assertThat(decoded.getHeaders().getTimestamp()).isEqualTo(message.getHeaders().getTimestamp());
+
+		ByteArrayOutputStream javaSerialized = new ByteArrayOutputStream();
+		try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(javaSerialized)) {
+			objectOutputStream.writeObject(message);
+		}
+		assertThat(bytes.length).isLessThan(javaSerialized.size() / 2);
+	}
+
+	@Test
+	void messageRoundTripViaByteBuffer() throws IOException {
+		Message<String> message = testMessage();
+		ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+		buffer.put((byte) 42);
+
+		int length = this.codec.encode(message, buffer);
+
+		assertThat(length).isEqualTo(this.codec.encode(message).length);
+		assertThat(buffer.position()).isEqualTo(length + 1);
+		buffer.flip().get();
+		Message<?> decoded = this.codec.decode(buffer);
+		assertThat(decoded.getHeaders()).isEqualTo(message.getHeaders());
+		assertThat(buffer.hasRemaining()).isFalse();
+	}
+
+	@Test
+	void bytesPayloadAndNotSerializableHeader() throws IOException {
+		Message<byte[]> message = MessageBuilder.withPayload(new byte[] {1, 2, 3})
+				.setHeader("notSerializable", new Object())
+				.build();
+
+		Message<?> decoded = this.codec.decode(this.codec.encode(message), Message.class);
+
+		assertThat(decoded.getPayload()).isEqualTo(new byte[] {1, 2, 3});
+		assertThat(decoded.getHeaders().getId()).isEqualTo(message.getHeaders().getId());
+		assertThat(decoded.getHeaders()).doesNotContainKey("notSerializable");
+	}
+
+	@Test
+	void errorMessageViaSerializerContract() throws IOException {
+		Message<String> failedMessage = new GenericMessage<>("failed");
+		ErrorMessage errorMessage = new ErrorMessage(new MessagingException(failedMessage, "test error"));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		this.codec.serialize(errorMessage, outputStream);
+		Message<?> decoded = this.codec.deserialize(new ByteArrayInputStream(outputStream.toByteArray()));
+
+		assertThat(decoded).isInstanceOf(ErrorMessage.class);
+		assertThat(decoded.getHeaders().getId()).isEqualTo(errorMessage.getHeaders().getId());
+		assertThat(decoded.getPayload()).isInstanceOf(MessagingException.class);
+		assertThat(((MessagingException) decoded.getPayload()).getFailedMessage()).isEqualTo(failedMessage);
+		assertThat(((ErrorMessage) decoded).getOriginalMessage()).isNull();
+	}
+
+	@Test
+	void errorMessageOriginalMessageRoundTrip() throws IOException {
+		Message<String> originalMessage = testMessage();
+		ErrorMessage errorMessage =
+				new ErrorMessage(new MessagingException(originalMessage, "test error"),
+						Map.of("errorHeader", "value"), originalMessage);
+
+		Message<?> decoded = this.codec.decode(this.codec.encode(errorMessage), Message.class);
+
+		assertThat(decoded).isInstanceOf(ErrorMessage.class);
+		assertThat(decoded.getHeaders()).isEqualTo(errorMessage.getHeaders());
+		Message<?> decodedOriginal = ((ErrorMessage) decoded).getOriginalMessage();
+		assertThat(decodedOriginal).isInstanceOf(GenericMessage.class);
+		assertThat(decodedOriginal.getPayload()).isEqualTo("test");
+		assertThat(decodedOriginal.getHeaders()).isEqualTo(originalMessage.getHeaders());
+	}
+
+	@Test
+	void javaSerializedValuesAreCheckedAgainstAllowList() throws IOException {
+		BinaryMessageCodec restrictedCodec = new BinaryMessageCodec();
+		restrictedCodec.setAllowedPatterns("java.lang.*");
+		byte[] bytes = restrictedCodec.encode(new GenericMessage<>(new Date()));
+
+		assertThatExceptionOfType(SerializationFailedException.class)
+				.isThrownBy(() -> restrictedCodec.decode(bytes, Message.class))
+				.withStackTraceContaining("unauthorized class java.util.Date");
+	}
+
+	@Test
+	void onlyDefaultTypesAreAllowedUnlessConfigured() throws IOException {
+		byte[] bytes = this.codec.encode(new GenericMessage<>(URI.create("https://spring.io")));
+
+		assertThatExceptionOfType(SerializationFailedException.class)
+				.isThrownBy(() -> this.codec.decode(bytes, Message.class))
+				.withStackTraceContaining("unauthorized class java.net.URI");
+
+		BinaryMessageCodec extendedCodec = new BinaryMessageCodec();
+		extendedCodec.addAllowedPatterns("java.net.URI");
+		assertThat(extendedCodec.decode(bytes, Message.class).getPayload())
+				.isEqualTo(URI.create("https://spring.io"));
+	}
+
+	@Test
+	void corruptedValueLengthIsRejected() {
+		// version, kind, no headers, bytes payload of Integer.MAX_VALUE length
+		byte[] tooLong = {1, 0, 0, 8, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 42};
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.codec.decode(ByteBuffer.wrap(tooLong), Message.class))
+				.withMessage("Invalid length of a value: 2147483647; it must be from 0 to the 1 bytes remaining in the input");
+		assertThatExceptionOfType(EOFException.class)
+				.isThrownBy(() -> this.codec.decode(tooLong, Message.class));
+
+		// the same with a negative length
+		byte[] negative = {1, 0, 0, 8, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 42};
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.codec.decode(ByteBuffer.wrap(negative), Message.class))
+				.withMessageStartingWith("Invalid length of a value: -1");
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.codec.decode(negative, Message.class))
+				.withMessageStartingWith("Invalid length of a value: -1");
+	}
+
+	private static Message<String> testMessage() {
+		return MessageBuilder.withPayload("test")
+				.setCorrelationId(UUID.randomUUID())
+				.setSequenceNumber(3)
+				.setSequenceSize(-10)
+				.setPriority(5)
+				.setExpirationDate(Long.MAX_VALUE)
+				.setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.TEXT_PLAIN)
+				.setHeader(IntegrationMessageHeaderAccessor.DUPLICATE_MESSAGE, true)
+				.setHeader("customString", "value")
+				.setHeader("customDouble", 1.5)
+				.setHeader("customDate", new Date(0))
+				.build();
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.codec.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.integration.codec.kryo.PojoCodec;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class CompressionCodecTests {
+
+	@Test
+	void dictionaryImprovesSmallMessagesCompression() throws IOException {
+		List<byte[]> samples = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			samples.add(order(i).getBytes(StandardCharsets.UTF_8));
+		}
+
+		byte[] dictionary = DeflateCompressionCodec.trainDictionary(samples, 1024);
+		assertThat(dictionary).isNotEmpty().hasSizeLessThanOrEqualTo(1024);
+		assertThat(new String(dictionary, StandardCharsets.ISO_8859_1)).contains("customer");
+
+		DeflateCompressionCodec plainCodec = new DeflateCompressionCodec();
+		DeflateCompressionCodec dictionaryCodec = new DeflateCompressionCodec("deflate-orders-v1", dictionary);
+		assertThat(dictionaryCodec.getName()).isEqualTo("deflate-orders-v1");
+
+		byte[] message = order(1000).getBytes(StandardCharsets.UTF_8);
+		byte[] plain = plainCodec.compress(message);
+		byte[] withDictionary = dictionaryCodec.compress(message);
+		assertThat(withDictionary.length).isLessThan(plain.length / 2);
+
+		assertThat(dictionaryCodec.decompress(withDictionary)).isEqualTo(message);
+		assertThat(plainCodec.decompress(plain)).isEqualTo(message);
+	}
+
+	@Test
+	void dictionaryIsTrainedFromSequencesOfEnoughSamples() {
+		List<byte[]> samples = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			samples.add(("common-content-" + i).getBytes(StandardCharsets.UTF_8));
+		}
+		samples.add("rare-sequence-1".getBytes(StandardCharsets.UTF_8));
+		samples.add("rare-sequence-2".getBytes(StandardCharsets.UTF_8));
+
+		String dictionary = new String(DeflateCompressionCodec.trainDictionary(samples, 1024),
+				StandardCharsets.ISO_8859_1);
+		assertThat(dictionary).contains("common-c", "content-").doesNotContain("rare-seq");
+
+		dictionary = new String(DeflateCompressionCodec.trainDictionary(samples, 1024, 0.2),
+				StandardCharsets.ISO_8859_1);
+		assertThat(dictionary).contains("common-c", "rare-seq", "sequence");
+
+		List<byte[]> unrelated =
+				List.of("first sample".getBytes(StandardCharsets.UTF_8),
+						"another one".getBytes(StandardCharsets.UTF_8));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> DeflateCompressionCodec.trainDictionary(unrelated, 1024))
+				.withMessageContaining("No byte sequences");
+	}
+
+	@Test
+	void compressingCodecAndSerializer() throws IOException {
+		Message<String> message =
+				MessageBuilder.withPayload("test".repeat(100))
+						.setHeader("foo", "bar")
+						.build();
+
+		CompressingCodec codec = new CompressingCodec(new PojoCodec(), new GzipCompressionCodec());
+		byte[] encoded = codec.encode(message.getPayload());
+		assertThat(encoded.length).isLessThan(new PojoCodec().encode(message.getPayload()).length);
+		assertThat(codec.decode(encoded, String.class)).isEqualTo(message.getPayload());
+
+		CompressingSerializer<Object> serializer =
+				new CompressingSerializer<>(new DefaultSerializer(), new DefaultDeserializer(),
+						new DeflateCompressionCodec());
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		serializer.serialize(message, outputStream);
+		// the target stream is not closed, so more data can be written after the compressed one
+		outputStream.write(42);
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+		Message<?> deserialized = (Message<?>) serializer.deserialize(inputStream);
+		assertThat(deserialized.getPayload()).isEqualTo(message.getPayload());
+		assertThat(deserialized.getHeaders()).containsEntry("foo", "bar");
+	}
+
+	private static String order(int id) {
+		return "{\"orderId\":" + id + ",\"customer\":{\"name\":\"customer" + (id % 7)
+				+ "\",\"country\":\"US\"},\"status\":\"SHIPPED\",\"items\":[{\"sku\":\"sku-" + (id % 13)
+				+ "\",\"quantity\":" + (id % 3 + 1) + "}]}";
+	}
+
+}
@@ -16,13 +16,16 @@
 
 package org.springframework.integration.codec.kryo;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
@@ -127,6 +130,80 @@ public class KryoCodecTests {
 		assertThat(foo2.get("two")).isEqualTo(2);
 	}
 
+	@Test
+	void testByteBufferSerialization() throws IOException {
+		PojoCodec codec = new PojoCodec(new KryoClassListRegistrar(SomeClassWithNoDefaultConstructors.class));
+		SomeClassWithNoDefaultConstructors foo = new SomeClassWithNoDefaultConstructors("foo", 123);
+		SomeClassWithNoDefaultConstructors bar = new SomeClassWithNoDefaultConstructors("bar", 456);
+
+		for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+			int fooLength = codec.encode(foo, buffer);
+			int barLength = codec.encode(bar, buffer);
+			assertThat(fooLength).isEqualTo(codec.encode(foo).length);
+			assertThat(buffer.position()).isEqualTo(fooLength + barLength);
+
+			buffer.flip();
+			assertThat(codec.decode(buffer, SomeClassWithNoDefaultConstructors.class)).isEqualTo(foo);
+			assertThat(buffer.position()).isEqualTo(fooLength);
+			assertThat(codec.decode(buffer, SomeClassWithNoDefaultConstructors.class)).isEqualTo(bar);
+			assertThat(buffer.hasRemaining()).isFalse();
+		}
+	}
+
+	@Test
+	void testPooledBuffersAndSizeEstimate() throws IOException {
+		PojoCodec codec = new PojoCodec();
+		codec.setMaxPooledBufferSize(1024);
+		String large = "x".repeat(10_000);
+		String small = "hello";
+
+		assertThat(codec.decode(codec.encode(large), String.class)).isEqualTo(large);
+		for (int i = 0; i < 100; i++) {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			codec.encode(small + i, bos);
+			bos.write(42);
+			assertThat(codec.decode(bos.toByteArray(), String.class)).isEqualTo(small + i);
+		}
+		assertThat(codec.estimateSize(small)).isBetween(1, 16);
+	}
+
+	@Test
+	void testEncodeClosesOutputStream() throws IOException {
+		PojoCodec codec = new PojoCodec();
+		AtomicBoolean closed = new AtomicBoolean();
+		ByteArrayOutputStream outputStream =
+				new ByteArrayOutputStream() {
+
+					@Override
+					public void close() {
+						closed.set(true);
+					}
+
+				};
+
+		codec.encode("hello", outputStream);
+		assertThat(closed).isTrue();
+		assertThat(codec.decode(outputStream.toByteArray(), String.class)).isEqualTo("hello");
+	}
+
+	@Test
+	void testDecodeClosesInputStream() throws IOException {
+		PojoCodec codec = new PojoCodec();
+		AtomicBoolean closed = new AtomicBoolean();
+		ByteArrayInputStream inputStream =
+				new ByteArrayInputStream(codec.encode("hello")) {
+
+					@Override
+					public void close() {
+						closed.set(true);
+					}
+
+				};
+
+		assertThat(codec.decode(inputStream, String.class)).isEqualTo("hello");
+		assertThat(closed).isTrue();
+	}
+
 	static class SomeClassWithNoDefaultConstructors {
 
 		private String val1;
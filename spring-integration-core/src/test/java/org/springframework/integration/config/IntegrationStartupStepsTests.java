@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.integration.dsl.IntegrationFlow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class IntegrationStartupStepsTests {
+
+	@Test
+	void integrationStartupStepsAreRecorded() {
+		RecordingApplicationStartup applicationStartup = new RecordingApplicationStartup();
+		AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+		applicationContext.setApplicationStartup(applicationStartup);
+		applicationContext.register(ContextConfiguration.class);
+		applicationContext.refresh();
+
+		assertThat(applicationStartup.steps)
+				.filteredOn((step) -> step.name.equals("spring.integration.flow.process"))
+				.singleElement()
+				.satisfies((step) -> {
+					assertThat(step.tags).containsEntry("beanName", "upperCaseFlow");
+					assertThat(step.tags).containsKey("components");
+					assertThat(step.ended).isTrue();
+				});
+
+		assertThat(applicationStartup.steps)
+				.filteredOn((step) -> step.name.equals("spring.integration.annotation.process"))
+				.singleElement()
+				.satisfies((step) -> {
+					assertThat(step.tags).containsEntry("annotation", ServiceActivator.class.getName());
+					assertThat(step.ended).isTrue();
+				});
+
+		assertThat(applicationStartup.steps)
+				.filteredOn((step) -> step.name.equals("spring.integration.config.initialize"))
+				.isNotEmpty();
+
+		applicationContext.close();
+	}
+
+	@Configuration
+	@EnableIntegration
+	public static class ContextConfiguration {
+
+		@Bean
+		public IntegrationFlow upperCaseFlow() {
+			return (flow) -> flow.transform(String.class, String::toUpperCase);
+		}
+
+		@ServiceActivator(inputChannel = "serviceChannel")
+		public String service(String payload) {
+			return payload;
+		}
+
+	}
+
+	private static final class RecordingApplicationStartup implements ApplicationStartup {
+
+		private final List<RecordingStartupStep> steps = new CopyOnWriteArrayList<>();
+
+		@Override
+		public StartupStep start(String name) {
+			RecordingStartupStep step = new RecordingStartupStep(name, this.steps.size());
+			this.steps.add(step);
+			return step;
+		}
+
+	}
+
+	private static final class RecordingStartupStep implements StartupStep {
+
+		private final String name;
+
+		private final long id;
+
+		private final Map<String, String> tags = new HashMap<>();
+
+		private volatile boolean ended;
+
+		RecordingStartupStep(String name, long id) {
+			this.name = name;
+			this.id = id;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public long getId() {
+			return this.id;
+		}
+
+		@Override
+		public @Nullable Long getParentId() {
+			return null;
+		}
+
+		@Override
+		public StartupStep tag(String key, String value) {
+			this.tags.put(key, value);
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value) {
+			return tag(key, value.get());
+		}
+
+		@Override
+		public Tags getTags() {
+			return Collections::emptyIterator;
+		}
+
+		@Override
+		public void end() {
+			this.ended = true;
+		}
+
+	}
+
+}
@@ -119,6 +119,16 @@ public class PollerParserTests {
 		context.close();
 	}
 
+	@Test
+	public void pollerWithTransactionBatchSize() {
+		ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext(
+				"pollerWithTransactionBatchSize.xml", PollerParserTests.class);
+		PollerMetadata metadata = context.getBean("poller", PollerMetadata.class);
+		assertThat(metadata.getMaxMessagesPerPoll()).isEqualTo(20);
+		assertThat(metadata.getTransactionBatchSize()).isEqualTo(10);
+		context.close();
+	}
+
 	@Test
 	public void pollerWithTriggerReference() {
 		ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext(
@@ -18,6 +18,7 @@ package org.springframework.integration.dsl.manualflow;
 
 import java.lang.reflect.Method;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -46,6 +47,7 @@ import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionOverrideException;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.Lifecycle;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -515,6 +517,85 @@ public class ManualFlowTests {
 		flowRegistrations.forEach(IntegrationFlowRegistration::destroy);
 	}
 
+	@Test
+	void registerAllWiresFlowsBeforeStart() {
+		List<IntegrationFlowContext.IntegrationFlowRegistrationBuilder> registrations = new ArrayList<>();
+		List<Integer> wiredOnStart = new CopyOnWriteArrayList<>();
+		QueueChannel results = new QueueChannel();
+		for (int i = 0; i < 10; i++) {
+			MessageProducerSupport producer = new MessageProducerSupport() {
+
+				@Override
+				protected void doStart() {
+					wiredOnStart.add((int) ManualFlowTests.this.integrationFlowContext.getRegistry().keySet()
+							.stream()
+							.filter((id) -> id.startsWith("bulkFlow"))
+							.count());
+					super.doStart();
+				}
+
+			};
+			registrations.add(
+					this.integrationFlowContext.registration(IntegrationFlow.from(producer).channel(results).get())
+							.id("bulkFlow" + i));
+		}
+		registrations.add(
+				this.integrationFlowContext.registration(f -> f.transform((String p) -> p.toUpperCase()))
+						.id("bulkFlowNotStarted")
+						.autoStartup(false));
+
+		List<IntegrationFlowRegistration> flowRegistrations = this.integrationFlowContext.registerAll(registrations);
+
+		assertThat(flowRegistrations).extracting(IntegrationFlowRegistration::getId)
+				.containsExactly("bulkFlow0", "bulkFlow1", "bulkFlow2", "bulkFlow3", "bulkFlow4", "bulkFlow5",
+						"bulkFlow6", "bulkFlow7", "bulkFlow8", "bulkFlow9", "bulkFlowNotStarted");
+		assertThat(wiredOnStart).hasSize(10).containsOnly(11);
+		assertThat(((Lifecycle) flowRegistrations.get(10).getIntegrationFlow()).isRunning()).isFalse();
+
+		flowRegistrations.forEach(IntegrationFlowRegistration::destroy);
+	}
+
+	@Test
+	void generatedNamesAreReusedAfterFlowRemoval() {
+		IntegrationFlow flow = f -> f.bridge();
+
+		IntegrationFlowRegistration flowRegistration =
+				this.integrationFlowContext.registration(flow)
+						.addBean(new BeanFactoryHandler())
+						.register();
+		String flowId = flowRegistration.getId();
+		assertThat(flowId).isEqualTo(flow.getClass().getName() + "#0");
+		assertThat(this.beanFactory.containsBean(flowId + BeanFactoryHandler.class.getName() + "#0")).isTrue();
+
+		flowRegistration.destroy();
+
+		flowRegistration =
+				this.integrationFlowContext.registration(flow)
+						.addBean(new BeanFactoryHandler())
+						.register();
+		assertThat(flowRegistration.getId()).isEqualTo(flowId);
+		assertThat(this.beanFactory.containsBean(flowId + BeanFactoryHandler.class.getName() + "#0")).isTrue();
+
+		flowRegistration.destroy();
+	}
+
+	@Test
+	void registerAllRemovesRegisteredFlowsOnFailure() {
+		List<IntegrationFlowContext.IntegrationFlowRegistrationBuilder> registrations =
+				List.of(this.integrationFlowContext.registration(f -> f.bridge()).id("batchFlow"),
+						this.integrationFlowContext.registration(f -> f.bridge()).id("anotherBatchFlow"),
+						this.integrationFlowContext.registration(f -> f.bridge()).id("batchFlow"));
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> this.integrationFlowContext.registerAll(registrations))
+				.withMessageContaining("with flowId 'batchFlow' is already registered.");
+
+		assertThat(this.integrationFlowContext.getRegistrationById("batchFlow")).isNull();
+		assertThat(this.integrationFlowContext.getRegistrationById("anotherBatchFlow")).isNull();
+		assertThat(this.beanFactory.containsBean("batchFlow")).isFalse();
+		assertThat(this.beanFactory.containsBean("anotherBatchFlow")).isFalse();
+	}
+
 	@Test
 	public void testDisabledBeansOverride() {
 		assertThatExceptionOfType(BeanDefinitionOverrideException.class)
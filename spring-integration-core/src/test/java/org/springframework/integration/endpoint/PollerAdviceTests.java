@@ -54,6 +54,7 @@ import org.springframework.integration.scheduling.PollSkipAdvice;
 import org.springframework.integration.scheduling.SimplePollSkipStrategy;
 import org.springframework.integration.test.util.OnlyOnceTrigger;
 import org.springframework.integration.test.util.TestUtils;
+import org.springframework.integration.util.AdaptivePollingTrigger;
 import org.springframework.integration.util.CompoundTrigger;
 import org.springframework.integration.util.DynamicPeriodicTrigger;
 import org.springframework.messaging.Message;
@@ -365,6 +366,108 @@ public class PollerAdviceTests {
 		verify(override, atLeast(2)).nextExecution(any(TriggerContext.class));
 	}
 
+	@Test
+	public void testAdaptivePollingTrigger() throws Exception {
+		SourcePollingChannelAdapter adapter = new SourcePollingChannelAdapter();
+		AdaptivePollingTrigger trigger = new AdaptivePollingTrigger(Duration.ofMillis(1));
+		trigger.setMaxMessagesPerPoll(64);
+		trigger.setMaxPeriod(Duration.ofMillis(20));
+		AtomicInteger backlog = new AtomicInteger(200);
+		CountDownLatch idlePolls = new CountDownLatch(5);
+		List<Integer> messagesPerPoll = Collections.synchronizedList(new ArrayList<>());
+		adapter.setSource(() -> {
+			messagesPerPoll.add(trigger.getMaxMessagesPerPoll());
+			if (backlog.getAndDecrement() > 0) {
+				return new GenericMessage<>("foo");
+			}
+			idlePolls.countDown();
+			return null;
+		});
+		adapter.setTrigger(trigger);
+		configure(adapter);
+		adapter.afterPropertiesSet();
+		adapter.start();
+		assertThat(idlePolls.await(10, TimeUnit.SECONDS)).isTrue();
+		adapter.stop();
+		assertThat(messagesPerPoll).startsWith(1, 2, 2, 4, 4, 4, 4, 8).contains(64);
+		assertThat(trigger.getPeriod()).isGreaterThanOrEqualTo(Duration.ofMillis(8));
+		assertThat(trigger.getMaxMessagesPerPoll()).isLessThan(64);
+
+		trigger.setMaxLatency(Duration.ofMillis(10));
+		trigger.pollCompleted(1, false, Duration.ofMillis(1).toNanos());
+		assertThat(trigger.getPeriod()).isEqualTo(Duration.ofMillis(1));
+		int maxMessagesPerPoll = trigger.getMaxMessagesPerPoll();
+		trigger.pollCompleted(4, true, Duration.ofMillis(60).toNanos());
+		assertThat(trigger.getMaxMessagesPerPoll()).isEqualTo(Math.max(1, maxMessagesPerPoll / 2));
+		assertThat(trigger.getPeriod()).isEqualTo(Duration.ofMillis(20));
+	}
+
+	@Test
+	public void testAdaptivePollingTriggerDoesNotRampUpOnFailures() throws Exception {
+		SourcePollingChannelAdapter adapter = new SourcePollingChannelAdapter();
+		AdaptivePollingTrigger trigger = new AdaptivePollingTrigger(Duration.ofMillis(1));
+		trigger.setMinMessagesPerPoll(2);
+		trigger.setMaxMessagesPerPoll(64);
+		AtomicInteger handled = new AtomicInteger();
+		CountDownLatch polls = new CountDownLatch(10);
+		List<Integer> messagesPerPoll = Collections.synchronizedList(new ArrayList<>());
+		adapter.setSource(() -> {
+			messagesPerPoll.add(trigger.getMaxMessagesPerPoll());
+			polls.countDown();
+			return new GenericMessage<>("foo");
+		});
+		adapter.setTrigger(trigger);
+		configure(adapter);
+		adapter.setOutputChannel((message, timeout) -> {
+			if (handled.incrementAndGet() % 2 == 0) {
+				throw new IllegalStateException("handler failure");
+			}
+			return true;
+		});
+		adapter.afterPropertiesSet();
+		adapter.start();
+		assertThat(polls.await(10, TimeUnit.SECONDS)).isTrue();
+		adapter.stop();
+		assertThat(messagesPerPoll).containsOnly(2);
+		assertThat(trigger.getMaxMessagesPerPoll()).isEqualTo(2);
+	}
+
+	@Test
+	public void testAdaptivePollingTriggerBacksOffWhenSourceIsDrained() throws Exception {
+		SourcePollingChannelAdapter adapter = new SourcePollingChannelAdapter();
+		AdaptivePollingTrigger trigger = new AdaptivePollingTrigger(Duration.ofMillis(1));
+		trigger.setMinMessagesPerPoll(2);
+		trigger.setMaxMessagesPerPoll(64);
+		AtomicInteger calls = new AtomicInteger();
+		AtomicBoolean drained = new AtomicBoolean();
+		CountDownLatch shortPolls = new CountDownLatch(10);
+		CountDownLatch emptyPolls = new CountDownLatch(4);
+		List<Integer> messagesPerPoll = Collections.synchronizedList(new ArrayList<>());
+		adapter.setSource(() -> {
+			if (drained.get()) {
+				emptyPolls.countDown();
+				return null;
+			}
+			if (calls.incrementAndGet() % 2 == 0) {
+				shortPolls.countDown();
+				return null;
+			}
+			messagesPerPoll.add(trigger.getMaxMessagesPerPoll());
+			return new GenericMessage<>("foo");
+		});
+		adapter.setTrigger(trigger);
+		configure(adapter);
+		adapter.afterPropertiesSet();
+		adapter.start();
+		assertThat(shortPolls.await(10, TimeUnit.SECONDS)).isTrue();
+		drained.set(true);
+		assertThat(emptyPolls.await(10, TimeUnit.SECONDS)).isTrue();
+		adapter.stop();
+		assertThat(messagesPerPoll).containsOnly(2);
+		assertThat(trigger.getMaxMessagesPerPoll()).isEqualTo(2);
+		assertThat(trigger.getPeriod()).isGreaterThan(Duration.ofMillis(1));
+	}
+
 	private void configure(SourcePollingChannelAdapter adapter) {
 		adapter.setOutputChannel(new NullChannel());
 		adapter.setBeanFactory(this.beanFactory);
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.endpoint;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.acks.AcknowledgmentCallback;
+import org.springframework.integration.core.MessageSource;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.transaction.PseudoTransactionManager;
+import org.springframework.messaging.Message;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class PrefetchingMessageSourceTests {
+
+	@Test
+	void messagesArePrefetchedAndRequeuedOnStop() {
+		AtomicInteger fetched = new AtomicInteger();
+		Map<Integer, AcknowledgmentCallback.Status> acks = new ConcurrentHashMap<>();
+		List<String> fetchThreads = new CopyOnWriteArrayList<>();
+		MessageSource<Integer> delegate = () -> {
+			fetchThreads.add(Thread.currentThread().getName());
+			int payload = fetched.incrementAndGet();
+			return MessageBuilder.withPayload(payload)
+					.setHeader(IntegrationMessageHeaderAccessor.ACKNOWLEDGMENT_CALLBACK,
+							(AcknowledgmentCallback) status -> acks.put(payload, status))
+					.build();
+		};
+		PrefetchingMessageSource<Integer> source = new PrefetchingMessageSource<>(delegate, 4);
+		source.setReceiveTimeout(Duration.ofSeconds(10));
+		source.start();
+
+		Message<Integer> message = source.receive();
+		assertThat(message).isNotNull();
+		assertThat(message.getPayload()).isEqualTo(1);
+		await().until(source::getPrefetchedCount, count -> count == 4);
+		assertThat(fetched.get()).isEqualTo(5);
+		assertThat(fetchThreads).allMatch(name -> name.startsWith("prefetch-"));
+
+		message = source.receive();
+		assertThat(message).isNotNull();
+		assertThat(message.getPayload()).isEqualTo(2);
+		await().until(source::getPrefetchedCount, count -> count == 4);
+
+		source.stop();
+		assertThat(source.getPrefetchedCount()).isZero();
+		assertThat(acks).containsOnlyKeys(3, 4, 5, 6);
+		assertThat(acks.values()).containsOnly(AcknowledgmentCallback.Status.REQUEUE);
+
+		message = source.receive();
+		assertThat(message).isNotNull();
+		assertThat(message.getPayload()).isEqualTo(7);
+		assertThat(source.getPrefetchedCount()).isZero();
+	}
+
+	@Test
+	void fetchErrorIsThrownToReceive() {
+		AtomicBoolean fail = new AtomicBoolean(true);
+		MessageSource<String> delegate = () -> {
+			if (fail.getAndSet(false)) {
+				throw new IllegalStateException("fetch failed");
+			}
+			return null;
+		};
+		PrefetchingMessageSource<String> source = new PrefetchingMessageSource<>(delegate);
+		source.start();
+		assertThat(source.receive()).isNull();
+		await().untilAsserted(() ->
+				assertThatIllegalStateException()
+						.isThrownBy(source::receive)
+						.withMessage("fetch failed"));
+		assertThat(source.receive()).isNull();
+		source.destroy();
+	}
+
+	@Test
+	void receiveIsDelegatedWithinTransaction() {
+		List<String> fetchThreads = new CopyOnWriteArrayList<>();
+		MessageSource<String> delegate = () -> {
+			fetchThreads.add(Thread.currentThread().getName());
+			return MessageBuilder.withPayload("foo").build();
+		};
+		PrefetchingMessageSource<String> source = new PrefetchingMessageSource<>(delegate, 4);
+		source.start();
+		Message<String> message = new TransactionTemplate(new PseudoTransactionManager()).execute((status) ->
+				source.receive());
+		assertThat(message).isNotNull();
+		assertThat(fetchThreads).containsExactly(Thread.currentThread().getName());
+		assertThat(source.getPrefetchedCount()).isZero();
+		source.destroy();
+	}
+
+	@Test
+	void maxFetchSizeIsDelegated() {
+		AbstractFetchLimitingMessageSource<String> delegate = new AbstractFetchLimitingMessageSource<>() {
+
+			@Override
+			protected Object doReceive(int maxFetchSize) {
+				return null;
+			}
+
+			@Override
+			public String getComponentType() {
+				return "test";
+			}
+
+		};
+		PrefetchingMessageSource<String> source = new PrefetchingMessageSource<>(delegate);
+		source.setMaxFetchSize(10);
+		assertThat(delegate.getMaxFetchSize()).isEqualTo(10);
+		assertThat(source.getMaxFetchSize()).isEqualTo(10);
+
+		assertThat(new PrefetchingMessageSource<>(() -> null).getMaxFetchSize()).isEqualTo(Integer.MIN_VALUE);
+	}
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.test.util.OnlyOnceTrigger;
+import org.springframework.integration.transaction.DefaultTransactionSynchronizationFactory;
+import org.springframework.integration.transaction.ExpressionEvaluatingTransactionSynchronizationProcessor;
+import org.springframework.integration.transaction.PseudoTransactionManager;
+import org.springframework.integration.transaction.TransactionInterceptorBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class TransactionBatchPollingTests {
+
+	private final OnlyOnceTrigger trigger = new OnlyOnceTrigger();
+
+	private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+	private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+
+	private final QueueChannel input = new QueueChannel();
+
+	private final QueueChannel committed = new QueueChannel();
+
+	private final List<Object> handled = new CopyOnWriteArrayList<>();
+
+	private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+	private PollingConsumer endpoint;
+
+	@BeforeEach
+	void init() {
+		BeanFactory beanFactory = mock(BeanFactory.class);
+
+		ExpressionEvaluatingTransactionSynchronizationProcessor synchronizationProcessor =
+				new ExpressionEvaluatingTransactionSynchronizationProcessor();
+		synchronizationProcessor.setAfterCommitChannel(this.committed);
+		synchronizationProcessor.setAfterRollbackChannel(this.input);
+		synchronizationProcessor.setIntegrationEvaluationContext(new StandardEvaluationContext());
+		synchronizationProcessor.setBeanFactory(beanFactory);
+		synchronizationProcessor.afterPropertiesSet();
+
+		this.endpoint = new PollingConsumer(this.input, (message) -> {
+			this.handled.add(message.getPayload());
+			if ("bad".equals(message.getPayload())) {
+				throw new MessagingException(message, "bad message");
+			}
+		});
+		this.endpoint.setAdviceChain(List.of(
+				new TransactionInterceptorBuilder()
+						.transactionManager(this.transactionManager)
+						.build()));
+		this.endpoint.setTransactionSynchronizationFactory(
+				new DefaultTransactionSynchronizationFactory(synchronizationProcessor));
+		this.endpoint.setTransactionBatchSize(5);
+		this.endpoint.setMaxMessagesPerPoll(10);
+		this.endpoint.setReceiveTimeout(0);
+		this.endpoint.setErrorHandler(this.errors::add);
+		this.endpoint.setTrigger(this.trigger);
+		this.endpoint.setTaskScheduler(this.taskScheduler);
+		this.endpoint.setBeanFactory(beanFactory);
+		this.endpoint.afterPropertiesSet();
+		this.taskScheduler.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void stop() {
+		this.endpoint.stop();
+		this.taskScheduler.destroy();
+	}
+
+	@Test
+	void messagesAreHandledInBatchTransactions() {
+		for (int i = 0; i < 12; i++) {
+			this.input.send(new GenericMessage<>("message" + i));
+		}
+
+		this.endpoint.start();
+		this.trigger.await();
+
+		assertThat(this.transactionManager.commits.get()).isEqualTo(2);
+		assertThat(this.transactionManager.rollbacks.get()).isEqualTo(0);
+		assertThat(this.errors).isEmpty();
+		assertThat(committedPayloads())
+				.containsExactly("message0", "message1", "message2", "message3", "message4",
+						"message5", "message6", "message7", "message8", "message9");
+		assertThat(this.input.getQueueSize()).isEqualTo(2);
+	}
+
+	@Test
+	void failedBatchIsRePolledMessageByMessage() {
+		this.input.send(new GenericMessage<>("message0"));
+		this.input.send(new GenericMessage<>("bad"));
+		this.input.send(new GenericMessage<>("message2"));
+
+		this.endpoint.start();
+		this.trigger.await();
+
+		// The batch is rolled back and its messages are sent back to the input channel
+		// by the 'afterRollback' synchronization; then they are polled in their own transactions
+		assertThat(this.transactionManager.rollbacks.get()).isEqualTo(2);
+		assertThat(this.transactionManager.commits.get()).isEqualTo(2);
+		assertThat(committedPayloads()).containsExactly("message2", "message0");
+		assertThat(this.handled).containsExactly("message0", "bad", "message2", "message0", "bad");
+		assertThat(this.errors).singleElement()
+				.isInstanceOf(MessagingException.class)
+				.extracting((error) -> ((MessagingException) error).getFailedMessage())
+				.extracting(Message::getPayload)
+				.isEqualTo("bad");
+		assertThat(this.input.receive(0)).extracting(Message::getPayload).isEqualTo("bad");
+	}
+
+	@Test
+	void failedBatchWithPseudoTransactionIsReportedToErrorHandler() {
+		this.input.send(new GenericMessage<>("message0"));
+		this.input.send(new GenericMessage<>("bad"));
+		this.input.send(new GenericMessage<>("message2"));
+
+		PollingConsumer pseudoTransactionalEndpoint = new PollingConsumer(this.input, (message) -> {
+			this.handled.add(message.getPayload());
+			if ("bad".equals(message.getPayload())) {
+				throw new MessagingException(message, "bad message");
+			}
+		});
+		pseudoTransactionalEndpoint.setAdviceChain(List.of(
+				new TransactionInterceptorBuilder()
+						.transactionManager(new PseudoTransactionManager())
+						.build()));
+		pseudoTransactionalEndpoint.setTransactionBatchSize(5);
+		pseudoTransactionalEndpoint.setReceiveTimeout(0);
+		pseudoTransactionalEndpoint.setErrorHandler(this.errors::add);
+		pseudoTransactionalEndpoint.setTrigger(this.trigger);
+		pseudoTransactionalEndpoint.setTaskScheduler(this.taskScheduler);
+		pseudoTransactionalEndpoint.setBeanFactory(mock(BeanFactory.class));
+		pseudoTransactionalEndpoint.afterPropertiesSet();
+		pseudoTransactionalEndpoint.start();
+		this.trigger.await();
+		pseudoTransactionalEndpoint.stop();
+
+		// The pseudo transaction does not return the consumed messages on rollback
+		assertThat(this.handled).containsExactly("message0", "bad");
+		assertThat(this.errors).singleElement()
+				.isInstanceOf(MessagingException.class)
+				.extracting((error) -> ((MessagingException) error).getFailedMessage())
+				.extracting(Message::getPayload)
+				.isEqualTo("bad");
+		assertThat(this.input.receive(0)).extracting(Message::getPayload).isEqualTo("message2");
+	}
+
+	@Test
+	void failedBatchWithoutTransactionIsReportedToErrorHandler() {
+		this.input.send(new GenericMessage<>("message0"));
+		this.input.send(new GenericMessage<>("bad"));
+		this.input.send(new GenericMessage<>("message2"));
+
+		PollingConsumer nonTransactionalEndpoint = new PollingConsumer(this.input, (message) -> {
+			this.handled.add(message.getPayload());
+			if ("bad".equals(message.getPayload())) {
+				throw new MessagingException(message, "bad message");
+			}
+		});
+		nonTransactionalEndpoint.setTransactionBatchSize(5);
+		nonTransactionalEndpoint.setReceiveTimeout(0);
+		nonTransactionalEndpoint.setErrorHandler(this.errors::add);
+		nonTransactionalEndpoint.setTrigger(this.trigger);
+		nonTransactionalEndpoint.setTaskScheduler(this.taskScheduler);
+		nonTransactionalEndpoint.setBeanFactory(mock(BeanFactory.class));
+		nonTransactionalEndpoint.afterPropertiesSet();
+		nonTransactionalEndpoint.start();
+		this.trigger.await();
+		nonTransactionalEndpoint.stop();
+
+		// Nothing to roll back: the failure is not masked by re-polling other messages
+		assertThat(this.handled).containsExactly("message0", "bad");
+		assertThat(this.errors).singleElement()
+				.isInstanceOf(MessagingException.class)
+				.extracting((error) -> ((MessagingException) error).getFailedMessage())
+				.extracting(Message::getPayload)
+				.isEqualTo("bad");
+		assertThat(this.input.receive(0)).extracting(Message::getPayload).isEqualTo("message2");
+	}
+
+	private List<Object> committedPayloads() {
+		List<Object> payloads = new ArrayList<>();
+		Message<?> message;
+		while ((message = this.committed.receive(0)) != null) {
+			payloads.add(message.getPayload());
+		}
+		return payloads;
+	}
+
+	private static final class CountingTransactionManager extends AbstractPlatformTransactionManager {
+
+		private final AtomicInteger commits = new AtomicInteger();
+
+		private final AtomicInteger rollbacks = new AtomicInteger();
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+			this.commits.incrementAndGet();
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+			this.rollbacks.incrementAndGet();
+		}
+
+	}
+
+}
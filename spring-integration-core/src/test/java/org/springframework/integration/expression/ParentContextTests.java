@@ -85,7 +85,7 @@ public class ParentContextTests {
 
 		Object parentEvaluationContextFactoryBean = parent.getBean(IntegrationEvaluationContextFactoryBean.class);
 		Map<?, ?> parentFunctions = TestUtils.getPropertyValue(parentEvaluationContextFactoryBean, "functions");
-		assertThat(parentFunctions.size()).isEqualTo(4);
+		assertThat(parentFunctions.size()).isEqualTo(5);
 		Object jsonPath = parentFunctions.get("jsonPath");
 		assertThat(jsonPath).isNotNull();
 		assertThat(jsonPath).isIn(Arrays.asList(JsonPathUtils.class.getMethods()));
@@ -96,7 +96,7 @@ public class ParentContextTests {
 
 		Object childEvaluationContextFactoryBean = child.getBean(IntegrationEvaluationContextFactoryBean.class);
 		Map<?, ?> childFunctions = TestUtils.getPropertyValue(childEvaluationContextFactoryBean, "functions");
-		assertThat(childFunctions.size()).isEqualTo(5);
+		assertThat(childFunctions.size()).isEqualTo(6);
 		assertThat(childFunctions.containsKey("barParent")).isTrue();
 		assertThat(childFunctions.containsKey("fooFunc")).isTrue();
 		jsonPath = childFunctions.get("jsonPath");
@@ -117,8 +117,8 @@ public class ParentContextTests {
 
 		Map<String, Object> variables = (Map<String, Object>) TestUtils.getPropertyValue(evalContexts.get(0),
 				"variables");
-		assertThat(variables).hasSize(4);
-		assertThat(variables).containsKeys("bar", "barParent", "fooFunc", "jsonPath");
+		assertThat(variables).hasSize(5);
+		assertThat(variables).containsKeys("bar", "barParent", "fooFunc", "jsonPath", "jsonPathStreaming");
 
 		assertThat(evalContexts.get(2).getBeanResolver()).isNotSameAs(evalContexts.get(1).getBeanResolver());
 		propertyAccessors = evalContexts.get(1).getPropertyAccessors();
@@ -126,8 +126,8 @@ public class ParentContextTests {
 		assertThat(propertyAccessors.contains(parentPropertyAccessorOverride)).isTrue();
 
 		variables = (Map<String, Object>) TestUtils.getPropertyValue(evalContexts.get(1), "variables");
-		assertThat(variables).hasSize(4);
-		assertThat(variables).containsKeys("bar", "barParent", "fooFunc", "jsonPath");
+		assertThat(variables).hasSize(5);
+		assertThat(variables).containsKeys("bar", "barParent", "fooFunc", "jsonPath", "jsonPathStreaming");
 
 		propertyAccessors = evalContexts.get(2).getPropertyAccessors();
 		assertThat(propertyAccessors.size()).isEqualTo(4);
@@ -139,8 +139,8 @@ public class ParentContextTests {
 				.isTrue();
 
 		variables = (Map<String, Object>) TestUtils.getPropertyValue(evalContexts.get(2), "variables");
-		assertThat(variables).hasSize(5);
-		assertThat(variables).containsKeys("bar", "barParent", "fooFunc", "barChild", "jsonPath");
+		assertThat(variables).hasSize(6);
+		assertThat(variables).containsKeys("bar", "barParent", "fooFunc", "barChild", "jsonPath", "jsonPathStreaming");
 
 		// Test transformer expressions
 		child.getBean("input", MessageChannel.class).send(new GenericMessage<>("baz"));
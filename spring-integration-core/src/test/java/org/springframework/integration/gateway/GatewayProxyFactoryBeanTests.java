@@ -21,16 +21,29 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 import org.springframework.beans.factory.BeanInitializationException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,21 +58,29 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.IntegrationPatternType;
 import org.springframework.integration.annotation.Gateway;
 import org.springframework.integration.annotation.GatewayHeader;
+import org.springframework.integration.channel.DefaultHeaderChannelRegistry;
 import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.ExecutorChannel;
 import org.springframework.integration.channel.FluxMessageChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.core.MessagingTemplate;
+import org.springframework.integration.core.ReplyCorrelationChannel;
 import org.springframework.integration.endpoint.EventDrivenConsumer;
 import org.springframework.integration.handler.BridgeHandler;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.support.utils.IntegrationUtils;
 import org.springframework.integration.test.support.TestApplicationContextAware;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.PollableChannel;
 import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.support.ErrorMessage;
 import org.springframework.messaging.support.GenericMessage;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.ClassUtils;
@@ -68,6 +89,7 @@ import org.springframework.util.ReflectionUtils;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -389,6 +411,155 @@ public class GatewayProxyFactoryBeanTests implements TestApplicationContextAware
 				.isThrownBy(() -> proxy.throwCheckedException("test"));
 	}
 
+	@Test
+	public void testRequestReplyWithReplyCorrelationChannel() throws Exception {
+		DirectChannel requestChannel = new DirectChannel();
+		DefaultHeaderChannelRegistry headerChannelRegistry = new DefaultHeaderChannelRegistry(1000);
+		headerChannelRegistry.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		headerChannelRegistry.setRemoveOnGet(true);
+		ExecutorService replyExecutor = Executors.newFixedThreadPool(4);
+		requestChannel.subscribe(message -> {
+			// Simulate a serialized reply channel header and asynchronous reply
+			Object replyChannelName =
+					headerChannelRegistry.channelToChannelName(message.getHeaders().getReplyChannel());
+			replyExecutor.execute(() -> {
+				if (!"late".equals(message.getPayload())) {
+					MessageChannel replyChannel =
+							headerChannelRegistry.channelNameToChannel((String) replyChannelName);
+					replyChannel.send(MessageBuilder.withPayload(message.getPayload() + "bar")
+							.copyHeaders(message.getHeaders())
+							.build());
+				}
+			});
+		});
+		GatewayProxyFactoryBean<TestService> proxyFactory = new GatewayProxyFactoryBean<>(TestService.class);
+		proxyFactory.setDefaultRequestChannel(requestChannel);
+		proxyFactory.setReplyCorrelationCapacity(16);
+		proxyFactory.setDefaultReplyTimeout(10_000L);
+		proxyFactory.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		proxyFactory.setBeanName("testGateway");
+		proxyFactory.afterPropertiesSet();
+		TestService service = proxyFactory.getObject();
+
+		ExecutorService requestExecutor = Executors.newFixedThreadPool(16);
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			String payload = "foo" + i;
+			results.add(requestExecutor.submit(() -> service.requestReply(payload)));
+		}
+		for (int i = 0; i < 100; i++) {
+			assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("foo" + i + "bar");
+		}
+		requestExecutor.shutdown();
+
+		assertThat(headerChannelRegistry.size()).isEqualTo(1);
+
+		MessagingGatewaySupport gateway =
+				proxyFactory.getGateways().get(TestService.class.getMethod("requestReply", String.class));
+		gateway.setReplyTimeout(100L);
+		assertThat(service.requestReply("late")).isNull();
+		ReplyCorrelationChannel replyCorrelationChannel =
+				TestUtils.getPropertyValue(gateway, "messagingTemplate.replyCorrelationChannel");
+		assertThat(replyCorrelationChannel.getPendingCount()).isEqualTo(0);
+		replyExecutor.shutdown();
+
+		await().untilAsserted(() -> assertThat(headerChannelRegistry.size()).isEqualTo(0));
+		headerChannelRegistry.stop();
+	}
+
+	@Test
+	public void testLateReplyExceptionIsPerRequest() {
+		ReplyCorrelationChannel replyCorrelationChannel = new ReplyCorrelationChannel(4);
+		AtomicReference<Message<?>> request = new AtomicReference<>();
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(request::set);
+
+		MessagingTemplate throwingTemplate = new MessagingTemplate();
+		throwingTemplate.setReplyCorrelationChannel(replyCorrelationChannel);
+		throwingTemplate.setThrowExceptionOnLateReply(true);
+		throwingTemplate.setReceiveTimeout(10);
+		assertThat(throwingTemplate.sendAndReceive(requestChannel, new GenericMessage<>("foo"))).isNull();
+		Message<?> lateReply = request.get();
+		assertThatExceptionOfType(MessageDeliveryException.class)
+				.isThrownBy(() -> replyCorrelationChannel.send(lateReply));
+
+		MessagingTemplate template = new MessagingTemplate();
+		template.setReplyCorrelationChannel(replyCorrelationChannel);
+		template.setReceiveTimeout(10);
+		assertThat(template.sendAndReceive(requestChannel, new GenericMessage<>("bar"))).isNull();
+		assertThat(replyCorrelationChannel.send(request.get())).isFalse();
+	}
+
+	@Test
+	public void testBatchGatewayMethods() throws Exception {
+		ExecutorChannel requestChannel = new ExecutorChannel(Executors.newCachedThreadPool());
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		List<Object> oneWay = new CopyOnWriteArrayList<>();
+		requestChannel.subscribe(message -> {
+			if (!(message.getHeaders().getReplyChannel() instanceof MessageChannel)) {
+				oneWay.add(message.getPayload());
+				return;
+			}
+			int current = inFlight.incrementAndGet();
+			maxInFlight.accumulateAndGet(current, Math::max);
+			try {
+				// Reply in a reverse order of requests to verify correlation
+				Thread.sleep(50 - (Integer) message.getPayload() % 10 * 5);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			inFlight.decrementAndGet();
+			Message<?> reply =
+					(Integer) message.getPayload() < 0
+							? new ErrorMessage(new MessagingException(message, "failed: " + message.getPayload()))
+							: new GenericMessage<>("reply" + message.getPayload());
+			((MessageChannel) message.getHeaders().getReplyChannel()).send(reply);
+		});
+		GatewayProxyFactoryBean<BatchService> proxyFactory = new GatewayProxyFactoryBean<>(BatchService.class);
+		proxyFactory.setDefaultRequestChannel(requestChannel);
+		proxyFactory.setAsyncExecutor(null);
+		proxyFactory.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		proxyFactory.setBeanName("batchGateway");
+		proxyFactory.afterPropertiesSet();
+		BatchService service = proxyFactory.getObject();
+
+		List<Integer> requests = IntStream.range(0, 40).boxed().toList();
+		List<String> expectedReplies = requests.stream().map(i -> "reply" + i).toList();
+		List<CompletableFuture<String>> replies = service.requestReplies(requests);
+		assertThat(replies).hasSize(40);
+		for (int i = 0; i < 40; i++) {
+			assertThat(replies.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(expectedReplies.get(i));
+		}
+		assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(10);
+
+		List<CompletableFuture<String>> partiallyFailed = service.requestArray(new Integer[] {1, -1, 2});
+		assertThat(partiallyFailed.get(0).get(10, TimeUnit.SECONDS)).isEqualTo("reply1");
+		assertThat(partiallyFailed.get(2).get(10, TimeUnit.SECONDS)).isEqualTo("reply2");
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> partiallyFailed.get(1).get(10, TimeUnit.SECONDS))
+				.withStackTraceContaining("failed: -1");
+
+		maxInFlight.set(0);
+		StepVerifier.create(service.requestFlux(requests.stream()))
+				.expectNextSequence(expectedReplies)
+				.expectComplete()
+				.verify(Duration.ofSeconds(10));
+		assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(5);
+
+		service.send(List.of(1, 2, 3));
+		await().untilAsserted(() -> assertThat(oneWay).containsExactlyInAnyOrder(1, 2, 3));
+
+		GatewayProxyFactoryBean<InvalidBatchService> invalidProxyFactory =
+				new GatewayProxyFactoryBean<>(InvalidBatchService.class);
+		invalidProxyFactory.setDefaultRequestChannel(requestChannel);
+		invalidProxyFactory.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		assertThatIllegalArgumentException()
+				.isThrownBy(invalidProxyFactory::afterPropertiesSet)
+				.withMessageContaining("must return a 'List<CompletableFuture<?>>', a 'Flux<?>' or 'void'");
+	}
+
 	private static void startResponder(final PollableChannel requestChannel) {
 		new Thread(() -> {
 			Message<?> input = requestChannel.receive();
@@ -519,6 +690,29 @@ public class GatewayProxyFactoryBeanTests implements TestApplicationContextAware
 		throw new TestException();
 	}
 
+	interface BatchService {
+
+		@Gateway(batchWindow = 10)
+		List<CompletableFuture<String>> requestReplies(List<Integer> requests);
+
+		@Gateway(batchWindow = 10)
+		List<CompletableFuture<String>> requestArray(Integer[] requests);
+
+		@Gateway(batchWindow = 5)
+		Flux<String> requestFlux(Stream<Integer> requests);
+
+		@Gateway(batchWindow = 5)
+		void send(List<Integer> requests);
+
+	}
+
+	interface InvalidBatchService {
+
+		@Gateway(batchWindow = 10)
+		List<String> requestReplies(List<Integer> requests);
+
+	}
+
 	interface TestEchoService {
 
 		Message<?> echo(String s);
@@ -22,10 +22,15 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
@@ -68,6 +73,7 @@ import org.springframework.integration.router.HeaderValueRouter;
 import org.springframework.integration.router.RecipientListRouter;
 import org.springframework.integration.scheduling.PollerMetadata;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.management.IntegrationManagement;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
@@ -124,7 +130,7 @@ public class IntegrationGraphServerTests {
 		//		System . out . println(new String(baos.toByteArray()));
 
 		Map<?, ?> map = objectMapper.readValue(baos.toByteArray(), Map.class);
-		assertThat(map.size()).isEqualTo(3);
+		assertThat(map.size()).isEqualTo(4);
 		List<Map<?, ?>> nodes = (List<Map<?, ?>>) map.get("nodes");
 		assertThat(nodes).isNotNull();
 		assertThat(nodes.size()).isEqualTo(35);
@@ -170,7 +176,7 @@ public class IntegrationGraphServerTests {
 		//		System . out . println(new String(baos.toByteArray()));
 
 		map = objectMapper.readValue(baos.toByteArray(), Map.class);
-		assertThat(map.size()).isEqualTo(3);
+		assertThat(map.size()).isEqualTo(4);
 		nodes = (List<Map<?, ?>>) map.get("nodes");
 		assertThat(nodes).isNotNull();
 		assertThat(nodes.size()).isEqualTo(35);
@@ -259,6 +265,60 @@ public class IntegrationGraphServerTests {
 		assertThat(graph.nodes().size()).isEqualTo(35);
 	}
 
+	@Test
+	void flowCriticalPathAndQueueTime() throws InterruptedException {
+		CountDownLatch handled = new CountDownLatch(3);
+		IntegrationFlow flow = f -> f
+				.<String, String>transform(String::toUpperCase)
+				.channel(c -> c.queue("criticalPathQueue").queueTimeEnabled(true))
+				.handle((m) -> handled.countDown(), (e) -> e.poller((p) -> p.fixedDelay(10)));
+		IntegrationFlowRegistration reg = this.flowContext.registration(flow).register();
+		try {
+			for (int i = 0; i < 3; i++) {
+				reg.getInputChannel().send(new GenericMessage<>("test"));
+			}
+			assertThat(handled.await(10, TimeUnit.SECONDS)).isTrue();
+
+			Graph graph = this.server.rebuild();
+			MessageChannelNode queueNode =
+					graph.nodes()
+							.stream()
+							.filter((node) -> node.getName().equals("criticalPathQueue"))
+							.map(MessageChannelNode.class::cast)
+							.findFirst()
+							.get();
+			assertThat(queueNode.isAsync()).isTrue();
+			assertThat(queueNode.getQueueTime()).isNotNull();
+			assertThat(queueNode.getQueueTime().count()).isEqualTo(3);
+			assertThat(queueNode.getQueueTime().percentiles())
+					.containsOnlyKeys("0.5", "0.99")
+					.allSatisfy((percentile, value) -> assertThat(value).isGreaterThanOrEqualTo(0));
+
+			FlowNode flowNode =
+					graph.flows()
+							.stream()
+							.filter((node) -> node.getName().equals(reg.getId()))
+							.findFirst()
+							.get();
+			assertThat(flowNode.getNodes()).contains(queueNode.getNodeId());
+			FlowNode.CriticalPath criticalPath = flowNode.getCriticalPath();
+			assertThat(criticalPath.hops()).extracting(FlowNode.Hop::nodeId).contains(queueNode.getNodeId());
+			assertThat(criticalPath.latency())
+					.isGreaterThanOrEqualTo(criticalPath.hops().stream().mapToDouble(FlowNode.Hop::queueTime).sum());
+		}
+		finally {
+			this.flowContext.remove(reg.getId());
+			this.server.rebuild();
+		}
+	}
+
+	@Test
+	void timerStatsWithoutPercentiles() {
+		TimerStats timerStats = new TimerStats(1, 2.0, 3.0);
+		assertThat(timerStats.percentiles()).isEmpty();
+		assertThat(new TimerStats(1, 2.0, 3.0, Map.of("0.99", 2.5)).percentiles()).containsEntry("0.99", 2.5);
+	}
+
 	@Autowired
 	MessageChannel filterInputChannel;
 
@@ -301,7 +361,25 @@ public class IntegrationGraphServerTests {
 		@Bean
 		@Primary
 		public static MeterRegistry meterRegistry() {
-			return new SimpleMeterRegistry();
+			SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+			meterRegistry.config()
+					.meterFilter(new MeterFilter() {
+
+						@Override
+						public DistributionStatisticConfig configure(Meter.Id id,
+								DistributionStatisticConfig config) {
+
+							if (IntegrationManagement.QUEUE_TIMER_NAME.equals(id.getName())) {
+								return DistributionStatisticConfig.builder()
+										.percentiles(0.5, 0.99)
+										.build()
+										.merge(config);
+							}
+							return config;
+						}
+
+					});
+			return meterRegistry;
 		}
 
 		// To be sure that @Primary one wins for the MicrometerNodeEnhancer
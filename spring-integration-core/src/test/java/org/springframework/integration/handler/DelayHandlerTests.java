@@ -17,16 +17,26 @@
 package org.springframework.integration.handler;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +54,7 @@ import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.context.IntegrationContextUtils;
 import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.MessageGroupStore;
+import org.springframework.integration.store.ScheduledMessageGroupStore;
 import org.springframework.integration.store.SimpleMessageStore;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.test.support.TestApplicationContextAware;
@@ -59,6 +70,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.awaitility.Awaitility.await;
 
 /**
@@ -530,6 +542,180 @@ public class DelayHandlerTests implements TestApplicationContextAware {
 				.until(() -> works.size() == 1);
 	}
 
+	@Test
+	public void indexedDueTimeReleasesDueMessagesInBatches() {
+		IndexedMessageStore messageStore = new IndexedMessageStore();
+		QueueChannel results = new QueueChannel();
+		this.delayHandler.setOutputChannel(results);
+		this.delayHandler.setMessageStore(messageStore);
+		this.delayHandler.setIndexedDueTime(true);
+		this.delayHandler.setReleaseBatchSize(2);
+		setDelayExpression();
+		startDelayerHandler();
+
+		for (int delay : new int[] {500, 100, 300, 200, 400}) {
+			this.input.send(MessageBuilder.withPayload(delay).setHeader("delay", delay).build());
+		}
+		assertThat(this.delayHandler.getDelayedMessageCount()).isEqualTo(5);
+
+		List<Object> released = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Message<?> message = results.receive(10000);
+			assertThat(message).isNotNull();
+			released.add(message.getPayload());
+		}
+		assertThat(released).containsExactly(100, 200, 300, 400, 500);
+		// The released messages are removed from the store after the batch
+		await().untilAsserted(() -> assertThat(this.delayHandler.getDelayedMessageCount()).isEqualTo(0));
+		assertThat(messageStore.getNextDueTime(DELAYER_MESSAGE_GROUP_ID)).isNull();
+	}
+
+	@Test
+	public void indexedDueTimeReleasesPersistedMessagesAfterRestart() {
+		IndexedMessageStore messageStore = new IndexedMessageStore();
+		this.delayHandler.setDefaultDelay(60_000);
+		this.delayHandler.setMessageStore(messageStore);
+		this.delayHandler.setIndexedDueTime(true);
+		startDelayerHandler();
+		this.input.send(new GenericMessage<>("test1"));
+		this.input.send(new GenericMessage<>("test2"));
+
+		// emulate restart
+		this.taskScheduler.destroy();
+		messageStore.shiftDueTimes(-60_000);
+
+		this.taskScheduler.afterPropertiesSet();
+		QueueChannel results = new QueueChannel();
+		this.delayHandler = new DelayHandler(DELAYER_MESSAGE_GROUP_ID, this.taskScheduler);
+		this.delayHandler.setOutputChannel(results);
+		this.delayHandler.setMessageStore(messageStore);
+		this.delayHandler.setIndexedDueTime(true);
+		this.delayHandler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		startDelayerHandler();
+
+		List<Object> released = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			Message<?> message = results.receive(10000);
+			assertThat(message).isNotNull();
+			released.add(message.getPayload());
+		}
+		assertThat(released).containsExactlyInAnyOrder("test1", "test2");
+		await().untilAsserted(() ->
+				assertThat(messageStore.getScheduledMessageCount(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0));
+	}
+
+	@Test
+	public void indexedDueTimeRetriesFailedRelease() {
+		IndexedMessageStore messageStore = new IndexedMessageStore();
+		AtomicInteger attempts = new AtomicInteger();
+		QueueChannel results = new QueueChannel();
+		this.delayHandler.setOutputChannel((message, timeout) -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new MessagingException(message, "fail");
+			}
+			return results.send(message);
+		});
+		this.delayHandler.setDefaultDelay(10);
+		this.delayHandler.setRetryDelay(10);
+		this.delayHandler.setMessageStore(messageStore);
+		this.delayHandler.setIndexedDueTime(true);
+		startDelayerHandler();
+
+		this.input.send(new GenericMessage<>("test"));
+
+		Message<?> message = results.receive(10000);
+		assertThat(message).isNotNull().extracting(Message::getPayload).isEqualTo("test");
+		assertThat(attempts.get()).isEqualTo(3);
+		await().untilAsserted(() ->
+				assertThat(messageStore.getScheduledMessageCount(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0));
+		// The delivery attempts are cleared after the message is sent to the output channel
+		await().untilAsserted(() ->
+				assertThat(TestUtils.<Map<?, ?>>getPropertyValue(this.delayHandler, "deliveries")).isEmpty());
+	}
+
+	@Test
+	public void indexedDueTimeReleasesClaimedMessagesAgainAfterLeaseExpiration() {
+		IndexedMessageStore messageStore = new IndexedMessageStore();
+		this.delayHandler.setDefaultDelay(60_000);
+		this.delayHandler.setMessageStore(messageStore);
+		this.delayHandler.setIndexedDueTime(true);
+		startDelayerHandler();
+		this.input.send(new GenericMessage<>("test"));
+
+		// emulate a crash after the due message has been polled, but before it has been released
+		this.taskScheduler.destroy();
+		long now = System.currentTimeMillis();
+		assertThat(messageStore.pollDueMessages(DELAYER_MESSAGE_GROUP_ID, now + 60_000, 10, now + 200))
+				.extracting(Message::getPayload)
+				.extracting("original.payload")
+				.containsExactly("test");
+		assertThat(messageStore.getScheduledMessageCount(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(1);
+
+		this.taskScheduler.afterPropertiesSet();
+		QueueChannel results = new QueueChannel();
+		this.delayHandler = new DelayHandler(DELAYER_MESSAGE_GROUP_ID, this.taskScheduler);
+		this.delayHandler.setOutputChannel(results);
+		this.delayHandler.setMessageStore(messageStore);
+		this.delayHandler.setIndexedDueTime(true);
+		this.delayHandler.setReleaseWindow(50);
+		this.delayHandler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		startDelayerHandler();
+
+		Message<?> message = results.receive(10000);
+		assertThat(message).isNotNull().extracting(Message::getPayload).isEqualTo("test");
+		await().untilAsserted(() ->
+				assertThat(messageStore.getScheduledMessageCount(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0));
+	}
+
+	@Test
+	public void indexedDueTimeKeepsMessageUntilFailedReleaseIsSettled() throws InterruptedException {
+		IndexedMessageStore messageStore = new IndexedMessageStore();
+		CountDownLatch failed = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		AtomicInteger attempts = new AtomicInteger();
+		this.delayHandler.setOutputChannel((message, timeout) -> {
+			attempts.incrementAndGet();
+			failed.countDown();
+			try {
+				proceed.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			throw new MessagingException(message, "fail");
+		});
+		this.delayHandler.setDefaultDelay(10);
+		this.delayHandler.setRetryDelay(10);
+		this.delayHandler.setMaxAttempts(2);
+		this.delayHandler.setMessageStore(messageStore);
+		this.delayHandler.setIndexedDueTime(true);
+		startDelayerHandler();
+
+		this.input.send(new GenericMessage<>("test"));
+
+		try {
+			assertThat(failed.await(10, TimeUnit.SECONDS)).isTrue();
+			// The message stays in the store while it is being released
+			assertThat(messageStore.getScheduledMessageCount(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(1);
+		}
+		finally {
+			proceed.countDown();
+		}
+
+		// Discarded after the max attempts and only then removed from the store
+		await().untilAsserted(() ->
+				assertThat(messageStore.getScheduledMessageCount(DELAYER_MESSAGE_GROUP_ID)).isEqualTo(0));
+		assertThat(attempts.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void indexedDueTimeRequiresScheduledMessageGroupStore() {
+		this.delayHandler.setIndexedDueTime(true);
+		assertThatIllegalStateException()
+				.isThrownBy(this::startDelayerHandler)
+				.withMessageContaining("ScheduledMessageGroupStore");
+	}
+
 	private void waitForLatch(long timeout) {
 		try {
 			this.latch.await(timeout, TimeUnit.MILLISECONDS);
@@ -561,6 +747,100 @@ public class DelayHandlerTests implements TestApplicationContextAware {
 
 	}
 
+	private static class IndexedMessageStore extends SimpleMessageStore implements ScheduledMessageGroupStore {
+
+		private final NavigableSet<DueMessage> index =
+				new TreeSet<>(Comparator.comparingLong(DueMessage::dueTime).thenComparing(DueMessage::id));
+
+		private final Map<UUID, Message<?>> scheduledMessages = new ConcurrentHashMap<>();
+
+		private final Map<UUID, Long> dueTimes = new ConcurrentHashMap<>();
+
+		@Override
+		public void scheduleMessage(Object groupId, Message<?> message, long dueTime) {
+			UUID id = Objects.requireNonNull(message.getHeaders().getId());
+			this.scheduledMessages.put(id, message);
+			synchronized (this.index) {
+				index(id, dueTime);
+			}
+		}
+
+		@Override
+		public List<Message<?>> pollDueMessages(Object groupId, long dueTime, int maxMessages,
+				long leaseExpiration) {
+
+			List<Message<?>> dueMessages = new ArrayList<>();
+			synchronized (this.index) {
+				List<UUID> claimed = new ArrayList<>();
+				Iterator<DueMessage> iterator = this.index.iterator();
+				while (dueMessages.size() < maxMessages && iterator.hasNext()) {
+					DueMessage dueMessage = iterator.next();
+					if (dueMessage.dueTime() > dueTime) {
+						break;
+					}
+					claimed.add(dueMessage.id());
+					Message<?> message = this.scheduledMessages.get(dueMessage.id());
+					if (message != null) {
+						dueMessages.add(message);
+					}
+				}
+				for (UUID id : claimed) {
+					index(id, leaseExpiration);
+				}
+			}
+			return dueMessages;
+		}
+
+		@Override
+		public void removeScheduledMessages(Object groupId, Collection<UUID> messageIds) {
+			synchronized (this.index) {
+				for (UUID id : messageIds) {
+					Long dueTime = this.dueTimes.remove(id);
+					if (dueTime != null) {
+						this.index.remove(new DueMessage(dueTime, id));
+					}
+					this.scheduledMessages.remove(id);
+				}
+			}
+		}
+
+		private void index(UUID id, long dueTime) {
+			Long previousDueTime = this.dueTimes.put(id, dueTime);
+			if (previousDueTime != null) {
+				this.index.remove(new DueMessage(previousDueTime, id));
+			}
+			this.index.add(new DueMessage(dueTime, id));
+		}
+
+		@Override
+		public @Nullable Long getNextDueTime(Object groupId) {
+			synchronized (this.index) {
+				return this.index.isEmpty() ? null : this.index.first().dueTime();
+			}
+		}
+
+		@Override
+		public int getScheduledMessageCount(Object groupId) {
+			synchronized (this.index) {
+				return this.index.size();
+			}
+		}
+
+		void shiftDueTimes(long shift) {
+			synchronized (this.index) {
+				List<DueMessage> shifted = new ArrayList<>(this.index);
+				for (DueMessage dueMessage : shifted) {
+					index(dueMessage.id(), dueMessage.dueTime() + shift);
+				}
+			}
+		}
+
+		private record DueMessage(long dueTime, UUID id) {
+
+		}
+
+	}
+
 	@SuppressWarnings("serial")
 	private static class TestTimedOutException extends RuntimeException {
 
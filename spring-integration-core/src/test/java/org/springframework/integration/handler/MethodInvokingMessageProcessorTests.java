@@ -1196,6 +1196,17 @@ public class MethodInvokingMessageProcessorTests implements TestApplicationConte
 		assertThat(result).isEqualTo("TESTING");
 	}
 
+	@Test
+	void spelExpressionIsNotParsedForInvocableHandlerMethod() {
+		MethodInvokingMessageProcessor<?> processor = new MethodInvokingMessageProcessor<>(
+				new LifeCycleWithCustomStart(), (String) null);
+		processor.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		assertThat(processor.processMessage(new GenericMessage<>("testing"))).isEqualTo("TESTING");
+		assertThat(TestUtils.<Object>getPropertyValue(processor, "delegate.handlerMethod.expression")).isNull();
+		assertThat(TestUtils.<Object>getPropertyValue(processor, "delegate.handlerMethod.invocableHandlerMethod"))
+				.isNotNull();
+	}
+
 	public static class Employee<T> {
 
 		private T entity;
@@ -16,9 +16,24 @@
 
 package org.springframework.integration.handler.advice;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,10 +44,15 @@ import org.springframework.cache.interceptor.CacheEvictOperation;
 import org.springframework.cache.interceptor.CachePutOperation;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.integration.annotation.ServiceActivator;
 import org.springframework.integration.annotation.Transformer;
+import org.springframework.integration.channel.NullChannel;
 import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+import org.springframework.integration.test.support.TestApplicationContextAware;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.support.GenericMessage;
@@ -40,6 +60,8 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
 
 /**
  * @author Artem Bilan
@@ -48,7 +70,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 @SpringJUnitConfig
 @DirtiesContext
-public class CacheRequestHandlerAdviceTests {
+public class CacheRequestHandlerAdviceTests implements TestApplicationContextAware {
 
 	private static final String TEST_CACHE = "testCache";
 
@@ -66,6 +88,8 @@ public class CacheRequestHandlerAdviceTests {
 	@Autowired
 	private CacheManager cacheManager;
 
+	private final CacheManager standaloneCacheManager = new ConcurrentMapCacheManager();
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void testCacheRequestHandlerAdvice() {
@@ -96,6 +120,136 @@ public class CacheRequestHandlerAdviceTests {
 		assertThat(nativeCache.values()).element(0).isSameAs(testMessage2);
 	}
 
+	@Test
+	void singleFlightLoadsOncePerKey() throws Exception {
+		CountDownLatch loadStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		CacheRequestHandlerAdvice advice = new CacheRequestHandlerAdvice("singleFlight");
+		advice.setCacheManager(this.standaloneCacheManager);
+		advice.setSingleFlight(true);
+		advice.setMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+		AbstractReplyProducingMessageHandler handler =
+				advisedHandler(advice, (message) -> {
+					loads.incrementAndGet();
+					loadStarted.countDown();
+					try {
+						releaseLoad.await(10, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					return message.getPayload() + "-loaded";
+				});
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		Future<?> first = executorService.submit(() -> handler.handleMessage(new GenericMessage<>("foo")));
+		assertThat(loadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+		Set<Thread> followerThreads = ConcurrentHashMap.newKeySet();
+		Runnable followerCall = () -> {
+			followerThreads.add(Thread.currentThread());
+			handler.handleMessage(new GenericMessage<>("foo"));
+		};
+		List<? extends Future<?>> followers =
+				List.of(executorService.submit(followerCall), executorService.submit(followerCall));
+		// the followers are parked joining the in-flight load
+		await().until(() -> followerThreads.size() == 2
+				&& followerThreads.stream().allMatch((thread) -> thread.getState() == Thread.State.WAITING));
+		releaseLoad.countDown();
+		first.get(10, TimeUnit.SECONDS);
+		for (Future<?> follower : followers) {
+			follower.get(10, TimeUnit.SECONDS);
+		}
+		handler.handleMessage(new GenericMessage<>("foo"));
+		executorService.shutdown();
+
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("spring.integration.cache").tag("result", "hit").counter().count())
+				.isEqualTo(1);
+		assertThat(meterRegistry.get("spring.integration.cache.load").timer().count()).isEqualTo(1);
+
+		advice.destroy();
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	void failuresAreCachedForTimeToLive() {
+		AtomicInteger loads = new AtomicInteger();
+		CacheRequestHandlerAdvice advice = new CacheRequestHandlerAdvice("negative");
+		advice.setCacheManager(this.standaloneCacheManager);
+		Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+		advice.setClock(clock);
+		advice.setFailureTimeToLive(Duration.ofSeconds(10));
+		AbstractReplyProducingMessageHandler handler =
+				advisedHandler(advice, (message) -> {
+					if (loads.incrementAndGet() == 1) {
+						throw new IllegalStateException("backend is down");
+					}
+					return "recovered";
+				});
+
+		assertThatExceptionOfType(Exception.class)
+				.isThrownBy(() -> handler.handleMessage(new GenericMessage<>("foo")));
+		assertThatExceptionOfType(Exception.class)
+				.isThrownBy(() -> handler.handleMessage(new GenericMessage<>("foo")));
+		assertThat(loads.get()).isEqualTo(1);
+
+		advice.setClock(Clock.offset(clock, Duration.ofSeconds(9)));
+		assertThatExceptionOfType(Exception.class)
+				.isThrownBy(() -> handler.handleMessage(new GenericMessage<>("foo")));
+		assertThat(loads.get()).isEqualTo(1);
+
+		advice.setClock(Clock.offset(clock, Duration.ofSeconds(10)));
+		handler.handleMessage(new GenericMessage<>("foo"));
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void hotKeysAreRefreshedAhead() {
+		AtomicInteger loads = new AtomicInteger();
+		CacheRequestHandlerAdvice advice = new CacheRequestHandlerAdvice("refresh");
+		advice.setCacheManager(this.standaloneCacheManager);
+		Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+		advice.setClock(clock);
+		advice.setRefreshAfter(Duration.ofSeconds(10));
+		advice.setRefreshExecutor(new SyncTaskExecutor());
+		AbstractReplyProducingMessageHandler handler =
+				advisedHandler(advice, (message) -> "value-" + loads.incrementAndGet());
+
+		handler.handleMessage(new GenericMessage<>("foo"));
+		handler.handleMessage(new GenericMessage<>("foo"));
+		Cache cache = this.standaloneCacheManager.getCache("refresh");
+		assertThat(cache).isNotNull();
+		assertThat(cache.get("foo", String.class)).isEqualTo("value-1");
+
+		advice.setClock(Clock.offset(clock, Duration.ofSeconds(10)));
+		handler.handleMessage(new GenericMessage<>("foo"));
+		assertThat(cache.get("foo", String.class)).isEqualTo("value-2");
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	private static AbstractReplyProducingMessageHandler advisedHandler(CacheRequestHandlerAdvice advice,
+			Function<Message<?>, Object> function) {
+
+		advice.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		advice.afterPropertiesSet();
+		advice.afterSingletonsInstantiated();
+		AbstractReplyProducingMessageHandler handler = new AbstractReplyProducingMessageHandler() {
+
+			@Override
+			protected Object handleRequestMessage(Message<?> requestMessage) {
+				return function.apply(requestMessage);
+			}
+
+		};
+		handler.setOutputChannel(new NullChannel());
+		handler.setAdviceChain(List.of(advice));
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		return handler;
+	}
+
 	@Configuration
 	@EnableIntegration
 	public static class Config {
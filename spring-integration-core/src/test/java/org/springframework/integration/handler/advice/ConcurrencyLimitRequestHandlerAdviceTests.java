@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.handler.advice;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.channel.NullChannel;
+import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
+import org.springframework.integration.test.support.TestApplicationContextAware;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class ConcurrencyLimitRequestHandlerAdviceTests implements TestApplicationContextAware {
+
+	@Test
+	void excessCallsAreRejectedOrQueued() throws Exception {
+		CountDownLatch handlerEntered = new CountDownLatch(1);
+		CountDownLatch releaseHandler = new CountDownLatch(1);
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ConcurrencyLimitRequestHandlerAdvice advice = new ConcurrencyLimitRequestHandlerAdvice();
+		advice.setInitialLimit(1);
+		advice.setMaxLimit(1);
+		advice.setMetricsCaptor(new MicrometerMetricsCaptor(meterRegistry));
+		AbstractReplyProducingMessageHandler handler =
+				advisedHandler(advice, () -> {
+					handlerEntered.countDown();
+					releaseHandler.await(10, TimeUnit.SECONDS);
+				});
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		Future<?> inFlight = executorService.submit(() -> handler.handleMessage(new GenericMessage<>("first")));
+		assertThat(handlerEntered.await(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(meterRegistry.get("spring.integration.concurrency.limit").gauge().value()).isEqualTo(1);
+		assertThat(meterRegistry.get("spring.integration.concurrency.inflight").gauge().value()).isEqualTo(1);
+
+		assertThatExceptionOfType(ConcurrencyLimitRequestHandlerAdvice.ConcurrencyLimitExceededException.class)
+				.isThrownBy(() -> handler.handleMessage(new GenericMessage<>("second")))
+				.withMessageContaining("Concurrency limit of 1 exceeded");
+
+		advice.setMaxWaitTime(Duration.ofSeconds(10));
+		AtomicReference<Thread> queuedThread = new AtomicReference<>();
+		Future<?> queued = executorService.submit(() -> {
+			queuedThread.set(Thread.currentThread());
+			handler.handleMessage(new GenericMessage<>("third"));
+		});
+		// the queued call waits for a permit
+		await().until(() -> queuedThread.get() != null
+				&& queuedThread.get().getState() == Thread.State.TIMED_WAITING);
+		assertThat(queued.isDone()).isFalse();
+		releaseHandler.countDown();
+		inFlight.get(10, TimeUnit.SECONDS);
+		queued.get(10, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		assertThat(advice.getInFlight()).isEqualTo(0);
+		advice.destroy();
+		assertThat(meterRegistry.find("spring.integration.concurrency.limit").gauges()).isEmpty();
+	}
+
+	@Test
+	void limitAdaptsToLatency() throws Exception {
+		PerThreadClock clock = new PerThreadClock();
+		AtomicReference<Duration> latency = new AtomicReference<>(Duration.ofMillis(1));
+		AtomicReference<CyclicBarrier> allInFlight = new AtomicReference<>();
+		ConcurrencyLimitRequestHandlerAdvice advice = new ConcurrencyLimitRequestHandlerAdvice();
+		advice.setInitialLimit(10);
+		advice.setMaxLimit(50);
+		advice.setLongLatencyWindow(1000);
+		advice.setClock(clock);
+		AbstractReplyProducingMessageHandler handler =
+				advisedHandler(advice, () -> {
+					allInFlight.get().await(10, TimeUnit.SECONDS);
+					clock.advance(latency.get());
+				});
+
+		ExecutorService executorService = Executors.newFixedThreadPool(50);
+		for (int i = 0; i < 10; i++) {
+			runAtLimit(executorService, handler, advice, allInFlight);
+		}
+		int increasedLimit = advice.getLimit();
+		assertThat(increasedLimit).isGreaterThan(10);
+
+		latency.set(Duration.ofMillis(20));
+		for (int i = 0; i < 5; i++) {
+			runAtLimit(executorService, handler, advice, allInFlight);
+		}
+		assertThat(advice.getLimit()).isLessThan(increasedLimit);
+		executorService.shutdown();
+	}
+
+	/**
+	 * Fill the current limit with calls which complete only when all of them are in flight.
+	 */
+	private static void runAtLimit(ExecutorService executorService, AbstractReplyProducingMessageHandler handler,
+			ConcurrencyLimitRequestHandlerAdvice advice, AtomicReference<CyclicBarrier> allInFlight)
+			throws Exception {
+
+		int concurrency = advice.getLimit();
+		allInFlight.set(new CyclicBarrier(concurrency));
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < concurrency; i++) {
+			futures.add(executorService.submit(() -> handler.handleMessage(new GenericMessage<>("test"))));
+		}
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+	}
+
+	private static AbstractReplyProducingMessageHandler advisedHandler(ConcurrencyLimitRequestHandlerAdvice advice,
+			HandlerBody handlerBody) {
+
+		advice.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		advice.afterPropertiesSet();
+		AbstractReplyProducingMessageHandler handler = new AbstractReplyProducingMessageHandler() {
+
+			@Override
+			protected Object handleRequestMessage(Message<?> requestMessage) {
+				try {
+					handlerBody.run();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+				return requestMessage.getPayload();
+			}
+
+		};
+		handler.setOutputChannel(new NullChannel());
+		handler.setAdviceChain(List.of(advice));
+		handler.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		handler.afterPropertiesSet();
+		return handler;
+	}
+
+	@FunctionalInterface
+	private interface HandlerBody {
+
+		void run() throws Exception;
+
+	}
+
+	/**
+	 * A {@link Clock} advanced separately by each thread, so the latency of a call
+	 * does not depend on the other calls in flight.
+	 */
+	private static final class PerThreadClock extends Clock {
+
+		private final ThreadLocal<Instant> now = ThreadLocal.withInitial(() -> Instant.EPOCH);
+
+		void advance(Duration duration) {
+			this.now.set(this.now.get().plus(duration));
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.now.get();
+		}
+
+	}
+
+}
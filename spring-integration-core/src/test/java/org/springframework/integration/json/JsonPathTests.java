@@ -83,6 +83,9 @@ public class JsonPathTests {
 	@Autowired
 	private volatile MessageChannel transformerInput;
 
+	@Autowired
+	private MessageChannel streamingTransformerInput;
+
 	@Autowired
 	private volatile MessageChannel filterInput1;
 
@@ -135,6 +138,25 @@ public class JsonPathTests {
 				.withRootCauseInstanceOf(PathNotFoundException.class);
 	}
 
+	@Test
+	public void testJsonPathStreamingTransformer() {
+		this.streamingTransformerInput.send(testMessage);
+		Message<?> receive = this.output.receive(10000);
+		assertThat(receive).isNotNull();
+		assertThat(receive.getPayload()).isEqualTo("Nigel Rees");
+
+		this.streamingTransformerInput.send(new GenericMessage<>(JSON.getBytes()));
+		receive = this.output.receive(10000);
+		assertThat(receive).isNotNull();
+		assertThat(receive.getPayload()).isEqualTo("Nigel Rees");
+
+		// Falls back to the regular evaluation
+		this.streamingTransformerInput.send(new GenericMessage<>(JSON_FILE));
+		receive = this.output.receive(10000);
+		assertThat(receive).isNotNull();
+		assertThat(receive.getPayload()).isEqualTo("Nigel Rees");
+	}
+
 	@Test
 	public void testInt3139JsonPathFilter() {
 		this.filterInput1.send(testMessage);
@@ -225,6 +247,31 @@ public class JsonPathTests {
 		assertThat(result).isEqualTo("bar");
 	}
 
+	@Test
+	public void testSamePayloadEvaluatedSeveralTimes() throws Exception {
+		Object author = JsonPathUtils.evaluate(JSON, "$.store.book[0].author");
+		Object category = JsonPathUtils.evaluate(JSON, "$.store.book[2].category");
+		Object sameAuthor = JsonPathUtils.evaluate(JSON, "$.store.book[0].author");
+		assertThat(author).isEqualTo("Nigel Rees").isEqualTo(sameAuthor);
+		assertThat(category).isEqualTo("fiction");
+		assertThat(JsonPathUtils.<Object>evaluate("{\"foo\":\"baz\"}", "$.foo")).isEqualTo("baz");
+	}
+
+	@Test
+	public void testStreamingEvaluation() throws Exception {
+		assertThat(JsonPathUtils.<Object>evaluateStreaming(JSON, "$.store.book[0].author")).isEqualTo("Nigel Rees");
+		assertThat(JsonPathUtils.<Object>evaluateStreaming(JSON.getBytes(), "$['store'].book[1].price"))
+				.isEqualTo(12.99);
+		assertThat(JsonPathUtils.<Object>evaluateStreaming(JSON, "$.store.bicycle"))
+				.isEqualTo(JsonPathUtils.evaluate(JSON, "$.store.bicycle"));
+		assertThat(JsonPathUtils.<Object>evaluateStreaming(JSON, "$..book[2].isbn"))
+				.isEqualTo(JsonPathUtils.evaluate(JSON, "$..book[2].isbn"));
+		assertThatExceptionOfType(PathNotFoundException.class)
+				.isThrownBy(() -> JsonPathUtils.evaluateStreaming(JSON, "$.store.book[10].author"));
+		assertThatExceptionOfType(PathNotFoundException.class)
+				.isThrownBy(() -> JsonPathUtils.evaluateStreaming(JSON, "$.store.magazine"));
+	}
+
 	@Configuration
 	@ImportResource("classpath:org/springframework/integration/json/JsonPathTests-context.xml")
 	@EnableIntegration
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.metadata;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.util.StopWatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class MemoryMappedMetadataStoreTests {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	@TempDir
+	File folder;
+
+	@Test
+	void concurrentMetadataStoreContractAndRestart() {
+		MemoryMappedMetadataStore metadataStore = createStore();
+		assertThat(metadataStore.putIfAbsent("foo", "baz")).isNull();
+		assertThat(metadataStore.putIfAbsent("foo", "baz")).isEqualTo("baz");
+		assertThat(metadataStore.replace("foo", "xxx", "bar")).isFalse();
+		assertThat(metadataStore.replace("foo", "baz", "bar")).isTrue();
+		metadataStore.put("removed", "value");
+		assertThat(metadataStore.remove("removed")).isEqualTo("value");
+		assertThat(metadataStore.remove("removed")).isNull();
+		metadataStore.put("unicode", "значение");
+		metadataStore.close();
+
+		MemoryMappedMetadataStore restarted = createStore();
+		assertThat(restarted.get("foo")).isEqualTo("bar");
+		assertThat(restarted.get("removed")).isNull();
+		assertThat(restarted.get("unicode")).isEqualTo("значение");
+		restarted.put("after", "restart");
+		restarted.close();
+
+		restarted = createStore();
+		assertThat(restarted.get("after")).isEqualTo("restart");
+		assertThat(restarted.get("foo")).isEqualTo("bar");
+		restarted.close();
+	}
+
+	@Test
+	void tornRecordIsDiscardedOnReplay() throws Exception {
+		MemoryMappedMetadataStore metadataStore = createStore();
+		metadataStore.put("first", "1");
+		metadataStore.put("second", "2");
+		metadataStore.close();
+
+		File log = new File(this.folder, "metadata-store.log");
+		try (RandomAccessFile file = new RandomAccessFile(log, "rw")) {
+			// corrupt the last byte of the 'second' value
+			long lastByte = 8 + (8 + 1 + 4 + 5 + 4 + 1) + (8 + 1 + 4 + 6 + 4 + 1) - 1;
+			file.seek(lastByte);
+			file.write('x');
+		}
+
+		MemoryMappedMetadataStore restarted = createStore();
+		assertThat(restarted.get("first")).isEqualTo("1");
+		assertThat(restarted.get("second")).isNull();
+		restarted.put("third", "3");
+		restarted.close();
+
+		restarted = createStore();
+		assertThat(restarted.get("first")).isEqualTo("1");
+		assertThat(restarted.get("third")).isEqualTo("3");
+		restarted.close();
+	}
+
+	@Test
+	void logIsCompacted() {
+		MemoryMappedMetadataStore metadataStore = new MemoryMappedMetadataStore();
+		metadataStore.setBaseDirectory(this.folder.getAbsolutePath());
+		metadataStore.setInitialSize(1024);
+		metadataStore.setCompactionThreshold(4096);
+		metadataStore.afterPropertiesSet();
+		for (int i = 0; i < 10_000; i++) {
+			metadataStore.put("key" + (i % 10), "value" + i);
+		}
+		metadataStore.close();
+
+		File log = new File(this.folder, "metadata-store.log");
+		assertThat(log.length()).isLessThan(64 * 1024);
+		assertThat(new File(this.folder, "metadata-store.log.compact")).doesNotExist();
+
+		MemoryMappedMetadataStore restarted = createStore();
+		for (int i = 0; i < 10; i++) {
+			assertThat(restarted.get("key" + i)).isEqualTo("value" + (9990 + i));
+		}
+		restarted.compact();
+		assertThat(restarted.get("key0")).isEqualTo("value9990");
+		restarted.close();
+	}
+
+	@Test
+	void recoveredLogIsCompacted() {
+		MemoryMappedMetadataStore metadataStore = createStore();
+		for (int i = 0; i < 10_000; i++) {
+			metadataStore.put("key" + (i % 10), "value" + i);
+		}
+		metadataStore.close();
+
+		File log = new File(this.folder, "metadata-store.log");
+		assertThat(log.length()).isGreaterThan(64 * 1024);
+
+		MemoryMappedMetadataStore restarted = new MemoryMappedMetadataStore();
+		restarted.setBaseDirectory(this.folder.getAbsolutePath());
+		restarted.setInitialSize(1024);
+		restarted.setCompactionThreshold(4096);
+		restarted.afterPropertiesSet();
+		// header and 10 records of 8 + 1 + 4 + 4 + 4 + 9 bytes
+		assertThat(TestUtils.<Long>getPropertyValue(restarted, "liveBytes")).isEqualTo(8 + 10 * 30);
+		restarted.put("key0", "value10000");
+		restarted.close();
+
+		assertThat(log.length()).isLessThan(64 * 1024);
+		restarted = createStore();
+		assertThat(restarted.get("key0")).isEqualTo("value10000");
+		assertThat(restarted.get("key9")).isEqualTo("value9999");
+		restarted.close();
+	}
+
+	@Test
+	void concurrentPutIfAbsent() throws InterruptedException {
+		MemoryMappedMetadataStore metadataStore = createStore();
+		AtomicInteger winners = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int t = 0; t < 8; t++) {
+			executor.execute(() -> {
+				for (int i = 0; i < 1000; i++) {
+					if (metadataStore.putIfAbsent("key" + i, Thread.currentThread().getName()) == null) {
+						winners.incrementAndGet();
+					}
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(winners.get()).isEqualTo(1000);
+		metadataStore.close();
+	}
+
+	@Test
+	@Disabled("Used for performance testing only")
+	void performanceTest() throws Exception {
+		int entries = 1_000_000;
+		StopWatch watch = new StopWatch("Metadata stores");
+
+		PropertiesPersistingMetadataStore propertiesStore = new PropertiesPersistingMetadataStore();
+		propertiesStore.setBaseDirectory(this.folder.getAbsolutePath());
+		propertiesStore.afterPropertiesSet();
+		watch.start("PropertiesPersistingMetadataStore");
+		for (int i = 0; i < entries; i++) {
+			propertiesStore.putIfAbsent("file" + i, "" + i);
+			if (i % 100_000 == 0) {
+				propertiesStore.flush();
+			}
+		}
+		propertiesStore.close();
+		watch.stop();
+
+		MemoryMappedMetadataStore mappedStore = createStore();
+		watch.start("MemoryMappedMetadataStore");
+		for (int i = 0; i < entries; i++) {
+			mappedStore.putIfAbsent("file" + i, "" + i);
+			if (i % 100_000 == 0) {
+				mappedStore.flush();
+			}
+		}
+		mappedStore.close();
+		watch.stop();
+
+		watch.start("MemoryMappedMetadataStore replay");
+		createStore().close();
+		watch.stop();
+
+		logger.info(watch.prettyPrint());
+	}
+
+	private MemoryMappedMetadataStore createStore() {
+		MemoryMappedMetadataStore metadataStore = new MemoryMappedMetadataStore();
+		metadataStore.setBaseDirectory(this.folder.getAbsolutePath());
+		metadataStore.afterPropertiesSet();
+		return metadataStore;
+	}
+
+}
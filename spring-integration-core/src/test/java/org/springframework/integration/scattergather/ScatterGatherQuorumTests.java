@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.scattergather;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.ExecutorChannel;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.dsl.IntegrationFlow;
+import org.springframework.integration.handler.ServiceActivatingHandler;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.PollableChannel;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+@SpringJUnitConfig
+@DirtiesContext
+public class ScatterGatherQuorumTests {
+
+	@Autowired
+	@Qualifier("quorumFlow.input")
+	MessageChannel quorumFlowInput;
+
+	@Autowired
+	PollableChannel discardChannel;
+
+	@Autowired
+	CountDownLatch slowRecipientLatch;
+
+	@Autowired
+	ExecutorService slowRecipientExecutor;
+
+	@Autowired
+	@Qualifier("hedgingFlow.input")
+	MessageChannel hedgingFlowInput;
+
+	@Autowired
+	HedgingMessageHandler hedgingHandler;
+
+	@Autowired
+	CountDownLatch primaryLatch;
+
+	@Autowired
+	AtomicReference<String> hedgeThread;
+
+	@Autowired
+	AtomicReference<MessageHeaders> hedgeHeaders;
+
+	@Test
+	void quorumReleasesGatherResultAndDropsLateReplies() throws InterruptedException {
+		QueueChannel replyChannel = new QueueChannel();
+		this.quorumFlowInput.send(MessageBuilder.withPayload("quote").setReplyChannel(replyChannel).build());
+
+		Message<?> gatherResult = replyChannel.receive(10_000);
+		assertThat(gatherResult).isNotNull();
+		assertThat(gatherResult.getPayload()).asInstanceOf(InstanceOfAssertFactories.LIST).containsExactlyInAnyOrder("fast1", "fast2");
+		assertThat(gatherResult.getHeaders()).doesNotContainKey(ScatterGatherHandler.SCATTER_COMPLETION);
+
+		this.slowRecipientLatch.countDown();
+		this.slowRecipientExecutor.shutdown();
+		assertThat(this.slowRecipientExecutor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.discardChannel.receive(0)).isNull();
+	}
+
+	@Test
+	void slowPrimaryIsHedged() {
+		QueueChannel replyChannel = new QueueChannel();
+		this.hedgingFlowInput.send(MessageBuilder.withPayload("quote").setReplyChannel(replyChannel).build());
+
+		Message<?> gatherResult = replyChannel.receive(10_000);
+		assertThat(gatherResult).isNotNull();
+		assertThat(gatherResult.getPayload()).asInstanceOf(InstanceOfAssertFactories.LIST).containsExactly("hedged");
+		assertThat(this.hedgingHandler.getHedgeCount()).isEqualTo(1);
+		// The scheduler is only a timer: the hedged request is sent on the hedge executor
+		assertThat(this.hedgeThread.get()).startsWith("testHedge-");
+		// No quorum - no scatter completion
+		assertThat(this.hedgeHeaders.get()).doesNotContainKey(ScatterGatherHandler.SCATTER_COMPLETION);
+
+		this.primaryLatch.countDown();
+	}
+
+	@Test
+	void hedgeDelayIsCalculatedFromPrimaryLatencies() {
+		DirectChannel primary = new DirectChannel();
+		primary.subscribe(new ServiceActivatingHandler((Message<?> message) -> message.getPayload()));
+		DirectChannel alternative = new DirectChannel();
+		HedgingMessageHandler handler = new HedgingMessageHandler(primary, alternative);
+		handler.setInitialHedgeDelay(Duration.ofSeconds(10));
+		handler.setPercentile(0.5);
+		SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
+		handler.setTaskScheduler(taskScheduler);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		QueueChannel replyChannel = new QueueChannel();
+		for (int i = 0; i < 9; i++) {
+			handler.handleMessage(MessageBuilder.withPayload(i).setReplyChannel(replyChannel).build());
+		}
+		assertThat(handler.getHedgeDelay()).isEqualTo(Duration.ofSeconds(10));
+
+		handler.handleMessage(MessageBuilder.withPayload(9).setReplyChannel(replyChannel).build());
+		assertThat(handler.getHedgeDelay()).isLessThan(Duration.ofSeconds(10));
+		assertThat(replyChannel.getQueueSize()).isEqualTo(10);
+		assertThat(handler.getHedgeCount()).isEqualTo(0);
+
+		taskScheduler.close();
+	}
+
+	@Configuration
+	@EnableIntegration
+	public static class ContextConfiguration {
+
+		@Bean
+		public PollableChannel discardChannel() {
+			return new QueueChannel();
+		}
+
+		@Bean
+		public CountDownLatch slowRecipientLatch() {
+			return new CountDownLatch(1);
+		}
+
+		@Bean
+		public ExecutorService slowRecipientExecutor() {
+			return Executors.newSingleThreadExecutor();
+		}
+
+		@Bean
+		public IntegrationFlow quorumFlow() {
+			return f -> f
+					.scatterGather(scatterer -> scatterer
+									.recipientFlow(sf -> sf.handle((p, h) -> "fast1"))
+									.recipientFlow(sf -> sf.handle((p, h) -> "fast2"))
+									.recipientFlow(sf -> sf
+											.channel((c) -> c.executor(slowRecipientExecutor()))
+											.handle((p, h) -> {
+												awaitLatch(slowRecipientLatch());
+												return "slow";
+											})),
+							gatherer -> gatherer.discardChannel(discardChannel()),
+							scatterGather -> scatterGather
+									.quorum(2)
+									.gatherTimeout(10_000));
+		}
+
+		@Bean
+		public CountDownLatch primaryLatch() {
+			return new CountDownLatch(1);
+		}
+
+		@Bean
+		public MessageChannel primaryChannel() {
+			return new ExecutorChannel(new SimpleAsyncTaskExecutor());
+		}
+
+		@Bean
+		public MessageChannel alternativeChannel() {
+			return new DirectChannel();
+		}
+
+		@Bean
+		public IntegrationFlow primaryFlow() {
+			return IntegrationFlow.from(primaryChannel())
+					.handle((p, h) -> {
+						awaitLatch(primaryLatch());
+						return "primary";
+					})
+					.get();
+		}
+
+		@Bean
+		public AtomicReference<String> hedgeThread() {
+			return new AtomicReference<>();
+		}
+
+		@Bean
+		public AtomicReference<MessageHeaders> hedgeHeaders() {
+			return new AtomicReference<>();
+		}
+
+		@Bean
+		public IntegrationFlow alternativeFlow() {
+			return IntegrationFlow.from(alternativeChannel())
+					.handle((p, h) -> {
+						hedgeThread().set(Thread.currentThread().getName());
+						hedgeHeaders().set(h);
+						return "hedged";
+					})
+					.get();
+		}
+
+		@Bean
+		public HedgingMessageHandler hedgingHandler() {
+			HedgingMessageHandler hedgingMessageHandler =
+					new HedgingMessageHandler(primaryChannel(), alternativeChannel());
+			hedgingMessageHandler.setInitialHedgeDelay(Duration.ofMillis(100));
+			hedgingMessageHandler.setHedgeExecutor(new SimpleAsyncTaskExecutor("testHedge-"));
+			return hedgingMessageHandler;
+		}
+
+		@Bean
+		public IntegrationFlow hedgingFlow() {
+			return f -> f
+					.scatterGather(scatterer -> scatterer
+									.recipientFlow(sf -> sf.handle(hedgingHandler())),
+							null,
+							scatterGather -> scatterGather.gatherTimeout(10_000));
+		}
+
+		private static void awaitLatch(CountDownLatch latch) {
+			try {
+				latch.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
+}
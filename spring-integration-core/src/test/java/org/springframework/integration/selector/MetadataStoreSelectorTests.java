@@ -16,12 +16,23 @@
 
 package org.springframework.integration.selector;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.integration.metadata.SimpleMetadataStore;
+import org.springframework.integration.support.management.micrometer.MicrometerMetricsCaptor;
 import org.springframework.messaging.support.MessageBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Gary Russell
@@ -47,4 +58,100 @@ public class MetadataStoreSelectorTests {
 		assertThat(store.get("file")).isEqualTo("6");
 	}
 
+	@Test
+	void duplicateFilter() {
+		SimpleMetadataStore store = new SimpleMetadataStore();
+		store.put("fromPreviousRun", "0");
+		TimeWindowBloomFilter filter = new TimeWindowBloomFilter(100, 0.01, Duration.ofHours(1));
+		MetadataStoreSelector selector =
+				new MetadataStoreSelector(msg -> msg.getPayload().toString(), store)
+						.duplicateFilter(filter);
+		selector.setStoreWriteExecutor(new SyncTaskExecutor());
+
+		assertThat(selector.accept(MessageBuilder.withPayload("foo").build())).isTrue();
+		assertThat(store.get("foo")).isNotNull();
+		assertThat(selector.accept(MessageBuilder.withPayload("foo").build())).isFalse();
+		// Not known to the local filter yet
+		assertThat(selector.accept(MessageBuilder.withPayload("fromPreviousRun").build())).isTrue();
+		assertThat(selector.accept(MessageBuilder.withPayload("fromPreviousRun").build())).isFalse();
+		assertThat(filter.getPossibleDuplicateCount()).isEqualTo(2);
+		assertThat(selector.getFalsePositiveCount()).isZero();
+	}
+
+	@Test
+	void duplicateFilterWritesNewKeysAsynchronously() {
+		SimpleMetadataStore store = spy(new SimpleMetadataStore());
+		List<Runnable> writes = new ArrayList<>();
+		MetadataStoreSelector selector =
+				new MetadataStoreSelector(msg -> msg.getPayload().toString(), store)
+						.duplicateFilter(new TimeWindowBloomFilter(100, 0.01, Duration.ofHours(1)));
+		selector.setStoreWriteExecutor(writes::add);
+
+		assertThat(selector.accept(MessageBuilder.withPayload("foo").build())).isTrue();
+		assertThat(selector.accept(MessageBuilder.withPayload("bar").build())).isTrue();
+		verify(store, never()).putIfAbsent("foo", "0");
+		// A single write task for all the pending keys
+		assertThat(writes).hasSize(1);
+
+		// The pending key is written synchronously for a possible duplicate
+		assertThat(selector.accept(MessageBuilder.withPayload("foo").build())).isFalse();
+		assertThat(store.get("foo")).isNotNull();
+		assertThat(store.get("bar")).isNull();
+
+		writes.get(0).run();
+		assertThat(store.get("bar")).isNotNull();
+		assertThat(selector.accept(MessageBuilder.withPayload("bar").build())).isFalse();
+	}
+
+	@Test
+	void duplicateFilterMeters() {
+		SimpleMetadataStore store = new SimpleMetadataStore();
+		store.put("fromPreviousRun", "0");
+		MeterRegistry registry = new SimpleMeterRegistry();
+		MetadataStoreSelector selector =
+				new MetadataStoreSelector(msg -> msg.getPayload().toString(), msg -> "1", store)
+						.duplicateFilter(new TimeWindowBloomFilter(100, 0.01, Duration.ofHours(1)));
+		selector.setStoreWriteExecutor(new SyncTaskExecutor());
+		selector.setMetricsCaptor(new MicrometerMetricsCaptor(registry));
+		selector.setBeanName("selector");
+
+		selector.accept(MessageBuilder.withPayload("foo").build());
+		selector.accept(MessageBuilder.withPayload("foo").build());
+		selector.accept(MessageBuilder.withPayload("fromPreviousRun").build());
+
+		assertThat(count(registry, "new")).isEqualTo(2);
+		assertThat(count(registry, "possibleDuplicate")).isEqualTo(1);
+		assertThat(count(registry, "falsePositive")).isZero();
+		assertThat(count(registry, "lateDuplicate")).isEqualTo(1);
+
+		selector.destroy();
+		assertThat(registry.find("spring.integration.duplicate.filter").meters()).isEmpty();
+	}
+
+	@Test
+	void duplicateFilterSkipsReadForNewKeysWithCompareValues() {
+		SimpleMetadataStore store = spy(new SimpleMetadataStore());
+		store.put("fromPreviousRun", "1");
+		MetadataStoreSelector selector =
+				new MetadataStoreSelector(msg -> msg.getPayload().toString(), msg -> "2", store)
+						.compareValues((oldValue, newValue) -> Integer.parseInt(oldValue) < Integer.parseInt(newValue))
+						.duplicateFilter(new TimeWindowBloomFilter(100, 0.01, Duration.ofHours(1)));
+		selector.setStoreWriteExecutor(new SyncTaskExecutor());
+
+		assertThat(selector.accept(MessageBuilder.withPayload("foo").build())).isTrue();
+		assertThat(selector.accept(MessageBuilder.withPayload("fromPreviousRun").build())).isTrue();
+		assertThat(store.get("fromPreviousRun")).isEqualTo("2");
+		// Only the assertion above reads the store
+		verify(store).get("fromPreviousRun");
+		verify(store, never()).get("foo");
+	}
+
+	private static double count(MeterRegistry registry, String result) {
+		return registry.get("spring.integration.duplicate.filter")
+				.tag("name", "selector")
+				.tag("result", result)
+				.counter()
+				.count();
+	}
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.selector;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class TimeWindowBloomFilterTests {
+
+	@Test
+	void noFalseNegativesAndBoundedFalsePositives() {
+		TimeWindowBloomFilter filter = new TimeWindowBloomFilter(10_000, 0.01, Duration.ofHours(1));
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("key" + i);
+		}
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain("key" + i)).isTrue();
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain("other" + i)) {
+				falsePositives++;
+			}
+		}
+		assertThat(falsePositives).isLessThan(200);
+		assertThat(filter.getInsertionCount()).isEqualTo(10_000);
+		assertThat(filter.getPossibleDuplicateCount()).isEqualTo(10_000L + falsePositives);
+		assertThat(filter.getEstimatedFalsePositiveProbability()).isBetween(0.001, 0.02);
+	}
+
+	@Test
+	void keysExpireAfterTwoWindows() {
+		TimeWindowBloomFilter filter = new TimeWindowBloomFilter(100, 0.01, Duration.ofMillis(100));
+		filter.put("foo");
+		assertThat(filter.mightContain("foo")).isTrue();
+		await().atMost(Duration.ofSeconds(10)).until(() -> !filter.mightContain("foo"));
+	}
+
+}
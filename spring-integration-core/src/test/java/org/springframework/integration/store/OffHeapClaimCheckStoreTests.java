@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.store;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.util.StopWatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class OffHeapClaimCheckStoreTests {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	@TempDir
+	File folder;
+
+	@Test
+	void payloadsAreStoredOffHeap() throws Exception {
+		OffHeapClaimCheckStore store = new OffHeapClaimCheckStore(64 * 1024);
+		store.setBlockSize(100);
+		store.afterPropertiesSet();
+
+		byte[] bytes = new byte[1000];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) i;
+		}
+		Message<byte[]> bytesMessage = MessageBuilder.withPayload(bytes).setHeader("foo", "bar").build();
+		Message<String> stringMessage = MessageBuilder.withPayload("значение").build();
+		Date date = new Date();
+		Message<Date> dateMessage = MessageBuilder.withPayload(date).build();
+		store.addMessage(bytesMessage);
+		store.addMessage(stringMessage);
+		store.addMessage(dateMessage);
+		assertThat(store.getMessageCount()).isEqualTo(3);
+
+		Message<?> retrieved = store.getMessage(bytesMessage.getHeaders().getId());
+		assertThat(retrieved).isNotNull();
+		assertThat(retrieved.getPayload()).isEqualTo(bytes);
+		assertThat(retrieved.getHeaders()).isEqualTo(bytesMessage.getHeaders());
+		assertThat(store.getMessage(stringMessage.getHeaders().getId()).getPayload()).isEqualTo("значение");
+		assertThat(store.getMessage(dateMessage.getHeaders().getId()).getPayload()).isEqualTo(date);
+		MessageMetadata messageMetadata = store.getMessageMetadata(bytesMessage.getHeaders().getId());
+		assertThat(messageMetadata.getTimestamp()).isEqualTo(bytesMessage.getHeaders().getTimestamp());
+
+		assertThat(store.removeMessage(bytesMessage.getHeaders().getId()).getPayload()).isEqualTo(bytes);
+		assertThat(store.getMessage(bytesMessage.getHeaders().getId())).isNull();
+		assertThat(store.getMessageCount()).isEqualTo(2);
+		store.destroy();
+	}
+
+	@Test
+	void spaceIsReclaimedAfterLastCheckOut() throws Exception {
+		OffHeapClaimCheckStore store = new OffHeapClaimCheckStore(4096);
+		store.setBlockSize(1024);
+		store.setDirectory(this.folder.getAbsolutePath());
+		store.afterPropertiesSet();
+		assertThat(this.folder.listFiles()).hasSize(1);
+
+		Message<byte[]> message = MessageBuilder.withPayload(new byte[3000]).build();
+		UUID id = message.getHeaders().getId();
+		store.addMessage(message, 3);
+		assertThat(store.getFreeBytes()).isEqualTo(1024);
+
+		assertThatExceptionOfType(MessageStoreException.class)
+				.isThrownBy(() -> store.addMessage(MessageBuilder.withPayload(new byte[2000]).build()));
+
+		assertThat(store.checkOutMessage(id)).isNotNull();
+		assertThat(store.checkOutMessage(id)).isNotNull();
+		assertThat(store.getMessageCount()).isEqualTo(1);
+		assertThat(store.checkOutMessage(id).getPayload()).isEqualTo(new byte[3000]);
+		assertThat(store.getMessageCount()).isEqualTo(0);
+		assertThat(store.checkOutMessage(id)).isNull();
+		assertThat(store.getFreeBytes()).isEqualTo(4096);
+
+		store.addMessage(MessageBuilder.withPayload(new byte[2000]).build());
+		assertThat(store.getFreeBytes()).isEqualTo(2048);
+
+		store.destroy();
+		assertThat(this.folder.listFiles()).isEmpty();
+	}
+
+	@Test
+	void concurrentReadersCheckOutOnce() throws Exception {
+		OffHeapClaimCheckStore store = new OffHeapClaimCheckStore(1024 * 1024);
+		store.afterPropertiesSet();
+		int readers = 8;
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			Message<String> message = MessageBuilder.withPayload("message" + i).build();
+			store.addMessage(message, readers);
+			ids.add(message.getHeaders().getId());
+		}
+		AtomicInteger checkedOut = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(readers);
+		for (int t = 0; t < readers * 2; t++) {
+			executor.execute(() -> {
+				for (UUID id : ids) {
+					if (store.checkOutMessage(id) != null) {
+						checkedOut.incrementAndGet();
+					}
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(checkedOut.get()).isEqualTo(100 * readers);
+		assertThat(store.getMessageCount()).isEqualTo(0);
+		assertThat(store.getFreeBytes()).isEqualTo(1024 * 1024);
+		store.destroy();
+	}
+
+	@Test
+	@Disabled("Used for performance testing only")
+	void performanceTest() throws Exception {
+		int messages = 10_000;
+		byte[] payload = new byte[64 * 1024];
+		StopWatch watch = new StopWatch("Claim check stores");
+
+		SimpleMessageStore simpleMessageStore = new SimpleMessageStore();
+		watch.start("SimpleMessageStore");
+		for (int i = 0; i < messages; i++) {
+			Message<byte[]> message = MessageBuilder.withPayload(payload).build();
+			simpleMessageStore.addMessage(message);
+			simpleMessageStore.removeMessage(message.getHeaders().getId());
+		}
+		watch.stop();
+
+		OffHeapClaimCheckStore offHeapStore = new OffHeapClaimCheckStore(64 * 1024 * 1024);
+		offHeapStore.afterPropertiesSet();
+		watch.start("OffHeapClaimCheckStore");
+		for (int i = 0; i < messages; i++) {
+			Message<byte[]> message = MessageBuilder.withPayload(payload).build();
+			offHeapStore.addMessage(message, 2);
+			offHeapStore.checkOutMessage(message.getHeaders().getId());
+			offHeapStore.checkOutMessage(message.getHeaders().getId());
+		}
+		watch.stop();
+		offHeapStore.destroy();
+
+		logger.info(watch.prettyPrint());
+	}
+
+}
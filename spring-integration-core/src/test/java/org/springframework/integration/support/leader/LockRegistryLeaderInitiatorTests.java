@@ -16,14 +16,21 @@
 
 package org.springframework.integration.support.leader;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.DirectFieldAccessor;
@@ -35,8 +42,10 @@ import org.springframework.integration.leader.event.DefaultLeaderEventPublisher;
 import org.springframework.integration.leader.event.LeaderEventPublisher;
 import org.springframework.integration.support.locks.DefaultLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.integration.support.locks.ReleaseNotifyingLockRegistry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -57,6 +66,8 @@ import static org.mockito.Mockito.spy;
  */
 public class LockRegistryLeaderInitiatorTests {
 
+	private static final Log LOGGER = LogFactory.getLog(LockRegistryLeaderInitiatorTests.class);
+
 	private CountDownLatch granted = new CountDownLatch(1);
 
 	private CountDownLatch revoked = new CountDownLatch(1);
@@ -294,6 +305,173 @@ public class LockRegistryLeaderInitiatorTests {
 		another.stop();
 	}
 
+	@Test
+	void standbyTakesOverOnReleaseNotification() throws Exception {
+		LockStore store = new LockStore();
+		StoreLockRegistry standbyLocks = new StoreLockRegistry(store);
+		LockRegistryLeaderInitiator leader = new LockRegistryLeaderInitiator(new StoreLockRegistry(store));
+		leader.setLeaderEventPublisher(new CountingPublisher(this.granted));
+		LockRegistryLeaderInitiator standby = new LockRegistryLeaderInitiator(standbyLocks);
+		standby.setHeartBeatMillis(60_000);
+		standby.setReleaseNotifications(true);
+		CountDownLatch standbyGranted = new CountDownLatch(1);
+		standby.setLeaderEventPublisher(new CountingPublisher(standbyGranted));
+
+		leader.start();
+		assertThat(this.granted.await(10, TimeUnit.SECONDS)).isTrue();
+		standby.start();
+		await().until(() -> standbyLocks.attempts.get() > 0);
+		Thread.sleep(300);
+		assertThat(standbyLocks.attempts.get()).isEqualTo(1);
+
+		leader.stop();
+		assertThat(standbyGranted.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(standby.getContext().isLeader()).isTrue();
+		assertThat(standbyLocks.attempts.get()).isLessThanOrEqualTo(3);
+		standby.stop();
+	}
+
+	@Test
+	void standbyPollsLockStoreByDefault() throws Exception {
+		LockStore store = new LockStore();
+		StoreLockRegistry standbyLocks = new StoreLockRegistry(store);
+		LockRegistryLeaderInitiator leader = new LockRegistryLeaderInitiator(new StoreLockRegistry(store));
+		leader.setLeaderEventPublisher(new CountingPublisher(this.granted));
+		LockRegistryLeaderInitiator standby = new LockRegistryLeaderInitiator(standbyLocks);
+		standby.setHeartBeatMillis(60_000);
+
+		leader.start();
+		assertThat(this.granted.await(10, TimeUnit.SECONDS)).isTrue();
+		standby.start();
+		// No release notifications: the standby keeps trying per 'busyWaitMillis'
+		await().until(() -> standbyLocks.attempts.get() > 2);
+		assertThat(store.releaseListeners).isEmpty();
+
+		standby.stop();
+		leader.stop();
+	}
+
+	@Test
+	@Disabled("Used for performance testing only")
+	void failoverPerformanceTest() throws Exception {
+		for (boolean releaseNotifications : new boolean[] {false, true}) {
+			LockStore store = new LockStore();
+			StoreLockRegistry standbyLocks = new StoreLockRegistry(store);
+			LockRegistryLeaderInitiator leader = new LockRegistryLeaderInitiator(new StoreLockRegistry(store));
+			CountDownLatch leaderGranted = new CountDownLatch(1);
+			leader.setLeaderEventPublisher(new CountingPublisher(leaderGranted));
+			LockRegistryLeaderInitiator standby = new LockRegistryLeaderInitiator(standbyLocks);
+			standby.setReleaseNotifications(releaseNotifications);
+			CountDownLatch standbyGranted = new CountDownLatch(1);
+			standby.setLeaderEventPublisher(new CountingPublisher(standbyGranted));
+
+			leader.start();
+			assertThat(leaderGranted.await(10, TimeUnit.SECONDS)).isTrue();
+			standby.start();
+			Thread.sleep(10_000);
+			int standbyAttempts = standbyLocks.attempts.get();
+			long start = System.nanoTime();
+			leader.stop();
+			assertThat(standbyGranted.await(10, TimeUnit.SECONDS)).isTrue();
+			long failover = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+			standby.stop();
+			LOGGER.info("releaseNotifications=" + releaseNotifications + ": failover " + failover
+					+ " us, standby lock store queries " + standbyAttempts / 10.0 + " per second");
+		}
+	}
+
+	/**
+	 * Emulates a remote lock store, polled by the {@link Lock#tryLock(long, TimeUnit)}
+	 * every 100 millis (like the {@code JdbcLockRegistry} by default), and notifying about the releases.
+	 */
+	private static final class LockStore {
+
+		private final AtomicReference<Object> owner = new AtomicReference<>();
+
+		private final Set<Runnable> releaseListeners = ConcurrentHashMap.newKeySet();
+
+	}
+
+	private static final class StoreLockRegistry implements ReleaseNotifyingLockRegistry<Lock> {
+
+		private final LockStore store;
+
+		private final AtomicInteger attempts = new AtomicInteger();
+
+		StoreLockRegistry(LockStore store) {
+			this.store = store;
+		}
+
+		@Override
+		public Lock obtain(Object lockKey) {
+			return new StoreLock();
+		}
+
+		@Override
+		public void addReleaseListener(Object lockKey, Runnable listener) {
+			this.store.releaseListeners.add(listener);
+		}
+
+		@Override
+		public void removeReleaseListener(Object lockKey, Runnable listener) {
+			this.store.releaseListeners.remove(listener);
+		}
+
+		private final class StoreLock implements Lock {
+
+			private int holds;
+
+			@Override
+			public boolean tryLock() {
+				StoreLockRegistry.this.attempts.incrementAndGet();
+				if (StoreLockRegistry.this.store.owner.get() == this
+						|| StoreLockRegistry.this.store.owner.compareAndSet(null, this)) {
+
+					this.holds++;
+					return true;
+				}
+				return false;
+			}
+
+			@Override
+			public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+				long deadline = System.nanoTime() + unit.toNanos(time);
+				while (!tryLock()) {
+					if (System.nanoTime() >= deadline) {
+						return false;
+					}
+					Thread.sleep(100);
+				}
+				return true;
+			}
+
+			@Override
+			public void lock() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public void lockInterruptibly() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public void unlock() {
+				if (--this.holds == 0) {
+					StoreLockRegistry.this.store.owner.set(null);
+					StoreLockRegistry.this.store.releaseListeners.forEach(Runnable::run);
+				}
+			}
+
+			@Override
+			public Condition newCondition() {
+				throw new UnsupportedOperationException();
+			}
+
+		}
+
+	}
+
 	private static class CountingPublisher implements LeaderEventPublisher {
 
 		private final CountDownLatch granted;
@@ -126,7 +126,8 @@ public class IntegrationManagementConfigurerTests {
 							.toList();
 
 			assertThat(controlBusMethodForChannelBean)
-					.containsOnly("setLoggingEnabled", "isLoggingEnabled", "setShouldTrack");
+					.containsOnly("setLoggingEnabled", "isLoggingEnabled", "setMetricsSampleRate", "getMetricsSampleRate",
+							"setShouldTrack");
 
 			Expression isLoggingEnabledCommand =
 					controlBusCommandRegistry.getExpressionForCommand("nullChannel.isLoggingEnabled");
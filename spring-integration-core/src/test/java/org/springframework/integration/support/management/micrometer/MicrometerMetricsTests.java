@@ -16,9 +16,11 @@
 
 package org.springframework.integration.support.management.micrometer;
 
+import java.util.Map;
 import java.util.Set;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.search.MeterNotFoundException;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -46,6 +48,7 @@ import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.endpoint.AbstractMessageSource;
 import org.springframework.integration.gateway.GatewayProxyFactoryBean;
 import org.springframework.integration.gateway.MessagingGatewaySupport;
+import org.springframework.integration.handler.AbstractMessageHandler;
 import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
 import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.Message;
@@ -266,6 +269,70 @@ public class MicrometerMetricsTests {
 		assertThat(TestUtils.<Set<?>>getPropertyValue(this.channel, "meters")).hasSize(0);
 	}
 
+	@Test
+	void sampledTimersAndCachedExceptionTimers() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		MicrometerMetricsCaptor captor = new MicrometerMetricsCaptor(registry);
+		DirectChannel sampledChannel = new DirectChannel();
+		sampledChannel.setBeanName("sampledChannel");
+		sampledChannel.registerMetricsCaptor(captor);
+		sampledChannel.setMetricsSampleRate(10);
+		AbstractMessageHandler handler = new AbstractMessageHandler() {
+
+			@Override
+			protected void handleMessageInternal(Message<?> message) {
+				if ((Integer) message.getPayload() % 2 == 1) {
+					throw new IllegalStateException("odd");
+				}
+			}
+
+		};
+		handler.setBeanName("failingHandler");
+		handler.registerMetricsCaptor(captor);
+		sampledChannel.subscribe(handler);
+
+		for (int i = 0; i < 2000; i++) {
+			try {
+				sampledChannel.send(new GenericMessage<>(i));
+			}
+			catch (MessagingException ex) {
+				// expected for odd payloads
+			}
+		}
+
+		long channelCount = registry.get("spring.integration.send")
+				.tag("name", "sampledChannel")
+				.timers()
+				.stream()
+				.mapToLong(Timer::count)
+				.sum();
+		assertThat(channelCount).isBetween(100L, 300L);
+		assertThat(registry.get("spring.integration.send.count")
+				.tag("name", "sampledChannel")
+				.tag("result", "success")
+				.counter().count()).isEqualTo(1000);
+		assertThat(registry.get("spring.integration.send.count")
+				.tag("name", "sampledChannel")
+				.tag("result", "failure")
+				.counter().count()).isEqualTo(1000);
+		assertThat(registry.find("spring.integration.send.count").tag("name", "failingHandler").counters())
+				.isEmpty();
+		assertThat(registry.get("spring.integration.send")
+				.tag("name", "failingHandler")
+				.tag("result", "success")
+				.timer().count()).isEqualTo(1000);
+		assertThat(registry.get("spring.integration.send")
+				.tag("name", "failingHandler")
+				.tag("exception", "MessageHandlingException")
+				.timer().count()).isEqualTo(1000);
+		assertThat(TestUtils.<Map<?, ?>>getPropertyValue(handler, "exceptionTimers")).hasSize(1);
+
+		handler.destroy();
+		sampledChannel.destroy();
+		assertThat(registry.find("spring.integration.send").timers()).isEmpty();
+		assertThat(registry.find("spring.integration.send.count").counters()).isEmpty();
+	}
+
 	@Configuration
 	@EnableIntegration
 	@EnableIntegrationManagement
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.support.management.observation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.util.StopWatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class IntegrationObservationSamplerTests {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	@Test
+	void sampledFlowIsObservedInFull() {
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		CollectingHandler handler = new CollectingHandler();
+		DirectChannel channel = observedChannel(observationRegistry, new IntegrationObservationSampler(1), handler);
+
+		Message<String> testMessage = new GenericMessage<>("test");
+		channel.send(testMessage);
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasNumberOfObservationsWithNameEqualTo("spring.integration.producer", 1)
+				.hasNumberOfObservationsWithNameEqualTo("spring.integration.handler", 1);
+		assertThat(handler.messages).singleElement()
+				.satisfies((message) -> {
+					assertThat(message.getHeaders()).doesNotContainKey(IntegrationObservationSampler.SAMPLED_HEADER);
+					assertThat(message.getHeaders().getId()).isEqualTo(testMessage.getHeaders().getId());
+				});
+	}
+
+	@Test
+	void notSampledFlowIsNotObserved() {
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		CollectingHandler handler = new CollectingHandler();
+		DirectChannel channel =
+				observedChannel(observationRegistry, new IntegrationObservationSampler(Integer.MAX_VALUE), handler);
+
+		for (int i = 0; i < 10; i++) {
+			channel.send(new GenericMessage<>("test"));
+		}
+
+		TestObservationRegistryAssert.assertThat(observationRegistry).doesNotHaveAnyObservation();
+		assertThat(handler.messages).hasSize(10)
+				.noneMatch((message) -> message.getHeaders().containsKey(IntegrationObservationSampler.SAMPLED_HEADER));
+	}
+
+	@Test
+	void samplingDecisionIsCarriedOverQueueChannel() {
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		IntegrationObservationSampler sampler = new IntegrationObservationSampler(1);
+		QueueChannel queueChannel = new QueueChannel();
+		queueChannel.setBeanName("queueChannel");
+		queueChannel.registerObservationRegistry(observationRegistry);
+		queueChannel.registerObservationSampler(sampler);
+		CollectingHandler handler = new CollectingHandler();
+		handler.setBeanName("queueHandler");
+		handler.registerObservationRegistry(observationRegistry);
+		handler.registerObservationSampler(sampler);
+
+		queueChannel.send(new GenericMessage<>("sampled"));
+		Message<?> sampled = queueChannel.receive(0);
+		assertThat(sampled).isNotNull();
+		assertThat(sampled.getHeaders()).containsKey(IntegrationObservationSampler.SAMPLED_HEADER);
+		handler.handleMessage(sampled);
+
+		handler.handleMessage(new GenericMessage<>("not sampled"));
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasNumberOfObservationsWithNameEqualTo("spring.integration.producer", 1)
+				.hasNumberOfObservationsWithNameEqualTo("spring.integration.handler", 1);
+		assertThat(handler.messages).hasSize(2)
+				.noneMatch((message) -> message.getHeaders().containsKey(IntegrationObservationSampler.SAMPLED_HEADER));
+	}
+
+	@Test
+	@Disabled("Used for performance testing only")
+	void performanceTest() {
+		int iterations = 1_000_000;
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler((context) -> true);
+
+		StopWatch watch = new StopWatch("Sampled observation");
+		runFlow(watch, "no observation", iterations, ObservationRegistry.NOOP, null);
+		runFlow(watch, "observe all", iterations, observationRegistry, null);
+		runFlow(watch, "observe 1 of 100", iterations, observationRegistry, new IntegrationObservationSampler(100));
+		logger.info(watch.prettyPrint());
+		for (StopWatch.TaskInfo task : watch.getTaskInfo()) {
+			logger.info(task.getTaskName() + ": " + task.getTimeNanos() / iterations / 2 + " ns per hop");
+		}
+	}
+
+	private static void runFlow(StopWatch watch, String name, int iterations,
+			ObservationRegistry observationRegistry, IntegrationObservationSampler sampler) {
+
+		AbstractMessageHandler handler = new AbstractMessageHandler() {
+
+			@Override
+			protected void handleMessageInternal(Message<?> message) {
+			}
+
+		};
+		DirectChannel channel = observedChannel(observationRegistry, sampler, handler);
+		Message<String> message = new GenericMessage<>("test");
+		for (int i = 0; i < iterations; i++) {
+			channel.send(message);
+		}
+		watch.start(name);
+		for (int i = 0; i < iterations; i++) {
+			channel.send(message);
+		}
+		watch.stop();
+	}
+
+	private static DirectChannel observedChannel(ObservationRegistry observationRegistry,
+			IntegrationObservationSampler sampler, AbstractMessageHandler handler) {
+
+		DirectChannel channel = new DirectChannel();
+		channel.setBeanName("testChannel");
+		handler.setBeanName("testHandler");
+		channel.registerObservationRegistry(observationRegistry);
+		handler.registerObservationRegistry(observationRegistry);
+		if (sampler != null) {
+			channel.registerObservationSampler(sampler);
+			handler.registerObservationSampler(sampler);
+		}
+		channel.subscribe(handler);
+		return channel;
+	}
+
+	private static class CollectingHandler extends AbstractMessageHandler {
+
+		private final List<Message<?>> messages = new ArrayList<>();
+
+		@Override
+		protected void handleMessageInternal(Message<?> message) {
+			this.messages.add(message);
+		}
+
+	}
+
+}
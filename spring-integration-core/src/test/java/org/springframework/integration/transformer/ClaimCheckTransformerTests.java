@@ -21,6 +21,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.integration.store.MessageStore;
+import org.springframework.integration.store.OffHeapClaimCheckStore;
 import org.springframework.integration.store.SimpleMessageStore;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.messaging.Message;
@@ -65,4 +66,30 @@ public class ClaimCheckTransformerTests {
 				.isInstanceOf(MessageTransformationException.class);
 	}
 
+	@Test
+	public void fanOutReadersCheckOut() throws Exception {
+		OffHeapClaimCheckStore store = new OffHeapClaimCheckStore(1024);
+		store.afterPropertiesSet();
+		ClaimCheckInTransformer checkIn = new ClaimCheckInTransformer(store);
+		checkIn.setReaders(2);
+		ClaimCheckOutTransformer checkOut = new ClaimCheckOutTransformer(store);
+		checkOut.setRemoveMessage(true);
+
+		Message<?> claimCheck = checkIn.transform(MessageBuilder.withPayload("test").build());
+		assertThat(checkOut.transform(claimCheck).getPayload()).isEqualTo("test");
+		assertThat(store.getMessageCount()).isEqualTo(1);
+		assertThat(checkOut.transform(claimCheck).getPayload()).isEqualTo("test");
+		assertThat(store.getMessageCount()).isEqualTo(0);
+		assertThatThrownBy(() -> checkOut.transform(claimCheck))
+				.isInstanceOf(MessageTransformationException.class);
+		store.destroy();
+	}
+
+	@Test
+	public void readersRequireReferenceCountingStore() {
+		ClaimCheckInTransformer transformer = new ClaimCheckInTransformer(new SimpleMessageStore(10));
+		assertThatThrownBy(() -> transformer.setReaders(2))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
 }
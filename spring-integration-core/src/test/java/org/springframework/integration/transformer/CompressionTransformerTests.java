@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.transformer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.codec.compression.CompressionCodec;
+import org.springframework.integration.codec.compression.DeflateCompressionCodec;
+import org.springframework.integration.codec.compression.GzipCompressionCodec;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.test.support.TestApplicationContextAware;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public class CompressionTransformerTests implements TestApplicationContextAware {
+
+	private static final String CONTENT = "{\"orderId\":42,\"status\":\"SHIPPED\",\"status\":\"SHIPPED\"}".repeat(10);
+
+	@Test
+	void payloadTypesAreCompressedAndDecompressed() {
+		CompressingTransformer compressor = compressor(new GzipCompressionCodec());
+		DecompressingTransformer decompressor = decompressor(new GzipCompressionCodec());
+		byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+
+		ByteBuffer directBuffer = ByteBuffer.allocateDirect(content.length);
+		directBuffer.put(content).flip();
+
+		for (Object payload : new Object[] {content, CONTENT, ByteBuffer.wrap(content), directBuffer,
+				new ByteArrayInputStream(content)}) {
+
+			Message<?> compressed = compressor.transform(new GenericMessage<>(payload));
+			assertThat(compressed.getPayload()).isInstanceOf(byte[].class);
+			assertThat((byte[]) compressed.getPayload()).hasSizeLessThan(content.length);
+			assertThat(compressed.getHeaders())
+					.containsEntry(IntegrationMessageHeaderAccessor.COMPRESSION_CODEC, GzipCompressionCodec.NAME);
+
+			Message<?> decompressed = decompressor.transform(compressed);
+			assertThat(decompressed.getPayload()).isEqualTo(content);
+			assertThat(decompressed.getHeaders()).doesNotContainKey(IntegrationMessageHeaderAccessor.COMPRESSION_CODEC);
+		}
+
+		assertThat(directBuffer.remaining()).isEqualTo(content.length);
+	}
+
+	@Test
+	void codecIsSelectedByHeader() {
+		DecompressingTransformer decompressor =
+				decompressor(new GzipCompressionCodec(), new DeflateCompressionCodec());
+		decompressor.setCharset("UTF-8");
+
+		Message<?> deflated = compressor(new DeflateCompressionCodec()).transform(new GenericMessage<>(CONTENT));
+		assertThat(deflated.getHeaders())
+				.containsEntry(IntegrationMessageHeaderAccessor.COMPRESSION_CODEC, DeflateCompressionCodec.NAME);
+		assertThat(decompressor.transform(deflated).getPayload()).isEqualTo(CONTENT);
+
+		Message<?> gzipped = compressor(new GzipCompressionCodec()).transform(new GenericMessage<>(CONTENT));
+		Message<?> withoutHeader =
+				MessageBuilder.fromMessage(gzipped)
+						.removeHeader(IntegrationMessageHeaderAccessor.COMPRESSION_CODEC)
+						.build();
+		assertThat(decompressor.transform(withoutHeader).getPayload()).isEqualTo(CONTENT);
+
+		Message<?> unknownCodec =
+				MessageBuilder.fromMessage(gzipped)
+						.setHeader(IntegrationMessageHeaderAccessor.COMPRESSION_CODEC, "lz4")
+						.build();
+		assertThatExceptionOfType(MessageTransformationException.class)
+				.isThrownBy(() -> decompressor.transform(unknownCodec))
+				.withStackTraceContaining("No CompressionCodec for name: lz4");
+	}
+
+	@Test
+	void streamingDecompression() throws IOException {
+		DecompressingTransformer decompressor = decompressor(new GzipCompressionCodec());
+		decompressor.setStreaming(true);
+
+		Message<?> compressed = compressor(new GzipCompressionCodec()).transform(new GenericMessage<>(CONTENT));
+		Message<?> decompressed = decompressor.transform(compressed);
+
+		assertThat(decompressed.getPayload()).isInstanceOf(InputStream.class);
+		try (InputStream inputStream = (InputStream) decompressed.getPayload()) {
+			assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+		}
+	}
+
+	@Test
+	void maxDecompressedSizeIsEnforced() {
+		DecompressingTransformer decompressor = decompressor(new GzipCompressionCodec());
+		byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+		Message<?> compressed = compressor(new GzipCompressionCodec()).transform(new GenericMessage<>(CONTENT));
+
+		decompressor.setMaxDecompressedSize(content.length);
+		assertThat(decompressor.transform(compressed).getPayload()).isEqualTo(content);
+
+		decompressor.setMaxDecompressedSize(content.length - 1);
+		assertThatExceptionOfType(MessageTransformationException.class)
+				.isThrownBy(() -> decompressor.transform(compressed))
+				.withMessageContaining("exceeds the 'maxDecompressedSize' of " + (content.length - 1) + " bytes");
+	}
+
+	@Test
+	void unsupportedPayloadIsRejected() {
+		CompressingTransformer compressor = compressor(new GzipCompressionCodec());
+		assertThatExceptionOfType(MessageTransformationException.class)
+				.isThrownBy(() -> compressor.transform(new GenericMessage<>(42)))
+				.withStackTraceContaining("The payload must be a byte[], ByteBuffer, InputStream or String");
+	}
+
+	private static CompressingTransformer compressor(CompressionCodec codec) {
+		CompressingTransformer transformer = new CompressingTransformer(codec);
+		transformer.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		transformer.afterPropertiesSet();
+		return transformer;
+	}
+
+	private static DecompressingTransformer decompressor(CompressionCodec... codecs) {
+		DecompressingTransformer transformer = new DecompressingTransformer(codecs);
+		transformer.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		transformer.afterPropertiesSet();
+		return transformer;
+	}
+
+}
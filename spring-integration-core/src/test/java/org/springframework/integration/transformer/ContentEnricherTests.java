@@ -17,9 +17,17 @@
 package org.springframework.integration.transformer;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,11 +46,13 @@ import org.springframework.integration.handler.AbstractReplyProducingMessageHand
 import org.springframework.integration.handler.ReplyRequiredException;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.test.support.TestApplicationContextAware;
+import org.springframework.integration.transformer.support.ExpressionEvaluatingHeaderValueMessageProcessor;
 import org.springframework.integration.transformer.support.StaticHeaderValueMessageProcessor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHandlingException;
 import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.support.PeriodicTrigger;
 
@@ -51,6 +61,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.fail;
+import static org.awaitility.Awaitility.await;
 
 /**
  * @author Mark Fisher
@@ -520,6 +531,142 @@ public class ContentEnricherTests implements TestApplicationContextAware {
 
 	}
 
+	@Test
+	public void batchedRequestsAreCoalesced() throws Exception {
+		List<List<Object>> batches = new CopyOnWriteArrayList<>();
+		CountDownLatch releaseSlow = new CountDownLatch(1);
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(new AbstractReplyProducingMessageHandler() {
+
+			@Override
+			protected Object handleRequestMessage(Message<?> requestMessage) {
+				@SuppressWarnings("unchecked")
+				List<Object> names = (List<Object>) requestMessage.getPayload();
+				batches.add(names);
+				if (names.contains("slow")) {
+					try {
+						releaseSlow.await(10, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				List<Object> results = new ArrayList<>();
+				for (Object name : names) {
+					results.add("missing".equals(name) ? null : name.toString().toUpperCase());
+				}
+				return results;
+			}
+
+		});
+
+		ContentEnricher enricher = new ContentEnricher();
+		enricher.setRequestChannel(requestChannel);
+		enricher.setRequestPayloadExpression(new SpelExpressionParser().parseExpression("payload.name"));
+		enricher.setBatchSize(4);
+		enricher.setBatchTimeout(Duration.ofSeconds(10));
+		enricher.setCacheTimeToLive(Duration.ofMinutes(1));
+		enricher.setPropertyExpressions(
+				Collections.singletonMap("name", new SpelExpressionParser().parseExpression("payload")));
+		enricher.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		enricher.afterPropertiesSet();
+
+		ExecutorService executor = Executors.newCachedThreadPool();
+		// A request alone is sent immediately; it stays in flight for the rest to be coalesced
+		Future<?> slow = executor.submit(() -> enricher.handleRequestMessage(new GenericMessage<>(new Target("slow"))));
+		await().until(() -> batches.size() == 1);
+		assertThat(batches.get(0)).containsExactly("slow");
+
+		assertThat(enrichConcurrently(enricher, executor, "foo", "bar", "baz", "qux"))
+				.containsExactly("FOO", "BAR", "BAZ", "QUX");
+		assertThat(batches).hasSize(2);
+		assertThat(batches.get(1)).containsExactlyInAnyOrder("foo", "bar", "baz", "qux");
+
+		enricher.setBatchTimeout(Duration.ofMillis(500));
+		assertThat(enrichConcurrently(enricher, executor, "a", "b", "a"))
+				.containsExactly("A", "B", "A");
+		assertThat(batches).hasSize(3);
+		assertThat(batches.get(2)).containsExactlyInAnyOrder("a", "b");
+
+		releaseSlow.countDown();
+		assertThat(((Target) slow.get(10, TimeUnit.SECONDS)).getName()).isEqualTo("SLOW");
+
+		enricher.setBatchTimeout(Duration.ofSeconds(10));
+		Object cached = enricher.handleRequestMessage(new GenericMessage<>(new Target("foo")));
+		assertThat(((Target) cached).getName()).isEqualTo("FOO");
+		assertThat(batches).hasSize(3);
+
+		long start = System.nanoTime();
+		assertThat(enricher.handleRequestMessage(new GenericMessage<>(new Target("missing")))).isNull();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		assertThat(batches).hasSize(4);
+
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void batchedRepliesKeepRequestHeadersAndExposeReplyHeaders() throws Exception {
+		DirectChannel requestChannel = new DirectChannel();
+		requestChannel.subscribe(new AbstractReplyProducingMessageHandler() {
+
+			@Override
+			protected Object handleRequestMessage(Message<?> requestMessage) {
+				List<?> names = (List<?>) requestMessage.getPayload();
+				return getMessageBuilderFactory()
+						.withPayload(names.stream().map((name) -> name.toString().toUpperCase()).toList())
+						.setHeader("source", "batch");
+			}
+
+		});
+
+		ContentEnricher enricher = new ContentEnricher();
+		enricher.setRequestChannel(requestChannel);
+		enricher.setRequestPayloadExpression(new SpelExpressionParser().parseExpression("payload.name"));
+		enricher.setBatchSize(4);
+		enricher.setPropertyExpressions(
+				Collections.singletonMap("name", new SpelExpressionParser().parseExpression("payload")));
+		enricher.setHeaderExpressions(
+				Map.of("requestName",
+						new ExpressionEvaluatingHeaderValueMessageProcessor<>("headers.requestName", String.class),
+						"source",
+						new ExpressionEvaluatingHeaderValueMessageProcessor<>("headers.source", String.class)));
+		enricher.setBeanFactory(TEST_INTEGRATION_CONTEXT);
+		enricher.afterPropertiesSet();
+
+		ExecutorService executor = Executors.newCachedThreadPool();
+		List<Future<?>> futures = new ArrayList<>();
+		for (String name : List.of("foo", "bar", "baz", "qux")) {
+			futures.add(executor.submit(() ->
+					enricher.handleRequestMessage(
+							MessageBuilder.withPayload(new Target(name))
+									.setHeader("requestName", name)
+									.setHeader("source", "request")
+									.build())));
+		}
+		for (Future<?> future : futures) {
+			Message<?> enriched = ((MessageBuilder<?>) future.get(10, TimeUnit.SECONDS)).build();
+			Target target = (Target) enriched.getPayload();
+			// The request headers are kept, but the headers set by the reply are used
+			assertThat(enriched.getHeaders().get("requestName")).isEqualTo(target.getName().toLowerCase());
+			assertThat(enriched.getHeaders()).containsEntry("source", "batch");
+		}
+		executor.shutdownNow();
+	}
+
+	private static List<String> enrichConcurrently(ContentEnricher enricher, ExecutorService executor,
+			String... names) throws Exception {
+
+		List<Future<?>> futures = new ArrayList<>();
+		for (String name : names) {
+			futures.add(executor.submit(() -> enricher.handleRequestMessage(new GenericMessage<>(new Target(name)))));
+		}
+		List<String> results = new ArrayList<>();
+		for (Future<?> future : futures) {
+			results.add(((Target) future.get(30, TimeUnit.SECONDS)).getName());
+		}
+		return results;
+	}
+
 	public static final class Target implements Cloneable {
 
 		private volatile String name;
@@ -23,6 +23,8 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -33,6 +35,7 @@ import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.TransientDataAccessException;
 import org.springframework.integration.support.locks.DistributedLock;
 import org.springframework.integration.support.locks.ExpirableLockRegistry;
+import org.springframework.integration.support.locks.ReleaseNotifyingLockRegistry;
 import org.springframework.integration.support.locks.RenewableLockRegistry;
 import org.springframework.integration.util.UUIDConverter;
 import org.springframework.transaction.TransactionSystemException;
@@ -53,6 +56,11 @@ import org.springframework.util.Assert;
  * Otherwise, the old, unused locks are evicted from the cache.
  * An attempt to lock such an orphaned {@link JdbcLock} throws another {@link CannotAcquireLockException}
  * to avoid double locking from different threads on the same key.
+ * <p>
+ * The lock releases are notified to the {@link ReleaseNotifyingLockRegistry} listeners
+ * when a lock is released by this registry. The releases from other registries
+ * (other application instances) can be fed into this registry via the {@link #lockReleased(String)},
+ * for example, by the {@link PostgresLockReleaseNotifier}.
  *
  * @author Dave Syer
  * @author Artem Bilan
@@ -71,7 +79,8 @@ import org.springframework.util.Assert;
  *
  * @since 4.3
  */
-public class JdbcLockRegistry implements ExpirableLockRegistry<DistributedLock>, RenewableLockRegistry<DistributedLock> {
+public class JdbcLockRegistry implements ExpirableLockRegistry<DistributedLock>, RenewableLockRegistry<DistributedLock>,
+		ReleaseNotifyingLockRegistry<DistributedLock> {
 
 	private static final int DEFAULT_IDLE = 100;
 
@@ -93,6 +102,8 @@ public class JdbcLockRegistry implements ExpirableLockRegistry<DistributedLock>,
 
 			};
 
+	private final Map<String, Set<Runnable>> releaseListeners = new ConcurrentHashMap<>();
+
 	private final LockRepository client;
 
 	private Duration idleBetweenTries = Duration.ofMillis(DEFAULT_IDLE);
@@ -219,6 +230,40 @@ public class JdbcLockRegistry implements ExpirableLockRegistry<DistributedLock>,
 		}
 	}
 
+	@Override
+	public void addReleaseListener(Object lockKey, Runnable listener) {
+		Assert.isInstanceOf(String.class, lockKey);
+		this.releaseListeners.computeIfAbsent(pathFor((String) lockKey), (path) -> ConcurrentHashMap.newKeySet())
+				.add(listener);
+	}
+
+	@Override
+	public void removeReleaseListener(Object lockKey, Runnable listener) {
+		Assert.isInstanceOf(String.class, lockKey);
+		this.releaseListeners.computeIfPresent(pathFor((String) lockKey), (path, listeners) -> {
+			listeners.remove(listener);
+			return listeners.isEmpty() ? null : listeners;
+		});
+	}
+
+	/**
+	 * Notify the release listeners for the lock record with the provided path
+	 * (the {@code LOCK_KEY} column value) that the lock has been released.
+	 * Typically called by the infrastructure which receives notifications about
+	 * lock records deleted by other application instances.
+	 * @param lockPath the {@code LOCK_KEY} of the released lock record.
+	 * @since 7.2
+	 * @see PostgresLockReleaseNotifier
+	 */
+	public void lockReleased(String lockPath) {
+		Set<Runnable> listeners = this.releaseListeners.get(lockPath);
+		if (listeners != null) {
+			for (Runnable listener : listeners) {
+				listener.run();
+			}
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "JdbcLockRegistry{" +
@@ -375,10 +420,12 @@ public class JdbcLockRegistry implements ExpirableLockRegistry<DistributedLock>,
 				this.delegate.unlock();
 				return;
 			}
+			boolean released = false;
 			try {
 				while (true) {
 					try {
 						if (JdbcLockRegistry.this.client.delete(this.path)) {
+							released = true;
 							return;
 						}
 						else {
@@ -400,6 +447,9 @@ public class JdbcLockRegistry implements ExpirableLockRegistry<DistributedLock>,
 			}
 			finally {
 				this.delegate.unlock();
+				if (released) {
+					lockReleased(this.path);
+				}
 			}
 		}
 
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.jdbc.lock;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+import org.postgresql.PGNotification;
+import org.postgresql.jdbc.PgConnection;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.integration.jdbc.channel.PgConnectionSupplier;
+import org.springframework.util.Assert;
+
+/**
+ * A listener for the lock records deleted from a Postgres database by the
+ * {@link DefaultLockRepository} of any application instance.
+ * The releases are propagated to the {@link JdbcLockRegistry#lockReleased(String)},
+ * so the parties waiting for a lock (e.g. a standby
+ * {@link org.springframework.integration.support.leader.LockRegistryLeaderInitiator})
+ * try to acquire it immediately instead of waiting for the next poll.
+ * <p>
+ * This notifier is using Postgres' <i>LISTEN</i>/<i>NOTIFY</i> mechanism
+ * and requires an unshared {@link PgConnection} which remains open for the whole lifecycle.
+ * <p>
+ * In order to function, the Postgres database that is used must define a trigger
+ * for sending notifications upon deleted lock records. This trigger is defined
+ * in the <i>schema-postgresql.sql</i> file within this artifact but commented
+ * out.
+ *
+ * @author Artem Bilan
+ *
+ * @since 7.2
+ */
+public final class PostgresLockReleaseNotifier implements SmartLifecycle {
+
+	private static final LogAccessor LOGGER = new LogAccessor(PostgresLockReleaseNotifier.class);
+
+	private final Lock lock = new ReentrantLock();
+
+	private final PgConnectionSupplier connectionSupplier;
+
+	private final JdbcLockRegistry lockRegistry;
+
+	private String tablePrefix = DefaultLockRepository.DEFAULT_TABLE_PREFIX;
+
+	private String region = "DEFAULT";
+
+	private AsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("postgres-lock-release-notifier-");
+
+	private Duration notificationTimeout = Duration.ofSeconds(60);
+
+	private CountDownLatch latch = new CountDownLatch(0);
+
+	private Future<?> future = CompletableFuture.completedFuture(null);
+
+	private volatile @Nullable PgConnection connection;
+
+	/**
+	 * Create a new notifier for the provided {@link JdbcLockRegistry}.
+	 * @param connectionSupplier The connection supplier for the targeted Postgres database.
+	 * @param lockRegistry The {@link JdbcLockRegistry} to notify about lock releases.
+	 */
+	public PostgresLockReleaseNotifier(PgConnectionSupplier connectionSupplier, JdbcLockRegistry lockRegistry) {
+		Assert.notNull(connectionSupplier, "A connectionSupplier must be provided.");
+		Assert.notNull(lockRegistry, "A lockRegistry must be provided.");
+		this.connectionSupplier = connectionSupplier;
+		this.lockRegistry = lockRegistry;
+	}
+
+	/**
+	 * Specify a prefix for the lock table (and the notification channel), the same as for the
+	 * {@link DefaultLockRepository#setPrefix(String)}.
+	 * Defaults to {@link DefaultLockRepository#DEFAULT_TABLE_PREFIX}.
+	 * @param tablePrefix the prefix to use.
+	 */
+	public void setTablePrefix(String tablePrefix) {
+		Assert.notNull(tablePrefix, "A table prefix must not be null.");
+		this.tablePrefix = tablePrefix;
+	}
+
+	/**
+	 * Specify a region of the lock records to listen for, the same as for the
+	 * {@link DefaultLockRepository#setRegion(String)}.
+	 * Defaults to {@code DEFAULT}.
+	 * @param region the region to use.
+	 */
+	public void setRegion(String region) {
+		Assert.hasText(region, "Region must not be null or empty.");
+		this.region = region;
+	}
+
+	/**
+	 * Provide a managed {@link AsyncTaskExecutor} for Postgres listener daemon.
+	 * @param taskExecutor the {@link AsyncTaskExecutor} to use.
+	 */
+	public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+		Assert.notNull(taskExecutor, "A 'taskExecutor' must not be null.");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set the timeout for the notification polling.
+	 * If for the specified duration no notification are received, the connection is validated
+	 * and re-established if it is not valid anymore.
+	 * @param notificationTimeout the timeout for the notification polling.
+	 */
+	public void setNotificationTimeout(Duration notificationTimeout) {
+		Assert.notNull(notificationTimeout, "'notificationTimeout' must not be null.");
+		this.notificationTimeout = notificationTimeout;
+	}
+
+	@Override
+	public void start() {
+		this.lock.lock();
+		try {
+			if (this.latch.getCount() > 0) {
+				return;
+			}
+
+			this.latch = new CountDownLatch(1);
+
+			CountDownLatch startingLatch = new CountDownLatch(1);
+			this.future = this.taskExecutor.submit(() -> doStart(startingLatch));
+
+			try {
+				if (!startingLatch.await(5, TimeUnit.SECONDS)) {
+					throw new IllegalStateException("Failed to start " + this);
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Failed to start " + this, ex);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void doStart(CountDownLatch startingLatch) {
+		String keyPrefix = this.region + " ";
+		try {
+			while (isActive()) {
+				try {
+					PgConnection conn = this.connectionSupplier.get();
+					try (Statement stmt = conn.createStatement()) {
+						stmt.execute("LISTEN " + this.tablePrefix.toLowerCase(Locale.ROOT) + "lock_release_notify");
+					}
+					catch (Exception ex) {
+						try {
+							conn.close();
+						}
+						catch (Exception suppressed) {
+							ex.addSuppressed(suppressed);
+						}
+						throw ex;
+					}
+					try {
+						this.connection = conn;
+						while (isActive()) {
+							startingLatch.countDown();
+
+							PGNotification[] notifications =
+									conn.getNotifications((int) this.notificationTimeout.toMillis());
+							if (!isActive()) {
+								return;
+							}
+							if (notifications == null || notifications.length == 0) {
+								if (!conn.isValid(1)) {
+									break;
+								}
+								continue;
+							}
+							for (PGNotification notification : notifications) {
+								String parameter = notification.getParameter();
+								if (parameter.startsWith(keyPrefix)) {
+									this.lockRegistry.lockReleased(parameter.substring(keyPrefix.length()));
+								}
+							}
+						}
+					}
+					finally {
+						conn.close();
+					}
+				}
+				catch (Exception ex) {
+					if (isActive()) {
+						LOGGER.error(ex, "Failed to poll lock release notifications from Postgres database");
+					}
+				}
+			}
+		}
+		finally {
+			this.latch.countDown();
+		}
+	}
+
+	private boolean isActive() {
+		if (Thread.interrupted()) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public void stop() {
+		this.lock.lock();
+		try {
+			if (this.future.isDone()) {
+				return;
+			}
+			this.future.cancel(true);
+			PgConnection conn = this.connection;
+			if (conn != null) {
+				try {
+					conn.close();
+				}
+				catch (SQLException ignored) {
+				}
+			}
+			try {
+				if (!this.latch.await(5, TimeUnit.SECONDS)) {
+					throw new IllegalStateException("Failed to stop " + this);
+				}
+			}
+			catch (InterruptedException ignored) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.latch.getCount() > 0;
+	}
+
+}
@@ -76,3 +76,20 @@ RETURNS TRIGGER AS
  AFTER INSERT ON INT_CHANNEL_MESSAGE
  FOR EACH ROW
  EXECUTE PROCEDURE INT_CHANNEL_MESSAGE_NOTIFY_FCT();*/
+
+-- This is only needed if using PostgresLockReleaseNotifier
+
+/*CREATE FUNCTION INT_LOCK_RELEASE_NOTIFY_FCT()
+RETURNS TRIGGER AS
+ $BODY$
+ BEGIN
+     PERFORM pg_notify('int_lock_release_notify', OLD.REGION || ' ' || OLD.LOCK_KEY);
+     RETURN OLD;
+ END;
+ $BODY$
+ LANGUAGE PLPGSQL;
+
+ CREATE TRIGGER INT_LOCK_RELEASE_NOTIFY_TRG
+ AFTER DELETE ON INT_LOCK
+ FOR EACH ROW
+ EXECUTE PROCEDURE INT_LOCK_RELEASE_NOTIFY_FCT();*/
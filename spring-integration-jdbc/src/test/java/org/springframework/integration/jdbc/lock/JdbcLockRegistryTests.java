@@ -27,6 +27,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 
 import javax.sql.DataSource;
@@ -794,6 +795,35 @@ class JdbcLockRegistryTests {
 		}
 	}
 
+	@Test
+	void releaseListenersNotifiedOnUnlock() {
+		AtomicInteger releases = new AtomicInteger();
+		Runnable listener = releases::incrementAndGet;
+		this.registry.addReleaseListener("foo", listener);
+		try {
+			Lock lock = this.registry.obtain("foo");
+			lock.lock();
+			lock.lock();
+			lock.unlock();
+			assertThat(releases.get()).isEqualTo(0);
+			lock.unlock();
+			assertThat(releases.get()).isEqualTo(1);
+
+			Lock otherLock = this.registry.obtain("bar");
+			otherLock.lock();
+			otherLock.unlock();
+			assertThat(releases.get()).isEqualTo(1);
+
+			this.registry.lockReleased(this.registry.pathFor("foo"));
+			assertThat(releases.get()).isEqualTo(2);
+		}
+		finally {
+			this.registry.removeReleaseListener("foo", listener);
+		}
+		this.registry.lockReleased(this.registry.pathFor("foo"));
+		assertThat(releases.get()).isEqualTo(2);
+	}
+
 	private static Map<String, Lock> getRegistryLocks(JdbcLockRegistry registry) {
 		return TestUtils.getPropertyValue(registry, "locks");
 	}
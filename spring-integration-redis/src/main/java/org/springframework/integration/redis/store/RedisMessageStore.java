@@ -16,7 +16,12 @@
 
 package org.springframework.integration.redis.store;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.jspecify.annotations.Nullable;
 
@@ -26,17 +31,30 @@ import org.springframework.data.redis.RedisSystemException;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.BoundValueOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.integration.store.AbstractKeyValueMessageStore;
+import org.springframework.integration.store.MessageHolder;
+import org.springframework.integration.store.ScheduledMessageGroupStore;
+import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
 /**
  * Redis implementation of the key/value style
  * {@link org.springframework.integration.store.MessageStore} and
- * {@link org.springframework.integration.store.MessageGroupStore}
+ * {@link org.springframework.integration.store.MessageGroupStore}.
+ * <p>
+ * As a {@link ScheduledMessageGroupStore}, it indexes the due time of the scheduled messages
+ * in a sorted set per group, and stores each scheduled message under its own key,
+ * outside the group metadata.
+ * The polled due messages are claimed by moving their score to the lease expiration,
+ * and their keys are removed only by the {@link #removeScheduledMessages(Object, Collection)}.
  *
  * @author Oleg Zhurakousky
  * @author Gary Russell
@@ -46,12 +64,33 @@ import org.springframework.util.Assert;
  *
  * @since 2.1
  */
-public class RedisMessageStore extends AbstractKeyValueMessageStore implements BeanClassLoaderAware {
+public class RedisMessageStore extends AbstractKeyValueMessageStore
+		implements BeanClassLoaderAware, ScheduledMessageGroupStore {
 
 	private static final String ID_MUST_NOT_BE_NULL = "'id' must not be null";
 
+	private static final String DUE_TIMES_KEY_PREFIX = "DUE_TIMES_";
+
+	private static final String DUE_MESSAGE_KEY_PREFIX = "DUE_MESSAGE_";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> POLL_DUE_SCRIPT =
+			new DefaultRedisScript<>("""
+					local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+					for _, id in ipairs(ids) do
+						redis.call('ZADD', KEYS[1], 'XX', ARGV[3], id)
+					end
+					return ids
+					""", List.class);
+
 	private final RedisTemplate<Object, Object> redisTemplate;
 
+	private final StringRedisTemplate dueTimesTemplate;
+
+	private final String dueTimesPrefix;
+
+	private final String dueMessagePrefix;
+
 	private boolean valueSerializerSet;
 
 	private volatile boolean supportsGetDel = true;
@@ -83,6 +122,9 @@ public class RedisMessageStore extends AbstractKeyValueMessageStore implements B
 		this.redisTemplate.setKeySerializer(new StringRedisSerializer());
 		this.redisTemplate.setValueSerializer(new JdkSerializationRedisSerializer());
 		this.redisTemplate.afterPropertiesSet();
+		this.dueTimesTemplate = new StringRedisTemplate(connectionFactory);
+		this.dueTimesPrefix = prefix + DUE_TIMES_KEY_PREFIX;
+		this.dueMessagePrefix = prefix + DUE_MESSAGE_KEY_PREFIX;
 	}
 
 	@Override
@@ -195,6 +237,107 @@ public class RedisMessageStore extends AbstractKeyValueMessageStore implements B
 		return this.redisTemplate.keys(keyPattern);
 	}
 
+	@Override
+	protected void doRemoveMessageGroup(Object groupId) {
+		super.doRemoveMessageGroup(groupId);
+		String dueTimesKey = this.dueTimesPrefix + groupId;
+		Set<String> ids = this.dueTimesTemplate.opsForZSet().range(dueTimesKey, 0, -1);
+		if (ids != null && !ids.isEmpty()) {
+			this.redisTemplate.unlink(dueMessageKeys(groupId, ids));
+		}
+		this.dueTimesTemplate.unlink(dueTimesKey);
+	}
+
+	@Override
+	public void scheduleMessage(Object groupId, Message<?> message, long dueTime) {
+		UUID messageId = message.getHeaders().getId();
+		Assert.notNull(messageId, "Cannot store messages without an ID header");
+		// The message is stored before its id is indexed, so a polled id always has a message
+		doStore(dueMessageKey(groupId, messageId.toString()), message);
+		this.dueTimesTemplate.opsForZSet().add(this.dueTimesPrefix + groupId, messageId.toString(), dueTime);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<Message<?>> pollDueMessages(Object groupId, long dueTime, int maxMessages, long leaseExpiration) {
+		String dueTimesKey = this.dueTimesPrefix + groupId;
+		List<String> ids =
+				this.dueTimesTemplate.execute(POLL_DUE_SCRIPT, Collections.singletonList(dueTimesKey),
+						Long.toString(dueTime), Integer.toString(maxMessages), Long.toString(leaseExpiration));
+		if (ids == null || ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		// The ids are claimed by the script above until the lease expiration;
+		// the keys are removed only after the release
+		List<Object> storedMessages = this.redisTemplate.opsForValue().multiGet(dueMessageKeys(groupId, ids));
+		List<Message<?>> dueMessages = new ArrayList<>(ids.size());
+		List<Object> missingIds = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i++) {
+			Object storedMessage = storedMessages != null ? storedMessages.get(i) : null;
+			if (storedMessage instanceof MessageHolder messageHolder) {
+				dueMessages.add(messageHolder.getMessage());
+			}
+			else if (storedMessage instanceof Message<?> message) {
+				dueMessages.add(message);
+			}
+			else {
+				missingIds.add(ids.get(i));
+			}
+		}
+		if (!missingIds.isEmpty()) {
+			this.dueTimesTemplate.opsForZSet().remove(dueTimesKey, missingIds.toArray());
+		}
+		return dueMessages;
+	}
+
+	@Override
+	public void removeScheduledMessages(Object groupId, Collection<UUID> messageIds) {
+		if (messageIds.isEmpty()) {
+			return;
+		}
+		List<String> ids = new ArrayList<>(messageIds.size());
+		for (UUID messageId : messageIds) {
+			ids.add(messageId.toString());
+		}
+		// The ids are removed from the index first, so a polled id always has a message
+		this.dueTimesTemplate.opsForZSet().remove(this.dueTimesPrefix + groupId, ids.toArray());
+		this.redisTemplate.unlink(dueMessageKeys(groupId, ids));
+	}
+
+	@Override
+	public @Nullable Long getNextDueTime(Object groupId) {
+		Set<ZSetOperations.TypedTuple<String>> earliest =
+				this.dueTimesTemplate.opsForZSet().rangeWithScores(this.dueTimesPrefix + groupId, 0, 0);
+		if (earliest != null) {
+			for (ZSetOperations.TypedTuple<String> tuple : earliest) {
+				Double score = tuple.getScore();
+				if (score != null) {
+					return score.longValue();
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public int getScheduledMessageCount(Object groupId) {
+		Long count = this.dueTimesTemplate.opsForZSet().zCard(this.dueTimesPrefix + groupId);
+		return count != null ? count.intValue() : 0;
+	}
+
+	private String dueMessageKey(Object groupId, String messageId) {
+		return this.dueMessagePrefix + groupId + '_' + messageId;
+	}
+
+	private List<Object> dueMessageKeys(Object groupId, Collection<String> messageIds) {
+		List<Object> messageKeys = new ArrayList<>(messageIds.size());
+		for (String messageId : messageIds) {
+			messageKeys.add(dueMessageKey(groupId, messageId));
+		}
+		return messageKeys;
+	}
+
 	private void rethrowAsIllegalArgumentException(SerializationException e) {
 		throw new IllegalArgumentException("If relying on the default RedisSerializer " +
 				"(JdkSerializationRedisSerializer) the Object must be Serializable. " +
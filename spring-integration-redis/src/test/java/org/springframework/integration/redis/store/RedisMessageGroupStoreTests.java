@@ -501,6 +501,41 @@ class RedisMessageGroupStoreTests implements RedisContainerTest {
 		assertThat(store.getMessageGroup(groupId).getCondition()).isEqualTo("testCondition");
 	}
 
+	@Test
+	void scheduledMessagesArePolledByDueTime() {
+		this.store.scheduleMessage(this.groupId, new GenericMessage<>("third"), 3000);
+		this.store.scheduleMessage(this.groupId, new GenericMessage<>("first"), 1000);
+		this.store.scheduleMessage(this.groupId, new GenericMessage<>("second"), 2000);
+
+		assertThat(this.store.getScheduledMessageCount(this.groupId)).isEqualTo(3);
+		// The scheduled messages are not a part of the group metadata
+		assertThat(this.store.messageGroupSize(this.groupId)).isEqualTo(0);
+		assertThat(this.store.getNextDueTime(this.groupId)).isEqualTo(1000);
+		assertThat(this.store.pollDueMessages(this.groupId, 500, 10, 10_000)).isEmpty();
+		List<Message<?>> first = this.store.pollDueMessages(this.groupId, 2500, 1, 10_000);
+		assertThat(first)
+				.extracting("payload")
+				.containsExactly("first");
+		List<Message<?>> second = this.store.pollDueMessages(this.groupId, 2500, 10, 10_000);
+		assertThat(second)
+				.extracting("payload")
+				.containsExactly("second");
+		// The claimed messages stay in the store until removed
+		assertThat(this.store.getScheduledMessageCount(this.groupId)).isEqualTo(3);
+		assertThat(this.store.getNextDueTime(this.groupId)).isEqualTo(3000);
+
+		this.store.removeScheduledMessages(this.groupId, List.of(second.get(0).getHeaders().getId()));
+		assertThat(this.store.getScheduledMessageCount(this.groupId)).isEqualTo(2);
+		// Not released before the lease expiration: polled again
+		assertThat(this.store.pollDueMessages(this.groupId, 10_000, 10, 20_000))
+				.extracting("payload")
+				.containsExactly("third", "first");
+
+		this.store.removeMessageGroup(this.groupId);
+		assertThat(this.store.getNextDueTime(this.groupId)).isNull();
+		assertThat(this.store.getScheduledMessageCount(this.groupId)).isEqualTo(0);
+	}
+
 	private record Foo(String foo) {
 
 	}